@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,13 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    /** The script path that stands for standard input. */
+    public static final String STANDARD_INPUT = "-";
+
     private Path configPath;
+    private String restoreBackupId;
+    private String scriptPath;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +34,71 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the id of the backup to restore the data file from before starting, or null if none was given.
+     */
+    public String getRestoreBackupId() {
+        return restoreBackupId;
+    }
+
+    public void setRestoreBackupId(String restoreBackupId) {
+        this.restoreBackupId = restoreBackupId;
+    }
+
+    /**
+     * Returns the path of the script of commands to run without the GUI, {@link #STANDARD_INPUT} to read the
+     * commands from standard input, or null to start the GUI.
+     */
+    public String getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(String scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the application is to run commands from a script without starting the GUI.
+     */
+    public boolean isHeadless() {
+        return scriptPath != null;
+    }
+
+    /**
+     * Returns the number of commands after which a script saves the data, or 0 to save only at the end.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@code main}, without starting JavaFX.
+     * Named parameters are given as {@code --name=value}, as for {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int equalsIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && equalsIndex > 2) {
+                namedParameters.put(arg.substring(2, equalsIndex), arg.substring(equalsIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +107,43 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String restoreParameter = namedParameters.get("restore");
+        if (restoreParameter != null && restoreParameter.isBlank()) {
+            logger.warning("Empty backup id given to restore. Not restoring any backup.");
+            restoreParameter = null;
+        }
+        appParameters.setRestoreBackupId(restoreParameter != null ? restoreParameter.trim() : null);
+
+        String scriptParameter = namedParameters.get("script");
+        if (scriptParameter != null && !scriptParameter.equals(STANDARD_INPUT)
+                && !FileUtil.isValidPath(scriptParameter)) {
+            logger.warning("Invalid script path " + scriptParameter + ". Reading the script from standard input.");
+            scriptParameter = STANDARD_INPUT;
+        }
+        appParameters.setScriptPath(scriptParameter);
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null) {
+            appParameters.setCheckpointInterval(parseCheckpointInterval(checkpointParameter));
+        }
+
         return appParameters;
     }
 
+    private static int parseCheckpointInterval(String checkpointParameter) {
+        int checkpointInterval;
+        try {
+            checkpointInterval = Integer.parseInt(checkpointParameter.trim());
+        } catch (NumberFormatException e) {
+            checkpointInterval = -1;
+        }
+        if (checkpointInterval < 0) {
+            logger.warning("Invalid checkpoint interval " + checkpointParameter + ". Saving only at the end.");
+            return 0;
+        }
+        return checkpointInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +156,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(restoreBackupId, otherAppParameters.restoreBackupId)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && checkpointInterval == otherAppParameters.checkpointInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, restoreBackupId, scriptPath, checkpointInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("restoreBackupId", restoreBackupId)
+                .add("scriptPath", scriptPath)
+                .add("checkpointInterval", checkpointInterval)
                 .toString();
     }
 }
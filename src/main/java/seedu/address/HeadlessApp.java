@@ -0,0 +1,58 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.ScriptRunner;
+
+/**
+ * Runs BookKeeper without the GUI, for use from scripts, scheduled jobs and pipelines.
+ * The commands are read from the script file given with {@code --script=FILE}, or from standard input if the
+ * file is {@code -}, and their results are written to standard output. JavaFX is never started.
+ *
+ * @see ScriptRunner
+ */
+public class HeadlessApp extends MainApp {
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Runs the script given in {@code appParameters} and returns the exit status of the application.
+     */
+    public int run(AppParameters appParameters) {
+        logger.info("=====================[ Initializing BookKeeper without the GUI ]=====================");
+        initComponents(appParameters);
+
+        int exitStatus;
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                OUTPUT_BUFFER_SIZE);
+        try (BufferedReader script = openScript(appParameters.getScriptPath())) {
+            exitStatus = new ScriptRunner(logic, output, appParameters.getCheckpointInterval()).run(script);
+        } catch (IOException e) {
+            logger.severe("Failed to run script " + appParameters.getScriptPath() + " : " + StringUtil.getDetails(e));
+            exitStatus = ScriptRunner.EXIT_ERROR;
+        } finally {
+            stop();
+        }
+        return exitStatus;
+    }
+
+    private BufferedReader openScript(String scriptPath) throws IOException {
+        if (scriptPath.equals(AppParameters.STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8);
+    }
+}
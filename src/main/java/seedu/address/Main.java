@@ -20,11 +20,18 @@ import seedu.address.commons.core.LogsCenter;
  * find alex david
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ * <p>
+ * When a script is given with {@code --script=FILE}, the commands in it are run by {@link HeadlessApp} instead,
+ * and JavaFX is not started at all.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(new HeadlessApp().run(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -1,8 +1,12 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -22,9 +26,13 @@ import seedu.address.model.ReadOnlyBookKeeper;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BackupManager;
 import seedu.address.storage.BookKeeperStorage;
+import seedu.address.storage.JdbcBookKeeperStorage;
 import seedu.address.storage.JsonBookKeeperStorage;
+import seedu.address.storage.JsonOrderArchiveStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.OrderArchiveStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,6 +46,12 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    /** The folder within the backup directory that holds the backups of the order archive. */
+    private static final String ORDER_ARCHIVE_BACKUP_DIRECTORY = "orderarchive";
+
+    /** How long stopping waits for a scheduled backup that is running to finish. */
+    private static final long BACKUP_SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,26 +59,152 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected BackupManager backupManager;
+    protected BackupManager orderArchiveBackupManager;
+    /** The database the data is kept in, or null if the data is kept in a JSON file. */
+    protected JdbcBookKeeperStorage databaseStorage;
+    protected ScheduledExecutorService backupScheduler;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing BookKeeper ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Sets up every component except the UI, using the command-line {@code appParameters}.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        BookKeeperStorage bookKeeperStorage = new JsonBookKeeperStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(bookKeeperStorage, userPrefsStorage);
+        backupManager = new BackupManager(getDataFilePath(config, userPrefs), userPrefs.getBackupDirectoryPath(),
+                BackupManager.RetentionPolicy.DEFAULT);
+        orderArchiveBackupManager = new BackupManager(userPrefs.getOrderArchiveFilePath(),
+                userPrefs.getBackupDirectoryPath().resolve(ORDER_ARCHIVE_BACKUP_DIRECTORY),
+                BackupManager.RetentionPolicy.DEFAULT);
+        if (appParameters.getRestoreBackupId() != null) {
+            restoreBackup(appParameters.getRestoreBackupId());
+        }
+        BookKeeperStorage bookKeeperStorage = initBookKeeperStorage(config, userPrefs);
+        OrderArchiveStorage orderArchiveStorage = new JsonOrderArchiveStorage(userPrefs.getOrderArchiveFilePath());
+        storage = new StorageManager(bookKeeperStorage, userPrefsStorage, orderArchiveStorage);
 
         model = initModelManager(storage, userPrefs);
+        model.setOrderArchive(storage);
 
         logic = new LogicManager(model, storage);
+        initOrderArchive(logic);
+        initBackupSchedule(userPrefs);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the path of the file that holds the data for the storage backend chosen in {@code config}.
+     */
+    private Path getDataFilePath(Config config, ReadOnlyUserPrefs userPrefs) {
+        if (config.getStorageBackend() == Config.StorageBackend.SQL) {
+            return JdbcBookKeeperStorage.getDatabaseFilePath(userPrefs.getAddressBookFilePath());
+        }
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    /**
+     * Replaces the data file with the backup {@code backupId}, and the order archive with its latest backup taken
+     * at or before it. Any failure is logged and leaves the data file as is.
+     */
+    private void restoreBackup(String backupId) {
+        try {
+            String restoredBackupId = backupManager.restore(backupId);
+            logger.info("Restored data file " + backupManager.getSourceFile() + " from backup " + restoredBackupId);
+            Optional<String> orderArchiveBackupId = orderArchiveBackupManager.getLatestBackupIdAsOf(restoredBackupId);
+            if (orderArchiveBackupId.isPresent()) {
+                orderArchiveBackupManager.restore(orderArchiveBackupId.get());
+                logger.info("Restored order archive " + orderArchiveBackupManager.getSourceFile() + " from backup "
+                        + orderArchiveBackupId.get());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to restore backup " + backupId + " : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Schedules backups of the data file and order archive every {@code backupIntervalMinutes} minutes, unless that
+     * is zero. Backups run on a background thread, and old backups are pruned after each one.
+     */
+    private void initBackupSchedule(ReadOnlyUserPrefs userPrefs) {
+        int intervalMinutes = userPrefs.getBackupIntervalMinutes();
+        if (intervalMinutes == 0) {
+            logger.info("Scheduled backups are turned off");
+            return;
+        }
+        backupScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        backupScheduler.scheduleWithFixedDelay(this::backUpData, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Backs up the data file and the order archive, and prunes old backups. Any failure is logged.
+     */
+    private void backUpData() {
+        try {
+            backUpDataFile();
+            backupManager.prune();
+            orderArchiveBackupManager.backup();
+            orderArchiveBackupManager.prune();
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to back up data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Backs up the data file. A database is backed up from a copy written by the database, as its file can be
+     * partly written while it is open.
+     */
+    private void backUpDataFile() throws IOException {
+        if (databaseStorage == null || !Files.exists(backupManager.getSourceFile())) {
+            backupManager.backup();
+            return;
+        }
+
+        // each backup writes its own copy, so a scheduled backup never shares one with the backup made when stopping
+        Files.createDirectories(backupManager.getBackupDirectory());
+        Path copy = Files.createTempFile(backupManager.getBackupDirectory(),
+                backupManager.getSourceFile().getFileName() + ".", ".copy");
+        try {
+            databaseStorage.writeCopy(copy);
+            backupManager.backupCopy(copy);
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    /**
+     * Returns the {@code BookKeeperStorage} for the storage backend chosen in {@code config}. <br>
+     * When the SQL backend is used for the first time, the data in the JSON data file is copied into the database.
+     */
+    private BookKeeperStorage initBookKeeperStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        JsonBookKeeperStorage jsonBookKeeperStorage = new JsonBookKeeperStorage(userPrefs.getAddressBookFilePath());
+        if (config.getStorageBackend() != Config.StorageBackend.SQL) {
+            return jsonBookKeeperStorage;
+        }
+
+        JdbcBookKeeperStorage jdbcBookKeeperStorage = new JdbcBookKeeperStorage(getDataFilePath(config, userPrefs));
+        databaseStorage = jdbcBookKeeperStorage;
+        try {
+            jdbcBookKeeperStorage.migrateFrom(jsonBookKeeperStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to migrate data file " + jsonBookKeeperStorage.getBookKeeperFilePath()
+                    + " to the database : " + StringUtil.getDetails(e));
+        }
+        return jdbcBookKeeperStorage;
     }
 
     /**
@@ -93,6 +233,18 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Moves old completed and canceled orders out of the active order list so that only active work is kept
+     * in memory. Any failure is logged and leaves the orders in the active order list.
+     */
+    private void initOrderArchive(Logic logic) {
+        try {
+            logic.archiveOrders();
+        } catch (IOException e) {
+            logger.warning("Failed to archive old orders : " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,10 +329,30 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping BookKeeper ] =============================");
+        try {
+            logic.awaitSubmitted();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for commands to be saved");
+            Thread.currentThread().interrupt();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (backupScheduler != null) {
+            backupScheduler.shutdown();
+            try {
+                if (!backupScheduler.awaitTermination(BACKUP_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warning("Scheduled backup did not finish before stopping");
+                }
+            } catch (InterruptedException e) {
+                logger.warning("Interrupted while waiting for a scheduled backup to finish");
+                Thread.currentThread().interrupt();
+            }
+        }
+        // the database is closed first, so that its file is complete when it is backed up
+        storage.close();
+        backUpData();
     }
 }
@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageBackend storageBackend = StorageBackend.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageBackend getStorageBackend() {
+        return storageBackend;
+    }
+
+    public void setStorageBackend(StorageBackend storageBackend) {
+        this.storageBackend = storageBackend;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +56,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(storageBackend, otherConfig.storageBackend);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageBackend);
     }
 
     @Override
@@ -60,7 +70,18 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageBackend", storageBackend)
                 .toString();
     }
 
+    /**
+     * Represents the ways BookKeeper data can be stored on the hard disk.
+     */
+    public enum StorageBackend {
+        /** A single JSON file, rewritten on every save. */
+        JSON,
+        /** An embedded SQL database, updated row by row. */
+        SQL
+    }
+
 }
@@ -0,0 +1,130 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading and writing single lines of comma-separated values (RFC 4180).
+ * Quoted fields may contain commas and doubled quotes ({@code ""}), but not line breaks.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field is not terminated";
+    public static final String MESSAGE_UNEXPECTED_QUOTE = "Unexpected character after closing quote";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields. Unquoted fields are returned as-is, including surrounding spaces;
+     * quoted fields are returned without the enclosing quotes and with doubled quotes collapsed.
+     *
+     * @throws IllegalValueException if a quoted field is not terminated or is followed by anything but a separator.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+        while (true) {
+            if (i < length && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < length && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_UNEXPECTED_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? length : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= length) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Appends the contents of the quoted field starting at {@code start} (just after the opening quote) to
+     * {@code field} and returns the index just after the closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Joins {@code fields} into a single line, quoting the fields that contain separators, quotes or line breaks.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringWriter line = new StringWriter();
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    writeSeparator(line);
+                }
+                writeField(line, fields.get(i));
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError("StringWriter does not throw IOException", ioe);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Writes the separator between two fields to {@code writer}.
+     */
+    public static void writeSeparator(Writer writer) throws IOException {
+        writer.write(SEPARATOR);
+    }
+
+    /**
+     * Writes {@code field} to {@code writer}, quoting it if it contains separators, quotes or line breaks.
+     * Unquoted fields are written directly, without being copied.
+     */
+    public static void writeField(Writer writer, String field) throws IOException {
+        requireNonNull(field);
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        int start = 0;
+        for (int quote = field.indexOf(QUOTE); quote != -1; quote = field.indexOf(QUOTE, start)) {
+            writer.write(field, start, quote + 1 - start);
+            writer.write(QUOTE);
+            start = quote + 1;
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write(QUOTE);
+    }
+}
@@ -1,12 +1,18 @@
 package seedu.address.commons.util;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.Optional;
 
 /**
  * Helper functions for handling datetimes.
+ * Datetimes in the usual {@code dd-MM-uuuu HH:mm} layout, with a four digit year, are parsed and formatted by hand,
+ * which gives exactly the same results as {@link #FORMATTER} but without its overhead. Other years, which need a sign
+ * in this layout, are left to {@link #FORMATTER}.
  */
 public class DateTimeUtil {
 
@@ -25,6 +31,11 @@ public class DateTimeUtil {
             .ofPattern(VALID_DATETIME_FORMAT)
             .withResolverStyle(ResolverStyle.STRICT);
 
+    /** Length of a datetime with a four digit year, e.g. {@code 01-01-2024 23:59}. */
+    private static final int DATE_TIME_LENGTH = 16;
+    private static final int YEAR_START = 6;
+    private static final int MAX_FOUR_DIGIT_YEAR = 9999;
+
     private DateTimeUtil() {
         // Prevent instantiation
     }
@@ -36,12 +47,34 @@ public class DateTimeUtil {
      * @return true if the date is valid.
      */
     public static boolean isValidDate(String test) {
-        try {
-            LocalDateTime.parse(test, FORMATTER);
-        } catch (DateTimeParseException e) {
-            return false;
+        return tryParseDateTime(test).isPresent();
+    }
+
+    /**
+     * Parses {@code text} in the {@link #VALID_DATETIME_FORMAT} format.
+     *
+     * @param text the date to be parsed.
+     * @return the parsed date, or an empty Optional if {@code text} is not a valid date.
+     */
+    public static Optional<LocalDateTime> tryParseDateTime(String text) {
+        if (text.length() != DATE_TIME_LENGTH) {
+            // a valid date of any other length has a year with a sign, e.g. -0001 or +10000
+            return hasSignedYear(text) ? tryParseWithFormatter(text) : Optional.empty();
+        }
+        if (text.charAt(2) != '-' || text.charAt(5) != '-' || text.charAt(10) != ' ' || text.charAt(13) != ':') {
+            return Optional.empty();
         }
-        return true;
+
+        int day = parseDigits(text, 0, 2);
+        int month = parseDigits(text, 3, 2);
+        int year = parseDigits(text, YEAR_START, 4);
+        int hour = parseDigits(text, 11, 2);
+        int minute = parseDigits(text, 14, 2);
+        if (day < 1 || month < 1 || month > 12 || year < 0 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.of(year, month, day, hour, minute));
     }
 
     /**
@@ -51,7 +84,28 @@ public class DateTimeUtil {
      * @return the current date time as a String.
      */
     public static String formatDateTime(LocalDateTime dateTime) {
-        return dateTime.format(FORMATTER);
+        return appendDateTime(new StringBuilder(DATE_TIME_LENGTH), dateTime).toString();
+    }
+
+    /**
+     * Appends {@code dateTime} in the {@link #VALID_DATETIME_FORMAT} format to {@code builder}, so that many dates
+     * can be formatted into the same buffer.
+     *
+     * @param builder the buffer to append to.
+     * @param dateTime the date to be formatted.
+     * @return {@code builder}.
+     */
+    public static StringBuilder appendDateTime(StringBuilder builder, LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > MAX_FOUR_DIGIT_YEAR) {
+            FORMATTER.formatTo(dateTime, builder);
+            return builder;
+        }
+        appendDigits(builder, dateTime.getDayOfMonth(), 2).append('-');
+        appendDigits(builder, dateTime.getMonthValue(), 2).append('-');
+        appendDigits(builder, year, 4).append(' ');
+        appendDigits(builder, dateTime.getHour(), 2).append(':');
+        return appendDigits(builder, dateTime.getMinute(), 2);
     }
 
     /**
@@ -59,9 +113,11 @@ public class DateTimeUtil {
      *
      * @param dateTime the date to be parsed must be a valid dateTime.
      * @return the localDateTime object of the given date.
+     * @throws DateTimeParseException if the date is not valid.
      */
     public static LocalDateTime parseDateTime(String dateTime) {
-        return LocalDateTime.parse(dateTime, FORMATTER);
+        return tryParseDateTime(dateTime).orElseThrow(() ->
+                new DateTimeParseException("Text '" + dateTime + "' could not be parsed", dateTime, 0));
     }
 
     /**
@@ -73,4 +129,42 @@ public class DateTimeUtil {
         LocalDateTime now = LocalDateTime.now();
         return formatDateTime(now);
     }
+
+    private static boolean hasSignedYear(String text) {
+        return text.length() > DATE_TIME_LENGTH && (text.charAt(YEAR_START) == '+' || text.charAt(YEAR_START) == '-');
+    }
+
+    private static Optional<LocalDateTime> tryParseWithFormatter(String text) {
+        try {
+            return Optional.of(LocalDateTime.parse(text, FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the value of the {@code count} ASCII digits at {@code start} of {@code text}, or -1 if any of them is
+     * not an ASCII digit.
+     */
+    private static int parseDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Appends {@code value}, which must be non-negative, padded with zeros to {@code width} digits.
+     */
+    private static StringBuilder appendDigits(StringBuilder builder, int value, int width) {
+        for (int divisor = width == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + value / divisor % 10));
+        }
+        return builder;
+    }
 }
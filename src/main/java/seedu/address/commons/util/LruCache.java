@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+/**
+ * A bounded cache that evicts the least recently used entry once it holds more than {@code capacity} entries.
+ * Not thread-safe.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the cached values.
+ */
+public class LruCache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * Creates an empty {@code LruCache} that holds at most {@code capacity} entries.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, "Cache capacity must be positive");
+        this.capacity = capacity;
+        // accessOrder = true so that iteration order runs from least to most recently used
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, marking it as the most recently used entry.
+     */
+    public Optional<V> get(K key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Caches {@code value} under {@code key}, evicting the least recently used entry if the cache is full.
+     */
+    public void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes the entry cached for {@code key}, if any.
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry whose key and value satisfy {@code condition}, without changing how recently the other
+     * entries were used. Returns the number of entries removed.
+     */
+    public int removeIf(BiPredicate<? super K, ? super V> condition) {
+        int sizeBefore = entries.size();
+        entries.entrySet().removeIf(entry -> condition.test(entry.getKey(), entry.getValue()));
+        return sizeBefore - entries.size();
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("capacity", capacity)
+                .add("size", entries.size())
+                .toString();
+    }
+}
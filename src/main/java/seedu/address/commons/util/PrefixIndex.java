@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A sorted index of strings that can list the strings starting with a prefix, ignoring case.
+ * <p>
+ * Each string is counted, so a string that is added several times, such as a tag shared by many clients, stays in the
+ * index until it has been removed as many times. Strings are kept sorted, so listing the first {@code limit} matches
+ * of a prefix takes time logarithmic in the size of the index, plus {@code limit}.
+ * <p>
+ * Thread-safe: the index can be read while it is being changed on another thread.
+ */
+public class PrefixIndex {
+
+    /** Separates the lower-case form of a string from the string itself in the keys of {@link #counts}. */
+    private static final char SEPARATOR = '\0';
+
+    private final ConcurrentNavigableMap<String, Integer> counts = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds one count of {@code text} to the index.
+     */
+    public void add(String text) {
+        counts.merge(toKey(text), 1, Integer::sum);
+    }
+
+    /**
+     * Removes one count of {@code text} from the index. Removing a string that is not in the index has no effect.
+     */
+    public void remove(String text) {
+        counts.computeIfPresent(toKey(text), (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns true if {@code text} is in the index.
+     */
+    public boolean contains(String text) {
+        return counts.containsKey(toKey(text));
+    }
+
+    /**
+     * Returns at most {@code limit} strings in the index that start with {@code prefix}, ignoring case.
+     * The strings are sorted ignoring case.
+     */
+    public List<String> getWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit must not be negative");
+        String from = prefix.toLowerCase(Locale.ROOT);
+        List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        for (String key : counts.subMap(from, true, from + Character.MAX_VALUE, false).keySet()) {
+            if (matches.size() == limit) {
+                break;
+            }
+            matches.add(key.substring(key.indexOf(SEPARATOR) + 1));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of distinct strings in the index.
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * Keys sort by the lower-case form of the string first, so that a case-insensitive prefix is one range of keys.
+     * The string itself follows, so that strings differing only in case are kept apart.
+     */
+    private static String toKey(String text) {
+        requireNonNull(text);
+        checkArgument(text.indexOf(SEPARATOR) == -1, "Indexed strings must not contain the null character");
+        return text.toLowerCase(Locale.ROOT) + SEPARATOR + text;
+    }
+}
@@ -12,6 +12,9 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** Characters below this are looked up in a table when matching approximately. */
+    private static final int ASCII_LIMIT = 128;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +41,108 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if some substring of {@code text} can be turned into {@code pattern} with at most
+     * {@code maxEdits} single-character insertions, deletions or substitutions. Characters are compared exactly.
+     *   <br>examples:<pre>
+     *       containsApproximately("serangoon ave", "seragoon", 1) == true //one character left out
+     *       containsApproximately("serangoon ave", "serangon", 0) == false
+     *       </pre>
+     * Patterns of up to 64 characters are matched a whole column of edit distances at a time, in time proportional
+     * to the length of {@code text}. Longer patterns take time proportional to the product of the two lengths.
+     *
+     * @param text cannot be null
+     * @param pattern cannot be null
+     * @param maxEdits cannot be negative
+     */
+    public static boolean containsApproximately(String text, String pattern, int maxEdits) {
+        requireNonNull(text);
+        requireNonNull(pattern);
+        checkArgument(maxEdits >= 0, "Maximum number of edits cannot be negative");
+
+        int patternLength = pattern.length();
+        if (patternLength <= maxEdits) {
+            return true;
+        }
+        if (patternLength <= Long.SIZE) {
+            return containsApproximatelyBitParallel(text, pattern, maxEdits);
+        }
+
+        // editsBefore[i] is the fewest edits that turn some substring of text ending here into pattern[0, i)
+        int[] editsBefore = new int[patternLength + 1];
+        int[] edits = new int[patternLength + 1];
+        for (int i = 0; i <= patternLength; i++) {
+            editsBefore[i] = i;
+        }
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            edits[0] = 0;
+            for (int i = 1; i <= patternLength; i++) {
+                int substitution = editsBefore[i - 1] + (pattern.charAt(i - 1) == c ? 0 : 1);
+                edits[i] = Math.min(substitution, Math.min(editsBefore[i], edits[i - 1]) + 1);
+            }
+            if (edits[patternLength] <= maxEdits) {
+                return true;
+            }
+            int[] swap = editsBefore;
+            editsBefore = edits;
+            edits = swap;
+        }
+        return false;
+    }
+
+    /**
+     * Myers' bit-vector form of {@link #containsApproximately}, for patterns of at most 64 characters.
+     * Bit {@code i} of {@code positive} and {@code negative} records whether the edit distance of pattern[0, i] goes up
+     * or down by one from that of pattern[0, i), so one column of the table fits in two {@code long}s.
+     */
+    private static boolean containsApproximatelyBitParallel(String text, String pattern, int maxEdits) {
+        int patternLength = pattern.length();
+        long[] asciiMatches = new long[ASCII_LIMIT];
+        for (int i = 0; i < patternLength; i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII_LIMIT) {
+                asciiMatches[c] |= 1L << i;
+            }
+        }
+
+        long lastBit = 1L << (patternLength - 1);
+        long positive = -1L;
+        long negative = 0;
+        int edits = patternLength;
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            long matches = c < ASCII_LIMIT ? asciiMatches[c] : getMatches(pattern, c);
+            long vertical = matches | negative;
+            long horizontal = (((matches & positive) + positive) ^ positive) | matches;
+            long horizontalPositive = negative | ~(horizontal | positive);
+            long horizontalNegative = positive & horizontal;
+            if ((horizontalPositive & lastBit) != 0) {
+                edits++;
+            } else if ((horizontalNegative & lastBit) != 0) {
+                edits--;
+            }
+            if (edits <= maxEdits) {
+                return true;
+            }
+            horizontalPositive <<= 1;
+            horizontalNegative <<= 1;
+            positive = horizontalNegative | ~(vertical | horizontalPositive);
+            negative = horizontalPositive & vertical;
+        }
+        return false;
+    }
+
+    private static long getMatches(String pattern, char c) {
+        long matches = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == c) {
+                matches |= 1L << i;
+            }
+        }
+        return matches;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,187 @@
+package seedu.address.commons.util;
+
+/**
+ * Checks strings against the formats of the model's fields without regular expressions or exceptions.
+ * Each check accepts exactly the strings that the {@code VALIDATION_REGEX} of the corresponding field matches,
+ * but only looks at each character once and allocates nothing. Character classes follow the default (ASCII)
+ * meaning they have in {@link java.util.regex.Pattern}.
+ */
+public class ValidationUtil {
+
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. matches {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code test} is one or more ASCII letters and digits, i.e. matches {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is ASCII letters, digits and spaces that start with a letter or digit,
+     * i.e. matches {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} ASCII digits, i.e. matches {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a single line that does not start with whitespace, i.e. matches
+     * {@code [^\s].*}.
+     */
+    public static boolean isNonBlankLine(String test) {
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an email address in the format described by
+     * {@link seedu.address.model.client.Email#MESSAGE_CONSTRAINTS}.
+     */
+    public static boolean isEmail(String test) {
+        int at = test.indexOf('@');
+        return at > 0 && isEmailLocalPart(test, at) && isEmailDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if {@code test} is a UUID in its standard form of 32 hexadecimal digits in groups of
+     * 8-4-4-4-12, separated by hyphens.
+     */
+    public static boolean isUuid(String test) {
+        if (test.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = test.charAt(i);
+            boolean isHyphenPosition = i == 8 || i == 13 || i == 18 || i == 23;
+            if (isHyphenPosition ? c != '-' : !isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[0, end)} is alphanumeric runs separated by single special characters.
+     */
+    private static boolean isEmailLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && EMAIL_SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test[start, length)} is domain labels separated by periods, where the last label
+     * could be split into two labels, i.e. has two alphanumeric characters next to each other.
+     */
+    private static boolean isEmailDomain(String test, int start) {
+        int labelStart = start;
+        for (int i = start; i <= test.length(); i++) {
+            if (i < test.length() && test.charAt(i) != '.') {
+                continue;
+            }
+            boolean isLastLabel = i == test.length();
+            if (!isDomainLabel(test, labelStart, i, isLastLabel)) {
+                return false;
+            }
+            labelStart = i + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is alphanumeric runs separated by single hyphens. If
+     * {@code needsAdjacentAlphanumerics} is true, some run must also be at least two characters long.
+     */
+    private static boolean isDomainLabel(String test, int start, int end, boolean needsAdjacentAlphanumerics) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && c == '-') {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && (hasAdjacentAlphanumerics || !needsAdjacentAlphanumerics);
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Returns true if {@code c} matches {@code \s}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a character that {@code .} does not match.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
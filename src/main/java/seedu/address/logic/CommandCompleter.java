@@ -0,0 +1,149 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+
+/**
+ * Suggests ways of completing the last word of the command the user is typing.
+ * <ul>
+ *     <li>The first word of a command is completed to a command word.</li>
+ *     <li>A word starting with {@code @} is completed to the name of a client, so the command refers to the client
+ *     by name instead of by the index it happens to be listed at.</li>
+ *     <li>A word starting with {@code t/} is completed to a tag that is already in use.</li>
+ * </ul>
+ * Client names and tags are looked up in sorted indexes kept by the model, so suggestions stay quick in large books.
+ * They can be made from any thread, even while commands are running.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final char COMMAND_SEPARATOR = ';';
+
+    private final List<String> commandWords;
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandCompleter} that completes {@code commandWords}, and client names and tags in
+     * {@code model}.
+     */
+    public CommandCompleter(Set<String> commandWords, Model model) {
+        requireNonNull(commandWords);
+        requireNonNull(model);
+        this.commandWords = new ArrayList<>(commandWords);
+        this.commandWords.sort(String.CASE_INSENSITIVE_ORDER);
+        this.model = model;
+    }
+
+    /**
+     * Returns at most {@link #MAX_COMPLETIONS} ways of completing the last word of {@code commandText}, sorted
+     * ignoring case. Returns an empty list if the last word cannot be completed.
+     */
+    public List<Completion> complete(String commandText) {
+        requireNonNull(commandText);
+        int commandStart = skipWhitespace(commandText, commandText.lastIndexOf(COMMAND_SEPARATOR) + 1);
+        if (indexOfWhitespace(commandText, commandStart) == -1) {
+            return completeCommandWord(commandText, commandStart);
+        }
+
+        int referenceStart = findClientReference(commandText, commandStart);
+        if (referenceStart != -1) {
+            return completeClientName(commandText, referenceStart);
+        }
+
+        int wordStart = lastIndexOfWhitespace(commandText) + 1;
+        if (commandText.startsWith(PREFIX_TAG.getPrefix(), wordStart)) {
+            return completeTag(commandText, wordStart);
+        }
+        return List.of();
+    }
+
+    private List<Completion> completeCommandWord(String commandText, int wordStart) {
+        String prefix = commandText.substring(wordStart).toLowerCase(Locale.ROOT);
+        String before = commandText.substring(0, wordStart);
+        List<Completion> completions = new ArrayList<>();
+        for (String commandWord : commandWords) {
+            if (completions.size() == MAX_COMPLETIONS) {
+                break;
+            }
+            if (commandWord.toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                completions.add(new Completion(commandWord, before + commandWord + " "));
+            }
+        }
+        return completions;
+    }
+
+    private List<Completion> completeClientName(String commandText, int referenceStart) {
+        String prefix = commandText.substring(referenceStart + 1);
+        String before = commandText.substring(0, referenceStart);
+        List<Completion> completions = new ArrayList<>();
+        for (String name : model.getClientNamesWithPrefix(prefix, MAX_COMPLETIONS)) {
+            String reference = ParserUtil.CLIENT_NAME_MARKER + name;
+            completions.add(new Completion(reference, before + reference + " "));
+        }
+        return completions;
+    }
+
+    private List<Completion> completeTag(String commandText, int wordStart) {
+        int prefixStart = wordStart + PREFIX_TAG.getPrefix().length();
+        String prefix = commandText.substring(prefixStart);
+        String before = commandText.substring(0, prefixStart);
+        List<Completion> completions = new ArrayList<>();
+        for (String tagName : model.getTagNamesWithPrefix(prefix, MAX_COMPLETIONS)) {
+            completions.add(new Completion(PREFIX_TAG.getPrefix() + tagName, before + tagName + " "));
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the position of the {@code @} that starts a client name at the end of {@code commandText}, or -1 if
+     * the text does not end with one. Client names hold only letters, digits and spaces, so the name runs back from
+     * the end of the text to the nearest other character, which must be an {@code @} at the start of a word.
+     */
+    private static int findClientReference(String commandText, int commandStart) {
+        int i = commandText.length() - 1;
+        while (i >= commandStart && isClientNameCharacter(commandText.charAt(i))) {
+            i--;
+        }
+        boolean isMarker = i > commandStart && commandText.startsWith(ParserUtil.CLIENT_NAME_MARKER, i);
+        return isMarker && Character.isWhitespace(commandText.charAt(i - 1)) ? i : -1;
+    }
+
+    private static boolean isClientNameCharacter(char c) {
+        return Character.isLetterOrDigit(c) || c == ' ';
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOfWhitespace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Tracks a command submitted through {@link Logic#submit(String)} as it is executed and then saved.
+ */
+public class CommandExecution {
+
+    private final String commandText;
+    private final CompletableFuture<CommandResult> result;
+    private final CompletableFuture<Void> saved;
+
+    /**
+     * Creates a {@code CommandExecution} for {@code commandText} that is yet to be executed.
+     */
+    CommandExecution(String commandText) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+        this.result = new CompletableFuture<>();
+        this.saved = new CompletableFuture<>();
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns the result of the command. It completes on the model thread once the command has been executed,
+     * or completes exceptionally with the {@code CommandException} that the command failed with.
+     */
+    public CompletableFuture<CommandResult> getResult() {
+        return result;
+    }
+
+    /**
+     * Completes on the storage thread once the changes made by the command have been saved, or completes
+     * exceptionally with a {@code CommandException} if they could not be saved. It completes as soon as the command
+     * fails if it does.
+     */
+    public CompletableFuture<Void> getSaved() {
+        return saved;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandText", commandText)
+                .add("result", result)
+                .add("saved", saved)
+                .toString();
+    }
+}
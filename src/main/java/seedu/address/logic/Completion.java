@@ -0,0 +1,68 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A way of completing the command the user is typing, suggested by {@link Logic#complete(String)}.
+ */
+public class Completion {
+
+    private final String label;
+    private final String commandText;
+
+    /**
+     * Creates a {@code Completion} that is shown as {@code label} and turns the input into {@code commandText}.
+     */
+    public Completion(String label, String commandText) {
+        requireAllNonNull(label, commandText);
+        this.label = label;
+        this.commandText = commandText;
+    }
+
+    /**
+     * Returns what is being suggested, such as a command word or {@code @} followed by a client name.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the whole command text once this completion has been chosen.
+     */
+    public String getCommandText() {
+        return commandText;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Completion)) {
+            return false;
+        }
+
+        Completion otherCompletion = (Completion) other;
+        return label.equals(otherCompletion.label)
+                && commandText.equals(otherCompletion.commandText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(label, commandText);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("label", label)
+                .add("commandText", commandText)
+                .toString();
+    }
+}
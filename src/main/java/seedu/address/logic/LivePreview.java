@@ -0,0 +1,262 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.client.FindCommand;
+import seedu.address.logic.commands.order.FindOrderCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.order.FindOrderCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.SnapshotPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.RemarkSearch;
+
+/**
+ * Filters the lists of the model as a {@code find} or {@code findOrder} command is being typed, so the user sees the
+ * matches before submitting it.
+ * <ul>
+ *     <li>{@code find} shows the clients with a word in their name starting with any of the keywords typed so far.
+ *     </li>
+ *     <li>{@code findOrder} shows the orders that the command would find if its last keyword were a prefix.</li>
+ * </ul>
+ * Once the text stops being such a command, the list that was being previewed shows everything again.
+ * <p>
+ * Requests are made on every keystroke, from any thread. Each request waits for the debounce delay on a timer thread,
+ * and is dropped if another request arrives in the meantime. The rest runs on the model thread, like submitted
+ * commands. A newer request also stops a client preview that is still running, since the clients are checked in
+ * batches between which the preview gives up if it is no longer the latest.
+ * <p>
+ * While keywords are only being typed further, each keyword starts with the one it had before, so every client that
+ * matches now matched before. Only the clients that matched the previous preview are checked again then, instead of
+ * the whole list. The previous matches are forgotten whenever the client list changes.
+ */
+public class LivePreview {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    /** The number of clients checked between looks at whether the preview has been superseded. */
+    private static final int BATCH_SIZE = 4096;
+
+    private final Logger logger = LogsCenter.getLogger(LivePreview.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final long debounceMillis;
+    private final FindOrderCommandParser findOrderCommandParser = new FindOrderCommandParser();
+
+    /** Counts requests, so that work done for an older request can tell it has been superseded. */
+    private final AtomicLong latestRequest = new AtomicLong();
+    private ScheduledExecutorService timer;
+    private ScheduledFuture<?> pendingRequest;
+    private CompletableFuture<Boolean> pendingShown;
+
+    // Only used on the model thread
+    private Target previewed;
+    private List<String> previousKeywords;
+    private List<Client> previousMatches;
+    private int examinedCount;
+
+    private enum Target { CLIENTS, ORDERS }
+
+    /**
+     * Creates a {@code LivePreview} that filters the lists of {@code model}, running each request that outlasts
+     * {@code debounceMillis} on {@code modelExecutor}.
+     */
+    public LivePreview(Model model, Executor modelExecutor, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        checkArgument(debounceMillis >= 0, "Debounce delay cannot be negative");
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.debounceMillis = debounceMillis;
+        ListChangeListener<Object> previousMatchesInvalidator = change -> previousMatches = null;
+        model.getAddressBook().getClientList().addListener(previousMatchesInvalidator);
+    }
+
+    /**
+     * Requests a preview of {@code commandText}, superseding any earlier request that has not finished yet.
+     * Returns a future that completes with true once the preview has been shown, or false if it was superseded or
+     * there was nothing to preview.
+     */
+    public synchronized CompletableFuture<Boolean> request(String commandText) {
+        requireNonNull(commandText);
+        long request = latestRequest.incrementAndGet();
+        dropPendingRequest();
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "preview");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        CompletableFuture<Boolean> shown = new CompletableFuture<>();
+        pendingRequest = timer.schedule(() -> modelExecutor.execute(() -> {
+            try {
+                shown.complete(preview(commandText, request));
+            } catch (RuntimeException e) {
+                logger.warning("Could not preview " + commandText + ": " + e.getMessage());
+                shown.completeExceptionally(e);
+            }
+        }), debounceMillis, TimeUnit.MILLISECONDS);
+        pendingShown = shown;
+        return shown;
+    }
+
+    /**
+     * Drops every request that has not finished yet, and ends the preview without changing the lists, because a
+     * command is about to be run on them instead.
+     */
+    public synchronized void cancel() {
+        latestRequest.incrementAndGet();
+        dropPendingRequest();
+        modelExecutor.execute(this::forget);
+    }
+
+    /**
+     * Stops the latest request from starting if it is still waiting out the debounce delay. Its future completes
+     * with false then, as it would once it found itself superseded.
+     */
+    private void dropPendingRequest() {
+        if (pendingRequest == null) {
+            return;
+        }
+        if (pendingRequest.cancel(false)) {
+            pendingShown.complete(false);
+        }
+        pendingRequest = null;
+        pendingShown = null;
+    }
+
+    /**
+     * Returns the number of clients checked by the latest client preview. Must be called on the model thread.
+     */
+    int getExaminedCount() {
+        return examinedCount;
+    }
+
+    private boolean preview(String commandText, long request) {
+        if (request != latestRequest.get()) {
+            return false;
+        }
+
+        String[] words = commandText.strip().split("\\s+", 2);
+        boolean hasArguments = words.length == 2 && commandText.indexOf(';') == -1;
+        if (hasArguments && words[0].equals(FindCommand.COMMAND_WORD)) {
+            return previewClients(Arrays.asList(words[1].toLowerCase(Locale.ROOT).split("\\s+")), request);
+        }
+        if (hasArguments && words[0].equals(FindOrderCommand.COMMAND_WORD)) {
+            return previewOrders(commandText);
+        }
+
+        if (previewed == Target.CLIENTS) {
+            model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        } else if (previewed == Target.ORDERS) {
+            model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        }
+        forget();
+        return false;
+    }
+
+    private boolean previewClients(List<String> keywords, long request) {
+        List<? extends Client> candidates = isNarrowing(keywords)
+                ? previousMatches
+                : model.getAddressBook().getClientList();
+
+        List<Client> matches = new ArrayList<>();
+        examinedCount = 0;
+        for (Client candidate : candidates) {
+            if (examinedCount % BATCH_SIZE == 0 && request != latestRequest.get()) {
+                return false;
+            }
+            examinedCount++;
+            if (hasWordStartingWithAny(candidate, keywords)) {
+                matches.add(candidate);
+            }
+        }
+
+        model.updateFilteredClientList(new SnapshotPredicate<>(matches,
+                client -> hasWordStartingWithAny(client, keywords)));
+        if (previewed == Target.ORDERS) {
+            model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        }
+        previewed = Target.CLIENTS;
+        previousKeywords = keywords;
+        previousMatches = matches;
+        return true;
+    }
+
+    /**
+     * Returns true if every client matching {@code keywords} is among the previous matches, because each keyword
+     * starts with the keyword in its place before.
+     */
+    private boolean isNarrowing(List<String> keywords) {
+        if (previousMatches == null || previousKeywords.size() != keywords.size()) {
+            return false;
+        }
+        for (int i = 0; i < keywords.size(); i++) {
+            if (!keywords.get(i).startsWith(previousKeywords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasWordStartingWithAny(Client client, List<String> keywords) {
+        for (String word : client.getName().getTokens()) {
+            for (String keyword : keywords) {
+                if (word.startsWith(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Previews a {@code findOrder} command, treating its last keyword as a prefix unless it has been finished with a
+     * space or is already one. Text that cannot be parsed yet leaves the order list as it is.
+     */
+    private boolean previewOrders(String commandText) {
+        String arguments = commandText.strip().substring(FindOrderCommand.COMMAND_WORD.length());
+        boolean isLastKeywordFinished = Character.isWhitespace(commandText.charAt(commandText.length() - 1))
+                || arguments.charAt(arguments.length() - 1) == RemarkSearch.PREFIX_MARKER;
+        try {
+            findOrderCommandParser.parse(isLastKeywordFinished ? arguments : arguments + RemarkSearch.PREFIX_MARKER)
+                    .execute(model);
+        } catch (ParseException e) {
+            return false;
+        }
+        if (previewed == Target.CLIENTS) {
+            model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        }
+        previewed = Target.ORDERS;
+        previousKeywords = null;
+        previousMatches = null;
+        return true;
+    }
+
+    private void forget() {
+        previewed = null;
+        previousKeywords = null;
+        previousMatches = null;
+    }
+}
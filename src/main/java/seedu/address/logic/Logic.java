@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -17,14 +19,71 @@ import seedu.address.model.order.Order;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * {@code commandText} may hold several commands separated by {@code ;} or line breaks. These are run as one
+     * unit: if any of them fails, none of them are applied. The data is saved once, after all of them have run.
      *
-     * @param commandText The command as entered by the user.
+     * @param commandText The command or commands as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
      * @throws ParseException   If an error occurs during parsing.
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but leaves the data unsaved until
+     * {@link #saveAddressBook()} is called. Meant for running many commands in a row.
+     *
+     * @param commandText The command or commands to run.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException   If an error occurs during parsing.
+     */
+    CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Parses {@code commandText} on the calling thread, then executes it on a model thread and saves the data on a
+     * storage thread, so that the caller is not kept waiting for either. Submitted commands are executed and saved
+     * in the order they were submitted. When saves fall behind, only the latest data is saved.
+     * <p>
+     * Once a command has been submitted, the model and the lists returned by this {@code Logic} are changed on the
+     * model thread, so they must only be read there, or from copies made there.
+     *
+     * @param commandText The command or commands as entered by the user.
+     * @return the execution of the command, which completes once it has been executed and saved.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandExecution submit(String commandText) throws ParseException;
+
+    /**
+     * Waits for every submitted command to be executed and saved, then stops the threads that run them.
+     * Commands can still be submitted afterwards.
+     */
+    void awaitSubmitted() throws InterruptedException;
+
+    /**
+     * Returns ways of completing the last word of {@code commandText}, such as a command word, a client name or a
+     * tag. Unlike the other methods, this can be called while submitted commands are running.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<Completion> complete(String commandText);
+
+    /**
+     * Filters the lists to preview {@code commandText} while it is being typed, without waiting for the preview to
+     * be shown. Like submitted commands, the preview changes the lists on the model thread. Submitting a command ends
+     * the preview.
+     *
+     * @see LivePreview
+     */
+    void preview(String commandText);
+
+    /**
+     * Saves the BookKeeper to storage.
+     *
+     * @throws CommandException If the data could not be saved.
+     */
+    void saveAddressBook() throws CommandException;
+
     /**
      * Returns the BookKeeper.
      *
@@ -42,6 +101,20 @@ public interface Logic {
      */
     ObservableList<Order> getFilteredOrderList();
 
+    /**
+     * Returns an unmodifiable view of the archived orders last loaded into the order history.
+     */
+    ObservableList<Order> getOrderHistoryList();
+
+    /**
+     * Moves completed and canceled orders whose deadline is older than the order archive age in the user prefs
+     * out of bookkeeper and into the order archive, then saves bookkeeper.
+     *
+     * @return the number of orders archived.
+     * @throws IOException if the orders could not be archived or bookkeeper could not be saved.
+     */
+    int archiveOrders() throws IOException;
+
     /**
      * Returns the user prefs' bookkeeper file path.
      */
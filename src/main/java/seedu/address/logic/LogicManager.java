@@ -3,7 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -13,6 +20,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.BookKeeperParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BookKeeperSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyBookKeeper;
 import seedu.address.model.client.Client;
@@ -28,11 +36,26 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final BookKeeperParser bookKeeperParser;
+    private final CommandCompleter commandCompleter;
+    private final LivePreview livePreview;
+
+    /** Executes submitted commands one at a time, in the order they were submitted. Started on first use. */
+    private ExecutorService modelExecutor;
+    /** Saves the data after submitted commands, one save at a time. Started on first use. */
+    private ExecutorService storageExecutor;
+
+    private final Object saveLock = new Object();
+    /** The data to save next, or null if there is nothing left to save. */
+    private ReadOnlyBookKeeper pendingSave;
+    /** The executions waiting for {@link #pendingSave} to be saved. */
+    private final List<CommandExecution> executionsAwaitingSave = new ArrayList<>();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,25 +64,155 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         bookKeeperParser = new BookKeeperParser();
+        commandCompleter = new CommandCompleter(bookKeeperParser.getCommandWords(), model);
+        livePreview = new LivePreview(model, runnable -> getModelExecutor().execute(runnable),
+                LivePreview.DEFAULT_DEBOUNCE_MILLIS);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = executeWithoutSaving(commandText);
+        saveAddressBook();
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = bookKeeperParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return command.execute(model);
+    }
+
+    @Override
+    public synchronized CommandExecution submit(String commandText) throws ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        Command command = bookKeeperParser.parseCommand(commandText);
+        // the command decides what the lists show from here on
+        livePreview.cancel();
+
+        CommandExecution execution = new CommandExecution(commandText);
+        ExecutorService executor = getModelExecutor();
+        ExecutorService saveExecutor = storageExecutor;
+        executor.execute(() -> executeSubmitted(command, execution, saveExecutor));
+        return execution;
+    }
+
+    /**
+     * Returns the executor of the model thread, starting it and the storage thread if they are not running.
+     */
+    private synchronized ExecutorService getModelExecutor() {
+        if (modelExecutor == null) {
+            modelExecutor = Executors.newSingleThreadExecutor(runnable -> createDaemonThread(runnable, "model"));
+            storageExecutor = Executors.newSingleThreadExecutor(runnable -> createDaemonThread(runnable, "storage"));
+        }
+        return modelExecutor;
+    }
+
+    private static Thread createDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Executes {@code command} on the model thread, then schedules a save of the resulting data.
+     * A snapshot of the data is taken here, so that later commands can go on changing the model while it is being
+     * saved. Only the lists are copied, so this takes little time even for a large bookkeeper.
+     */
+    private void executeSubmitted(Command command, CommandExecution execution, ExecutorService saveExecutor) {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            execution.getSaved().complete(null);
+            execution.getResult().completeExceptionally(e);
+            return;
+        }
+
+        execution.getResult().complete(commandResult);
+
+        ReadOnlyBookKeeper snapshot = new BookKeeperSnapshot(model.getAddressBook());
+        synchronized (saveLock) {
+            if (pendingSave == null) {
+                saveExecutor.execute(this::savePending);
+            }
+            pendingSave = snapshot;
+            executionsAwaitingSave.add(execution);
+        }
+    }
+
+    /**
+     * Saves the latest data on the storage thread. Saves requested while an earlier save was running are merged,
+     * so only the latest data is written.
+     */
+    private void savePending() {
+        ReadOnlyBookKeeper snapshot;
+        List<CommandExecution> executions;
+        synchronized (saveLock) {
+            snapshot = pendingSave;
+            executions = new ArrayList<>(executionsAwaitingSave);
+            pendingSave = null;
+            executionsAwaitingSave.clear();
+        }
+
+        try {
+            saveAddressBook(snapshot);
+            executions.forEach(execution -> execution.getSaved().complete(null));
+        } catch (CommandException e) {
+            logger.warning("Failed to save data after " + executions.size() + " commands: " + e.getMessage());
+            executions.forEach(execution -> execution.getSaved().completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void awaitSubmitted() throws InterruptedException {
+        ExecutorService modelExecutorToStop;
+        ExecutorService storageExecutorToStop;
+        synchronized (this) {
+            modelExecutorToStop = modelExecutor;
+            storageExecutorToStop = storageExecutor;
+            modelExecutor = null;
+            storageExecutor = null;
+        }
+        if (modelExecutorToStop == null) {
+            return;
+        }
+
+        // commands schedule saves, so every command must have run before the storage thread can be stopped
+        modelExecutorToStop.shutdown();
+        boolean isDone = modelExecutorToStop.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        storageExecutorToStop.shutdown();
+        isDone &= storageExecutorToStop.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (!isDone) {
+            logger.warning("Gave up waiting for submitted commands to run and be saved");
+        }
+    }
+
+    @Override
+    public List<Completion> complete(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
 
+    @Override
+    public void preview(String commandText) {
+        livePreview.request(commandText);
+    }
+
+    @Override
+    public void saveAddressBook() throws CommandException {
+        saveAddressBook(model.getAddressBook());
+    }
+
+    private void saveAddressBook(ReadOnlyBookKeeper addressBook) throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(addressBook);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -77,6 +230,31 @@ public class LogicManager implements Logic {
         return model.getFilteredOrderList();
     }
 
+    @Override
+    public ObservableList<Order> getOrderHistoryList() {
+        return model.getOrderHistoryList();
+    }
+
+    @Override
+    public int archiveOrders() throws IOException {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(model.getUserPrefs().getOrderArchiveAgeDays());
+        List<Order> ordersToArchive = model.getAddressBook().getOrderList().stream()
+                .filter(order -> order.isArchivable(cutoff))
+                .collect(Collectors.toList());
+        if (ordersToArchive.isEmpty()) {
+            return 0;
+        }
+
+        // The archive is written before the orders are removed so that a failure part way never loses an order.
+        // Orders left in the archive by an earlier interrupted run are not appended a second time by the archive.
+        storage.archiveOrders(ordersToArchive);
+
+        model.deleteOrders(ordersToArchive);
+        storage.saveAddressBook(model.getAddressBook());
+        logger.info("Moved " + ordersToArchive.size() + " orders to the order archive");
+        return ordersToArchive.size();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -14,12 +14,21 @@ import seedu.address.model.order.Order;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command %1$s, which could be any of: %2$s";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX = "The client index provided is invalid";
     public static final String MESSAGE_CLIENTS_LISTED_OVERVIEW = "%1$d clients listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_ORDER_DISPLAYED_INDEX = "The order index provided is invalid";
+    public static final String MESSAGE_ORDERS_LISTED_OVERVIEW = "%1$d orders listed!";
+    public static final String MESSAGE_CLIENT_NOT_FOUND = "There is no client named %1$s";
+    public static final String MESSAGE_ORDER_NOT_FOUND = "There is no order with an ID starting with %1$s";
+    public static final String MESSAGE_AMBIGUOUS_ORDER_ID =
+            "%1$d orders have an ID starting with %2$s. Give more of the ID to choose one";
+    public static final String MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW = "%1$d archived orders listed!";
+    public static final String MESSAGE_DUPLICATE_PHONE = "%1$s already has the phone number %2$s";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "%1$s already has the email %2$s";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -55,7 +64,9 @@ public class Messages {
      */
     public static String format(Order order) {
         final StringBuilder builder = new StringBuilder();
-        builder.append("Deadline: ")
+        builder.append("ID: ")
+                .append(order.getOrderId())
+                .append("; Deadline: ")
                 .append(order.getDeadline())
                 .append("; Date Received: ")
                 .append(order.getOrderDate())
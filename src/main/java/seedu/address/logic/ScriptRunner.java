@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands through {@link Logic}, one command per line, without a GUI.
+ * The result of each command, and of each save, is written as one line of JSON. The data is saved after every
+ * {@code checkpointInterval} commands that succeed, and once more at the end, instead of after every command.
+ */
+public class ScriptRunner {
+
+    /** Exit status when every command succeeded and the data was saved. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when at least one command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** Exit status when the data could not be saved, or the script could not be read. */
+    public static final int EXIT_ERROR = 2;
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final Writer output;
+    private final int checkpointInterval;
+
+    private int lineNumber;
+    private int commandsSinceSave;
+    private boolean hasFailedCommand;
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands through {@code logic} and writes their results to
+     * {@code output}, saving after every {@code checkpointInterval} commands, or only at the end if it is 0.
+     */
+    public ScriptRunner(Logic logic, Writer output, int checkpointInterval) {
+        requireNonNull(logic);
+        requireNonNull(output);
+        checkArgument(checkpointInterval >= 0, "Checkpoint interval must not be negative");
+        this.logic = logic;
+        this.output = output;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs every line of {@code script} as a command until the script ends or an {@code exit} command is run,
+     * then saves the data. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped.
+     * Output is flushed whenever the script has no more input ready, so that a process feeding commands
+     * one at a time sees each result as soon as it is ready.
+     *
+     * @return the exit status of the script.
+     * @throws IOException if {@code script} could not be read or {@code output} could not be written.
+     */
+    public int run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        boolean isSaved = true;
+        String line;
+        while (isSaved && (line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            boolean isExit = runCommand(commandText);
+            if (isExit) {
+                break;
+            }
+            if (checkpointInterval > 0 && commandsSinceSave >= checkpointInterval) {
+                isSaved = save();
+            }
+            if (!script.ready()) {
+                output.flush();
+            }
+        }
+
+        if (isSaved && commandsSinceSave > 0) {
+            isSaved = save();
+        }
+        output.flush();
+
+        if (!isSaved) {
+            return EXIT_ERROR;
+        }
+        return hasFailedCommand ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+
+    /**
+     * Runs {@code commandText} and writes its result.
+     *
+     * @return true if the command asked to exit.
+     */
+    private boolean runCommand(String commandText) throws IOException {
+        try {
+            CommandResult result = logic.executeWithoutSaving(commandText);
+            commandsSinceSave++;
+            write(new ResultRecord(ResultRecord.TYPE_COMMAND, lineNumber, commandText, true,
+                    result.getFeedbackToUser()));
+            return result.isExit();
+        } catch (CommandException | ParseException e) {
+            hasFailedCommand = true;
+            write(new ResultRecord(ResultRecord.TYPE_COMMAND, lineNumber, commandText, false, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Saves the data and writes the outcome.
+     *
+     * @return true if the data was saved.
+     */
+    private boolean save() throws IOException {
+        try {
+            logic.saveAddressBook();
+            logger.info("Saved data after line " + lineNumber + " of the script");
+            commandsSinceSave = 0;
+            write(new ResultRecord(ResultRecord.TYPE_SAVE, lineNumber, null, true, "Saved data"));
+            return true;
+        } catch (CommandException e) {
+            logger.severe("Failed to save data after line " + lineNumber + " of the script: " + e.getMessage());
+            write(new ResultRecord(ResultRecord.TYPE_SAVE, lineNumber, null, false, e.getMessage()));
+            return false;
+        }
+    }
+
+    private void write(ResultRecord record) throws IOException {
+        output.write(JsonUtil.toCompactJsonString(record));
+        output.write('\n');
+    }
+
+    /**
+     * The outcome of one command or one save, as written to the output.
+     */
+    private static class ResultRecord {
+        private static final String TYPE_COMMAND = "command";
+        private static final String TYPE_SAVE = "save";
+
+        private final String type;
+        private final int line;
+        private final String command;
+        private final boolean success;
+        private final String message;
+
+        private ResultRecord(String type, int line, String command, boolean success, String message) {
+            this.type = type;
+            this.line = line;
+            this.command = command;
+            this.success = success;
+            this.message = message;
+        }
+    }
+}
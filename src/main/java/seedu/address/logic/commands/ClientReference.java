@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Name;
+
+/**
+ * Identifies the client that a command acts on, either by its index in the displayed client list or by its name.
+ * A name refers to the same client however the displayed client list is filtered.
+ */
+public abstract class ClientReference {
+
+    /**
+     * Returns a reference to the client at {@code index} in the displayed client list.
+     */
+    public static ClientReference of(Index index) {
+        return new ByIndex(index);
+    }
+
+    /**
+     * Returns a reference to the client named {@code name}.
+     */
+    public static ClientReference of(Name name) {
+        return new ByName(name);
+    }
+
+    /**
+     * Returns the client that this refers to in {@code model}.
+     *
+     * @throws CommandException if there is no such client.
+     */
+    public abstract Client resolve(Model model) throws CommandException;
+
+    private static class ByIndex extends ClientReference {
+        private final Index index;
+
+        ByIndex(Index index) {
+            requireNonNull(index);
+            this.index = index;
+        }
+
+        @Override
+        public Client resolve(Model model) throws CommandException {
+            List<Client> lastShownList = model.getFilteredClientList();
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+            }
+            return lastShownList.get(index.getZeroBased());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ByIndex)) {
+                return false;
+            }
+
+            ByIndex otherByIndex = (ByIndex) other;
+            return index.equals(otherByIndex.index);
+        }
+
+        @Override
+        public int hashCode() {
+            return index.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return index.toString();
+        }
+    }
+
+    private static class ByName extends ClientReference {
+        private final Name name;
+
+        ByName(Name name) {
+            requireNonNull(name);
+            this.name = name;
+        }
+
+        @Override
+        public Client resolve(Model model) throws CommandException {
+            return model.getClient(name).orElseThrow(() ->
+                    new CommandException(String.format(Messages.MESSAGE_CLIENT_NOT_FOUND, name)));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ByName)) {
+                return false;
+            }
+
+            ByName otherByName = (ByName) other;
+            return name.equals(otherByName.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "@" + name;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BookKeeperSnapshot;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyBookKeeper;
+
+/**
+ * Executes several commands, in order, as a single command.
+ * Either all of the commands are applied or, if any of them fails, none of them are: the bookkeeper is put back the
+ * way it was before the first command. Files written by the commands, e.g. by {@code export}, are not removed.
+ */
+public class CompoundCommand extends Command {
+
+    public static final String MESSAGE_INVALID_COMMAND = "Command %1$d of %2$d is invalid, so none were run: %3$s";
+    public static final String MESSAGE_FAILED = "Command %1$d of %2$d failed, so none were applied: %3$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a CompoundCommand to execute {@code commands} in order.
+     */
+    public CompoundCommand(List<? extends Command> commands) {
+        requireNonNull(commands);
+        checkArgument(!commands.isEmpty(), "A compound command needs at least one command");
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // only the lists are copied; rolling back puts them back in one step
+        ReadOnlyBookKeeper snapshot = new BookKeeperSnapshot(model.getAddressBook());
+
+        StringBuilder feedback = new StringBuilder();
+        boolean showHelp = false;
+        boolean exit = false;
+        boolean showHistory = false;
+        for (int i = 0; i < commands.size(); i++) {
+            CommandResult result;
+            try {
+                result = commands.get(i).execute(model);
+            } catch (CommandException e) {
+                model.setAddressBook(snapshot);
+                throw new CommandException(String.format(MESSAGE_FAILED, i + 1, commands.size(), e.getMessage()), e);
+            } catch (RuntimeException e) {
+                model.setAddressBook(snapshot);
+                throw e;
+            }
+
+            if (feedback.length() > 0) {
+                feedback.append('\n');
+            }
+            feedback.append(result.getFeedbackToUser());
+            showHelp |= result.isShowHelp();
+            exit |= result.isExit();
+            // the list shown after the last command is the one to show
+            showHistory = result.isShowHistory();
+        }
+        return new CommandResult(feedback.toString(), showHelp, exit, showHistory);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompoundCommand)) {
+            return false;
+        }
+
+        CompoundCommand otherCompoundCommand = (CompoundCommand) other;
+        return commands.equals(otherCompoundCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
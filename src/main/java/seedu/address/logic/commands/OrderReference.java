@@ -0,0 +1,130 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+
+/**
+ * Identifies the order that a command acts on, either by its index in the displayed order list or by its ID.
+ * An ID may be shortened to any prefix that no other order's ID starts with. An ID refers to the same order however
+ * the displayed order list is filtered or sorted.
+ */
+public abstract class OrderReference {
+
+    /**
+     * Returns a reference to the order at {@code index} in the displayed order list.
+     */
+    public static OrderReference of(Index index) {
+        return new ByIndex(index);
+    }
+
+    /**
+     * Returns a reference to the only order whose ID starts with {@code idPrefix}.
+     */
+    public static OrderReference of(String idPrefix) {
+        return new ById(idPrefix);
+    }
+
+    /**
+     * Returns the order that this refers to in {@code model}.
+     *
+     * @throws CommandException if there is no such order, or the ID prefix is shared by several orders.
+     */
+    public abstract Order resolve(Model model) throws CommandException;
+
+    private static class ByIndex extends OrderReference {
+        private final Index index;
+
+        ByIndex(Index index) {
+            requireNonNull(index);
+            this.index = index;
+        }
+
+        @Override
+        public Order resolve(Model model) throws CommandException {
+            List<Order> lastShownList = model.getFilteredOrderList();
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
+            }
+            return lastShownList.get(index.getZeroBased());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ByIndex)) {
+                return false;
+            }
+
+            ByIndex otherByIndex = (ByIndex) other;
+            return index.equals(otherByIndex.index);
+        }
+
+        @Override
+        public int hashCode() {
+            return index.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return index.toString();
+        }
+    }
+
+    private static class ById extends OrderReference {
+        private final String idPrefix;
+
+        ById(String idPrefix) {
+            requireNonNull(idPrefix);
+            this.idPrefix = idPrefix.toLowerCase();
+        }
+
+        @Override
+        public Order resolve(Model model) throws CommandException {
+            List<Order> matches = model.getOrdersWithIdPrefix(idPrefix);
+            if (matches.isEmpty()) {
+                throw new CommandException(String.format(Messages.MESSAGE_ORDER_NOT_FOUND, idPrefix));
+            }
+            if (matches.size() > 1) {
+                throw new CommandException(String.format(Messages.MESSAGE_AMBIGUOUS_ORDER_ID, matches.size(),
+                        idPrefix));
+            }
+            return matches.get(0);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ById)) {
+                return false;
+            }
+
+            ById otherById = (ById) other;
+            return idPrefix.equals(otherById.idPrefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return idPrefix.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "#" + idPrefix;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
@@ -57,11 +59,31 @@ public class AddCommand extends Command {
         if (model.hasClient(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
+        if (model.getUserPrefs().isUniqueContactsEnforced()) {
+            requireUniqueContacts(model);
+        }
 
         model.addClient(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
+    /**
+     * Refuses the client to add if another client already has its phone or email. Both are looked up directly, so
+     * the check takes the same time however many clients there are.
+     */
+    private void requireUniqueContacts(Model model) throws CommandException {
+        List<Client> samePhone = model.getClientsWithPhone(toAdd.getPhone());
+        if (!samePhone.isEmpty()) {
+            throw new CommandException(
+                    String.format(Messages.MESSAGE_DUPLICATE_PHONE, samePhone.get(0).getName(), toAdd.getPhone()));
+        }
+        List<Client> sameEmail = model.getClientsWithEmail(toAdd.getEmail());
+        if (!sameEmail.isEmpty()) {
+            throw new CommandException(
+                    String.format(Messages.MESSAGE_DUPLICATE_EMAIL, sameEmail.get(0).getName(), toAdd.getEmail()));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+
+/**
+ * Deletes every client in bookkeeper that matches a predicate, together with their orders, in one batch.
+ */
+public class BulkDeleteCommand extends Command {
+
+    public static final String COMMAND_WORD = "bulkDelete";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes every client in bookkeeper that has all the given tags, not just the displayed ones, "
+            + "together with their orders.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "inactive";
+
+    public static final String MESSAGE_BULK_DELETE_SUCCESS = "Deleted %1$d clients";
+
+    private final Predicate<Client> predicate;
+
+    /**
+     * @param predicate selects the clients to delete
+     */
+    public BulkDeleteCommand(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Client> clientsToDelete = model.getAddressBook().getClientList().stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+
+        model.deleteClients(clientsToDelete);
+        return new CommandResult(String.format(MESSAGE_BULK_DELETE_SUCCESS, clientsToDelete.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteCommand)) {
+            return false;
+        }
+
+        BulkDeleteCommand otherBulkDeleteCommand = (BulkDeleteCommand) other;
+        return predicate.equals(otherBulkDeleteCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
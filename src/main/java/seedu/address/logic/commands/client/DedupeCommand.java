@@ -0,0 +1,146 @@
+package seedu.address.logic.commands.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.SnapshotPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.DuplicateGroup;
+import seedu.address.model.client.Name;
+
+/**
+ * Lists the groups of clients in bookkeeper that are likely to be the same customer, or merges one of them.
+ * Merging a group keeps the first client of the group, gives it the tags and orders of the others, and deletes them.
+ *
+ * @see seedu.address.model.client.DuplicateClientFinder
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final int MAX_LISTED_GROUPS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists groups of clients that are likely to be the "
+            + "same customer, because they have the same name (ignoring case and spaces), the same phone number or "
+            + "similar emails. Give the number of a group to merge its clients into the first of them, moving all "
+            + "their orders and tags to it.\n"
+            + "Parameters: [GROUP_NUMBER]\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_NO_DUPLICATES = "No likely duplicate clients found";
+    public static final String MESSAGE_DUPLICATES_LISTED =
+            "%1$d groups of likely duplicate clients found. Merge a group with " + COMMAND_WORD + " GROUP_NUMBER";
+    public static final String MESSAGE_GROUP = "%1$d. %2$s (same %3$s)";
+    public static final String MESSAGE_MORE_GROUPS = "...and %1$d more groups";
+    public static final String MESSAGE_INVALID_GROUP = "There is no group %1$d of likely duplicate clients";
+    public static final String MESSAGE_MERGED = "Merged %1$d clients into %2$s, which now has %3$d orders";
+
+    private final Index group;
+
+    /**
+     * Creates a {@code DedupeCommand} that lists the groups of likely duplicate clients.
+     */
+    public DedupeCommand() {
+        group = null;
+    }
+
+    /**
+     * Creates a {@code DedupeCommand} that merges the clients of the {@code group}-th group of likely duplicates.
+     */
+    public DedupeCommand(Index group) {
+        requireNonNull(group);
+        this.group = group;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<DuplicateGroup> duplicates = model.findDuplicateClients();
+        return group == null ? list(model, duplicates) : merge(model, duplicates);
+    }
+
+    private CommandResult list(Model model, List<DuplicateGroup> duplicates) {
+        if (duplicates.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        List<Client> members = new ArrayList<>();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_DUPLICATES_LISTED, duplicates.size()));
+        for (int i = 0; i < duplicates.size(); i++) {
+            DuplicateGroup duplicateGroup = duplicates.get(i);
+            members.addAll(duplicateGroup.getClients());
+            if (i < MAX_LISTED_GROUPS) {
+                message.append('\n').append(formatGroup(i + 1, duplicateGroup));
+            }
+        }
+        if (duplicates.size() > MAX_LISTED_GROUPS) {
+            message.append('\n').append(String.format(MESSAGE_MORE_GROUPS, duplicates.size() - MAX_LISTED_GROUPS));
+        }
+        // a client edited afterwards is still the same client if it keeps its name, so it stays listed
+        Set<Name> memberNames = members.stream().map(Client::getName).collect(Collectors.toSet());
+        model.updateFilteredClientList(new SnapshotPredicate<>(members,
+                client -> memberNames.contains(client.getName())));
+        return new CommandResult(message.toString());
+    }
+
+    private CommandResult merge(Model model, List<DuplicateGroup> duplicates) throws CommandException {
+        if (group.getZeroBased() >= duplicates.size()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_GROUP, group.getOneBased()));
+        }
+
+        DuplicateGroup duplicateGroup = duplicates.get(group.getZeroBased());
+        Client merged = duplicateGroup.toMergedClient();
+        // the merged client keeps the phone and email of the first client of the group, so even when phones and
+        // emails must be unique, it never shares one that the group did not already share
+        model.replaceClients(duplicateGroup.getClients(), merged);
+        model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        return new CommandResult(String.format(MESSAGE_MERGED, duplicateGroup.getClients().size(), merged.getName(),
+                merged.getOrders().size()));
+    }
+
+    private static String formatGroup(int number, DuplicateGroup duplicateGroup) {
+        String names = duplicateGroup.getClients().stream()
+                .map(client -> client.getName().fullName)
+                .collect(Collectors.joining(", "));
+        String reasons = duplicateGroup.getReasons().stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_GROUP, number, names, reasons);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DedupeCommand)) {
+            return false;
+        }
+
+        DedupeCommand otherDedupeCommand = (DedupeCommand) other;
+        return Objects.equals(group, otherDedupeCommand.group);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("group", group)
+                .toString();
+    }
+}
@@ -6,8 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -20,6 +18,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ClientReference;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -40,9 +39,9 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the client identified "
-            + "by the index number used in the displayed client list. "
+            + "by the index number used in the displayed client list, or by @ followed by the client's name. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or @NAME "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -56,7 +55,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_CLIENT = "This client already exists in bookkeeper.";
 
-    private final Index index;
+    private final ClientReference target;
     private final EditClientDescriptor editClientDescriptor;
 
     /**
@@ -64,10 +63,18 @@ public class EditCommand extends Command {
      * @param editClientDescriptor details to edit the client with
      */
     public EditCommand(Index index, EditClientDescriptor editClientDescriptor) {
-        requireNonNull(index);
+        this(ClientReference.of(index), editClientDescriptor);
+    }
+
+    /**
+     * @param target               the client to edit
+     * @param editClientDescriptor details to edit the client with
+     */
+    public EditCommand(ClientReference target, EditClientDescriptor editClientDescriptor) {
+        requireNonNull(target);
         requireNonNull(editClientDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editClientDescriptor = new EditClientDescriptor(editClientDescriptor);
     }
 
@@ -95,25 +102,44 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Client> lastShownList = model.getFilteredClientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
-        }
-
-        Client clientToEdit = lastShownList.get(index.getZeroBased());
+        Client clientToEdit = target.resolve(model);
         Client editedClient = createEditedClient(clientToEdit, editClientDescriptor);
 
         if (!clientToEdit.isSameClient(editedClient) && model.hasClient(editedClient)) {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
+        if (model.getUserPrefs().isUniqueContactsEnforced()) {
+            requireUniqueContacts(model, clientToEdit, editedClient);
+        }
 
         model.setClient(clientToEdit, editedClient);
-        model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
-        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
         return new CommandResult(String.format(MESSAGE_EDIT_CLIENT_SUCCESS, Messages.format(editedClient)));
     }
 
+    /**
+     * Refuses {@code editedClient} if it is given a phone or email that another client already has. A phone or email
+     * left as it was is not checked, so clients that shared one before the check was turned on can still be edited.
+     */
+    private static void requireUniqueContacts(Model model, Client clientToEdit, Client editedClient)
+            throws CommandException {
+        Phone phone = editedClient.getPhone();
+        if (!phone.equals(clientToEdit.getPhone())) {
+            List<Client> samePhone = model.getClientsWithPhone(phone);
+            if (!samePhone.isEmpty()) {
+                throw new CommandException(
+                        String.format(Messages.MESSAGE_DUPLICATE_PHONE, samePhone.get(0).getName(), phone));
+            }
+        }
+        Email email = editedClient.getEmail();
+        if (!email.getNormalizedValue().equals(clientToEdit.getEmail().getNormalizedValue())) {
+            List<Client> sameEmail = model.getClientsWithEmail(email);
+            if (!sameEmail.isEmpty()) {
+                throw new CommandException(
+                        String.format(Messages.MESSAGE_DUPLICATE_EMAIL, sameEmail.get(0).getName(), email));
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -126,14 +152,14 @@ public class EditCommand extends Command {
         }
 
         EditCommand otherEditCommand = (EditCommand) other;
-        return index.equals(otherEditCommand.index)
+        return target.equals(otherEditCommand.target)
                 && editClientDescriptor.equals(otherEditCommand.editClientDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("target", target)
                 .add("editClientDescriptor", editClientDescriptor)
                 .toString();
     }
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SnapshotPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Phone;
+
+/**
+ * Lists the clients in bookkeeper with a phone number or email. The clients are looked up directly instead of going
+ * through the whole list, so the caller of a phone number can be found straight away.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the clients with exactly the given phone "
+            + "number, or the given email (case-insensitive).\n"
+            + "Parameters: " + PREFIX_PHONE + "PHONE or " + PREFIX_EMAIL + "EMAIL\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "98765432";
+
+    private final Phone phone;
+    private final Email email;
+
+    /**
+     * Creates a {@code LookupCommand} that lists the clients with {@code phone}.
+     */
+    public LookupCommand(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+        this.email = null;
+    }
+
+    /**
+     * Creates a {@code LookupCommand} that lists the clients with {@code email}.
+     */
+    public LookupCommand(Email email) {
+        requireNonNull(email);
+        this.phone = null;
+        this.email = email;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Client> clients = phone != null ? model.getClientsWithPhone(phone) : model.getClientsWithEmail(email);
+        model.updateFilteredClientList(new SnapshotPredicate<>(clients, this::isLookedUp));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
+    }
+
+    /**
+     * Returns true if {@code client} has the phone number or email looked up, as the model finds them.
+     */
+    private boolean isLookedUp(Client client) {
+        return phone != null
+                ? client.getPhone().equals(phone)
+                : client.getEmail().getNormalizedValue().equals(email.getNormalizedValue());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LookupCommand)) {
+            return false;
+        }
+
+        LookupCommand otherLookupCommand = (LookupCommand) other;
+        return Objects.equals(phone, otherLookupCommand.phone)
+                && Objects.equals(email, otherLookupCommand.email);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("email", email)
+                .toString();
+    }
+}
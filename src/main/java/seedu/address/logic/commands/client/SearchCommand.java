@@ -0,0 +1,81 @@
+package seedu.address.logic.commands.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SnapshotPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientTextIndex;
+
+/**
+ * Finds and lists all clients in bookkeeper whose name, address or email contains the argument text.
+ * Matching is case insensitive, and can allow for a few typos.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int MAX_TYPOS = 3;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all clients whose name, address or email "
+            + "contains the specified text anywhere (case-insensitive) and displays them as a list with index numbers. "
+            + "Give " + PREFIX_TYPOS + " to also find text with up to that many missing, extra or wrong characters.\n"
+            + "Parameters: TEXT [" + PREFIX_TYPOS + "TYPOS]\n"
+            + "Example: " + COMMAND_WORD + " serangon " + PREFIX_TYPOS + "1";
+
+    private final String text;
+    private final int maxTypos;
+
+    /**
+     * Creates a {@code SearchCommand} that finds clients with {@code text} in them, allowing for up to
+     * {@code maxTypos} typos.
+     */
+    public SearchCommand(String text, int maxTypos) {
+        requireNonNull(text);
+        checkArgument(maxTypos >= 0 && maxTypos <= MAX_TYPOS, "Typos must be from 0 to " + MAX_TYPOS);
+        this.text = text;
+        this.maxTypos = maxTypos;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Client> matches = model.searchClients(text, maxTypos);
+        model.updateFilteredClientList(new SnapshotPredicate<>(matches,
+                client -> ClientTextIndex.matches(client, text, maxTypos)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return text.equals(otherSearchCommand.text)
+                && maxTypos == otherSearchCommand.maxTypos;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("text", text)
+                .add("maxTypos", maxTypos)
+                .toString();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands.data;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The file formats that clients and orders can be imported from and exported to, identified by file extension.
+ */
+public enum DataFormat {
+    CSV(".csv"),
+    JSON_LINES(".jsonl");
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "Only .csv and .jsonl files are supported";
+
+    private final String extension;
+
+    DataFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the format of the file at {@code path}, based on its extension (case-insensitive).
+     */
+    public static Optional<DataFormat> fromPath(Path path) {
+        requireNonNull(path);
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lowerCaseName = fileName.toString().toLowerCase();
+        for (DataFormat format : values()) {
+            if (lowerCaseName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
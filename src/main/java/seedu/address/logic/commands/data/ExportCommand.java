@@ -0,0 +1,203 @@
+package seedu.address.logic.commands.data;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.data.ImportRecordParser;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports the clients or orders currently shown, in the order they are shown, to a CSV or JSON Lines file.
+ * The file is written before the command completes, so a failure to write it is reported as the command's error.
+ * The file can be read back with {@code import}.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the clients or orders currently shown "
+            + "to a .csv or .jsonl file.\n"
+            + "Parameters: clients|orders FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " orders data/orders.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_WRITE_FAILURE = "Could not export %1$s to %2$s: %3$s";
+
+    private static final List<String> CLIENT_FIELDS = ImportRecordParser.FIELDS.subList(0,
+            ImportRecordParser.FIELDS.indexOf(ImportRecordParser.FIELD_TAGS) + 1);
+    private static final List<String> ORDER_FIELDS = ImportRecordParser.FIELDS;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Target target;
+    private final Path filePath;
+    private final DataFormat format;
+
+    /**
+     * Creates an ExportCommand to export the shown {@code target} list to the {@code format} file at
+     * {@code filePath}.
+     */
+    public ExportCommand(Target target, Path filePath, DataFormat format) {
+        requireNonNull(target);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.target = target;
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        int count;
+        if (target == Target.CLIENTS) {
+            Client[] clients = model.getFilteredClientList().toArray(new Client[0]);
+            count = clients.length;
+            export(CLIENT_FIELDS, writer -> writeClients(writer, clients));
+        } else {
+            Order[] orders = model.getFilteredOrderList().toArray(new Order[0]);
+            count = orders.length;
+            export(ORDER_FIELDS, writer -> writeOrders(writer, orders));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, target, filePath));
+    }
+
+    /**
+     * Writes the file through a temporary file next to it, so that the file only ever holds a complete export.
+     *
+     * @throws CommandException if the file could not be written.
+     */
+    private void export(List<String> fields, RecordSource source) throws CommandException {
+        long startTime = System.nanoTime();
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            BufferedWriter writer = new BufferedWriter(
+                    new OutputStreamWriter(Files.newOutputStream(tempFile), StandardCharsets.UTF_8), BUFFER_SIZE);
+            try (RecordWriter recordWriter = RecordWriter.create(format, writer, fields)) {
+                source.writeTo(recordWriter);
+            }
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            logger.info(String.format("Exported %s to %s in %d ms", target, filePath,
+                    (System.nanoTime() - startTime) / 1_000_000));
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not export " + target + " to " + filePath + ": " + StringUtil.getDetails(e));
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ioe) {
+                logger.warning("Could not delete " + tempFile + ": " + ioe.getMessage());
+            }
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILURE, target, filePath, e.getMessage()), e);
+        }
+    }
+
+    private static void writeClients(RecordWriter writer, Client[] clients) throws IOException {
+        String[] values = new String[CLIENT_FIELDS.size()];
+        for (Client client : clients) {
+            fillClientValues(values, client);
+            writer.write(values);
+        }
+    }
+
+    private static void writeOrders(RecordWriter writer, Order[] orders) throws IOException {
+        String[] values = new String[ORDER_FIELDS.size()];
+        int orderOffset = CLIENT_FIELDS.size();
+        for (Order order : orders) {
+            fillClientValues(values, order.getClient());
+            values[orderOffset] = order.getDeadline().toString();
+            values[orderOffset + 1] = order.getPrice().toString();
+            values[orderOffset + 2] = order.getRemark().toString();
+            values[orderOffset + 3] = order.getStatus().toString();
+            writer.write(values);
+        }
+    }
+
+    private static void fillClientValues(String[] values, Client client) {
+        values[0] = client.getName().toString();
+        values[1] = client.getPhone().toString();
+        values[2] = client.getEmail().toString();
+        values[3] = client.getAddress().toString();
+        values[4] = joinTags(client);
+    }
+
+    private static String joinTags(Client client) {
+        if (client.getTags().isEmpty()) {
+            return null;
+        }
+        StringBuilder tags = new StringBuilder();
+        for (Tag tag : client.getTags()) {
+            if (tags.length() > 0) {
+                tags.append(' ');
+            }
+            tags.append(tag.tagName);
+        }
+        return tags.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return target == otherExportCommand.target
+                && filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+
+    /**
+     * Writes the captured records of one export.
+     */
+    @FunctionalInterface
+    private interface RecordSource {
+        void writeTo(RecordWriter writer) throws IOException;
+    }
+
+    /**
+     * The list to export.
+     */
+    public enum Target {
+        CLIENTS, ORDERS;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package seedu.address.logic.commands.data;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.data.ImportRecordParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Order;
+
+/**
+ * Imports clients and their orders from a CSV or JSON Lines file.
+ * The file is streamed and its lines are parsed on a pool of worker threads. All valid records are then applied
+ * to the model as a single batch, so the data is saved and the lists are refreshed only once per import.
+ * Invalid lines are reported and skipped without stopping the import.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports clients and orders from a .csv or .jsonl "
+            + "file. Each record describes a client and optionally one of their orders.\n"
+            + "Fields: name, phone, email, address, [tags], [deadline, price, remark, [status]]\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/clients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d records: %3$d new clients, %4$d new orders.";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_CLIENT_SKIPPED = "Skipped the records of %1$s: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more invalid lines (see the log file)";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s is empty";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INTERRUPTED = "The import was interrupted";
+
+    /** Number of lines handed to a worker at a time. */
+    static final int CHUNK_SIZE = 1000;
+    /** Number of invalid lines listed in the result; the rest are only logged. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private static final int WORKER_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+    private final DataFormat format;
+
+    /**
+     * Creates an ImportCommand to import the {@code format} file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath, DataFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<ParsedLine> parsedLines;
+        try {
+            parsedLines = readFile();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, ioe.getMessage()), ioe);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, ie);
+        }
+
+        List<ImportRecord> records = new ArrayList<>(parsedLines.size());
+        List<String> errors = new ArrayList<>();
+        for (ParsedLine parsedLine : parsedLines) {
+            if (parsedLine.record != null) {
+                records.add(parsedLine.record);
+            } else {
+                String error = String.format(MESSAGE_LINE_ERROR, parsedLine.lineNumber, parsedLine.error);
+                logger.warning("Skipping line of " + filePath + ": " + error);
+                errors.add(error);
+            }
+        }
+
+        BatchSummary summary = applyRecords(model, records, errors);
+        int importedCount = records.size() - summary.skippedRecordCount;
+        logger.info(String.format("Imported %d of %d records from %s", importedCount, parsedLines.size(),
+                filePath));
+        return new CommandResult(generateResultMessage(importedCount, parsedLines.size(), summary, errors));
+    }
+
+    /**
+     * Streams the file and parses its non-blank lines on the worker pool.
+     * The returned list is in file order.
+     *
+     * @throws ParseException if the file is a CSV file that is empty or has an invalid header.
+     */
+    private List<ParsedLine> readFile() throws IOException, ParseException, InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            ImportRecordParser recordParser;
+            if (format == DataFormat.CSV) {
+                String header = reader.readLine();
+                if (header == null) {
+                    throw new ParseException(String.format(MESSAGE_EMPTY_FILE, filePath));
+                }
+                lineNumber++;
+                try {
+                    recordParser = ImportRecordParser.forCsv(stripByteOrderMark(header));
+                } catch (ParseException pe) {
+                    throw new ParseException(String.format(MESSAGE_LINE_ERROR, lineNumber, pe.getMessage()), pe);
+                }
+            } else {
+                recordParser = ImportRecordParser.forJsonLines();
+            }
+
+            List<Future<List<ParsedLine>>> chunks = new ArrayList<>();
+            List<ParsedLine> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new ParsedLine(lineNumber, lineNumber == 1 ? stripByteOrderMark(line) : line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    chunks.add(workers.submit(parseChunk(recordParser, chunk)));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunks.add(workers.submit(parseChunk(recordParser, chunk)));
+            }
+            logger.fine("Read " + lineNumber + " lines of " + filePath + " in " + chunks.size() + " chunks");
+
+            List<ParsedLine> parsedLines = new ArrayList<>();
+            for (Future<List<ParsedLine>> parsedChunk : chunks) {
+                parsedLines.addAll(getChunk(parsedChunk));
+                logger.info("Parsed " + parsedLines.size() + " records of " + filePath);
+            }
+            return parsedLines;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Callable<List<ParsedLine>> parseChunk(ImportRecordParser recordParser,
+            List<ParsedLine> chunk) {
+        return () -> {
+            for (ParsedLine parsedLine : chunk) {
+                parsedLine.parse(recordParser);
+            }
+            return chunk;
+        };
+    }
+
+    private static List<ParsedLine> getChunk(Future<List<ParsedLine>> chunk) throws InterruptedException {
+        try {
+            return chunk.get();
+        } catch (ExecutionException ee) {
+            // parsing only throws ParseException, which is recorded per line; anything else is a bug
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * Resolves the clients of {@code records} against the clients already in {@code model} by
+     * {@link Client#isSameClient(Client) identity} and applies all of them in one batch.
+     * A record for an existing client only contributes its order; the details of the existing client are kept.
+     * Likewise, only the first record of a new client determines its details. If phones and emails must be unique,
+     * the records of a new client whose phone or email another client already has are skipped, and reported in
+     * {@code errors}.
+     */
+    private static BatchSummary applyRecords(Model model, List<ImportRecord> records, List<String> errors) {
+        boolean isUniqueContactsEnforced = model.getUserPrefs().isUniqueContactsEnforced();
+        Map<Name, Client> affectedClients = new LinkedHashMap<>();
+        Map<Name, Set<Order>> newOrders = new HashMap<>();
+        // the phones and emails of the new clients, which later new clients must not share either
+        Map<Phone, Name> newPhones = new HashMap<>();
+        Map<String, Name> newEmails = new HashMap<>();
+        Set<Name> skippedClients = new HashSet<>();
+        int newClientCount = 0;
+        int newOrderCount = 0;
+        int skippedRecordCount = 0;
+        for (ImportRecord record : records) {
+            Name name = record.getClient().getName();
+            if (skippedClients.contains(name)) {
+                skippedRecordCount++;
+                continue;
+            }
+            if (!affectedClients.containsKey(name)) {
+                // existing clients are looked up by name, so the time taken does not grow with the bookkeeper
+                Optional<Client> existingClient = model.getClient(name);
+                if (existingClient.isEmpty() && isUniqueContactsEnforced) {
+                    Optional<String> clash = findContactClash(model, record.getClient(), newPhones, newEmails);
+                    if (clash.isPresent()) {
+                        errors.add(String.format(MESSAGE_CLIENT_SKIPPED, name, clash.get()));
+                        skippedClients.add(name);
+                        skippedRecordCount++;
+                        continue;
+                    }
+                    newPhones.put(record.getClient().getPhone(), name);
+                    newEmails.put(record.getClient().getEmail().getNormalizedValue(), name);
+                }
+                affectedClients.put(name, existingClient.orElse(record.getClient()));
+                newClientCount += existingClient.isEmpty() ? 1 : 0;
+            }
+            if (record.getOrder().isPresent()) {
+                newOrders.computeIfAbsent(name, unused -> new HashSet<>()).add(record.getOrder().get());
+                newOrderCount++;
+            }
+        }
+
+        List<Client> mergedClients = new ArrayList<>(affectedClients.size());
+        for (Client client : affectedClients.values()) {
+            Set<Order> orders = newOrders.get(client.getName());
+            if (orders == null && model.hasClient(client)) {
+                continue; // nothing to change for this client
+            }
+            Set<Order> mergedOrders = new HashSet<>(client.getOrders());
+            if (orders != null) {
+                mergedOrders.addAll(orders);
+            }
+            Client mergedClient = new Client(client.getName(), client.getPhone(), client.getEmail(),
+                    client.getAddress(), client.getTags(), mergedOrders);
+            mergedOrders.forEach(order -> order.setClient(mergedClient));
+            mergedClients.add(mergedClient);
+        }
+
+        if (!mergedClients.isEmpty()) {
+            model.mergeClients(mergedClients);
+            model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+            model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        }
+        return new BatchSummary(newClientCount, newOrderCount, skippedRecordCount);
+    }
+
+    /**
+     * Returns why {@code newClient} cannot be imported, if a client in {@code model} or a client imported before it
+     * already has its phone or email. Both are looked up directly, so the check takes the same time however many
+     * clients there are.
+     */
+    private static Optional<String> findContactClash(Model model, Client newClient, Map<Phone, Name> newPhones,
+            Map<String, Name> newEmails) {
+        Phone phone = newClient.getPhone();
+        List<Client> samePhone = model.getClientsWithPhone(phone);
+        Name phoneOwner = samePhone.isEmpty() ? newPhones.get(phone) : samePhone.get(0).getName();
+        if (phoneOwner != null) {
+            return Optional.of(String.format(Messages.MESSAGE_DUPLICATE_PHONE, phoneOwner, phone));
+        }
+        Email email = newClient.getEmail();
+        List<Client> sameEmail = model.getClientsWithEmail(email);
+        Name emailOwner = sameEmail.isEmpty() ? newEmails.get(email.getNormalizedValue()) : sameEmail.get(0).getName();
+        if (emailOwner != null) {
+            return Optional.of(String.format(Messages.MESSAGE_DUPLICATE_EMAIL, emailOwner, email));
+        }
+        return Optional.empty();
+    }
+
+    private static String generateResultMessage(int importedCount, int recordCount, BatchSummary summary,
+            List<String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, recordCount,
+                summary.newClientCount, summary.newOrderCount));
+        for (int i = 0; i < Math.min(errors.size(), MAX_REPORTED_ERRORS); i++) {
+            message.append('\n').append(errors.get(i));
+        }
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            message.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && format == otherImportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+
+    /**
+     * A client read from an import file, together with at most one of its orders.
+     * The client does not hold the order; the order is attached when the record is imported.
+     */
+    public static class ImportRecord {
+        private final Client client;
+        private final Order order;
+
+        /**
+         * Creates a record for {@code client} with the given {@code order}, which may be null.
+         */
+        public ImportRecord(Client client, Order order) {
+            requireNonNull(client);
+            this.client = client;
+            this.order = order;
+        }
+
+        public Client getClient() {
+            return client;
+        }
+
+        public Optional<Order> getOrder() {
+            return Optional.ofNullable(order);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ImportRecord)) {
+                return false;
+            }
+
+            ImportRecord otherImportRecord = (ImportRecord) other;
+            return client.equals(otherImportRecord.client)
+                    && Objects.equals(order, otherImportRecord.order);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(client, order);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("client", client)
+                    .add("order", order)
+                    .toString();
+        }
+    }
+
+    /**
+     * One non-blank line of the import file and the outcome of parsing it.
+     * Written by a single worker and read only after that worker's result has been retrieved.
+     */
+    private static class ParsedLine {
+        private final int lineNumber;
+        private String line;
+        private ImportRecord record;
+        private String error;
+
+        ParsedLine(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        void parse(ImportRecordParser recordParser) {
+            try {
+                record = recordParser.parse(line);
+            } catch (ParseException pe) {
+                error = pe.getMessage();
+            }
+            line = null; // the raw text is no longer needed
+        }
+    }
+
+    private static class BatchSummary {
+        private final int newClientCount;
+        private final int newOrderCount;
+        private final int skippedRecordCount;
+
+        BatchSummary(int newClientCount, int newOrderCount, int skippedRecordCount) {
+            this.newClientCount = newClientCount;
+            this.newOrderCount = newOrderCount;
+            this.skippedRecordCount = skippedRecordCount;
+        }
+    }
+}
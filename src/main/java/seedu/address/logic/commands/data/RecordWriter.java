@@ -0,0 +1,109 @@
+package seedu.address.logic.commands.data;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * Writes records, i.e. rows of values for a fixed list of fields, to a CSV or JSON Lines file.
+ * Values are written straight to the underlying writer, without building a line in memory first.
+ * The output can be read back with {@code import}.
+ */
+abstract class RecordWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final List<String> fields;
+
+    private RecordWriter(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns a {@code RecordWriter} that writes records with the given {@code fields} in {@code format}
+     * to {@code writer}. Closing the returned {@code RecordWriter} closes {@code writer}.
+     */
+    static RecordWriter create(DataFormat format, Writer writer, List<String> fields) throws IOException {
+        requireNonNull(format);
+        requireNonNull(writer);
+        requireNonNull(fields);
+        switch (format) {
+        case CSV:
+            return new CsvRecordWriter(writer, fields);
+        case JSON_LINES:
+            return new JsonLinesRecordWriter(writer, fields);
+        default:
+            throw new AssertionError("Unknown format: " + format);
+        }
+    }
+
+    /**
+     * Writes one record. {@code values} holds one value per field, in the order of the fields;
+     * a null value marks a field that the record does not have.
+     */
+    abstract void write(String[] values) throws IOException;
+
+    private static class CsvRecordWriter extends RecordWriter {
+        private final Writer writer;
+
+        CsvRecordWriter(Writer writer, List<String> fields) throws IOException {
+            super(fields);
+            this.writer = writer;
+            write(fields.toArray(new String[0]));
+        }
+
+        @Override
+        void write(String[] values) throws IOException {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    CsvUtil.writeSeparator(writer);
+                }
+                if (values[i] != null) {
+                    CsvUtil.writeField(writer, values[i]);
+                }
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static class JsonLinesRecordWriter extends RecordWriter {
+        private final JsonGenerator generator;
+
+        JsonLinesRecordWriter(Writer writer, List<String> fields) throws IOException {
+            super(fields);
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            // each record ends with its own line break, so no separator is needed between them
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(String[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < fields.size(); i++) {
+                if (values[i] != null) {
+                    generator.writeStringField(fields.get(i), values[i]);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
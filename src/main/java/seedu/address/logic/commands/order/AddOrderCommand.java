@@ -4,11 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 
-import java.util.List;
-
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ClientReference;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,22 +23,29 @@ public class AddOrderCommand extends Command {
             + ": Creates an order that is associated to a client. "
             + "Multiple orders will be appended to each other, "
             + "and old orders will always be kept during this operation.\n"
-            + "Parameters: INDEX (must be a positive integer), "
+            + "Parameters: INDEX (must be a positive integer) or @NAME, "
             + "DETAILS (in formation related to order), "
             + "DEADLINE (the date the order is due) \n"
             + "Example: " + COMMAND_WORD + " 1 d/1xRoses c/40 by/23-07-2024 00:00";
 
-    public static final String MESSAGE_SUCCESS = "New Order added! %1$s";
+    public static final String MESSAGE_SUCCESS = "New Order added! %1$s; ID: %2$s";
     private final Order order;
-    private final Index index;
+    private final ClientReference target;
 
     /**
      * Creates an AddOrderCommand to add the specified {@code Order}.
      */
     public AddOrderCommand(Index index, Order order) {
-        requireAllNonNull(index, order);
+        this(ClientReference.of(index), order);
+    }
 
-        this.index = index;
+    /**
+     * Creates an AddOrderCommand to add the specified {@code Order} to the client referred to by {@code target}.
+     */
+    public AddOrderCommand(ClientReference target, Order order) {
+        requireAllNonNull(target, order);
+
+        this.target = target;
         this.order = order;
     }
 
@@ -50,19 +55,14 @@ public class AddOrderCommand extends Command {
      * {@code clientToEdit}.
      */
     private String generateSuccessMessage(Client clientToEdit) {
-        return String.format(MESSAGE_SUCCESS, clientToEdit.getName());
+        return String.format(MESSAGE_SUCCESS, clientToEdit.getName(), order.getOrderId());
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Client> lastShownList = model.getFilteredClientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
-        }
-        Client clientToEdit = lastShownList.get(index.getZeroBased());
+        Client clientToEdit = target.resolve(model);
         Client editedClient = clientToEdit.addOrder(order);
         order.setClient(editedClient);
 
@@ -83,13 +83,13 @@ public class AddOrderCommand extends Command {
         }
 
         AddOrderCommand otherAddCommand = (AddOrderCommand) other;
-        return order.equals(otherAddCommand.order) && index.equals(otherAddCommand.index);
+        return order.equals(otherAddCommand.order) && target.equals(otherAddCommand.target);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("target", target)
                 .toString();
     }
 }
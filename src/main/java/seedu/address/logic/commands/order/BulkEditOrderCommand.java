@@ -0,0 +1,101 @@
+package seedu.address.logic.commands.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+
+/**
+ * Edits every order in bookkeeper that matches a predicate, in one batch.
+ */
+public class BulkEditOrderCommand extends Command {
+    public static final String COMMAND_WORD = "bulkEditOrder";
+
+    public static final String SET_KEYWORD = "set";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits every order in bookkeeper that matches "
+            + "all the given conditions, not just the displayed ones. "
+            + "Existing values will be overwritten by the input values.\n"
+            + "Parameters: [" + PREFIX_STATUS + "STATUS] "
+            + "[" + PREFIX_BEFORE + "DEADLINE] "
+            + "[" + PREFIX_AFTER + "DEADLINE] "
+            + SET_KEYWORD + " "
+            + "[" + PREFIX_BY + "DEADLINE] "
+            + "[" + PREFIX_PRICE + "PRICE] "
+            + "[" + PREFIX_DETAILS + "REMARK] "
+            + "[" + PREFIX_STATUS + "STATUS]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_STATUS + "pending " + PREFIX_BEFORE + "01-03-2024 00:00 "
+            + SET_KEYWORD + " " + PREFIX_STATUS + "canceled";
+
+    public static final String MESSAGE_BULK_EDIT_ORDER_SUCCESS = "Edited %1$d orders";
+
+    private final Predicate<Order> predicate;
+    private final EditOrderCommand.EditOrderDescriptor editOrderDescriptor;
+
+    /**
+     * @param predicate           selects the orders to edit
+     * @param editOrderDescriptor details to edit every selected order with
+     */
+    public BulkEditOrderCommand(Predicate<Order> predicate, EditOrderCommand.EditOrderDescriptor editOrderDescriptor) {
+        requireNonNull(predicate);
+        requireNonNull(editOrderDescriptor);
+
+        this.predicate = predicate;
+        this.editOrderDescriptor = new EditOrderCommand.EditOrderDescriptor(editOrderDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Map<Order, Order> editedOrders = new HashMap<>();
+        for (Order order : model.getAddressBook().getOrderList()) {
+            if (predicate.test(order)) {
+                editedOrders.put(order, EditOrderCommand.createEditedOrder(order, editOrderDescriptor));
+            }
+        }
+
+        model.editOrders(editedOrders);
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        return new CommandResult(String.format(MESSAGE_BULK_EDIT_ORDER_SUCCESS, editedOrders.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditOrderCommand)) {
+            return false;
+        }
+
+        BulkEditOrderCommand otherBulkEditOrderCommand = (BulkEditOrderCommand) other;
+        return predicate.equals(otherBulkEditOrderCommand.predicate)
+                && editOrderDescriptor.equals(otherBulkEditOrderCommand.editOrderDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("editOrderDescriptor", editOrderDescriptor)
+                .toString();
+    }
+}
@@ -5,19 +5,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
-import seedu.address.commons.util.Pair;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.OrderReference;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.client.Client;
@@ -36,9 +34,9 @@ public class EditOrderCommand extends Command {
     public static final String COMMAND_WORD = "editOrder";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the order identified "
-            + "by the index number used in the displayed client list. "
+            + "by the index number used in the displayed order list, or by # followed by the start of its ID. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #ID "
             + "[" + "DATE] "
             + "[" + PREFIX_BY + "DEADLINE] "
             + "[" + PREFIX_PRICE + "PRICE] "
@@ -47,8 +45,9 @@ public class EditOrderCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1 ";
 
     public static final String MESSAGE_EDIT_ORDER_SUCCESS = "Edited Order: %1$s";
+    public static final String MESSAGE_CLIENT_NOT_FOUND = "Failed to find the client associated with this order!";
 
-    private final Index targetIndex;
+    private final OrderReference target;
     private final EditOrderDescriptor editOrderDescriptor;
 
     /**
@@ -57,10 +56,18 @@ public class EditOrderCommand extends Command {
      */
     public EditOrderCommand(Index targetIndex, EditOrderDescriptor
             editOrderDescriptor) {
-        requireNonNull(targetIndex);
+        this(OrderReference.of(targetIndex), editOrderDescriptor);
+    }
+
+    /**
+     * @param target              the order to edit
+     * @param editOrderDescriptor details to edit the order with
+     */
+    public EditOrderCommand(OrderReference target, EditOrderDescriptor editOrderDescriptor) {
+        requireNonNull(target);
         requireNonNull(editOrderDescriptor);
 
-        this.targetIndex = targetIndex;
+        this.target = target;
         this.editOrderDescriptor = new EditOrderCommand.EditOrderDescriptor(editOrderDescriptor);
     }
 
@@ -68,7 +75,7 @@ public class EditOrderCommand extends Command {
      * Creates and returns a {@code Order} with the details of {@code orderToEdit}
      * edited with {@code editOrderDescriptor}.
      */
-    private static Order createEditedOrder(Order orderToEdit, EditOrderDescriptor editOrderDescriptor) {
+    static Order createEditedOrder(Order orderToEdit, EditOrderDescriptor editOrderDescriptor) {
         assert orderToEdit != null;
 
         OrderDate updatedOrderDate = editOrderDescriptor.getOrderDate().orElse(orderToEdit.getOrderDate());
@@ -84,36 +91,17 @@ public class EditOrderCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Order> lastShownOrderList = model.getFilteredOrderList();
-
-        if (targetIndex.getZeroBased() >= lastShownOrderList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
-        }
-
-        Order orderToEdit = lastShownOrderList.get(targetIndex.getZeroBased());
+        Order orderToEdit = target.resolve(model);
         Order editedOrder = createEditedOrder(orderToEdit, editOrderDescriptor);
 
-        List<Client> clientList = model.getFilteredClientList();
-        Pair<Client, Client> clientPair = editClient(clientList, orderToEdit, editedOrder);
-        Client clientToEdit = clientPair.getFirst();
-        Client editedClient = clientPair.getSecond();
+        Client clientToEdit = model.getOwner(orderToEdit).orElseThrow(() ->
+                new CommandException(MESSAGE_CLIENT_NOT_FOUND));
+        Client editedClient = clientToEdit.editOrder(orderToEdit, editedOrder);
 
         model.setClientAndEditOrder(clientToEdit, editedClient, orderToEdit, editedOrder);
-        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
         return new CommandResult(String.format(MESSAGE_EDIT_ORDER_SUCCESS, Messages.format(editedOrder)));
     }
 
-    private Pair<Client, Client> editClient(List<Client> clientList, Order orderToEdit, Order editedOrder) throws
-            CommandException {
-        for (Client client : clientList) {
-            if (client.getOrders().contains(orderToEdit)) {
-                Client editedClient = client.editOrder(orderToEdit, editedOrder);
-                return new Pair<>(client, editedClient);
-            }
-        }
-        throw new CommandException("Failed to find the client associated with this order!");
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -126,14 +114,14 @@ public class EditOrderCommand extends Command {
         }
 
         EditOrderCommand otherEditOrderCommand = (EditOrderCommand) other;
-        return targetIndex.equals(otherEditOrderCommand.targetIndex)
+        return target.equals(otherEditOrderCommand.target)
                 && editOrderDescriptor.equals(otherEditOrderCommand.editOrderDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("target", target)
                 .add("editOrderDescriptor", editOrderDescriptor)
                 .toString();
     }
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SnapshotPredicate;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.RemarkSearch;
+
+/**
+ * Finds and lists all orders whose remark matches the argument keywords, best matches first.
+ * Keyword matching is case insensitive, and is answered from the index of remark terms.
+ */
+public class FindOrderCommand extends Command {
+
+    public static final String COMMAND_WORD = "findOrder";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all orders whose remarks contain all of "
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers, "
+            + "orders that mention the keywords most often first. "
+            + "Separate groups of keywords with OR to find orders matching any group. "
+            + "End a keyword with * to match any word starting with it.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [OR KEYWORD [MORE_KEYWORDS]...]...\n"
+            + "Example: " + COMMAND_WORD + " red ros* OR tulips";
+
+    private final RemarkSearch search;
+
+    public FindOrderCommand(RemarkSearch search) {
+        requireNonNull(search);
+        this.search = search;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Order, Integer> scores = model.searchOrderRemarks(search);
+        // orders edited afterwards are scored from their remark, so they stay listed while they still match
+        model.updateFilteredOrderList(new SnapshotPredicate<>(scores.keySet(), order -> search.score(order) > 0),
+                search.byScore(scores));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindOrderCommand)) {
+            return false;
+        }
+
+        FindOrderCommand otherFindOrderCommand = (FindOrderCommand) other;
+        return search.equals(otherFindOrderCommand.search);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("search", search)
+                .toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+
+/**
+ * Lists archived orders, i.e. completed or canceled orders that have been moved out of the active order list.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows archived (completed or canceled) orders "
+            + "whose details contain any of the specified keywords (case-insensitive). "
+            + "Shows all archived orders if no keywords are given. "
+            + "Only the " + Model.ORDER_HISTORY_LIMIT + " most recently archived of them are shown.\n"
+            + "Parameters: [KEYWORD]...\n"
+            + "Example: " + COMMAND_WORD + " cake";
+
+    public static final String MESSAGE_HISTORY_LIMITED = "Showing the %1$d most recently archived orders found. "
+            + "Add keywords to find older ones.";
+
+    public static final String MESSAGE_LOAD_FAILURE = "Could not load the order history: %1$s";
+
+    private final Predicate<Order> predicate;
+
+    public HistoryCommand(Predicate<Order> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            model.updateOrderHistoryList(predicate);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_LOAD_FAILURE, e.getMessage()), e);
+        }
+        int listed = model.getOrderHistoryList().size();
+        String message = listed < Model.ORDER_HISTORY_LIMIT
+                ? String.format(Messages.MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW, listed)
+                : String.format(MESSAGE_HISTORY_LIMITED, listed);
+        return new CommandResult(message, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryCommand)) {
+            return false;
+        }
+
+        HistoryCommand otherHistoryCommand = (HistoryCommand) other;
+        return predicate.equals(otherHistoryCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.logic.commands.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SnapshotPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.QueryIndex;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResult;
+
+/**
+ * Lists the clients or orders that match a query over client and order fields, optionally explaining how the
+ * query was answered.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the clients or orders that match a query. "
+            + "Conditions are written FIELD:VALUE, and price and deadline also take <, <=, > and >=, or a range "
+            + "such as price:10..50. Fields are name, tag, status, price, deadline and remark. Conditions can be "
+            + "combined with AND (the default), OR, NOT and parentheses. Orders are listed if any condition is on "
+            + "an order field, and clients otherwise.\n"
+            + "Parameters: [" + EXPLAIN_KEYWORD + "] [clients|orders] QUERY\n"
+            + "Example: " + COMMAND_WORD + " tag:vip AND (status:pending OR price>=100) "
+            + "AND NOT deadline<\"01-03-2024 00:00\"";
+
+    public static final String MESSAGE_EXPLANATION = "%1$s\nPlan:\n%2$s\nRows examined: %3$d of %4$d";
+
+    private final QueryExpression expression;
+    private final Target target;
+    private final boolean isExplained;
+
+    /**
+     * @param expression  the query
+     * @param target      the list to show the matching rows in
+     * @param isExplained whether to show how the query was answered
+     */
+    public QueryCommand(QueryExpression expression, Target target, boolean isExplained) {
+        requireNonNull(expression);
+        requireNonNull(target);
+        this.expression = expression;
+        this.target = target;
+        this.isExplained = isExplained;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryIndex index = model.getQueryIndex();
+
+        String feedback;
+        QueryPlan<?> plan;
+        QueryResult<?> result;
+        int totalRows;
+        if (target == Target.CLIENTS) {
+            QueryPlan<Client> clientPlan = QueryPlanner.planForClients(expression, index);
+            QueryResult<Client> clientResult = clientPlan.execute();
+            // the matches are shown without testing the query again, and only clients edited afterwards are tested
+            model.updateFilteredClientList(new SnapshotPredicate<>(clientResult.getMatches(), expression::test));
+            feedback = String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size());
+            plan = clientPlan;
+            result = clientResult;
+            totalRows = index.getClients().size();
+        } else {
+            QueryPlan<Order> orderPlan = QueryPlanner.planForOrders(expression, index);
+            QueryResult<Order> orderResult = orderPlan.execute();
+            model.updateFilteredOrderList(new SnapshotPredicate<>(orderResult.getMatches(),
+                    order -> expression.test(order, order.getClient())));
+            feedback = String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size());
+            plan = orderPlan;
+            result = orderResult;
+            totalRows = index.getOrders().size();
+        }
+
+        if (isExplained) {
+            feedback = String.format(MESSAGE_EXPLANATION, feedback, plan.describe(), result.getRowsExamined(),
+                    totalRows);
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return expression.equals(otherQueryCommand.expression)
+                && target == otherQueryCommand.target
+                && isExplained == otherQueryCommand.isExplained;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .add("target", target)
+                .add("isExplained", isExplained)
+                .toString();
+    }
+
+    /**
+     * The list to show the matching rows in.
+     */
+    public enum Target {
+        CLIENTS, ORDERS;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+}
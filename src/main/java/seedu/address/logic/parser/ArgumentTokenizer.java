@@ -1,9 +1,11 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +14,27 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  * in the above example.<br>
+ * A prefix is only recognized if it is preceded by a space. The prefixes are held in a trie, so the arguments string
+ * is scanned once from left to right, however many prefixes there are.
  */
 public class ArgumentTokenizer {
 
+    /** Tokenizers for the sets of prefixes used so far; each command parser uses the same few sets. */
+    private static final Map<List<Prefix>, ArgumentTokenizer> TOKENIZERS = new ConcurrentHashMap<>();
+
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Creates an {@code ArgumentTokenizer} that recognizes the given prefixes.
+     * Where one prefix starts with another, the longest prefix that matches is recognized.
+     */
+    public ArgumentTokenizer(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            root.insert(prefix);
+        }
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +44,112 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        ArgumentTokenizer tokenizer = TOKENIZERS.computeIfAbsent(List.of(prefixes),
+                unused -> new ArgumentTokenizer(prefixes));
+        return tokenizer.scan(argsString);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}.
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     * <p>
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap scan(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+        int valueStart = 0;
+
+        int length = argsString.length();
+        for (int i = 0; i < length - 1; i++) {
+            if (argsString.charAt(i) != ' ') {
+                continue;
+            }
+            Prefix match = root.findLongestMatch(argsString, i + 1);
+            if (match == null) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractTrimmed(argsString, valueStart, i + 1));
+            currentPrefix = match;
+            valueStart = i + 1 + match.getPrefix().length();
+            i = valueStart - 1; // the prefix itself cannot contain the start of another prefix
         }
-
+        argMultimap.put(currentPrefix, extractTrimmed(argsString, valueStart, length));
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns {@code argsString.substring(start, end).trim()} without creating the untrimmed substring.
      */
-    private static String extractArgumentValue(String argsString,
-                                               PrefixPosition currentPrefixPosition,
-                                               PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static String extractTrimmed(String argsString, int start, int end) {
+        int trimmedStart = start;
+        int trimmedEnd = end;
+        while (trimmedStart < trimmedEnd && argsString.charAt(trimmedStart) <= ' ') {
+            trimmedStart++;
+        }
+        while (trimmedEnd > trimmedStart && argsString.charAt(trimmedEnd - 1) <= ' ') {
+            trimmedEnd--;
+        }
+        return argsString.substring(trimmedStart, trimmedEnd);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A node of the prefix trie. Children are kept in small parallel arrays, as prefixes are short and few.
      */
-    private static class PrefixPosition {
-        private final Prefix prefix;
-        private int startPosition;
+    private static class TrieNode {
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private Prefix prefix;
+
+        void insert(Prefix prefixToInsert) {
+            String text = prefixToInsert.getPrefix();
+            TrieNode node = this;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.getOrCreateChild(text.charAt(i));
+            }
+            if (node != this) {
+                node.prefix = prefixToInsert;
+            }
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        private TrieNode getOrCreateChild(char key) {
+            TrieNode child = getChild(key);
+            if (child == null) {
+                child = new TrieNode();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        private TrieNode getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * Returns the longest prefix that {@code text} starts with at {@code start}, or null if there is none.
+         */
+        Prefix findLongestMatch(String text, int start) {
+            Prefix longestMatch = null;
+            TrieNode node = this;
+            for (int i = start; i < text.length(); i++) {
+                node = node.getChild(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
         }
     }
 
@@ -1,105 +1,282 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CompoundCommand;
 import seedu.address.logic.commands.client.AddCommand;
+import seedu.address.logic.commands.client.BulkDeleteCommand;
 import seedu.address.logic.commands.client.ClearCommand;
+import seedu.address.logic.commands.client.DedupeCommand;
 import seedu.address.logic.commands.client.DeleteCommand;
 import seedu.address.logic.commands.client.EditCommand;
 import seedu.address.logic.commands.client.ExitCommand;
 import seedu.address.logic.commands.client.FindCommand;
 import seedu.address.logic.commands.client.HelpCommand;
 import seedu.address.logic.commands.client.ListCommand;
+import seedu.address.logic.commands.client.LookupCommand;
+import seedu.address.logic.commands.client.SearchCommand;
+import seedu.address.logic.commands.data.ExportCommand;
+import seedu.address.logic.commands.data.ImportCommand;
 import seedu.address.logic.commands.order.AddOrderCommand;
+import seedu.address.logic.commands.order.BulkEditOrderCommand;
 import seedu.address.logic.commands.order.DeleteOrderCommand;
 import seedu.address.logic.commands.order.EditOrderCommand;
+import seedu.address.logic.commands.order.FindOrderCommand;
+import seedu.address.logic.commands.order.HistoryCommand;
+import seedu.address.logic.commands.query.QueryCommand;
 import seedu.address.logic.parser.client.AddCommandParser;
+import seedu.address.logic.parser.client.BulkDeleteCommandParser;
+import seedu.address.logic.parser.client.DedupeCommandParser;
 import seedu.address.logic.parser.client.DeleteCommandParser;
 import seedu.address.logic.parser.client.EditCommandParser;
 import seedu.address.logic.parser.client.FindCommandParser;
+import seedu.address.logic.parser.client.LookupCommandParser;
+import seedu.address.logic.parser.client.SearchCommandParser;
+import seedu.address.logic.parser.data.ExportCommandParser;
+import seedu.address.logic.parser.data.ImportCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.order.AddOrderCommandParser;
+import seedu.address.logic.parser.order.BulkEditOrderCommandParser;
 import seedu.address.logic.parser.order.DeleteOrderCommandParser;
 import seedu.address.logic.parser.order.EditOrderCommandParser;
+import seedu.address.logic.parser.order.FindOrderCommandParser;
+import seedu.address.logic.parser.order.HistoryCommandParser;
+import seedu.address.logic.parser.query.QueryCommandParser;
 
 /**
  * Parses user input.
+ * Each command word is mapped to a parser that is created once and reused for every input, so parsers registered
+ * here must not keep any state between inputs. A command word may also be abbreviated to any prefix of it that no
+ * other command word starts with, unless it was registered as exact only.
  */
 public class BookKeeperParser {
 
+    private static final Logger logger = LogsCenter.getLogger(BookKeeperParser.class);
+
+    /** Registered command words, in alphabetical order, and whether each one may be abbreviated. */
+    private final TreeMap<String, Boolean> commandWords = new TreeMap<>();
+    private final Map<String, Parser<? extends Command>> parsersByCommandWord = new HashMap<>();
+
+    /** Command words and their unambiguous abbreviations, mapped to their parsers. */
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /** Abbreviations that more than one command word starts with, mapped to those command words. */
+    private final Map<String, List<String>> ambiguousAbbreviations = new HashMap<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a {@code BookKeeperParser} that recognizes the built-in commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(BookKeeperParser.class);
+    public BookKeeperParser() {
+        register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registerExactOnly(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        register(AddOrderCommand.COMMAND_WORD, new AddOrderCommandParser());
+        register(DeleteOrderCommand.COMMAND_WORD, new DeleteOrderCommandParser());
+        register(EditOrderCommand.COMMAND_WORD, new EditOrderCommandParser());
+        register(HistoryCommand.COMMAND_WORD, new HistoryCommandParser());
+        register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        register(BulkEditOrderCommand.COMMAND_WORD, new BulkEditOrderCommandParser());
+        registerExactOnly(BulkDeleteCommand.COMMAND_WORD, new BulkDeleteCommandParser());
+        register(QueryCommand.COMMAND_WORD, new QueryCommandParser());
+        register(FindOrderCommand.COMMAND_WORD, new FindOrderCommandParser());
+        register(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        // typed in full, so that abbreviations like l keep standing for the list command
+        registerExactOnly(LookupCommand.COMMAND_WORD, new LookupCommandParser());
+        registerExactOnly(DedupeCommand.COMMAND_WORD, new DedupeCommandParser());
+    }
 
     /**
-     * Parses user input into command for execution.
+     * Registers {@code parser} to parse the arguments of {@code commandWord}, which may also be abbreviated.
+     * {@code parser} is reused for every input, so it must not keep any state between inputs.
      *
-     * @param userInput full user input string
-     * @return the command based on the user input
-     * @throws ParseException if the user input does not conform the expected format
+     * @throws IllegalArgumentException if {@code commandWord} is blank, contains whitespace or is already registered
      */
-    public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        register(commandWord, parser, true);
+    }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+    /**
+     * Registers {@code parser} to parse the arguments of {@code commandWord}, which must be typed in full.
+     * Meant for commands that are hard to undo, or that would take over abbreviations of existing commands.
+     *
+     * @see #register(String, Parser)
+     */
+    public void registerExactOnly(String commandWord, Parser<? extends Command> parser) {
+        register(commandWord, parser, false);
+    }
 
-        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
-        // log messages such as the one below.
-        // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+    private void register(String commandWord, Parser<? extends Command> parser, boolean allowsAbbreviation) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isEmpty() && commandWord.chars().noneMatch(Character::isWhitespace),
+                "Command words must be non-empty and must not contain whitespace: " + commandWord);
+        checkArgument(!commandWords.containsKey(commandWord), "Command word already registered: " + commandWord);
 
-        switch (commandWord) {
+        commandWords.put(commandWord, allowsAbbreviation);
+        parsersByCommandWord.put(commandWord, parser);
+        rebuildLookupTable();
+    }
 
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
+    /**
+     * Returns the registered command words, sorted.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(commandWords.keySet());
+    }
 
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
+    /**
+     * Recomputes the abbreviations of every command word. Command words are only registered while setting up,
+     * so this keeps the work of resolving abbreviations out of {@link #parseCommand(String)}.
+     */
+    private void rebuildLookupTable() {
+        parsers.clear();
+        ambiguousAbbreviations.clear();
 
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
+        Map<String, List<String>> candidatesByAbbreviation = new HashMap<>();
+        commandWords.forEach((commandWord, allowsAbbreviation) -> {
+            if (!allowsAbbreviation) {
+                return;
+            }
+            for (int length = 1; length < commandWord.length(); length++) {
+                candidatesByAbbreviation.computeIfAbsent(commandWord.substring(0, length), unused -> new ArrayList<>())
+                        .add(commandWord);
+            }
+        });
+        candidatesByAbbreviation.forEach((abbreviation, candidates) -> {
+            if (candidates.size() == 1) {
+                parsers.put(abbreviation, parsersByCommandWord.get(candidates.get(0)));
+            } else {
+                ambiguousAbbreviations.put(abbreviation, candidates);
+            }
+        });
 
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
+        // a command word always stands for itself, even if it is also the start of other command words
+        parsers.putAll(parsersByCommandWord);
+    }
 
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+    /**
+     * Parses user input into command for execution.
+     * The input may hold several commands, separated by {@code ;} or line breaks, with {@code ;;} standing for a
+     * literal {@code ;}. All of them are parsed before any is run, and they are returned as one
+     * {@link CompoundCommand}.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input, or any command in it, does not conform the expected format
+     */
+    public Command parseCommand(String userInput) throws ParseException {
+        if (!hasSeparator(userInput)) {
+            return parseSingleCommand(userInput);
+        }
+
+        List<String> commandTexts = splitCommands(userInput);
+        if (commandTexts.size() <= 1) {
+            return parseSingleCommand(commandTexts.isEmpty() ? "" : commandTexts.get(0));
+        }
+
+        List<Command> commands = new ArrayList<>(commandTexts.size());
+        for (int i = 0; i < commandTexts.size(); i++) {
+            try {
+                commands.add(parseSingleCommand(commandTexts.get(i)));
+            } catch (ParseException e) {
+                throw new ParseException(String.format(CompoundCommand.MESSAGE_INVALID_COMMAND, i + 1,
+                        commandTexts.size(), e.getMessage()), e);
+            }
+        }
+        return new CompoundCommand(commands);
+    }
+
+    private static boolean hasSeparator(String userInput) {
+        for (int i = 0; i < userInput.length(); i++) {
+            char c = userInput.charAt(i);
+            if (c == ';' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+    /**
+     * Splits {@code userInput} into the text of each command in it, leaving out blank ones.
+     */
+    private static List<String> splitCommands(String userInput) {
+        List<String> commandTexts = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < userInput.length(); i++) {
+            char c = userInput.charAt(i);
+            if (c == ';' && i + 1 < userInput.length() && userInput.charAt(i + 1) == ';') {
+                current.append(';');
+                i++;
+            } else if (c == ';' || c == '\n' || c == '\r') {
+                addIfNotBlank(commandTexts, current);
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        addIfNotBlank(commandTexts, current);
+        return commandTexts;
+    }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    private static void addIfNotBlank(List<String> commandTexts, StringBuilder commandText) {
+        String trimmed = commandText.toString().trim();
+        if (!trimmed.isEmpty()) {
+            commandTexts.add(trimmed);
+        }
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    private Command parseSingleCommand(String userInput) throws ParseException {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
 
-        case AddOrderCommand.COMMAND_WORD:
-            return new AddOrderCommandParser().parse(arguments);
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
-        case DeleteOrderCommand.COMMAND_WORD:
-            return new DeleteOrderCommandParser().parse(arguments);
+        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
+        // log messages such as the one below.
+        // Lower level log messages are used sparingly to minimize noise in the code.
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case EditOrderCommand.COMMAND_WORD:
-            return new EditOrderCommandParser().parse(arguments);
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser != null) {
+            return parser.parse(arguments);
+        }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        logger.finer(() -> "This user input caused a ParseException: " + userInput);
+        List<String> candidates = ambiguousAbbreviations.get(commandWord);
+        if (candidates != null) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, commandWord,
+                    String.join(", ", candidates)));
         }
+        throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
     }
 
 }
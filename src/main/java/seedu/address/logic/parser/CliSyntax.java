@@ -15,6 +15,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_BY = new Prefix("by/");
     public static final Prefix PREFIX_PRICE = new Prefix("c/");
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
+    public static final Prefix PREFIX_BEFORE = new Prefix("before/");
+    public static final Prefix PREFIX_AFTER = new Prefix("after/");
+    public static final Prefix PREFIX_TYPOS = new Prefix("typos/");
 
 
 }
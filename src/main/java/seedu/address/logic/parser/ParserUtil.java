@@ -2,12 +2,17 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ClientReference;
+import seedu.address.logic.commands.OrderReference;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.Address;
 import seedu.address.model.client.Email;
@@ -26,6 +31,12 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_ORDER_ID_PREFIX =
+            "Order IDs are made up of the digits 0-9, the letters a-f and '-'.";
+    public static final String CLIENT_NAME_MARKER = "@";
+    public static final String ORDER_ID_MARKER = "#";
+
+    private static final String ORDER_ID_PREFIX_VALIDATION_REGEX = "[0-9a-fA-F-]{1,36}";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -41,6 +52,42 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code reference} into a {@code ClientReference}. A reference starting with {@code @} refers to the
+     * client with the name that follows it, and any other reference is parsed as an index into the displayed client
+     * list. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the name or index is invalid.
+     */
+    public static ClientReference parseClientReference(String reference) throws ParseException {
+        requireNonNull(reference);
+        String trimmedReference = reference.trim();
+        if (trimmedReference.startsWith(CLIENT_NAME_MARKER)) {
+            return ClientReference.of(parseName(trimmedReference.substring(CLIENT_NAME_MARKER.length())));
+        }
+        return ClientReference.of(parseIndex(trimmedReference));
+    }
+
+    /**
+     * Parses {@code reference} into an {@code OrderReference}. A reference starting with {@code #} refers to the
+     * order whose ID starts with the text that follows it, and any other reference is parsed as an index into the
+     * displayed order list. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the ID or index is invalid.
+     */
+    public static OrderReference parseOrderReference(String reference) throws ParseException {
+        requireNonNull(reference);
+        String trimmedReference = reference.trim();
+        if (trimmedReference.startsWith(ORDER_ID_MARKER)) {
+            String idPrefix = trimmedReference.substring(ORDER_ID_MARKER.length());
+            if (!idPrefix.matches(ORDER_ID_PREFIX_VALIDATION_REGEX)) {
+                throw new ParseException(MESSAGE_INVALID_ORDER_ID_PREFIX);
+            }
+            return OrderReference.of(idPrefix);
+        }
+        return OrderReference.of(parseIndex(trimmedReference));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -153,11 +200,11 @@ public class ParserUtil {
     public static Deadline parseDeadline(String deadline) throws ParseException {
         requireNonNull(deadline);
         String trimmedDeadline = deadline.trim();
-        if (!Deadline.isValidDeadline(trimmedDeadline)) {
+        Optional<LocalDateTime> parsedDeadline = DateTimeUtil.tryParseDateTime(trimmedDeadline);
+        if (parsedDeadline.isEmpty()) {
             throw new ParseException(Deadline.MESSAGE_CONSTRAINTS);
-        } else {
-            return new Deadline(trimmedDeadline);
         }
+        return Deadline.of(parsedDeadline.get());
     }
 
     /**
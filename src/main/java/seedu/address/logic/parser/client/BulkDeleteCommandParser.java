@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+
+import seedu.address.logic.commands.client.BulkDeleteCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.ClientHasTagsPredicate;
+
+/**
+ * Parses input arguments and creates a new BulkDeleteCommand object.
+ */
+public class BulkDeleteCommandParser implements Parser<BulkDeleteCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkDeleteCommand
+     * and returns a BulkDeleteCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkDeleteCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+
+        List<String> tags = argMultimap.getAllValues(PREFIX_TAG);
+        if (!argMultimap.getPreamble().isEmpty() || tags.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkDeleteCommand.MESSAGE_USAGE));
+        }
+
+        return new BulkDeleteCommand(new ClientHasTagsPredicate(ParserUtil.parseTags(tags)));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.client.DedupeCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DedupeCommand object.
+ */
+public class DedupeCommandParser implements Parser<DedupeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DedupeCommand
+     * and returns a DedupeCommand object for execution. Without arguments, the command lists the groups of likely
+     * duplicates; with a group number, it merges that group.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DedupeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.isBlank()) {
+            return new DedupeCommand();
+        }
+        try {
+            return new DedupeCommand(ParserUtil.parseIndex(args));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DedupeCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.client.LookupCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object.
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution. Exactly one of a phone and an email must be given.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL);
+
+        Optional<String> phone = argMultimap.getValue(PREFIX_PHONE);
+        Optional<String> email = argMultimap.getValue(PREFIX_EMAIL);
+        if (!argMultimap.getPreamble().isEmpty() || phone.isPresent() == email.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_EMAIL);
+
+        return phone.isPresent()
+                ? new LookupCommand(ParserUtil.parsePhone(phone.get()))
+                : new LookupCommand(ParserUtil.parseEmail(email.get()));
+    }
+}
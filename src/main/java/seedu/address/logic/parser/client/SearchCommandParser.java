@@ -0,0 +1,51 @@
+package seedu.address.logic.parser.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.client.SearchCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    public static final String MESSAGE_INVALID_TYPOS =
+            "Typos should be a whole number from 0 to " + SearchCommand.MAX_TYPOS;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TYPOS);
+
+        String text = argMultimap.getPreamble();
+        if (text.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TYPOS);
+
+        Optional<String> typos = argMultimap.getValue(PREFIX_TYPOS);
+        return new SearchCommand(text, typos.isPresent() ? parseTypos(typos.get()) : 0);
+    }
+
+    private static int parseTypos(String typos) throws ParseException {
+        String trimmedTypos = typos.trim();
+        if (trimmedTypos.length() != 1 || trimmedTypos.charAt(0) < '0'
+                || trimmedTypos.charAt(0) > '0' + SearchCommand.MAX_TYPOS) {
+            throw new ParseException(MESSAGE_INVALID_TYPOS);
+        }
+        return trimmedTypos.charAt(0) - '0';
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser.data;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.data.DataFormat;
+import seedu.address.logic.commands.data.ExportCommand;
+import seedu.address.logic.commands.data.ExportCommand.Target;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] targetAndPath = args.trim().split("\\s+", 2);
+        if (targetAndPath.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Target target;
+        if (targetAndPath[0].equalsIgnoreCase(Target.CLIENTS.toString())) {
+            target = Target.CLIENTS;
+        } else if (targetAndPath[0].equalsIgnoreCase(Target.ORDERS.toString())) {
+            target = Target.ORDERS;
+        } else {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(targetAndPath[1]);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(ImportCommandParser.MESSAGE_INVALID_PATH, targetAndPath[1]), ipe);
+        }
+
+        DataFormat format = DataFormat.fromPath(filePath)
+                .orElseThrow(() -> new ParseException(DataFormat.MESSAGE_UNSUPPORTED_FORMAT));
+        return new ExportCommand(target, filePath, format);
+    }
+
+}
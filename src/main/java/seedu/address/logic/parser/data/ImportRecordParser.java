@@ -0,0 +1,210 @@
+package seedu.address.logic.parser.data;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.data.ImportCommand.ImportRecord;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDate;
+import seedu.address.model.order.OrderId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses single lines of an import file into {@code ImportRecord}s.
+ * Each record describes a client and, optionally, one order of that client.
+ * Instances hold no mutable state and may be shared between threads.
+ */
+public class ImportRecordParser {
+
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_PHONE = "phone";
+    public static final String FIELD_EMAIL = "email";
+    public static final String FIELD_ADDRESS = "address";
+    public static final String FIELD_TAGS = "tags";
+    public static final String FIELD_DEADLINE = "deadline";
+    public static final String FIELD_PRICE = "price";
+    public static final String FIELD_REMARK = "remark";
+    public static final String FIELD_STATUS = "status";
+
+    /** All recognised fields, in the order used for CSV headers. */
+    public static final List<String> FIELDS = List.of(FIELD_NAME, FIELD_PHONE, FIELD_EMAIL, FIELD_ADDRESS,
+            FIELD_TAGS, FIELD_DEADLINE, FIELD_PRICE, FIELD_REMARK, FIELD_STATUS);
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown field: %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column appears more than once in the header: %1$s";
+    public static final String MESSAGE_MISSING_COLUMNS = "The header must contain the columns: %1$s";
+    public static final String MESSAGE_MISSING_FIELD = "Missing %1$s";
+    public static final String MESSAGE_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_INCOMPLETE_ORDER = "An order needs a deadline, a price and a remark";
+    public static final String MESSAGE_INVALID_CSV = "Invalid CSV: %1$s";
+    public static final String MESSAGE_INVALID_JSON = "Invalid JSON object";
+
+    private static final List<String> REQUIRED_FIELDS = List.of(FIELD_NAME, FIELD_PHONE, FIELD_EMAIL, FIELD_ADDRESS);
+    private static final String TAG_SEPARATOR_REGEX = "[;\\s]+";
+
+    /** Names of the CSV columns in file order, or null when parsing JSON Lines. */
+    private final List<String> columns;
+
+    private ImportRecordParser(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Returns a parser for CSV files whose first line is {@code headerLine}.
+     * Column names are case-insensitive and may appear in any order.
+     *
+     * @throws ParseException if the header names an unknown column, repeats a column or lacks a required one.
+     */
+    public static ImportRecordParser forCsv(String headerLine) throws ParseException {
+        requireNonNull(headerLine);
+        List<String> columns = readCsvLine(headerLine).stream()
+                .map(column -> column.trim().toLowerCase())
+                .collect(Collectors.toList());
+        Set<String> seenColumns = new HashSet<>();
+        for (String column : columns) {
+            if (!FIELDS.contains(column)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, column));
+            }
+            if (!seenColumns.add(column)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+        }
+        if (!seenColumns.containsAll(REQUIRED_FIELDS)) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", REQUIRED_FIELDS)));
+        }
+        return new ImportRecordParser(columns);
+    }
+
+    /**
+     * Returns a parser for JSON Lines files, where every line is a JSON object keyed by field name.
+     */
+    public static ImportRecordParser forJsonLines() {
+        return new ImportRecordParser(null);
+    }
+
+    /**
+     * Parses one line of the import file into an {@code ImportRecord}.
+     *
+     * @throws ParseException if the line is malformed or any of its values is invalid.
+     */
+    public ImportRecord parse(String line) throws ParseException {
+        requireNonNull(line);
+        Map<String, String> fields = columns == null ? readJsonFields(line) : readCsvFields(line);
+        return toRecord(fields);
+    }
+
+    private static List<String> readCsvLine(String line) throws ParseException {
+        try {
+            return CsvUtil.parseLine(line);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(String.format(MESSAGE_INVALID_CSV, ive.getMessage()), ive);
+        }
+    }
+
+    private Map<String, String> readCsvFields(String line) throws ParseException {
+        List<String> values = readCsvLine(line);
+        if (values.size() != columns.size()) {
+            throw new ParseException(String.format(MESSAGE_FIELD_COUNT, columns.size(), values.size()));
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            fields.put(columns.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    private static Map<String, String> readJsonFields(String line) throws ParseException {
+        Map<?, ?> object;
+        try {
+            object = JsonUtil.fromJsonString(line, Map.class);
+        } catch (IOException ioe) {
+            throw new ParseException(MESSAGE_INVALID_JSON, ioe);
+        }
+        if (object == null) {
+            throw new ParseException(MESSAGE_INVALID_JSON);
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (Map.Entry<?, ?> entry : object.entrySet()) {
+            String field = String.valueOf(entry.getKey()).toLowerCase();
+            if (!FIELDS.contains(field)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, entry.getKey()));
+            }
+            Object value = entry.getValue();
+            if (value instanceof Collection) {
+                fields.put(field, ((Collection<?>) value).stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(" ")));
+            } else if (value != null) {
+                fields.put(field, String.valueOf(value));
+            }
+        }
+        return fields;
+    }
+
+    private static ImportRecord toRecord(Map<String, String> fields) throws ParseException {
+        Name name = ParserUtil.parseName(getRequired(fields, FIELD_NAME));
+        Phone phone = ParserUtil.parsePhone(getRequired(fields, FIELD_PHONE));
+        Email email = ParserUtil.parseEmail(getRequired(fields, FIELD_EMAIL));
+        Address address = ParserUtil.parseAddress(getRequired(fields, FIELD_ADDRESS));
+        Set<Tag> tags = ParserUtil.parseTags(splitTags(getOptional(fields, FIELD_TAGS)));
+        Client client = new Client(name, phone, email, address, tags, Collections.emptySet());
+
+        String deadline = getOptional(fields, FIELD_DEADLINE);
+        String price = getOptional(fields, FIELD_PRICE);
+        String remark = getOptional(fields, FIELD_REMARK);
+        String status = getOptional(fields, FIELD_STATUS);
+        if (deadline.isEmpty() && price.isEmpty() && remark.isEmpty() && status.isEmpty()) {
+            return new ImportRecord(client, null);
+        }
+        if (deadline.isEmpty() || price.isEmpty() || remark.isEmpty()) {
+            throw new ParseException(MESSAGE_INCOMPLETE_ORDER);
+        }
+
+        Order order = new Order(new OrderId(), new OrderDate(DateTimeUtil.getCurrentTime()),
+                ParserUtil.parseDeadline(deadline),
+                ParserUtil.parsePrice(price),
+                ParserUtil.parseRemark(remark),
+                ParserUtil.parseStatus(status.isEmpty() ? "pending" : status));
+        return new ImportRecord(client, order);
+    }
+
+    private static String getRequired(Map<String, String> fields, String field) throws ParseException {
+        String value = getOptional(fields, field);
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return value;
+    }
+
+    private static String getOptional(Map<String, String> fields, String field) {
+        return fields.getOrDefault(field, "").trim();
+    }
+
+    private static List<String> splitTags(String tags) {
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        return List.of(tags.split(TAG_SEPARATOR_REGEX));
+    }
+}
@@ -8,9 +8,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.logic.commands.ClientReference;
 import seedu.address.logic.commands.order.AddOrderCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
@@ -57,9 +57,9 @@ public class AddOrderCommandParser implements Parser<AddOrderCommand> {
                     AddOrderCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        ClientReference target;
         try {
-            index = ParserUtil.parseIndex(preamble);
+            target = ParserUtil.parseClientReference(preamble);
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddOrderCommand.MESSAGE_USAGE), ive);
@@ -74,7 +74,7 @@ public class AddOrderCommandParser implements Parser<AddOrderCommand> {
 
         Status status = new Status("pending");
         Order order = new Order(orderId, orderDate, deadline, price, remark, status);
-        return new AddOrderCommand(index, order);
+        return new AddOrderCommand(target, order);
     }
 
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.parser.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AFTER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.order.BulkEditOrderCommand;
+import seedu.address.logic.commands.order.EditOrderCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.OrderMatchesFilterPredicate;
+import seedu.address.model.order.Status;
+
+/**
+ * Parses input arguments and creates a new BulkEditOrderCommand object.
+ */
+public class BulkEditOrderCommandParser implements Parser<BulkEditOrderCommand> {
+
+    /** The first {@code set} that stands on its own separates the conditions from the new values. */
+    private static final Pattern SET_KEYWORD_FORMAT =
+            Pattern.compile("(?:^|\\s)" + BulkEditOrderCommand.SET_KEYWORD + "(?=\\s|$)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkEditOrderCommand
+     * and returns a BulkEditOrderCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkEditOrderCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Matcher matcher = SET_KEYWORD_FORMAT.matcher(args);
+        if (!matcher.find()) {
+            throw invalidFormat();
+        }
+
+        ArgumentMultimap filterMultimap =
+                ArgumentTokenizer.tokenize(args.substring(0, matcher.start()), PREFIX_STATUS, PREFIX_BEFORE,
+                        PREFIX_AFTER);
+        ArgumentMultimap editMultimap =
+                ArgumentTokenizer.tokenize(args.substring(matcher.end()), PREFIX_BY, PREFIX_PRICE, PREFIX_DETAILS,
+                        PREFIX_STATUS);
+        if (!filterMultimap.getPreamble().isEmpty() || !editMultimap.getPreamble().isEmpty()) {
+            throw invalidFormat();
+        }
+
+        filterMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STATUS, PREFIX_BEFORE, PREFIX_AFTER);
+        editMultimap.verifyNoDuplicatePrefixesFor(PREFIX_BY, PREFIX_PRICE, PREFIX_DETAILS, PREFIX_STATUS);
+
+        OrderMatchesFilterPredicate predicate = parsePredicate(filterMultimap);
+        EditOrderCommand.EditOrderDescriptor editOrderDescriptor =
+                EditOrderCommandParser.parseEditOrderDescriptor(editMultimap);
+        if (!editOrderDescriptor.isAnyFieldEdited()) {
+            throw invalidFormat();
+        }
+
+        return new BulkEditOrderCommand(predicate, editOrderDescriptor);
+    }
+
+    /**
+     * Returns the predicate described by the conditions in {@code filterMultimap}, which must hold at least one.
+     */
+    private static OrderMatchesFilterPredicate parsePredicate(ArgumentMultimap filterMultimap)
+            throws ParseException {
+        Status status = null;
+        Deadline before = null;
+        Deadline after = null;
+
+        if (filterMultimap.getValue(PREFIX_STATUS).isPresent()) {
+            status = ParserUtil.parseStatus(filterMultimap.getValue(PREFIX_STATUS).get());
+        }
+        if (filterMultimap.getValue(PREFIX_BEFORE).isPresent()) {
+            before = ParserUtil.parseDeadline(filterMultimap.getValue(PREFIX_BEFORE).get());
+        }
+        if (filterMultimap.getValue(PREFIX_AFTER).isPresent()) {
+            after = ParserUtil.parseDeadline(filterMultimap.getValue(PREFIX_AFTER).get());
+        }
+
+        if (status == null && before == null && after == null) {
+            throw invalidFormat();
+        }
+        return new OrderMatchesFilterPredicate(status, before, after);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditOrderCommand.MESSAGE_USAGE));
+    }
+}
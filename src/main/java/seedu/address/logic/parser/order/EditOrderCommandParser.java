@@ -7,7 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.OrderReference;
 import seedu.address.logic.commands.order.EditOrderCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
@@ -31,16 +31,28 @@ public class EditOrderCommandParser implements Parser<EditOrderCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_BY, PREFIX_PRICE, PREFIX_DETAILS, PREFIX_STATUS);
 
-        Index targetIndex;
+        OrderReference target;
 
         try {
-            targetIndex = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseOrderReference(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditOrderCommand.MESSAGE_USAGE), pe);
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_BY, PREFIX_PRICE, PREFIX_DETAILS, PREFIX_STATUS);
 
+        EditOrderCommand.EditOrderDescriptor editOrderDescriptor = parseEditOrderDescriptor(argMultimap);
+
+        return new EditOrderCommand(target, editOrderDescriptor);
+    }
+
+    /**
+     * Returns an {@code EditOrderDescriptor} holding the order fields given in {@code argMultimap}.
+     *
+     * @throws ParseException if any of the given order fields is invalid
+     */
+    static EditOrderCommand.EditOrderDescriptor parseEditOrderDescriptor(ArgumentMultimap argMultimap)
+            throws ParseException {
         EditOrderCommand.EditOrderDescriptor editOrderDescriptor = new EditOrderCommand.EditOrderDescriptor();
 
         if (argMultimap.getValue(PREFIX_BY).isPresent()) {
@@ -55,8 +67,6 @@ public class EditOrderCommandParser implements Parser<EditOrderCommand> {
         if (argMultimap.getValue(PREFIX_STATUS).isPresent()) {
             editOrderDescriptor.setStatus(ParserUtil.parseStatus(argMultimap.getValue(PREFIX_STATUS).get()));
         }
-
-        return new EditOrderCommand(targetIndex, editOrderDescriptor);
+        return editOrderDescriptor;
     }
-
 }
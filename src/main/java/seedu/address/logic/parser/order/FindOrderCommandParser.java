@@ -0,0 +1,76 @@
+package seedu.address.logic.parser.order;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.order.FindOrderCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Remark;
+import seedu.address.model.order.RemarkSearch;
+
+/**
+ * Parses input arguments and creates a new FindOrderCommand object.
+ */
+public class FindOrderCommandParser implements Parser<FindOrderCommand> {
+
+    public static final String OR_OPERATOR = "OR";
+
+    public static final String MESSAGE_INVALID_KEYWORD =
+            "Keyword %1$s has no letters or digits to search for";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindOrderCommand
+     * and returns a FindOrderCommand object for execution.
+     * Keywords are split into terms the same way remarks are, so "red,roses" searches for "red" and "roses".
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindOrderCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+        }
+
+        List<List<String>> alternatives = new ArrayList<>();
+        List<String> terms = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            if (!keyword.equals(OR_OPERATOR)) {
+                terms.addAll(parseKeyword(keyword));
+                continue;
+            }
+            if (terms.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+            }
+            alternatives.add(terms);
+            terms = new ArrayList<>();
+        }
+        if (terms.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE));
+        }
+        alternatives.add(terms);
+
+        return new FindOrderCommand(new RemarkSearch(alternatives));
+    }
+
+    /**
+     * Returns the terms of {@code keyword}. If the keyword ends with {@link RemarkSearch#PREFIX_MARKER}, its last
+     * term is a prefix term.
+     */
+    private static List<String> parseKeyword(String keyword) throws ParseException {
+        boolean isPrefix = keyword.charAt(keyword.length() - 1) == RemarkSearch.PREFIX_MARKER;
+        List<String> terms = new ArrayList<>(Remark.toTerms(keyword));
+        if (terms.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_KEYWORD, keyword));
+        }
+        if (isPrefix) {
+            int last = terms.size() - 1;
+            terms.set(last, terms.get(last) + RemarkSearch.PREFIX_MARKER);
+        }
+        return terms;
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.order;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.order.HistoryCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.order.OrderNameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object.
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns a HistoryCommand object for execution.
+     * All archived orders are listed if no keywords are given.
+     */
+    public HistoryCommand parse(String args) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new HistoryCommand(PREDICATE_SHOW_ALL_ORDERS);
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+        return new HistoryCommand(new OrderNameContainsKeywordsPredicate(Arrays.asList(keywords)));
+    }
+
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.query.QueryCommand;
+import seedu.address.logic.commands.query.QueryCommand.Target;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.QueryExpression;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String remaining = args.trim();
+
+        boolean isExplained = false;
+        String firstWord = firstWord(remaining);
+        if (firstWord.equalsIgnoreCase(QueryCommand.EXPLAIN_KEYWORD)) {
+            isExplained = true;
+            remaining = remaining.substring(firstWord.length()).trim();
+            firstWord = firstWord(remaining);
+        }
+
+        Target target = null;
+        if (firstWord.equalsIgnoreCase(Target.CLIENTS.toString())) {
+            target = Target.CLIENTS;
+        } else if (firstWord.equalsIgnoreCase(Target.ORDERS.toString())) {
+            target = Target.ORDERS;
+        }
+        if (target != null) {
+            remaining = remaining.substring(firstWord.length()).trim();
+        }
+
+        if (remaining.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        QueryExpression expression = QueryExpressionParser.parse(remaining);
+        if (target == null) {
+            target = expression.refersToOrders() ? Target.ORDERS : Target.CLIENTS;
+        }
+        return new QueryCommand(expression, target, isExplained);
+    }
+
+    private static String firstWord(String text) {
+        return text.split("\\s+", 2)[0];
+    }
+}
@@ -0,0 +1,358 @@
+package seedu.address.logic.parser.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.query.ClientCondition;
+import seedu.address.model.query.OrderCondition;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.Range;
+
+/**
+ * Parses the text of a query into a {@link QueryExpression}.
+ * <pre>
+ * query     := conjunction (OR conjunction)*
+ * conjunction := negation ([AND] negation)*
+ * negation  := NOT negation | ( query ) | condition
+ * condition := FIELD OPERATOR VALUE
+ * </pre>
+ * {@code AND}, {@code OR} and {@code NOT} are not case-sensitive. A value holding spaces or parentheses must be
+ * written in double quotes.
+ */
+public class QueryExpressionParser {
+
+    public static final String MESSAGE_EMPTY_QUERY = "The query is empty";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected a condition such as status:pending, but found %1$s";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "A '(' in the query is never closed";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A '\"' in the query is never closed";
+    public static final String MESSAGE_UNKNOWN_FIELD =
+            "Unknown field %1$s. Fields are: name, tag, status, price, deadline, remark";
+    public static final String MESSAGE_UNSUPPORTED_OPERATOR = "%1$s can only be compared with ':'";
+    public static final String MESSAGE_EMPTY_VALUE = "%1$s needs a value after %2$s";
+    public static final String MESSAGE_INVALID_RANGE = "The lower end of %1$s must not be above its upper end";
+
+    private static final String RANGE_SEPARATOR = "..";
+
+    private final List<Token> tokens;
+    private int position;
+
+    private QueryExpressionParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into a {@code QueryExpression}.
+     *
+     * @throws ParseException if {@code query} does not conform to the query language
+     */
+    public static QueryExpression parse(String query) throws ParseException {
+        requireNonNull(query);
+        List<Token> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+
+        QueryExpressionParser parser = new QueryExpressionParser(tokens);
+        QueryExpression expression = parser.parseDisjunction();
+        if (parser.position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(parser.position).text));
+        }
+        return expression;
+    }
+
+    private QueryExpression parseDisjunction() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseConjunction());
+        while (accept(TokenType.OR)) {
+            operands.add(parseConjunction());
+        }
+        return operands.size() == 1 ? operands.get(0) : new QueryExpression.Or(operands);
+    }
+
+    private QueryExpression parseConjunction() throws ParseException {
+        List<QueryExpression> operands = new ArrayList<>();
+        operands.add(parseNegation());
+        while (true) {
+            if (accept(TokenType.AND)) {
+                operands.add(parseNegation());
+            } else if (peek(TokenType.NOT) || peek(TokenType.OPEN) || peek(TokenType.CONDITION)) {
+                operands.add(parseNegation());
+            } else {
+                break;
+            }
+        }
+        return operands.size() == 1 ? operands.get(0) : new QueryExpression.And(operands);
+    }
+
+    private QueryExpression parseNegation() throws ParseException {
+        if (accept(TokenType.NOT)) {
+            return new QueryExpression.Not(parseNegation());
+        }
+        if (accept(TokenType.OPEN)) {
+            QueryExpression expression = parseDisjunction();
+            if (!accept(TokenType.CLOSE)) {
+                throw new ParseException(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            return expression;
+        }
+        if (peek(TokenType.CONDITION)) {
+            return parseCondition(tokens.get(position++));
+        }
+        throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN,
+                position < tokens.size() ? tokens.get(position).text : "the end of the query"));
+    }
+
+    private boolean peek(TokenType type) {
+        return position < tokens.size() && tokens.get(position).type == type;
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek(type)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static QueryExpression parseCondition(Token token) throws ParseException {
+        String field = token.field.toLowerCase();
+        if (token.value.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_VALUE, field, token.operator));
+        }
+
+        switch (field) {
+        case "name":
+            requireEquality(token, field);
+            return new ClientCondition.NameHasWords(splitWords(token.value));
+        case "tag":
+            requireEquality(token, field);
+            return new ClientCondition.HasTag(ParserUtil.parseTag(token.value));
+        case "status":
+            requireEquality(token, field);
+            return new OrderCondition.StatusIs(ParserUtil.parseStatus(token.value));
+        case "remark":
+            requireEquality(token, field);
+            return new OrderCondition.RemarkHasWords(splitWords(token.value));
+        case "price":
+            return new OrderCondition.PriceIn(parseRange(token, QueryExpressionParser::parsePrice));
+        case "deadline":
+            return new OrderCondition.DeadlineIn(parseRange(token, QueryExpressionParser::parseDeadline));
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, token.field));
+        }
+    }
+
+    private static void requireEquality(Token token, String field) throws ParseException {
+        if (!token.operator.equals(":") && !token.operator.equals("=")) {
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_OPERATOR, field));
+        }
+    }
+
+    private static List<String> splitWords(String value) {
+        return Arrays.asList(value.trim().split("\\s+"));
+    }
+
+    /**
+     * Parses the value of {@code token} into the range of values it compares with.
+     */
+    private static <C extends Comparable<? super C>> Range<C> parseRange(Token token, ValueParser<C> valueParser)
+            throws ParseException {
+        String value = token.value.trim();
+        switch (token.operator) {
+        case "<":
+            return Range.below(valueParser.parse(value).start, false);
+        case "<=":
+            return Range.below(valueParser.parse(value).end, true);
+        case ">":
+            return Range.above(valueParser.parse(value).end, false);
+        case ">=":
+            return Range.above(valueParser.parse(value).start, true);
+        default:
+            break;
+        }
+
+        int separator = value.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            Bounds<C> bounds = valueParser.parse(value);
+            return bounds.start.equals(bounds.end)
+                    ? Range.singleton(bounds.start)
+                    : Range.closed(bounds.start, bounds.end);
+        }
+
+        String lower = value.substring(0, separator).trim();
+        String upper = value.substring(separator + RANGE_SEPARATOR.length()).trim();
+        if (lower.isEmpty() && upper.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_VALUE, token.field, token.operator));
+        } else if (lower.isEmpty()) {
+            return Range.below(valueParser.parse(upper).end, true);
+        } else if (upper.isEmpty()) {
+            return Range.above(valueParser.parse(lower).start, true);
+        }
+
+        C start = valueParser.parse(lower).start;
+        C end = valueParser.parse(upper).end;
+        if (start.compareTo(end) > 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_RANGE, token.field));
+        }
+        return Range.closed(start, end);
+    }
+
+    private static Bounds<Double> parsePrice(String value) throws ParseException {
+        double price = ParserUtil.parsePrice(value).value;
+        return new Bounds<>(price, price);
+    }
+
+    /**
+     * Parses a deadline, which may leave out the time to stand for the whole of a day.
+     */
+    private static Bounds<LocalDateTime> parseDeadline(String value) throws ParseException {
+        Optional<LocalDateTime> dateTime = DateTimeUtil.tryParseDateTime(value);
+        if (dateTime.isPresent()) {
+            return new Bounds<>(dateTime.get(), dateTime.get());
+        }
+        Optional<LocalDateTime> startOfDay = DateTimeUtil.tryParseDateTime(value + " 00:00");
+        if (startOfDay.isPresent()) {
+            return new Bounds<>(startOfDay.get(), startOfDay.get().plusDays(1).minusMinutes(1));
+        }
+        throw new ParseException(Deadline.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Splits {@code query} into tokens.
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? TokenType.OPEN : TokenType.CLOSE, String.valueOf(c)));
+                i++;
+            } else {
+                i = readWordOrCondition(query, i, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    private static int readWordOrCondition(String query, int start, List<Token> tokens) throws ParseException {
+        int i = start;
+        while (i < query.length() && Character.isLetter(query.charAt(i))) {
+            i++;
+        }
+        String field = query.substring(start, i);
+        int operatorStart = i;
+        while (i < query.length() && isOperatorChar(query.charAt(i))) {
+            i++;
+        }
+        String operator = query.substring(operatorStart, i);
+
+        if (field.isEmpty() || operator.isEmpty()) {
+            int end = i;
+            while (end < query.length() && !isDelimiter(query.charAt(end))) {
+                end++;
+            }
+            String word = query.substring(start, Math.max(end, start + 1));
+            tokens.add(toKeyword(word));
+            return Math.max(end, start + 1);
+        }
+        if (!operator.equals(":") && !operator.equals("=") && !operator.equals("<") && !operator.equals("<=")
+                && !operator.equals(">") && !operator.equals(">=")) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, query.substring(start, i)));
+        }
+
+        StringBuilder value = new StringBuilder();
+        if (i < query.length() && query.charAt(i) == '"') {
+            int closingQuote = query.indexOf('"', i + 1);
+            if (closingQuote < 0) {
+                throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            value.append(query, i + 1, closingQuote);
+            i = closingQuote + 1;
+        } else {
+            while (i < query.length() && !isDelimiter(query.charAt(i))) {
+                value.append(query.charAt(i));
+                i++;
+            }
+        }
+        tokens.add(new Token(field, operator, value.toString(), query.substring(start, i)));
+        return i;
+    }
+
+    private static Token toKeyword(String word) throws ParseException {
+        for (TokenType type : new TokenType[] {TokenType.AND, TokenType.OR, TokenType.NOT}) {
+            if (type.name().equalsIgnoreCase(word)) {
+                return new Token(type, word);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, word));
+    }
+
+    private static boolean isOperatorChar(char c) {
+        return c == ':' || c == '=' || c == '<' || c == '>';
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private enum TokenType {
+        AND, OR, NOT, OPEN, CLOSE, CONDITION
+    }
+
+    /**
+     * A token of a query: a keyword, a parenthesis or a condition.
+     */
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+        private final String field;
+        private final String operator;
+        private final String value;
+
+        Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+            this.field = null;
+            this.operator = null;
+            this.value = null;
+        }
+
+        Token(String field, String operator, String value, String text) {
+            this.type = TokenType.CONDITION;
+            this.text = text;
+            this.field = field;
+            this.operator = operator;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The first and last values that a value written in a query stands for.
+     */
+    private static class Bounds<C> {
+        private final C start;
+        private final C end;
+
+        Bounds(C start, C end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueParser<C> {
+        Bounds<C> parse(String value) throws ParseException;
+    }
+}
@@ -2,13 +2,23 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.DuplicateClientFinder;
+import seedu.address.model.client.DuplicateGroup;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.RemarkSearch;
 
 /**
  * Wraps all data at the application level.
@@ -51,11 +61,12 @@ public class BookKeeper implements ReadOnlyBookKeeper {
 
     /**
      * Resets the existing data of this {@code BookKeeper} with {@code newData}.
+     * Orders are listed in the same order as in {@code newData}.
      */
     public void resetData(ReadOnlyBookKeeper newData) {
         requireNonNull(newData);
 
-        setClients(newData.getClientList());
+        clients.setClients(newData.getClientList(), newData.getOrderList());
     }
 
     //// client-level operations
@@ -68,6 +79,72 @@ public class BookKeeper implements ReadOnlyBookKeeper {
         return clients.contains(client);
     }
 
+    /**
+     * Returns the client named {@code name}, if there is one.
+     */
+    public Optional<Client> getClient(Name name) {
+        return clients.getClient(name);
+    }
+
+    /**
+     * Returns the clients with {@code phone}.
+     */
+    public List<Client> getClientsWithPhone(Phone phone) {
+        return clients.getClientsWithPhone(phone);
+    }
+
+    /**
+     * Returns the clients with {@code email}, ignoring case.
+     */
+    public List<Client> getClientsWithEmail(Email email) {
+        return clients.getClientsWithEmail(email);
+    }
+
+    /**
+     * Returns the client that owns {@code order}, if the order is in bookkeeper.
+     */
+    public Optional<Client> getOwner(Order order) {
+        return clients.getOwner(order);
+    }
+
+    /**
+     * Returns the orders whose ID starts with {@code idPrefix}, ignoring case.
+     */
+    public List<Order> getOrdersWithIdPrefix(String idPrefix) {
+        return clients.getOrdersWithIdPrefix(idPrefix);
+    }
+
+    /**
+     * Returns at most {@code limit} client names starting with {@code prefix}, ignoring case.
+     * Can be called from any thread.
+     */
+    public List<String> getClientNamesWithPrefix(String prefix, int limit) {
+        return clients.getClientNamesWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} tag names starting with {@code prefix}, ignoring case.
+     * Can be called from any thread.
+     */
+    public List<String> getTagNamesWithPrefix(String prefix, int limit) {
+        return clients.getTagNamesWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns the clients whose name, address or email contains {@code text}, ignoring case, allowing for up to
+     * {@code maxTypos} typos.
+     */
+    public Set<Client> searchClients(String text, int maxTypos) {
+        return clients.searchClients(text, maxTypos);
+    }
+
+    /**
+     * Returns the orders whose remark matches {@code search}, mapped to their score.
+     */
+    public Map<Order, Integer> searchRemarks(RemarkSearch search) {
+        return clients.searchRemarks(search);
+    }
+
     /**
      * Adds a client to bookkeeper.
      * The client must not already exist in Bookkeeper's client list.
@@ -132,6 +209,62 @@ public class BookKeeper implements ReadOnlyBookKeeper {
         clients.remove(key);
     }
 
+    /**
+     * Removes every order in {@code orders} from this {@code BookKeeper}, together with the references
+     * to them held by their clients.
+     */
+    public void removeOrders(Collection<Order> orders) {
+        requireNonNull(orders);
+        clients.removeOrders(orders);
+    }
+
+    /**
+     * Removes every client in {@code clientsToRemove}, together with their orders, from this {@code BookKeeper}.
+     * Every client must exist in the bookkeeper.
+     */
+    public void removeClients(Collection<Client> clientsToRemove) {
+        requireNonNull(clientsToRemove);
+        clients.removeAll(clientsToRemove);
+    }
+
+    /**
+     * Replaces every order that is a key of {@code editedOrders} with its value, in one batch.
+     * Every order must exist in the bookkeeper.
+     */
+    public void editOrders(Map<Order, Order> editedOrders) {
+        requireNonNull(editedOrders);
+        clients.editOrders(editedOrders);
+    }
+
+    /**
+     * Replaces the clients in {@code targets} with {@code replacement}, which holds exactly their orders.
+     * Every target must exist in the bookkeeper.
+     */
+    public void replaceClients(List<Client> targets, Client replacement) {
+        requireNonNull(targets);
+        requireNonNull(replacement);
+        clients.replaceClients(targets, replacement);
+    }
+
+    /**
+     * Returns the groups of clients that are likely to be the same customer.
+     *
+     * @see DuplicateClientFinder
+     */
+    public List<DuplicateGroup> findDuplicateClients() {
+        return DuplicateClientFinder.findDuplicates(clients.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Adds every client in {@code clients} to this {@code BookKeeper} in one batch, replacing any existing
+     * client with the same identity.
+     * {@code clients} must not contain duplicate clients.
+     */
+    public void mergeClients(Collection<Client> clients) {
+        requireNonNull(clients);
+        this.clients.mergeClients(clients);
+    }
+
     //// util methods
 
     @Override
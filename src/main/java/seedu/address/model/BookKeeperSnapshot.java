@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+
+/**
+ * The clients and orders of a bookkeeper at one point in time, which later changes to the bookkeeper do not affect.
+ * <p>
+ * Taking a snapshot only copies the two lists. Clients are immutable, and each client holds the orders it owns, so
+ * the clients in the snapshot also fix the owner of every order, whatever client its {@link Order#getClient()}
+ * points at later. A snapshot is unlike a {@link BookKeeper} copy, which indexes every client and order again, so it
+ * is cheap enough to take after every command, and can be read from another thread.
+ */
+public class BookKeeperSnapshot implements ReadOnlyBookKeeper {
+
+    private final ObservableList<Client> clients;
+    private final ObservableList<Order> orders;
+
+    /**
+     * Creates a snapshot of the clients and orders in {@code source} as they are now.
+     */
+    public BookKeeperSnapshot(ReadOnlyBookKeeper source) {
+        requireNonNull(source);
+        clients = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(source.getClientList())));
+        orders = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(source.getOrderList())));
+    }
+
+    @Override
+    public ObservableList<Client> getClientList() {
+        return clients;
+    }
+
+    @Override
+    public ObservableList<Order> getOrderList() {
+        return orders;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clients", clients)
+                .toString();
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that equals another, with equal hash codes, whenever both accept the same items.
+ * The items matching such a predicate can be cached under it and reused for any equal predicate, as done by
+ * {@link FilterCache}. The cache only tests items that are added to the list, so a cacheable predicate must only
+ * depend on the details of the item itself.
+ *
+ * @param <T> the type of the items tested.
+ */
+public interface CacheablePredicate<T> extends Predicate<T> {
+}
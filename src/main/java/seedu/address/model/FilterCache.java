@@ -0,0 +1,240 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.LruCache;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Caches the items of a list that match recently used {@link CacheablePredicate}s, so filtering the list again by an
+ * equal predicate looks the items up in a set instead of testing the predicate on each of them.
+ * <p>
+ * The cache listens to changes to the list. Each change bumps the revision of the list, and drops only the entries
+ * the change affects: those holding an item that was removed, or whose predicate accepts an item that was added. The
+ * other entries are still correct, and are tagged with the new revision. Matches are compared by identity, like the
+ * items filtered by them, so an item that is removed and added again in the same change, such as an item set again
+ * in its place, is neither removed nor added, and affects no entry.
+ * <p>
+ * A filter handed out by {@link #lookUp(Predicate)} goes on being used by a view of the list as the list changes.
+ * It uses its matches only while they are tagged with the current revision, and tests the predicate itself once they
+ * have been dropped. The cache must therefore be created before any such view, so that it hears of each change first.
+ * <p>
+ * On a miss, the predicate is tested on every item of the list, in chunks on a fork-join pool once the list is long
+ * enough, as done by {@link ParallelFilteredList}.
+ * <p>
+ * Counts of hits, misses and invalidated entries are kept to show how well the cache is doing.
+ *
+ * @param <T> the type of the items in the list.
+ */
+public class FilterCache<T> {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final ObservableList<T> source;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final LruCache<CacheablePredicate<? super T>, Entry<T>> entries;
+    private long revision;
+    private long hitCount;
+    private long missCount;
+    private long invalidationCount;
+
+    /**
+     * Creates a {@code FilterCache} over {@code source} that holds the matches of at most {@code capacity}
+     * predicates, and finds them on the common fork-join pool once the list has
+     * {@link ParallelFilteredList#DEFAULT_PARALLEL_THRESHOLD} items.
+     */
+    public FilterCache(ObservableList<T> source, int capacity) {
+        this(source, capacity, ForkJoinPool.commonPool(), ParallelFilteredList.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code FilterCache} over {@code source} that holds the matches of at most {@code capacity}
+     * predicates, and finds them on {@code pool} once the list has {@code parallelThreshold} items.
+     */
+    public FilterCache(ObservableList<T> source, int capacity, ForkJoinPool pool, int parallelThreshold) {
+        requireNonNull(source);
+        requireNonNull(pool);
+        checkArgument(parallelThreshold > 0, "Parallel threshold must be positive");
+        this.source = source;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.entries = new LruCache<>(capacity);
+        source.addListener(this::invalidateAffected);
+    }
+
+    /**
+     * Returns a predicate that accepts the same items as {@code predicate}, now and after the list changes.
+     * If {@code predicate} is cacheable, the returned predicate looks the items up in the cached matches of an equal
+     * predicate, which are found first if they are not cached yet, and equals the predicates returned for equal
+     * predicates. Other predicates are returned as they are.
+     */
+    public Predicate<T> lookUp(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof CacheablePredicate)) {
+            return predicate;
+        }
+        CacheablePredicate<T> cacheable = (CacheablePredicate<T>) predicate;
+        return new CachedFilter(cacheable, getEntry(cacheable));
+    }
+
+    /**
+     * Returns the items of the list that match {@code predicate}, compared by identity.
+     * The set must not be modified, and is only correct until the list changes.
+     */
+    public Set<T> getMatches(CacheablePredicate<? super T> predicate) {
+        requireNonNull(predicate);
+        return Collections.unmodifiableSet(getEntry(predicate).matches);
+    }
+
+    /**
+     * Returns the number of changes made to the list since the cache was created.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries dropped because the list changed.
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry<T> getEntry(CacheablePredicate<? super T> predicate) {
+        Optional<Entry<T>> cached = entries.get(predicate);
+        if (cached.isPresent()) {
+            hitCount++;
+            return cached.get();
+        }
+
+        missCount++;
+        boolean[] isMatch = ParallelFilteredList.test(source, 0, source.size(), predicate, pool, parallelThreshold);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                matches.add(source.get(i));
+            }
+        }
+        Entry<T> entry = new Entry<>(matches, revision);
+        entries.put(predicate, entry);
+        return entry;
+    }
+
+    private void invalidateAffected(ListChangeListener.Change<? extends T> change) {
+        // the number of times each item was added, less the number of times it was removed
+        Map<T, Integer> addedCounts = new IdentityHashMap<>();
+        while (change.next()) {
+            change.getRemoved().forEach(item -> addedCounts.merge(item, -1, Integer::sum));
+            change.getAddedSubList().forEach(item -> addedCounts.merge(item, 1, Integer::sum));
+        }
+        List<T> removed = new ArrayList<>();
+        List<T> added = new ArrayList<>();
+        addedCounts.forEach((item, count) -> {
+            if (count < 0) {
+                removed.add(item);
+            } else if (count > 0) {
+                added.add(item);
+            }
+        });
+
+        revision++;
+        // entries that survive are tagged with the new revision as they are checked
+        invalidationCount += entries.removeIf((predicate, entry) -> {
+            if (removed.stream().anyMatch(entry.matches::contains) || added.stream().anyMatch(predicate)) {
+                return true;
+            }
+            entry.revision = revision;
+            return false;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("revision", revision)
+                .add("size", entries.size())
+                .add("hits", hitCount)
+                .add("misses", missCount)
+                .add("invalidations", invalidationCount)
+                .toString();
+    }
+
+    /**
+     * Accepts the items that a predicate accepts, looking them up in its cached matches while they are current.
+     * Filters of equal predicates are equal, as they accept the same items.
+     */
+    private class CachedFilter implements Predicate<T> {
+        private final CacheablePredicate<T> predicate;
+        private final Entry<T> entry;
+
+        private CachedFilter(CacheablePredicate<T> predicate, Entry<T> entry) {
+            this.predicate = predicate;
+            this.entry = entry;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return entry.revision == revision ? entry.matches.contains(item) : predicate.test(item);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FilterCache<?>.CachedFilter)) {
+                return false;
+            }
+
+            FilterCache<?>.CachedFilter otherFilter = (FilterCache<?>.CachedFilter) other;
+            return predicate.equals(otherFilter.predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(predicate);
+        }
+    }
+
+    /**
+     * The matches of a predicate, and the latest revision of the list they are correct for.
+     */
+    private static class Entry<T> {
+        private final Set<T> matches;
+        private long revision;
+
+        private Entry(Set<T> matches, long revision) {
+            this.matches = matches;
+            this.revision = revision;
+        }
+    }
+}
@@ -1,12 +1,26 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.DuplicateGroup;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.RemarkSearch;
+import seedu.address.model.query.QueryIndex;
 
 
 /**
@@ -23,6 +37,11 @@ public interface Model {
      */
     Predicate<Order> PREDICATE_SHOW_ALL_ORDERS = unused -> true;
 
+    /**
+     * The most archived orders that the order history list holds at once.
+     */
+    int ORDER_HISTORY_LIMIT = 200;
+
     /**
      * Returns the user prefs.
      */
@@ -68,6 +87,57 @@ public interface Model {
      */
     boolean hasClient(Client client);
 
+    /**
+     * Returns the client named {@code name}, if there is one.
+     */
+    Optional<Client> getClient(Name name);
+
+    /**
+     * Returns the clients in bookkeeper with {@code phone}. Looking them up takes the same time however many clients
+     * there are.
+     */
+    List<Client> getClientsWithPhone(Phone phone);
+
+    /**
+     * Returns the clients in bookkeeper with {@code email}, ignoring case. Looking them up takes the same time however
+     * many clients there are.
+     */
+    List<Client> getClientsWithEmail(Email email);
+
+    /**
+     * Returns the client that owns {@code order}, if the order is in bookkeeper.
+     */
+    Optional<Client> getOwner(Order order);
+
+    /**
+     * Returns the orders in bookkeeper whose ID starts with {@code idPrefix}, ignoring case.
+     */
+    List<Order> getOrdersWithIdPrefix(String idPrefix);
+
+    /**
+     * Returns at most {@code limit} names of clients in bookkeeper that start with {@code prefix}, ignoring case,
+     * sorted ignoring case. Unlike the other methods of the model, this can be called from any thread.
+     */
+    List<String> getClientNamesWithPrefix(String prefix, int limit);
+
+    /**
+     * Returns at most {@code limit} names of tags used in bookkeeper that start with {@code prefix}, ignoring case,
+     * sorted ignoring case. Unlike the other methods of the model, this can be called from any thread.
+     */
+    List<String> getTagNamesWithPrefix(String prefix, int limit);
+
+    /**
+     * Returns the clients in bookkeeper whose name, address or email contains {@code text}, ignoring case, allowing
+     * for up to {@code maxTypos} missing, extra or wrong characters. The set compares clients by identity.
+     */
+    Set<Client> searchClients(String text, int maxTypos);
+
+    /**
+     * Returns the orders in bookkeeper whose remark matches {@code search}, mapped to their score.
+     * The map compares orders by identity.
+     */
+    Map<Order, Integer> searchOrderRemarks(RemarkSearch search);
+
     /**
      * Deletes the given client.
      * The client must exist in bookkeeper.
@@ -93,6 +163,68 @@ public interface Model {
 
     void setClientAndEditOrder(Client target, Client editedClient, Order order, Order editedOrder);
 
+    /**
+     * Deletes the given orders from bookkeeper and from the clients that own them.
+     * Orders that are not in bookkeeper are ignored.
+     */
+    void deleteOrders(Collection<Order> orders);
+
+    /**
+     * Adds the given clients, together with their orders, to bookkeeper in a single batch.
+     * A client with the same identity as an existing client replaces it.
+     * {@code clients} must not contain duplicate clients.
+     */
+    void mergeClients(Collection<Client> clients);
+
+    /**
+     * Replaces the clients in {@code targets} with {@code replacement}, which takes the place of the first of them
+     * and must hold exactly their orders. Every target must exist in the bookkeeper.
+     */
+    void replaceClients(List<Client> targets, Client replacement);
+
+    /**
+     * Returns the groups of clients in bookkeeper that are likely to be the same customer, in the order their first
+     * clients are listed.
+     */
+    List<DuplicateGroup> findDuplicateClients();
+
+    /**
+     * Deletes the given clients, together with their orders, from bookkeeper in a single batch.
+     * Every client must exist in the bookkeeper.
+     */
+    void deleteClients(Collection<Client> clients);
+
+    /**
+     * Replaces every order that is a key of {@code editedOrders} with its value, in a single batch.
+     * Every order must exist in the bookkeeper.
+     */
+    void editOrders(Map<Order, Order> editedOrders);
+
+    /**
+     * Returns the indexes of the clients and orders currently in bookkeeper, for answering queries.
+     * The indexes are built when first needed after bookkeeper changes, and reused until it changes again.
+     */
+    QueryIndex getQueryIndex();
+
+    /**
+     * Sets the archive that the order history is read from.
+     */
+    void setOrderArchive(OrderArchive orderArchive);
+
+    /**
+     * Returns an unmodifiable view of the archived orders last loaded by {@link #updateOrderHistoryList(Predicate)}.
+     */
+    ObservableList<Order> getOrderHistoryList();
+
+    /**
+     * Replaces the order history list with the {@link #ORDER_HISTORY_LIMIT} most recently archived orders that
+     * satisfy the given {@code predicate}.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws DataLoadingException if the order archive could not be read.
+     */
+    void updateOrderHistoryList(Predicate<Order> predicate) throws DataLoadingException;
+
     /**
      * Returns an unmodifiable view of the filtered client list.
      */
@@ -112,8 +244,17 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered order list to filter by the given {@code predicate}.
+     * The orders that pass are listed in the order of the order list.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredOrderList(Predicate<Order> predicate);
+
+    /**
+     * Updates the filter of the filtered order list to filter by the given {@code predicate}, and lists the orders
+     * that pass in the order given by {@code comparator}. Orders that compare equal keep the order of the order list.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredOrderList(Predicate<Order> predicate, Comparator<Order> comparator);
 }
@@ -4,15 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.DuplicateGroup;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.RemarkSearch;
+import seedu.address.model.query.QueryIndex;
 
 /**
  * Represents the in-memory model of bookkeeper data.
@@ -22,9 +38,16 @@ public class ModelManager implements Model {
 
     private final BookKeeper bookKeeper;
     private final UserPrefs userPrefs;
-    private final FilteredList<Client> filteredClients;
-    private final FilteredList<Order> filteredOrders;
-
+    private final ParallelFilteredList<Client> filteredClients;
+    private final ParallelFilteredList<Order> filteredOrders;
+    private final SortedList<Order> sortedOrders;
+    private final FilterCache<Client> clientFilterCache;
+    private final FilterCache<Order> orderFilterCache;
+    private final ObservableList<Order> orderHistory = FXCollections.observableArrayList();
+    private final ObservableList<Order> unmodifiableOrderHistory =
+            FXCollections.unmodifiableObservableList(orderHistory);
+    private OrderArchive orderArchive = OrderArchive.EMPTY;
+    private QueryIndex queryIndex;
 
     /**
      * Initializes a ModelManager with the given bookKeeper and userPrefs.
@@ -36,8 +59,15 @@ public class ModelManager implements Model {
 
         this.bookKeeper = new BookKeeper(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredClients = new FilteredList<>(this.bookKeeper.getClientList());
-        filteredOrders = new FilteredList<>(this.bookKeeper.getOrderList());
+        // the caches must hear of changes before the lists filtered with them
+        clientFilterCache = new FilterCache<>(this.bookKeeper.getClientList(), FilterCache.DEFAULT_CAPACITY);
+        orderFilterCache = new FilterCache<>(this.bookKeeper.getOrderList(), FilterCache.DEFAULT_CAPACITY);
+        filteredClients = new ParallelFilteredList<>(this.bookKeeper.getClientList());
+        filteredOrders = new ParallelFilteredList<>(this.bookKeeper.getOrderList());
+        sortedOrders = new SortedList<>(filteredOrders);
+        ListChangeListener<Object> queryIndexInvalidator = change -> queryIndex = null;
+        this.bookKeeper.getClientList().addListener(queryIndexInvalidator);
+        this.bookKeeper.getOrderList().addListener(queryIndexInvalidator);
     }
 
     public ModelManager() {
@@ -97,6 +127,60 @@ public class ModelManager implements Model {
         return bookKeeper.hasClient(client);
     }
 
+    @Override
+    public Optional<Client> getClient(Name name) {
+        requireNonNull(name);
+        return bookKeeper.getClient(name);
+    }
+
+    @Override
+    public List<Client> getClientsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return bookKeeper.getClientsWithPhone(phone);
+    }
+
+    @Override
+    public List<Client> getClientsWithEmail(Email email) {
+        requireNonNull(email);
+        return bookKeeper.getClientsWithEmail(email);
+    }
+
+    @Override
+    public Optional<Client> getOwner(Order order) {
+        requireNonNull(order);
+        return bookKeeper.getOwner(order);
+    }
+
+    @Override
+    public List<Order> getOrdersWithIdPrefix(String idPrefix) {
+        requireNonNull(idPrefix);
+        return bookKeeper.getOrdersWithIdPrefix(idPrefix);
+    }
+
+    @Override
+    public List<String> getClientNamesWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return bookKeeper.getClientNamesWithPrefix(prefix, limit);
+    }
+
+    @Override
+    public List<String> getTagNamesWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return bookKeeper.getTagNamesWithPrefix(prefix, limit);
+    }
+
+    @Override
+    public Set<Client> searchClients(String text, int maxTypos) {
+        requireNonNull(text);
+        return bookKeeper.searchClients(text, maxTypos);
+    }
+
+    @Override
+    public Map<Order, Integer> searchOrderRemarks(RemarkSearch search) {
+        requireNonNull(search);
+        return bookKeeper.searchRemarks(search);
+    }
+
     @Override
     public void deleteClient(Client target) {
         bookKeeper.removeClient(target);
@@ -138,6 +222,55 @@ public class ModelManager implements Model {
     }
 
 
+    @Override
+    public void deleteOrders(Collection<Order> orders) {
+        requireNonNull(orders);
+
+        bookKeeper.removeOrders(orders);
+    }
+
+    @Override
+    public void mergeClients(Collection<Client> clients) {
+        requireNonNull(clients);
+
+        bookKeeper.mergeClients(clients);
+    }
+
+    @Override
+    public void replaceClients(List<Client> targets, Client replacement) {
+        requireNonNull(targets);
+        requireNonNull(replacement);
+
+        bookKeeper.replaceClients(targets, replacement);
+    }
+
+    @Override
+    public List<DuplicateGroup> findDuplicateClients() {
+        return bookKeeper.findDuplicateClients();
+    }
+
+    @Override
+    public void deleteClients(Collection<Client> clients) {
+        requireNonNull(clients);
+
+        bookKeeper.removeClients(clients);
+    }
+
+    @Override
+    public void editOrders(Map<Order, Order> editedOrders) {
+        requireNonNull(editedOrders);
+
+        bookKeeper.editOrders(editedOrders);
+    }
+
+    @Override
+    public QueryIndex getQueryIndex() {
+        if (queryIndex == null) {
+            queryIndex = new QueryIndex(bookKeeper);
+        }
+        return queryIndex;
+    }
+
     //=========== Order ================================================================================
 
     /**
@@ -146,13 +279,50 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Order> getFilteredOrderList() {
-        return filteredOrders;
+        return sortedOrders;
     }
 
     @Override
     public void updateFilteredOrderList(Predicate<Order> predicate) {
         requireNonNull(predicate);
-        filteredOrders.setPredicate(predicate);
+        filteredOrders.setPredicate(toFilter(predicate, PREDICATE_SHOW_ALL_ORDERS, orderFilterCache));
+        sortedOrders.setComparator(null);
+        logger.fine("Order filter cache: " + orderFilterCache);
+    }
+
+    @Override
+    public void updateFilteredOrderList(Predicate<Order> predicate, Comparator<Order> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredOrders.setPredicate(toFilter(predicate, PREDICATE_SHOW_ALL_ORDERS, orderFilterCache));
+        sortedOrders.setComparator(comparator);
+        logger.fine("Order filter cache: " + orderFilterCache);
+    }
+
+    /**
+     * Returns the cache of the orders matching recent filters, to see how well it is doing.
+     */
+    public FilterCache<Order> getOrderFilterCache() {
+        return orderFilterCache;
+    }
+
+    //=========== Order History ============================================================================
+
+    @Override
+    public void setOrderArchive(OrderArchive orderArchive) {
+        requireNonNull(orderArchive);
+        this.orderArchive = orderArchive;
+        orderHistory.clear();
+    }
+
+    @Override
+    public ObservableList<Order> getOrderHistoryList() {
+        return unmodifiableOrderHistory;
+    }
+
+    @Override
+    public void updateOrderHistoryList(Predicate<Order> predicate) throws DataLoadingException {
+        requireNonNull(predicate);
+        orderHistory.setAll(orderArchive.findOrders(predicate, ORDER_HISTORY_LIMIT));
     }
 
     //=========== Filtered Client List Accessors =============================================================
@@ -169,7 +339,23 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
-        filteredClients.setPredicate(predicate);
+        filteredClients.setPredicate(toFilter(predicate, PREDICATE_SHOW_ALL_CLIENTS, clientFilterCache));
+        logger.fine("Client filter cache: " + clientFilterCache);
+    }
+
+    /**
+     * Returns the predicate to filter a list with. Showing everything is done without a predicate, so that it tests
+     * no items, and does nothing at all if everything is shown already.
+     */
+    private static <T> Predicate<T> toFilter(Predicate<T> predicate, Predicate<T> showAll, FilterCache<T> cache) {
+        return predicate == showAll ? null : cache.lookUp(predicate);
+    }
+
+    /**
+     * Returns the cache of the clients matching recent filters, to see how well it is doing.
+     */
+    public FilterCache<Client> getClientFilterCache() {
+        return clientFilterCache;
     }
 
     @Override
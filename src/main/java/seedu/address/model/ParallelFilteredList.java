@@ -0,0 +1,311 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a list that holds only the items matching a predicate, in the order they have in the list, like
+ * {@link javafx.collections.transformation.FilteredList}. A null predicate matches every item.
+ * <p>
+ * A {@code FilteredList} tests every item on the calling thread whenever its predicate is set. Here, when the list
+ * has at least {@code parallelThreshold} items, it is split into chunks that are tested at the same time on a
+ * fork-join pool. The positions of the matching items are then gathered in order, and the view switches to them in a
+ * single change, so listeners see the same items as if each had been tested in turn. Predicates must therefore be
+ * safe to test from several threads at once. The ones used on the model are, as they only read the items and their
+ * own fields.
+ * <p>
+ * When the list changes, only the items added to it are tested, in parallel too if there are enough of them. The
+ * view therefore stays correct for its predicate as the list changes, and setting a predicate equal to the current one
+ * does nothing at all. When a {@link SnapshotPredicate} is set, the items it found are shown straight away, and only
+ * the items added afterwards are tested.
+ *
+ * @param <E> the type of the items in the list.
+ */
+public class ParallelFilteredList<E> extends TransformationList<E, E> {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 14;
+
+    /** The number of items tested in turn by each task on the pool. */
+    private static final int CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private Predicate<? super E> predicate;
+    /** The positions in the list of the items in the view, in increasing order. Only the first {@code size} count. */
+    private int[] sourceIndexes;
+    private int size;
+
+    /**
+     * Creates a view of every item in {@code source}, which tests items on the common fork-join pool once the list
+     * has {@link #DEFAULT_PARALLEL_THRESHOLD} items.
+     */
+    public ParallelFilteredList(ObservableList<E> source) {
+        this(source, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a view of every item in {@code source}, which tests items on {@code pool} once the list has
+     * {@code parallelThreshold} items.
+     */
+    public ParallelFilteredList(ObservableList<E> source, ForkJoinPool pool, int parallelThreshold) {
+        super(source);
+        requireNonNull(pool);
+        checkArgument(parallelThreshold > 0, "Parallel threshold must be positive");
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        sourceIndexes = match(0, source.size(), predicate);
+        size = sourceIndexes.length;
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the items that match {@code predicate}, or every item if it is null. Nothing is tested if
+     * {@code predicate} equals the current predicate. Otherwise, the view changes once, and only if it holds
+     * different items afterwards.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        if (Objects.equals(predicate, this.predicate)) {
+            return;
+        }
+        this.predicate = predicate;
+        int[] matches = match(0, getSource().size(), getListedTest(predicate));
+        if (Arrays.equals(sourceIndexes, 0, size, matches, 0, matches.length)) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            removed.add(getSource().get(sourceIndexes[i]));
+        }
+        sourceIndexes = matches;
+        size = matches.length;
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return Arrays.binarySearch(sourceIndexes, 0, size, index);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                replace(change.getFrom(), change.getRemoved(), change.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Follows the replacement of {@code removedItems} at {@code from} in the list by {@code addedSize} items.
+     */
+    private void replace(int from, List<? extends E> removedItems, int addedSize) {
+        int start = findPosition(from);
+        int end = findPosition(from + removedItems.size());
+        List<E> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(removedItems.get(sourceIndexes[i] - from));
+        }
+        int[] added = match(from, from + addedSize, predicate);
+
+        int newSize = size - removed.size() + added.length;
+        if (newSize > sourceIndexes.length) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(newSize, 2 * sourceIndexes.length));
+        }
+        System.arraycopy(sourceIndexes, end, sourceIndexes, start + added.length, size - end);
+        System.arraycopy(added, 0, sourceIndexes, start, added.length);
+        size = newSize;
+        int shift = addedSize - removedItems.size();
+        for (int i = start + added.length; shift != 0 && i < size; i++) {
+            sourceIndexes[i] += shift;
+        }
+
+        if (!removed.isEmpty()) {
+            nextRemove(start, removed);
+        }
+        if (added.length > 0) {
+            nextAdd(start, start + added.length);
+        }
+    }
+
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        int start = findPosition(change.getFrom());
+        int end = findPosition(change.getTo());
+        if (start == end) {
+            return;
+        }
+        // each item's new position in the list, with its old position in the view in the lower bits to recover it
+        long[] moves = new long[end - start];
+        for (int i = start; i < end; i++) {
+            moves[i - start] = (long) change.getPermutation(sourceIndexes[i]) << Integer.SIZE | (i - start);
+        }
+        Arrays.sort(moves);
+
+        int[] permutation = new int[end - start];
+        for (int i = 0; i < moves.length; i++) {
+            sourceIndexes[start + i] = (int) (moves[i] >>> Integer.SIZE);
+            permutation[(int) moves[i]] = start + i;
+        }
+        nextPermutation(start, end, permutation);
+    }
+
+    private void update(ListChangeListener.Change<? extends E> change) {
+        for (int index = change.getFrom(); index < change.getTo(); index++) {
+            int position = findPosition(index);
+            boolean isShown = position < size && sourceIndexes[position] == index;
+            E item = getSource().get(index);
+            if (isShown && (predicate == null || predicate.test(item))) {
+                nextUpdate(position);
+            } else {
+                replace(index, List.of(item), 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the position in the view of the first item at or after {@code sourceIndex} in the list.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns the positions of the items from {@code from} up to {@code to} in the list that match {@code predicate},
+     * or all of them if it is null.
+     */
+    private int[] match(int from, int to, Predicate<? super E> predicate) {
+        int[] matches = new int[to - from];
+        if (predicate == null) {
+            Arrays.setAll(matches, i -> from + i);
+            return matches;
+        }
+
+        boolean[] isMatch = test(getSource(), from, to, predicate, pool, parallelThreshold);
+        int count = 0;
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                matches[count++] = from + i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Returns the test for the items in the list when {@code predicate} is set. The items found by a
+     * {@code SnapshotPredicate} are already known, so the others need not be tested.
+     */
+    private static <E> Predicate<? super E> getListedTest(Predicate<? super E> predicate) {
+        if (!(predicate instanceof SnapshotPredicate)) {
+            return predicate;
+        }
+        SnapshotPredicate<? super E> snapshot = (SnapshotPredicate<? super E>) predicate;
+        return item -> snapshot.isFound(item);
+    }
+
+    /**
+     * Tests the items from {@code from} up to {@code to} in {@code items} against {@code predicate}, and returns
+     * whether the item at {@code i} matches in element {@code i - from}. The items are tested in chunks on
+     * {@code pool} if there are at least {@code parallelThreshold} of them, and in turn on the calling thread if not.
+     * {@code items} must not change until this returns.
+     */
+    static <E> boolean[] test(List<E> items, int from, int to, Predicate<? super E> predicate, ForkJoinPool pool,
+            int parallelThreshold) {
+        boolean[] isMatch = new boolean[to - from];
+        MatchTask<E> task = new MatchTask<>(items, predicate, from, to, from, isMatch);
+        if (to - from < parallelThreshold) {
+            task.testInTurn();
+        } else {
+            pool.invoke(task);
+        }
+        return isMatch;
+    }
+
+    /**
+     * Tests the items in a range of a list, splitting the range in halves to be tested at the same time until
+     * they are no longer than {@link #CHUNK_SIZE}. Each result is written to its own element of a shared array.
+     */
+    private static class MatchTask<E> extends RecursiveAction {
+        private final List<E> items;
+        private final Predicate<? super E> predicate;
+        private final int from;
+        private final int to;
+        private final int offset;
+        private final boolean[] isMatch;
+
+        private MatchTask(List<E> items, Predicate<? super E> predicate, int from, int to, int offset,
+                boolean[] isMatch) {
+            this.items = items;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.offset = offset;
+            this.isMatch = isMatch;
+        }
+
+        /**
+         * Tests the items in the range in turn, noting whether the item at {@code i} matches in
+         * {@code isMatch[i - offset]}.
+         */
+        private void testInTurn() {
+            for (int i = from; i < to; i++) {
+                isMatch[i - offset] = predicate.test(items.get(i));
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                testInTurn();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MatchTask<>(items, predicate, from, middle, offset, isMatch),
+                    new MatchTask<>(items, predicate, middle, to, offset, isMatch));
+        }
+    }
+}
@@ -15,4 +15,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getOrderBookFilePath();
 
+    Path getOrderArchiveFilePath();
+
+    int getOrderArchiveAgeDays();
+
+    Path getBackupDirectoryPath();
+
+    int getBackupIntervalMinutes();
+
+    boolean isUniqueContactsEnforced();
+
 }
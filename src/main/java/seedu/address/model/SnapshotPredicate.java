@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} for the items found by a search of a list, such as a lookup in an index, that still tests items
+ * added to the list afterwards, such as edited ones.
+ * <p>
+ * The items found are kept by identity, and match without being tested. Any other item is tested against a predicate
+ * that gives the same answers as the search would. A {@link ParallelFilteredList} given such a predicate shows the
+ * items found without testing the rest of the list, and only tests the items added to it later.
+ *
+ * @param <T> the type of the items tested.
+ */
+public class SnapshotPredicate<T> implements Predicate<T> {
+
+    private final Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Predicate<? super T> predicate;
+
+    /**
+     * Creates a predicate that matches {@code matches}, found by a search of the list as it is now, and tests any
+     * other item against {@code predicate}, which must match exactly the items the search would find.
+     */
+    public SnapshotPredicate(Collection<? extends T> matches, Predicate<? super T> predicate) {
+        requireNonNull(matches);
+        requireNonNull(predicate);
+        this.matches.addAll(matches);
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns true if {@code item} is one of the items found by the search. Items in the list when the search was
+     * made match if and only if this returns true.
+     */
+    boolean isFound(T item) {
+        return matches.contains(item);
+    }
+
+    @Override
+    public boolean test(T item) {
+        return isFound(item) || predicate.test(item);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,11 +14,24 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_ORDER_ARCHIVE_AGE_DAYS = 30;
+    public static final int DEFAULT_BACKUP_INTERVAL_MINUTES = 60;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "bookkeeper.json");
 
     private Path orderBookFilePath = Paths.get("data", "bookkeeper.json");
 
+    private Path orderArchiveFilePath = Paths.get("data", "orderarchive.jsonl");
+
+    private int orderArchiveAgeDays = DEFAULT_ORDER_ARCHIVE_AGE_DAYS;
+
+    private Path backupDirectoryPath = Paths.get("data", "backups");
+
+    private int backupIntervalMinutes = DEFAULT_BACKUP_INTERVAL_MINUTES;
+
+    private boolean uniqueContactsEnforced;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -40,6 +54,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setOrderBookFilePath(newUserPrefs.getOrderBookFilePath());
+        setOrderArchiveFilePath(newUserPrefs.getOrderArchiveFilePath());
+        setOrderArchiveAgeDays(newUserPrefs.getOrderArchiveAgeDays());
+        setBackupDirectoryPath(newUserPrefs.getBackupDirectoryPath());
+        setBackupIntervalMinutes(newUserPrefs.getBackupIntervalMinutes());
+        setUniqueContactsEnforced(newUserPrefs.isUniqueContactsEnforced());
     }
 
     public GuiSettings getGuiSettings() {
@@ -76,12 +95,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && orderBookFilePath.equals(otherUserPrefs.orderBookFilePath);
+                && orderBookFilePath.equals(otherUserPrefs.orderBookFilePath)
+                && orderArchiveFilePath.equals(otherUserPrefs.orderArchiveFilePath)
+                && orderArchiveAgeDays == otherUserPrefs.orderArchiveAgeDays
+                && backupDirectoryPath.equals(otherUserPrefs.backupDirectoryPath)
+                && backupIntervalMinutes == otherUserPrefs.backupIntervalMinutes
+                && uniqueContactsEnforced == otherUserPrefs.uniqueContactsEnforced;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, orderBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, orderBookFilePath, orderArchiveFilePath,
+                orderArchiveAgeDays, backupDirectoryPath, backupIntervalMinutes, uniqueContactsEnforced);
     }
 
     @Override
@@ -90,6 +115,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nLocal data file location : " + orderBookFilePath);
+        sb.append("\nOrder archive file location : " + orderArchiveFilePath);
+        sb.append("\nOrder archive age (days) : " + orderArchiveAgeDays);
+        sb.append("\nBackup location : " + backupDirectoryPath);
+        sb.append("\nBackup interval (minutes) : " + backupIntervalMinutes);
+        sb.append("\nUnique phones and emails : " + uniqueContactsEnforced);
         return sb.toString();
     }
 
@@ -103,4 +133,63 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(orderBookFilePath);
         this.orderBookFilePath = orderBookFilePath;
     }
+
+    // ================ OrderArchive methods ==============================
+
+    public Path getOrderArchiveFilePath() {
+        return orderArchiveFilePath;
+    }
+
+    public void setOrderArchiveFilePath(Path orderArchiveFilePath) {
+        requireNonNull(orderArchiveFilePath);
+        this.orderArchiveFilePath = orderArchiveFilePath;
+    }
+
+    public int getOrderArchiveAgeDays() {
+        return orderArchiveAgeDays;
+    }
+
+    /**
+     * Sets the number of days after its deadline that a completed or canceled order is moved to the order history.
+     */
+    public void setOrderArchiveAgeDays(int orderArchiveAgeDays) {
+        checkArgument(orderArchiveAgeDays >= 0, "Order archive age must not be negative");
+        this.orderArchiveAgeDays = orderArchiveAgeDays;
+    }
+
+    // ================ Backup methods ==============================
+
+    public Path getBackupDirectoryPath() {
+        return backupDirectoryPath;
+    }
+
+    public void setBackupDirectoryPath(Path backupDirectoryPath) {
+        requireNonNull(backupDirectoryPath);
+        this.backupDirectoryPath = backupDirectoryPath;
+    }
+
+    public int getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    /**
+     * Sets the number of minutes between automatic backups of the data file. Zero turns off scheduled backups.
+     */
+    public void setBackupIntervalMinutes(int backupIntervalMinutes) {
+        checkArgument(backupIntervalMinutes >= 0, "Backup interval must not be negative");
+        this.backupIntervalMinutes = backupIntervalMinutes;
+    }
+
+    // ================ Client methods ==============================
+
+    public boolean isUniqueContactsEnforced() {
+        return uniqueContactsEnforced;
+    }
+
+    /**
+     * Sets whether adding or editing a client is refused when another client already has the same phone or email.
+     */
+    public void setUniqueContactsEnforced(boolean uniqueContactsEnforced) {
+        this.uniqueContactsEnforced = uniqueContactsEnforced;
+    }
 }
@@ -3,9 +3,11 @@ package seedu.address.model.client;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -100,6 +102,18 @@ public class Client {
         return new Client(this.name, this.phone, this.email, this.address, this.getTags(), newOrders);
     }
 
+    /**
+     * Returns a new Client object, with all of the specified Orders removed from the orders object.
+     *
+     * @param ordersToRemove the orders to be removed
+     * @return new Client object
+     */
+    public Client removeOrders(Collection<Order> ordersToRemove) {
+        Set<Order> newOrders = new HashSet<>(orders);
+        newOrders.removeAll(ordersToRemove);
+        return new Client(this.name, this.phone, this.email, this.address, this.getTags(), newOrders);
+    }
+
     /**
      * Returns a new Client object, with the specified Order edited accordingly.
      *
@@ -114,6 +128,20 @@ public class Client {
         return new Client(this.name, this.phone, this.email, this.address, this.getTags(), newOrders);
     }
 
+    /**
+     * Returns a new Client object, with every order that is a key of {@code editedOrders} replaced by its value.
+     *
+     * @param editedOrders the orders to be replaced, mapped to the orders to replace them with
+     * @return new Client object
+     */
+    public Client editOrders(Map<Order, Order> editedOrders) {
+        Set<Order> newOrders = new HashSet<>();
+        for (Order order : orders) {
+            newOrders.add(editedOrders.getOrDefault(order, order));
+        }
+        return new Client(this.name, this.phone, this.email, this.address, this.getTags(), newOrders);
+    }
+
     /**
      * Returns true if both clients have the same name.
      * This defines a weaker notion of equality between two clients.
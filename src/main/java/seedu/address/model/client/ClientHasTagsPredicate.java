@@ -0,0 +1,55 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.CacheablePredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Client} has every one of the tags given.
+ */
+public class ClientHasTagsPredicate implements CacheablePredicate<Client> {
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a predicate that matches clients that have every tag in {@code tags}.
+     */
+    public ClientHasTagsPredicate(Set<Tag> tags) {
+        requireNonNull(tags);
+        this.tags = new HashSet<>(tags);
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return client.getTags().containsAll(tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClientHasTagsPredicate)) {
+            return false;
+        }
+
+        ClientHasTagsPredicate otherPredicate = (ClientHasTagsPredicate) other;
+        return tags.equals(otherPredicate.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tags", tags).toString();
+    }
+}
@@ -0,0 +1,270 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A trigram index over the name, address and email of clients, for finding clients by any part of those fields.
+ * <p>
+ * Every run of three characters (a trigram) in the lower-case fields of a client maps to the clients whose fields
+ * contain it. A search picks out candidates from the postings of the trigrams of the searched text, then checks each
+ * candidate against its fields:
+ * <ul>
+ *     <li>Text that appears in a field as it is must contain every trigram of the searched text, so the candidates
+ *     are the clients holding the rarest trigram that also hold all the others.</li>
+ *     <li>Each typo changes at most three trigrams, so text found with up to {@code k} typos still holds all but
+ *     {@code 3k} of the trigrams of the searched text. Only clients holding enough of them are checked.</li>
+ * </ul>
+ * Text too short to have enough trigrams to rule out any client is checked against every client.
+ * <p>
+ * Each client is numbered in the order it was added, so postings are sorted arrays of numbers that take little memory
+ * and can be searched quickly. Removed clients leave gaps in the numbering, which are closed by renumbering the clients
+ * once more than half the numbers are unused.
+ * <p>
+ * Clients are added and removed one at a time and are told apart by identity, like the other indexes kept by
+ * {@link UniqueClientList}.
+ */
+public class ClientTextIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /** Roughly how many times slower looking up one id in postings is than reading one id from them. */
+    private static final int BINARY_SEARCH_COST = 16;
+
+    private final Map<Client, Integer> idsByClient = new IdentityHashMap<>();
+    /** The client numbered by each id, or null if the client has been removed. */
+    private final List<Client> clientsById = new ArrayList<>();
+    /** The lower-case name, address and email of the client numbered by each id. */
+    private final List<List<String>> foldedFieldsById = new ArrayList<>();
+    private final Map<String, Postings> postingsByGram = new HashMap<>();
+
+    /**
+     * Adds {@code client} to the index. Adding a client that is already indexed has no effect.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        if (idsByClient.containsKey(client)) {
+            return;
+        }
+        int id = clientsById.size();
+        List<String> fields = foldFields(client);
+        idsByClient.put(client, id);
+        clientsById.add(client);
+        foldedFieldsById.add(fields);
+        for (String field : fields) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                postingsByGram.computeIfAbsent(field.substring(i, i + GRAM_LENGTH), unused -> new Postings()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code client} from the index. Removing a client that is not indexed has no effect.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        Integer id = idsByClient.remove(client);
+        if (id == null) {
+            return;
+        }
+        clientsById.set(id, null);
+        foldedFieldsById.set(id, null);
+        if (clientsById.size() > 2 * idsByClient.size()) {
+            renumber();
+        }
+    }
+
+    /**
+     * Returns the clients whose name, address or email contains {@code text}, ignoring case, allowing for up to
+     * {@code maxTypos} missing, extra or wrong characters. The set compares clients by identity.
+     */
+    public Set<Client> search(String text, int maxTypos) {
+        requireNonNull(text);
+        checkArgument(maxTypos >= 0, "Maximum number of typos cannot be negative");
+        String pattern = text.toLowerCase(Locale.ROOT);
+
+        Set<Client> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id : findCandidates(pattern, maxTypos)) {
+            List<String> fields = foldedFieldsById.get(id);
+            if (fields != null && containsApproximately(fields, pattern, maxTypos)) {
+                matches.add(clientsById.get(id));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if the name, address or email of {@code client} contains {@code text}, ignoring case, allowing for
+     * up to {@code maxTypos} typos. This is the test {@link #search(String, int)} applies to each candidate, for
+     * clients that are not in an index.
+     */
+    public static boolean matches(Client client, String text, int maxTypos) {
+        requireNonNull(client);
+        requireNonNull(text);
+        checkArgument(maxTypos >= 0, "Maximum number of typos cannot be negative");
+        return containsApproximately(foldFields(client), text.toLowerCase(Locale.ROOT), maxTypos);
+    }
+
+    /**
+     * Returns the number of indexed clients.
+     */
+    public int size() {
+        return idsByClient.size();
+    }
+
+    /**
+     * Returns the ids of the clients that hold enough of the trigrams of {@code pattern} to possibly match it.
+     * Ids of removed clients may be included.
+     * <p>
+     * A match holds at least {@code needed} of the trigram occurrences in the pattern, so it must hold one of any
+     * {@code total - needed + 1} of them. Those are taken from the rarest trigrams, and only their postings are
+     * read in full. The candidates found are then looked up in the postings of the other trigrams, rarest first,
+     * dropping those that can no longer hold enough. Postings much longer than the list of candidates are searched
+     * for each candidate, and shorter ones are read through.
+     */
+    private int[] findCandidates(String pattern, int maxTypos) {
+        Map<String, Integer> gramCounts = new HashMap<>();
+        for (int i = 0; i + GRAM_LENGTH <= pattern.length(); i++) {
+            gramCounts.merge(pattern.substring(i, i + GRAM_LENGTH), 1, Integer::sum);
+        }
+        int total = Math.max(pattern.length() - GRAM_LENGTH + 1, 0);
+        int needed = total - GRAM_LENGTH * maxTypos;
+        if (needed <= 0) {
+            int[] allIds = new int[clientsById.size()];
+            Arrays.setAll(allIds, id -> id);
+            return allIds;
+        }
+
+        List<String> grams = new ArrayList<>(gramCounts.keySet());
+        grams.sort(Comparator.comparingInt(gram -> getPostings(gram).size));
+
+        int[] held = new int[clientsById.size()];
+        int[] candidates = new int[0];
+        int candidateCount = 0;
+        int generated = 0;
+        int next = 0;
+        while (generated < total - needed + 1) {
+            String gram = grams.get(next++);
+            int count = gramCounts.get(gram);
+            Postings postings = getPostings(gram);
+            for (int i = 0; i < postings.size; i++) {
+                int id = postings.ids[i];
+                if (held[id] == 0) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, Math.max(2 * candidateCount, 16));
+                    }
+                    candidates[candidateCount++] = id;
+                }
+                held[id] += count;
+            }
+            generated += count;
+        }
+
+        int unread = total - generated;
+        for (String gram : grams.subList(next, grams.size())) {
+            Postings postings = getPostings(gram);
+            int count = gramCounts.get(gram);
+            unread -= count;
+            if (candidateCount * BINARY_SEARCH_COST < postings.size) {
+                for (int i = 0; i < candidateCount; i++) {
+                    if (Arrays.binarySearch(postings.ids, 0, postings.size, candidates[i]) >= 0) {
+                        held[candidates[i]] += count;
+                    }
+                }
+            } else {
+                // only candidates have been counted so far, and dropped candidates are never looked at again
+                for (int i = 0; i < postings.size; i++) {
+                    if (held[postings.ids[i]] > 0) {
+                        held[postings.ids[i]] += count;
+                    }
+                }
+            }
+            int kept = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                if (held[candidates[i]] + unread >= needed) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            candidateCount = kept;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (held[candidates[i]] >= needed) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, kept);
+    }
+
+    private Postings getPostings(String gram) {
+        return postingsByGram.getOrDefault(gram, Postings.EMPTY);
+    }
+
+    /**
+     * Numbers the indexed clients afresh, in the order they were added.
+     */
+    private void renumber() {
+        List<Client> clients = new ArrayList<>(idsByClient.size());
+        for (Client client : clientsById) {
+            if (client != null) {
+                clients.add(client);
+            }
+        }
+        idsByClient.clear();
+        clientsById.clear();
+        foldedFieldsById.clear();
+        postingsByGram.clear();
+        clients.forEach(this::add);
+    }
+
+    private static boolean containsApproximately(List<String> fields, String pattern, int maxTypos) {
+        for (String field : fields) {
+            if (field.contains(pattern)
+                    || maxTypos > 0 && StringUtil.containsApproximately(field, pattern, maxTypos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> foldFields(Client client) {
+        return List.of(client.getName().fullName.toLowerCase(Locale.ROOT),
+                client.getAddress().value.toLowerCase(Locale.ROOT),
+                client.getEmail().value.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * The ids of the clients holding a trigram, in increasing order. Ids are only ever added in increasing order, so
+     * adding one appends it, and adding the last id again has no effect.
+     */
+    private static class Postings {
+        private static final Postings EMPTY = new Postings();
+
+        private int[] ids = new int[1];
+        private int size;
+
+        private void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, 2 * size);
+            }
+            ids[size++] = id;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.client.DuplicateGroup.Reason;
+
+/**
+ * Finds clients that are likely to be the same customer. Two clients are likely duplicates if they have
+ * <ul>
+ *     <li>the same name, ignoring case and extra spaces,</li>
+ *     <li>the same phone number, or</li>
+ *     <li>similar emails: the same, ignoring case, dots in the part before the {@code @}, and anything from a
+ *     {@code +} up to the {@code @}. e.g. {@code John.Doe+shop@example.com} is similar to {@code johndoe@example.com}.
+ *     </li>
+ * </ul>
+ * Likely duplicates of likely duplicates are put in the same group, so each client is in at most one group.
+ * <p>
+ * Clients are never compared in pairs. Instead, each client is filed under a key for each of its name, phone and email,
+ * and clients filed under the same key are joined into one group as they are found. Finding the groups takes time
+ * linear in the number of clients.
+ */
+public class DuplicateClientFinder {
+
+    private DuplicateClientFinder() {} // prevents instantiation
+
+    /**
+     * Returns the groups of likely duplicates among {@code clients}. Groups are sorted by where their first client
+     * is in {@code clients}, and the clients of each group keep the order they have in {@code clients}.
+     */
+    public static List<DuplicateGroup> findDuplicates(List<Client> clients) {
+        requireNonNull(clients);
+        int count = clients.size();
+        Groups groups = new Groups(count);
+        Map<String, Integer> firstByName = new HashMap<>();
+        Map<Phone, Integer> firstByPhone = new HashMap<>();
+        Map<String, Integer> firstByEmail = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Client client = clients.get(i);
+            groups.join(firstByName.putIfAbsent(normalizeName(client.getName()), i), i, Reason.NAME);
+            groups.join(firstByPhone.putIfAbsent(client.getPhone(), i), i, Reason.PHONE);
+            groups.join(firstByEmail.putIfAbsent(normalizeEmail(client.getEmail()), i), i, Reason.EMAIL);
+        }
+
+        Map<Integer, List<Client>> clientsByGroup = new LinkedHashMap<>();
+        Map<Integer, Set<Reason>> reasonsByGroup = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            int group = groups.find(i);
+            if (groups.sizes[group] < 2) {
+                continue;
+            }
+            clientsByGroup.computeIfAbsent(group, unused -> new ArrayList<>()).add(clients.get(i));
+            Set<Reason> reasons = reasonsByGroup.computeIfAbsent(group, unused -> EnumSet.noneOf(Reason.class));
+            for (Reason reason : Reason.values()) {
+                if ((groups.reasons[i] & (1 << reason.ordinal())) != 0) {
+                    reasons.add(reason);
+                }
+            }
+        }
+
+        List<DuplicateGroup> duplicates = new ArrayList<>(clientsByGroup.size());
+        clientsByGroup.forEach((group, members) -> duplicates.add(new DuplicateGroup(members,
+                reasonsByGroup.get(group))));
+        return duplicates;
+    }
+
+    /**
+     * Returns {@code name} in lower case, with runs of spaces made single and spaces at either end removed.
+     */
+    static String normalizeName(Name name) {
+        String fullName = name.fullName;
+        StringBuilder normalized = new StringBuilder(fullName.length());
+        for (int i = 0; i < fullName.length(); i++) {
+            char c = fullName.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            } else if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == ' ') {
+            normalized.setLength(end - 1);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns {@code email} in lower case, without the dots in the part before the {@code @}, or anything from a
+     * {@code +} up to the {@code @}.
+     */
+    static String normalizeEmail(Email email) {
+        String address = email.getNormalizedValue();
+        int at = address.lastIndexOf('@');
+        int plus = address.indexOf('+');
+        int localEnd = plus == -1 || plus > at ? at : plus;
+        StringBuilder normalized = new StringBuilder(address.length());
+        for (int i = 0; i < localEnd; i++) {
+            char c = address.charAt(i);
+            if (c != '.') {
+                normalized.append(c);
+            }
+        }
+        return normalized.append(address, at, address.length()).toString();
+    }
+
+    /**
+     * Clients joined into groups, each group kept as a tree of client positions. Also remembers, for each client,
+     * what it was found to have in common with another client.
+     */
+    private static class Groups {
+        private final int[] parents;
+        private final int[] sizes;
+        private final int[] reasons;
+
+        Groups(int count) {
+            parents = new int[count];
+            sizes = new int[count];
+            reasons = new int[count];
+            for (int i = 0; i < count; i++) {
+                parents[i] = i;
+                sizes[i] = 1;
+            }
+        }
+
+        /**
+         * Returns the position of the client at the root of the group holding the client at {@code position}.
+         */
+        int find(int position) {
+            int root = position;
+            while (parents[root] != root) {
+                root = parents[root];
+            }
+            int current = position;
+            while (parents[current] != root) {
+                int next = parents[current];
+                parents[current] = root;
+                current = next;
+            }
+            return root;
+        }
+
+        /**
+         * Joins the groups of the clients at {@code first} and {@code position}, which have {@code reason} in common.
+         * Does nothing if {@code first} is null, as no client was filed under the same key before.
+         */
+        void join(Integer first, int position, Reason reason) {
+            if (first == null) {
+                return;
+            }
+            int bit = 1 << reason.ordinal();
+            reasons[first] |= bit;
+            reasons[position] |= bit;
+
+            int rootA = find(first);
+            int rootB = find(position);
+            if (rootA == rootB) {
+                return;
+            }
+            if (sizes[rootA] < sizes[rootB]) {
+                int swap = rootA;
+                rootA = rootB;
+                rootB = swap;
+            }
+            parents[rootB] = rootA;
+            sizes[rootA] += sizes[rootB];
+        }
+    }
+}
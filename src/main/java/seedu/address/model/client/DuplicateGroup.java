@@ -0,0 +1,108 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Clients that are likely to be the same customer, found by {@link DuplicateClientFinder}.
+ * The clients are listed in the order they appear in bookkeeper.
+ */
+public class DuplicateGroup {
+
+    /**
+     * What the clients of a group have in common.
+     */
+    public enum Reason {
+        NAME("name"), PHONE("phone"), EMAIL("email");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final List<Client> clients;
+    private final Set<Reason> reasons;
+
+    /**
+     * Creates a group of {@code clients}, which have {@code reasons} in common. There must be at least two clients.
+     */
+    public DuplicateGroup(List<Client> clients, Set<Reason> reasons) {
+        requireNonNull(clients);
+        requireNonNull(reasons);
+        checkArgument(clients.size() >= 2, "A group of duplicates needs at least two clients");
+        this.clients = List.copyOf(clients);
+        this.reasons = reasons.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(reasons));
+    }
+
+    public List<Client> getClients() {
+        return clients;
+    }
+
+    public Set<Reason> getReasons() {
+        return reasons;
+    }
+
+    /**
+     * Returns the client that the group merges into: the first client, with the tags and orders of every client in
+     * the group.
+     */
+    public Client toMergedClient() {
+        Client first = clients.get(0);
+        Set<Tag> tags = new HashSet<>();
+        Set<Order> orders = new HashSet<>();
+        for (Client client : clients) {
+            tags.addAll(client.getTags());
+            orders.addAll(client.getOrders());
+        }
+        return new Client(first.getName(), first.getPhone(), first.getEmail(), first.getAddress(), tags, orders);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DuplicateGroup)) {
+            return false;
+        }
+
+        DuplicateGroup otherGroup = (DuplicateGroup) other;
+        return clients.equals(otherGroup.clients)
+                && reasons.equals(otherGroup.reasons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clients, reasons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clients", clients)
+                .add("reasons", reasons)
+                .toString();
+    }
+}
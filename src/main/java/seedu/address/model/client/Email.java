@@ -3,6 +3,10 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Client's email in bookkeeper.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -48,7 +52,14 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isEmail(test);
+    }
+
+    /**
+     * Returns the address in lower case, so that addresses differing only in case are treated as the same.
+     */
+    public String getNormalizedValue() {
+        return value.toLowerCase(Locale.ROOT);
     }
 
     @Override
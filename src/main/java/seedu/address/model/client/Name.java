@@ -3,6 +3,12 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Client's name in bookkeeper.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +26,8 @@ public class Name {
 
     public final String fullName;
 
+    private final List<String> tokens;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,13 +37,41 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        tokens = tokenize(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
+    }
+
+    /**
+     * Returns the distinct words of this name in lower case, in the order they first appear.
+     * The words are worked out once, when the name is created, so that searches can compare them directly.
+     */
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    private static List<String> tokenize(String name) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        while (start < name.length()) {
+            int end = name.indexOf(' ', start);
+            if (end == -1) {
+                end = name.length();
+            }
+            if (end > start) {
+                String word = name.substring(start, end).toLowerCase(Locale.ROOT);
+                if (!words.contains(word)) {
+                    words.add(word);
+                }
+            }
+            start = end + 1;
+        }
+        return List.copyOf(words);
     }
 
 
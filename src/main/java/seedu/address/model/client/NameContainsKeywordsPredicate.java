@@ -1,25 +1,46 @@
 package seedu.address.model.client;
 
-import java.util.List;
-import java.util.function.Predicate;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import seedu.address.commons.util.StringUtil;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.CacheablePredicate;
 
 /**
- * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Client}'s {@code Name} matches any of the keywords given, ignoring case.
+ * The keywords are folded to lower case once, so each test only looks up the name's words in a hash set.
+ * Predicates with the same keywords, in any order or case, are equal.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Client> {
+public class NameContainsKeywordsPredicate implements CacheablePredicate<Client> {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords = new HashSet<>();
 
+    /**
+     * Every keyword must be a single, non-empty word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            String foldedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            checkArgument(!foldedKeyword.isEmpty(), "Keywords cannot be empty");
+            checkArgument(foldedKeyword.chars().noneMatch(Character::isWhitespace),
+                    "Keywords should be single words");
+            foldedKeywords.add(foldedKeyword);
+        }
     }
 
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(client.getName().fullName, keyword));
+        List<String> tokens = client.getName().getTokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (foldedKeywords.contains(tokens.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -34,7 +55,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Client> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return foldedKeywords.equals(otherNameContainsKeywordsPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
     }
 
     @Override
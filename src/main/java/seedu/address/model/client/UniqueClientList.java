@@ -4,14 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PrefixIndex;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+import seedu.address.model.order.RemarkIndex;
+import seedu.address.model.order.RemarkSearch;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
@@ -20,12 +38,20 @@ import seedu.address.model.order.Order;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  * <p>
+ * Clients are also indexed by name, phone and email (ignoring case), and orders by ID, by owner and by the terms of
+ * their remark, so that they can be looked up without going through the list. Several clients may share a phone or
+ * an email, so those indexes map each one to every client that has it. Client names and tags are also indexed by
+ * prefix, for completing what the user types, and names, addresses and emails by trigram, for finding clients by any
+ * part of them. The indexes are kept up to date by listening to changes to the lists.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
  */
 public class UniqueClientList implements Iterable<Client> {
 
+    private static final Comparator<Order> BY_DEADLINE = Comparator.comparing(Order::getDeadline);
+
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
@@ -33,16 +59,126 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Order> internalUnmodifiableListOrder =
             FXCollections.unmodifiableObservableList(internalOrderList);
 
+    private final Map<Name, Client> clientsByName = new HashMap<>();
+    private final Map<Phone, List<Client>> clientsByPhone = new HashMap<>();
+    private final Map<String, List<Client>> clientsByEmail = new HashMap<>();
+    private final Map<OrderId, Client> ownersByOrderId = new HashMap<>();
+    private final Map<OrderId, Order> ordersById = new HashMap<>();
+    private final NavigableMap<String, Order> ordersByIdText = new TreeMap<>();
+    private final RemarkIndex remarkIndex = new RemarkIndex();
+    private final PrefixIndex clientNamePrefixes = new PrefixIndex();
+    private final PrefixIndex tagPrefixes = new PrefixIndex();
+    private final ClientTextIndex clientText = new ClientTextIndex();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueClientList() {
+        internalList.addListener((ListChangeListener<Client>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::unindexClient);
+                change.getAddedSubList().forEach(this::indexClient);
+            }
+        });
+        internalOrderList.addListener((ListChangeListener<Order>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::unindexOrder);
+                change.getAddedSubList().forEach(this::indexOrder);
+            }
+        });
+    }
+
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return clientsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the client named {@code name}, if there is one.
+     */
+    public Optional<Client> getClient(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(clientsByName.get(name));
+    }
+
+    /**
+     * Returns the clients in the list with {@code phone}, in no particular order.
+     */
+    public List<Client> getClientsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return List.copyOf(clientsByPhone.getOrDefault(phone, List.of()));
+    }
+
+    /**
+     * Returns the clients in the list with {@code email}, ignoring case, in no particular order.
+     */
+    public List<Client> getClientsWithEmail(Email email) {
+        requireNonNull(email);
+        return List.copyOf(clientsByEmail.getOrDefault(email.getNormalizedValue(), List.of()));
+    }
+
+    /**
+     * Returns the client that owns {@code order}, if the order is in the list.
+     */
+    public Optional<Client> getOwner(Order order) {
+        requireNonNull(order);
+        return Optional.ofNullable(ownersByOrderId.get(order.getOrderId()));
+    }
+
+    /**
+     * Returns the orders whose ID starts with {@code idPrefix}, ignoring case.
+     * A complete order ID is looked up directly and returns at most one order.
+     */
+    public List<Order> getOrdersWithIdPrefix(String idPrefix) {
+        requireNonNull(idPrefix);
+        String prefix = idPrefix.toLowerCase();
+        if (OrderId.isValidOrderId(prefix)) {
+            Order order = ordersById.get(new OrderId(prefix));
+            return order == null ? List.of() : List.of(order);
+        }
+        return new ArrayList<>(ordersByIdText.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+    }
+
+    /**
+     * Returns at most {@code limit} names of clients in the list that start with {@code prefix}, ignoring case,
+     * sorted ignoring case. Unlike the other lookups, this can be called from any thread.
+     */
+    public List<String> getClientNamesWithPrefix(String prefix, int limit) {
+        return clientNamePrefixes.getWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} names of tags used by clients in the list that start with {@code prefix},
+     * ignoring case, sorted ignoring case. Unlike the other lookups, this can be called from any thread.
+     */
+    public List<String> getTagNamesWithPrefix(String prefix, int limit) {
+        return tagPrefixes.getWithPrefix(prefix, limit);
     }
 
     /**
-     * Adds a client to the list.
+     * Returns the clients in the list whose name, address or email contains {@code text}, ignoring case, allowing
+     * for up to {@code maxTypos} typos. The set compares clients by identity.
+     *
+     * @see ClientTextIndex#search(String, int)
+     */
+    public Set<Client> searchClients(String text, int maxTypos) {
+        return clientText.search(text, maxTypos);
+    }
+
+    /**
+     * Returns the orders in the list that match {@code search}, mapped to their score.
+     * The map compares orders by identity.
+     */
+    public Map<Order, Integer> searchRemarks(RemarkSearch search) {
+        requireNonNull(search);
+        return search.search(remarkIndex);
+    }
+
+    /**
+     * Adds a client to the list, and its orders to the end of the order list.
      * The client must not already exist in the list.
      */
     public void add(Client toAdd) {
@@ -51,6 +187,7 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
         internalList.add(toAdd);
+        internalOrderList.addAll(toAdd.getOrders());
     }
 
     /**
@@ -59,6 +196,14 @@ public class UniqueClientList implements Iterable<Client> {
      * The client identity of {@code editedClient} must not be the same as another existing client in the list.
      */
     public void setClient(Client target, Client editedClient) {
+        replaceClient(target, editedClient);
+        refreshOrders(editedClient);
+    }
+
+    /**
+     * Replaces the client {@code target} in the list with {@code editedClient}, leaving the order list as it is.
+     */
+    private void replaceClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
         int index = internalList.indexOf(target);
@@ -71,9 +216,24 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.set(index, editedClient);
+    }
 
-        // Needed to refresh the OrderList with updated Client Names
-        internalOrderList.setAll(new ArrayList<>(internalOrderList));
+    /**
+     * Sets the orders of {@code owner} again where they are in the order list, so that they are shown with the
+     * current details of their owner. The other orders are left as they are, so only these orders are indexed again.
+     */
+    private void refreshOrders(Client owner) {
+        if (owner.getOrders().isEmpty()) {
+            return;
+        }
+        Set<Order> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+        owned.addAll(owner.getOrders());
+        for (int i = 0; i < internalOrderList.size(); i++) {
+            Order order = internalOrderList.get(i);
+            if (owned.contains(order)) {
+                internalOrderList.set(i, order);
+            }
+        }
     }
 
     /**
@@ -85,7 +245,7 @@ public class UniqueClientList implements Iterable<Client> {
      * @param order        order to be added.
      */
     public void setClientAndDeleteOrder(Client target, Client editedClient, Order order) {
-        setClient(target, editedClient);
+        replaceClient(target, editedClient);
         internalOrderList.remove(order);
         sortOrders();
     }
@@ -99,25 +259,31 @@ public class UniqueClientList implements Iterable<Client> {
      * @param order        order to be removed.
      */
     public void setClientAndAddOrder(Client target, Client editedClient, Order order) {
-        setClient(target, editedClient);
-        internalOrderList.add(order);
+        replaceClient(target, editedClient);
+        internalOrderList.add(findPositionByDeadline(order), order);
         sortOrders();
     }
 
     /**
      * Replaces the client {@code target} in the list with {@code editedClient}.
+     * Replaces {@code orderToDelete} with {@code orderToAdd} in the ObservableList as well, in place unless the
+     * deadline of the order moves it elsewhere.
      *
      * @param client        client to be removed.
      * @param editedClient  client to be added.
      * @param orderToDelete order to be removed.
      * @param orderToAdd    order to be added.
      */
-
     public void setClientAndEditOrder(Client client, Client editedClient, Order orderToDelete, Order orderToAdd) {
         requireAllNonNull(client, orderToDelete, orderToAdd);
-        setClient(client, editedClient);
+        replaceClient(client, editedClient);
         int index = internalOrderList.indexOf(orderToDelete);
-        internalOrderList.set(index, orderToAdd);
+        if (isInPlaceByDeadline(index, orderToAdd)) {
+            internalOrderList.set(index, orderToAdd);
+        } else {
+            internalOrderList.remove(index);
+            internalOrderList.add(findPositionByDeadline(orderToAdd), orderToAdd);
+        }
         sortOrders();
     }
 
@@ -133,6 +299,182 @@ public class UniqueClientList implements Iterable<Client> {
         internalOrderList.removeAll(toRemove.getOrdersList());
     }
 
+    /**
+     * Removes every order in {@code ordersToRemove} from the clients that own them and from the order list.
+     * Only the clients that own them are set again, and only the removed orders leave the order list, so the other
+     * clients and orders are not indexed again.
+     */
+    public void removeOrders(Collection<Order> ordersToRemove) {
+        requireAllNonNull(ordersToRemove);
+        Set<Order> toRemove = new HashSet<>(ordersToRemove);
+        if (toRemove.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            Client client = internalList.get(i);
+            if (!Collections.disjoint(client.getOrders(), toRemove)) {
+                Client editedClient = client.removeOrders(toRemove);
+                editedClient.getOrders().forEach(order -> order.setClient(editedClient));
+                internalList.set(i, editedClient);
+            }
+        }
+        internalOrderList.removeAll(toRemove);
+    }
+
+    /**
+     * Replaces every order that is a key of {@code editedOrders} with its value, both in the client that owns it and
+     * in the order list. Only the clients that own them are set again. An edited order with the same deadline takes
+     * the place of the order it replaces, and any other is moved to where its deadline puts it. The order list is only
+     * sorted if it is still out of order afterwards, which moves the orders without indexing them again.
+     */
+    public void editOrders(Map<Order, Order> editedOrders) {
+        requireAllNonNull(editedOrders.keySet());
+        requireAllNonNull(editedOrders.values());
+        if (editedOrders.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            Client client = internalList.get(i);
+            if (!Collections.disjoint(client.getOrders(), editedOrders.keySet())) {
+                Client editedClient = client.editOrders(editedOrders);
+                editedClient.getOrders().forEach(order -> order.setClient(editedClient));
+                internalList.set(i, editedClient);
+            }
+        }
+
+        Set<Order> moved = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Order> movedOrders = new ArrayList<>();
+        for (int i = 0; i < internalOrderList.size(); i++) {
+            Order order = internalOrderList.get(i);
+            Order editedOrder = editedOrders.get(order);
+            if (editedOrder == null) {
+                continue;
+            }
+            if (BY_DEADLINE.compare(order, editedOrder) == 0) {
+                internalOrderList.set(i, editedOrder);
+            } else {
+                moved.add(order);
+                movedOrders.add(editedOrder);
+            }
+        }
+        if (!moved.isEmpty()) {
+            internalOrderList.removeAll(moved);
+            movedOrders.forEach(order -> internalOrderList.add(findPositionByDeadline(order), order));
+        }
+        sortOrders();
+    }
+
+    /**
+     * Removes every client in {@code clientsToRemove}, together with their orders.
+     * Only the removed clients and orders leave the lists, so the others are not indexed again.
+     */
+    public void removeAll(Collection<Client> clientsToRemove) {
+        requireAllNonNull(clientsToRemove);
+        Set<Client> toRemove = new HashSet<>(clientsToRemove);
+        if (toRemove.isEmpty()) {
+            return;
+        }
+
+        Set<Order> removedOrders = Collections.newSetFromMap(new IdentityHashMap<>());
+        int found = 0;
+        for (Client client : internalList) {
+            if (toRemove.contains(client)) {
+                removedOrders.addAll(client.getOrders());
+                found++;
+            }
+        }
+        if (found != toRemove.size()) {
+            throw new ClientNotFoundException();
+        }
+        internalList.removeAll(toRemove);
+        if (!removedOrders.isEmpty()) {
+            internalOrderList.removeAll(removedOrders);
+        }
+    }
+
+    /**
+     * Replaces the clients in {@code targets} with {@code replacement}, which takes the place of the first of them in
+     * the list. Every target must be in the list, and {@code replacement} must hold exactly their orders and must not
+     * have the same identity as any other client. Every order is pointed at {@code replacement}.
+     * <p>
+     * Only the targets and their orders are changed in the lists, so only they are indexed again, however many
+     * clients there are.
+     */
+    public void replaceClients(List<Client> targets, Client replacement) {
+        requireAllNonNull(targets);
+        requireNonNull(replacement);
+        Set<Client> toReplace = Collections.newSetFromMap(new IdentityHashMap<>());
+        toReplace.addAll(targets);
+
+        List<Integer> positions = new ArrayList<>(toReplace.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            Client client = internalList.get(i);
+            if (toReplace.contains(client)) {
+                positions.add(i);
+            } else if (client.isSameClient(replacement)) {
+                throw new DuplicateClientException();
+            }
+        }
+        if (positions.isEmpty() || positions.size() != toReplace.size()) {
+            throw new ClientNotFoundException();
+        }
+
+        replacement.getOrders().forEach(order -> order.setClient(replacement));
+        for (int i = positions.size() - 1; i > 0; i--) {
+            internalList.remove((int) positions.get(i));
+        }
+        internalList.set(positions.get(0), replacement);
+
+        // the orders stay where they are, but are set again so that the new owner is shown with them
+        refreshOrders(replacement);
+    }
+
+    /**
+     * Adds every client in {@code clients} to the list, replacing any existing client with the same identity.
+     * Replacing clients keep the position of the client they replace; new clients are appended in order.
+     * Only the replaced positions and the orders that are not kept by the replacing client are changed, and new
+     * orders are inserted where their deadline puts them, so the rest of both lists is not indexed again.
+     * {@code clients} must not contain duplicate clients.
+     */
+    public void mergeClients(Collection<Client> clients) {
+        requireAllNonNull(clients);
+        Map<Name, Client> toMerge = new LinkedHashMap<>();
+        for (Client client : clients) {
+            if (toMerge.put(client.getName(), client) != null) {
+                throw new DuplicateClientException();
+            }
+        }
+
+        int replacedCount = (int) toMerge.keySet().stream().filter(clientsByName::containsKey).count();
+        Set<Order> replacedOrders = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; replacedCount > 0; i++) {
+            Client replacement = toMerge.remove(internalList.get(i).getName());
+            if (replacement != null) {
+                replacedOrders.addAll(internalList.get(i).getOrders());
+                internalList.set(i, replacement);
+                replacedCount--;
+            }
+        }
+        internalList.addAll(toMerge.values());
+
+        // orders kept by a replacing client stay where they are
+        List<Order> addedOrders = new ArrayList<>();
+        for (Client client : clients) {
+            for (Order order : client.getOrdersList()) {
+                if (!replacedOrders.remove(order)) {
+                    addedOrders.add(order);
+                }
+            }
+        }
+        if (!replacedOrders.isEmpty()) {
+            internalOrderList.removeAll(replacedOrders);
+        }
+        addedOrders.forEach(order -> internalOrderList.add(findPositionByDeadline(order), order));
+        sortOrders();
+    }
+
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -152,6 +494,25 @@ public class UniqueClientList implements Iterable<Client> {
         setOrders();
     }
 
+    /**
+     * Replaces the contents of this list with {@code clients}, and the order list with {@code orders}.
+     * {@code clients} must not contain duplicate clients, and {@code orders} must hold exactly the orders of
+     * {@code clients}, in the order they are to be listed. Every order is pointed back at the client that owns it.
+     */
+    public void setClients(List<Client> clients, List<Order> orders) {
+        requireAllNonNull(clients);
+        requireAllNonNull(orders);
+        if (!clientsAreUnique(clients)) {
+            throw new DuplicateClientException();
+        }
+
+        for (Client client : clients) {
+            client.getOrders().forEach(order -> order.setClient(client));
+        }
+        internalList.setAll(clients);
+        internalOrderList.setAll(orders);
+    }
+
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -168,6 +529,78 @@ public class UniqueClientList implements Iterable<Client> {
         return internalUnmodifiableListOrder;
     }
 
+    private void indexClient(Client client) {
+        clientsByName.put(client.getName(), client);
+        clientsByPhone.computeIfAbsent(client.getPhone(), unused -> new ArrayList<>(1)).add(client);
+        clientsByEmail.computeIfAbsent(client.getEmail().getNormalizedValue(), unused -> new ArrayList<>(1))
+                .add(client);
+        client.getOrders().forEach(order -> ownersByOrderId.put(order.getOrderId(), client));
+        clientText.add(client);
+        clientNamePrefixes.add(client.getName().fullName);
+        for (Tag tag : client.getTags()) {
+            tagPrefixes.add(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes {@code client} from the indexes, unless it has already been replaced by a client with the same name.
+     * The phone, email, prefix and text indexes tell clients apart by identity or count each name and tag, so they
+     * are always updated.
+     */
+    private void unindexClient(Client client) {
+        if (clientsByName.get(client.getName()) == client) {
+            clientsByName.remove(client.getName());
+        }
+        removeByIdentity(clientsByPhone, client.getPhone(), client);
+        removeByIdentity(clientsByEmail, client.getEmail().getNormalizedValue(), client);
+        for (Order order : client.getOrders()) {
+            if (ownersByOrderId.get(order.getOrderId()) == client) {
+                ownersByOrderId.remove(order.getOrderId());
+            }
+        }
+        clientText.remove(client);
+        clientNamePrefixes.remove(client.getName().fullName);
+        for (Tag tag : client.getTags()) {
+            tagPrefixes.remove(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes {@code client} from the clients that {@code key} maps to, dropping the key once no client is left.
+     */
+    private static <K> void removeByIdentity(Map<K, List<Client>> index, K key, Client client) {
+        List<Client> clients = index.get(key);
+        if (clients == null) {
+            return;
+        }
+        for (int i = 0; i < clients.size(); i++) {
+            if (clients.get(i) == client) {
+                clients.remove(i);
+                break;
+            }
+        }
+        if (clients.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private void indexOrder(Order order) {
+        ordersById.put(order.getOrderId(), order);
+        ordersByIdText.put(order.getOrderId().toString(), order);
+        remarkIndex.add(order);
+    }
+
+    /**
+     * Removes {@code order} from the indexes, unless it has already been replaced by an order with the same ID.
+     */
+    private void unindexOrder(Order order) {
+        if (ordersById.get(order.getOrderId()) == order) {
+            ordersById.remove(order.getOrderId());
+            ordersByIdText.remove(order.getOrderId().toString());
+        }
+        remarkIndex.remove(order);
+    }
+
     private void setOrders() {
         List<Order> creationOrderList = new ArrayList<>();
         for (Client client : internalList) {
@@ -176,9 +609,44 @@ public class UniqueClientList implements Iterable<Client> {
         internalOrderList.setAll(creationOrderList);
     }
 
+    /**
+     * Sorts the order list by deadline, unless it already is, so that listeners only hear of orders that move.
+     */
     private void sortOrders() {
-        FXCollections.sort(internalOrderList, (order1, order2) ->
-                order1.getDeadline().compareTo(order2.getDeadline()));
+        for (int i = 1; i < internalOrderList.size(); i++) {
+            if (BY_DEADLINE.compare(internalOrderList.get(i - 1), internalOrderList.get(i)) > 0) {
+                FXCollections.sort(internalOrderList, BY_DEADLINE);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the position at which {@code order} is added to the order list, after every order with an earlier or
+     * the same deadline, if the list is sorted by deadline.
+     */
+    private int findPositionByDeadline(Order order) {
+        int low = 0;
+        int high = internalOrderList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (BY_DEADLINE.compare(internalOrderList.get(middle), order) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code order} can take the place of the order at {@code index} in the order list without
+     * going out of order by deadline.
+     */
+    private boolean isInPlaceByDeadline(int index, Order order) {
+        return (index == 0 || BY_DEADLINE.compare(internalOrderList.get(index - 1), order) <= 0)
+                && (index == internalOrderList.size() - 1
+                        || BY_DEADLINE.compare(order, internalOrderList.get(index + 1)) <= 0);
     }
 
     @Override
@@ -215,11 +683,10 @@ public class UniqueClientList implements Iterable<Client> {
      * Returns true if {@code clients} contains only unique clients.
      */
     private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Client client : clients) {
+            if (!names.add(client.getName())) {
+                return false;
             }
         }
         return true;
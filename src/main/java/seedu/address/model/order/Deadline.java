@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import seedu.address.commons.util.DateTimeUtil;
 
@@ -27,8 +28,21 @@ public class Deadline implements Comparable<Deadline> {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
-        this.deadline = DateTimeUtil.parseDateTime(deadline);
+        Optional<LocalDateTime> parsedDeadline = DateTimeUtil.tryParseDateTime(deadline);
+        checkArgument(parsedDeadline.isPresent(), MESSAGE_CONSTRAINTS);
+        this.deadline = parsedDeadline.get();
+    }
+
+    private Deadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns a {@code Deadline} for an already parsed {@code deadline}.
+     */
+    public static Deadline of(LocalDateTime deadline) {
+        requireNonNull(deadline);
+        return new Deadline(deadline);
     }
 
 
@@ -3,6 +3,7 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -79,6 +80,15 @@ public class Order {
         return this.getOrderId().equals(orderId);
     }
 
+    /**
+     * Returns true if this order has reached a terminal status and its deadline is before {@code cutoff},
+     * making it eligible to be moved out of the active order list into the order history.
+     */
+    public boolean isArchivable(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        return status.isTerminal() && deadline.deadline.isBefore(cutoff);
+    }
+
     public Client getClient() {
         return client;
     }
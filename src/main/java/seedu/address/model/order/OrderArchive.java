@@ -0,0 +1,26 @@
+package seedu.address.model.order;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Read access to orders that have been moved out of the active order list into the order history.
+ * Archived orders are not held in memory by the model; they are only loaded when they are looked up.
+ */
+public interface OrderArchive {
+
+    /**
+     * An {@code OrderArchive} that holds no orders.
+     */
+    OrderArchive EMPTY = (predicate, limit) -> List.of();
+
+    /**
+     * Returns the {@code limit} most recently archived orders that satisfy {@code predicate}, in the order they were
+     * archived. Fewer orders are returned if fewer satisfy {@code predicate}.
+     *
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    List<Order> findOrders(Predicate<Order> predicate, int limit) throws DataLoadingException;
+}
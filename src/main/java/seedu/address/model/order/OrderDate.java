@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import seedu.address.commons.util.DateTimeUtil;
 
@@ -23,14 +24,34 @@ public class OrderDate {
      */
     public OrderDate(String orderDate) {
         requireNonNull(orderDate);
-        checkArgument(isValidOrderDate(orderDate), MESSAGE_CONSTRAINTS);
-        this.orderDate = DateTimeUtil.parseDateTime(orderDate);
+        Optional<LocalDateTime> parsedOrderDate = DateTimeUtil.tryParseDateTime(orderDate);
+        checkArgument(parsedOrderDate.isPresent(), MESSAGE_CONSTRAINTS);
+        this.orderDate = parsedOrderDate.get();
+    }
+
+    private OrderDate(LocalDateTime orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    /**
+     * Returns a {@code OrderDate} for an already parsed {@code orderDate}.
+     */
+    public static OrderDate of(LocalDateTime orderDate) {
+        requireNonNull(orderDate);
+        return new OrderDate(orderDate);
     }
 
     public static boolean isValidOrderDate(String orderDate) {
         return DateTimeUtil.isValidDate(orderDate);
     }
 
+    /**
+     * Returns the date and time the order was placed.
+     */
+    public LocalDateTime getDateTime() {
+        return orderDate;
+    }
+
     @Override
     public String toString() {
         return DateTimeUtil.formatDateTime(orderDate);
@@ -2,6 +2,8 @@ package seedu.address.model.order;
 
 import java.util.UUID;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Order's ID in the order book.
  * Guarantees: immutable.
@@ -31,15 +33,10 @@ public class OrderId {
      * Checks whether a OrderId string is valid.
      *
      * @param test String to be tested.
-     * @return true if the string is a valid UUID, false otherwise.
+     * @return true if the string is a UUID in its standard form, false otherwise.
      */
     public static boolean isValidOrderId(String test) {
-        try {
-            UUID.fromString(test);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return ValidationUtil.isUuid(test);
     }
 
 
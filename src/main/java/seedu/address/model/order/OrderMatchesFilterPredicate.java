@@ -0,0 +1,65 @@
+package seedu.address.model.order;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.CacheablePredicate;
+
+/**
+ * Tests that an {@code Order} has the given status and a deadline within the given bounds.
+ * A condition that is null is not checked.
+ */
+public class OrderMatchesFilterPredicate implements CacheablePredicate<Order> {
+    private final Status status;
+    private final Deadline before;
+    private final Deadline after;
+
+    /**
+     * @param status the status the order must have, or null for any status
+     * @param before the deadline the order's deadline must be strictly earlier than, or null for no upper bound
+     * @param after  the deadline the order's deadline must be strictly later than, or null for no lower bound
+     */
+    public OrderMatchesFilterPredicate(Status status, Deadline before, Deadline after) {
+        this.status = status;
+        this.before = before;
+        this.after = after;
+    }
+
+    @Override
+    public boolean test(Order order) {
+        return (status == null || status.equals(order.getStatus()))
+                && (before == null || order.getDeadline().compareTo(before) < 0)
+                && (after == null || order.getDeadline().compareTo(after) > 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrderMatchesFilterPredicate)) {
+            return false;
+        }
+
+        OrderMatchesFilterPredicate otherPredicate = (OrderMatchesFilterPredicate) other;
+        return Objects.equals(status, otherPredicate.status)
+                && Objects.equals(before, otherPredicate.before)
+                && Objects.equals(after, otherPredicate.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("status", status)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
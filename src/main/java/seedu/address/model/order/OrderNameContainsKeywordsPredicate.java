@@ -1,19 +1,30 @@
 package seedu.address.model.order;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.CacheablePredicate;
 
 /**
  * Tests that an {@code Order}'s name matches any of the keywords given.
+ * Predicates with the same keywords, in any order or case, are equal.
  */
-public class OrderNameContainsKeywordsPredicate implements Predicate<Order> {
+public class OrderNameContainsKeywordsPredicate implements CacheablePredicate<Order> {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate that matches orders with any of {@code keywords} in their name.
+     */
     public OrderNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -33,7 +44,12 @@ public class OrderNameContainsKeywordsPredicate implements Predicate<Order> {
         }
 
         OrderNameContainsKeywordsPredicate otherPredicate = (OrderNameContainsKeywordsPredicate) other;
-        return keywords.equals(otherPredicate.keywords);
+        return foldedKeywords.equals(otherPredicate.foldedKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return foldedKeywords.hashCode();
     }
 
     @Override
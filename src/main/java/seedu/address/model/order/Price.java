@@ -12,8 +12,11 @@ import java.text.DecimalFormat;
  */
 public class Price {
 
+    /** Prices must be less than this, which keeps them exact to the cent and within what storage can hold. */
+    public static final double LIMIT = 1_000_000_000_000.0;
+
     public static final String MESSAGE_CONSTRAINTS =
-            "Price must be a positive number and can only include up to two decimal places";
+            "Price must be a positive number less than 1000000000000 and can only include up to two decimal places";
     public final double value;
 
     /**
@@ -35,7 +38,11 @@ public class Price {
      */
     public static boolean isValidPrice(String test) {
         try {
-            return (!test.isEmpty()) && Double.parseDouble(test) >= 0;
+            if (test.isEmpty()) {
+                return false;
+            }
+            double price = Double.parseDouble(test);
+            return price >= 0 && price < LIMIT;
         } catch (NumberFormatException e) {
             return false;
         }
@@ -4,6 +4,12 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents the remark of an order in the order book.
  */
@@ -18,6 +24,8 @@ public class Remark {
 
     public final String value;
 
+    private final List<String> terms;
+
     /**
      * Constructs a {@code Remark}.
      *
@@ -27,6 +35,7 @@ public class Remark {
         requireNonNull(remark);
         checkArgument(isValidRemark(remark), MESSAGE_CONSTRAINTS);
         this.value = remark;
+        this.terms = toTerms(remark);
     }
 
     /**
@@ -36,7 +45,35 @@ public class Remark {
      * @return true if the remark is valid.
      */
     public static boolean isValidRemark(String test) {
-        return test.matches(VALIDATION_REGEX) && (!test.isEmpty());
+        return ValidationUtil.isNonBlankLine(test);
+    }
+
+    /**
+     * Returns the searchable terms of this remark in lower case, in the order they appear, including repeats.
+     * The terms are worked out once, when the remark is created, so that they can be indexed directly.
+     */
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Splits {@code text} into searchable terms: runs of letters and digits, in lower case.
+     * Every other character separates terms, so "Red roses, 2x" has the terms "red", "roses" and "2x".
+     */
+    public static List<String> toTerms(String text) {
+        requireNonNull(text);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermCharacter && start == -1) {
+                start = i;
+            } else if (!isTermCharacter && start != -1) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return List.copyOf(terms);
     }
 
     @Override
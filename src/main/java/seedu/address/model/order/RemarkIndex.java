@@ -0,0 +1,87 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the terms of order remarks to the orders whose remark contains them.
+ * <p>
+ * Each term maps to its postings: the orders whose remark contains the term, each with the number of times the term
+ * appears in it. Orders are added and removed one at a time, so keeping the index up to date costs time proportional
+ * to the length of the remarks that changed rather than to the number of orders. Orders are told apart by identity,
+ * so an edited order can be added before the order it replaces is removed.
+ *
+ * @see Remark#getTerms()
+ */
+public class RemarkIndex {
+
+    private final NavigableMap<String, Map<Order, Integer>> postingsByTerm = new TreeMap<>();
+
+    /**
+     * Adds the terms of the remark of {@code order} to the index. Adding an order that is already indexed has no
+     * effect.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        Map<String, Integer> termCounts = new HashMap<>();
+        for (String term : order.getRemark().getTerms()) {
+            termCounts.merge(term, 1, Integer::sum);
+        }
+        termCounts.forEach((term, count) ->
+                postingsByTerm.computeIfAbsent(term, unused -> new IdentityHashMap<>()).put(order, count));
+    }
+
+    /**
+     * Removes {@code order} from the index. Removing an order that is not indexed has no effect.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        for (String term : order.getRemark().getTerms()) {
+            Map<Order, Integer> postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(order) != null && postings.isEmpty()) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        postingsByTerm.clear();
+    }
+
+    /**
+     * Returns the postings of {@code term}: the orders whose remark contains it, mapped to the number of times it
+     * appears there. The map compares orders by identity and must not be modified.
+     */
+    public Map<Order, Integer> getPostings(String term) {
+        requireNonNull(term);
+        Map<Order, Integer> postings = postingsByTerm.get(term);
+        return postings == null ? Collections.emptyMap() : Collections.unmodifiableMap(postings);
+    }
+
+    /**
+     * Returns the postings of every term that starts with {@code prefix}, one map per term.
+     * The maps compare orders by identity and must not be modified.
+     */
+    public Collection<Map<Order, Integer>> getPostingsWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        return Collections.unmodifiableCollection(
+                postingsByTerm.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+    }
+
+    /**
+     * Returns the number of distinct terms in the index.
+     */
+    public int size() {
+        return postingsByTerm.size();
+    }
+}
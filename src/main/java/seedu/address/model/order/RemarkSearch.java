@@ -0,0 +1,179 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A search over order remarks, answered from a {@link RemarkIndex}.
+ * <p>
+ * The search is a list of alternatives, and an order matches if it matches any of them. Each alternative is a list of
+ * terms, and an order matches the alternative if its remark contains every one of them. A term ending in
+ * {@value #PREFIX_MARKER} matches any term that starts with the rest of it.
+ * <p>
+ * Every matching order is given a score: the number of times the terms of the best alternative it matches appear in
+ * its remark. Orders with a higher score are a better match.
+ */
+public class RemarkSearch {
+
+    public static final char PREFIX_MARKER = '*';
+
+    private final List<List<String>> alternatives;
+
+    /**
+     * Creates a search that matches orders whose remark contains every term of at least one of {@code alternatives}.
+     * Terms must be lower case, and every alternative must have at least one term.
+     */
+    public RemarkSearch(List<List<String>> alternatives) {
+        requireNonNull(alternatives);
+        checkArgument(!alternatives.isEmpty(), "A remark search needs at least one alternative");
+        List<List<String>> copy = new ArrayList<>();
+        for (List<String> terms : alternatives) {
+            checkArgument(!terms.isEmpty(), "Every alternative of a remark search needs at least one term");
+            copy.add(List.copyOf(terms));
+        }
+        this.alternatives = List.copyOf(copy);
+    }
+
+    public List<List<String>> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     * Returns every order in {@code index} that matches this search, mapped to its score.
+     * Only the postings of the searched terms are read. The map compares orders by identity.
+     */
+    public Map<Order, Integer> search(RemarkIndex index) {
+        requireNonNull(index);
+        Map<Order, Integer> scores = new IdentityHashMap<>();
+        for (List<String> terms : alternatives) {
+            matchAll(terms, index).forEach((order, score) -> scores.merge(order, score, Math::max));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the score of {@code order} for this search, or 0 if it does not match, working it out from its remark
+     * alone. This gives the same score as {@link #search(RemarkIndex)}, for orders that are not in an index.
+     */
+    public int score(Order order) {
+        requireNonNull(order);
+        List<String> remarkTerms = order.getRemark().getTerms();
+        int bestScore = 0;
+        for (List<String> terms : alternatives) {
+            int score = 0;
+            for (String term : terms) {
+                int count = count(term, remarkTerms);
+                if (count == 0) {
+                    score = 0;
+                    break;
+                }
+                score += count;
+            }
+            bestScore = Math.max(bestScore, score);
+        }
+        return bestScore;
+    }
+
+    /**
+     * Returns a comparator that lists orders with a higher score first. Scores are read from {@code scores}, as
+     * returned by {@link #search(RemarkIndex)}, and worked out with {@link #score(Order)} for orders missing from it.
+     * Orders with the same score keep their relative order when sorted stably.
+     */
+    public Comparator<Order> byScore(Map<Order, Integer> scores) {
+        requireNonNull(scores);
+        return Comparator.comparingInt((Order order) -> {
+            Integer score = scores.get(order);
+            return score != null ? score : score(order);
+        }).reversed();
+    }
+
+    /**
+     * Returns the orders whose remark contains every one of {@code terms}, mapped to their total count.
+     * The postings are intersected from the smallest up, so the work is bounded by the postings that are read.
+     */
+    private static Map<Order, Integer> matchAll(List<String> terms, RemarkIndex index) {
+        List<Map<Order, Integer>> postingsPerTerm = new ArrayList<>();
+        for (String term : terms) {
+            Map<Order, Integer> postings = match(term, index);
+            if (postings.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            postingsPerTerm.add(postings);
+        }
+        postingsPerTerm.sort(Comparator.comparingInt(Map::size));
+
+        Map<Order, Integer> matches = new IdentityHashMap<>(postingsPerTerm.get(0));
+        for (Map<Order, Integer> postings : postingsPerTerm.subList(1, postingsPerTerm.size())) {
+            matches.entrySet().removeIf(entry -> !postings.containsKey(entry.getKey()));
+            matches.replaceAll((order, count) -> count + postings.get(order));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the orders whose remark contains {@code term}, mapped to the number of times it appears there.
+     */
+    private static Map<Order, Integer> match(String term, RemarkIndex index) {
+        if (!isPrefix(term)) {
+            return index.getPostings(term);
+        }
+        Map<Order, Integer> matches = new IdentityHashMap<>();
+        for (Map<Order, Integer> postings : index.getPostingsWithPrefix(term.substring(0, term.length() - 1))) {
+            postings.forEach((order, count) -> matches.merge(order, count, Integer::sum));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of {@code remarkTerms} that {@code term} matches.
+     */
+    private static int count(String term, List<String> remarkTerms) {
+        boolean isPrefix = isPrefix(term);
+        String prefix = isPrefix ? term.substring(0, term.length() - 1) : term;
+        int count = 0;
+        for (String remarkTerm : remarkTerms) {
+            if (isPrefix ? remarkTerm.startsWith(prefix) : remarkTerm.equals(term)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isPrefix(String term) {
+        return !term.isEmpty() && term.charAt(term.length() - 1) == PREFIX_MARKER;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RemarkSearch)) {
+            return false;
+        }
+
+        RemarkSearch otherSearch = (RemarkSearch) other;
+        return alternatives.equals(otherSearch.alternatives);
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("alternatives", alternatives).toString();
+    }
+}
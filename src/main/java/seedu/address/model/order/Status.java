@@ -4,8 +4,6 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Arrays;
-
 /**
  * Represents an Order's status in the order book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
@@ -15,6 +13,8 @@ public class Status {
     public static final String MESSAGE_CONSTRAINTS =
             "Status can only be either 'pending', 'completed' or 'canceled'";
 
+    private static final StatusEnum[] STATUS_ENUMS = StatusEnum.values();
+
     private final StatusEnum statusEnum;
 
     /**
@@ -24,17 +24,29 @@ public class Status {
      */
     public Status(String status) {
         requireNonNull(status);
-        checkArgument(isValidStatus(status), MESSAGE_CONSTRAINTS);
-        this.statusEnum = StatusEnum.valueOf(status.toUpperCase());
+        StatusEnum matchingStatusEnum = findStatusEnum(status);
+        checkArgument(matchingStatusEnum != null, MESSAGE_CONSTRAINTS);
+        this.statusEnum = matchingStatusEnum;
     }
 
     /**
      * Returns true if a given string is a valid status.
      */
     public static boolean isValidStatus(String test) {
-        return !test.isBlank()
-                && Arrays.stream(StatusEnum.values())
-                .anyMatch(status -> status.name().equalsIgnoreCase(test));
+        return findStatusEnum(test) != null;
+    }
+
+    /**
+     * Returns the status enum value named {@code name}, ignoring case, or null if there is none.
+     */
+    private static StatusEnum findStatusEnum(String name) {
+        requireNonNull(name);
+        for (StatusEnum statusEnum : STATUS_ENUMS) {
+            if (statusEnum.name().equalsIgnoreCase(name)) {
+                return statusEnum;
+            }
+        }
+        return null;
     }
 
     /**
@@ -44,6 +56,13 @@ public class Status {
         return statusEnum;
     }
 
+    /**
+     * Returns true if an order with this status will never change again, i.e. it is completed or canceled.
+     */
+    public boolean isTerminal() {
+        return statusEnum != StatusEnum.PENDING;
+    }
+
     @Override
     public String toString() {
         return statusEnum.name();
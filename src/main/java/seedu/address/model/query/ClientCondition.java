@@ -0,0 +1,178 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A condition on a single field of a client.
+ */
+public abstract class ClientCondition extends QueryExpression {
+
+    /**
+     * Returns true if {@code client} meets this condition.
+     */
+    protected abstract boolean matches(Client client);
+
+    /**
+     * Returns the clients in {@code index} that meet this condition, found through the index of this condition's
+     * field.
+     */
+    public abstract List<Client> lookUp(QueryIndex index);
+
+    /**
+     * Returns the name of the field this condition is on.
+     */
+    public abstract String getField();
+
+    @Override
+    public boolean test(Client client) {
+        requireNonNull(client);
+        return matches(client);
+    }
+
+    @Override
+    public boolean test(Order order, Client owner) {
+        return owner != null && matches(owner);
+    }
+
+    @Override
+    public boolean refersToOrders() {
+        return false;
+    }
+
+    /**
+     * Matches clients whose name contains every one of the given words, ignoring case.
+     */
+    public static class NameHasWords extends ClientCondition {
+        private final List<String> words;
+        private final List<String> foldedWords;
+
+        /**
+         * Creates a condition that matches clients whose name contains every one of {@code words}.
+         */
+        public NameHasWords(List<String> words) {
+            requireNonNull(words);
+            checkArgument(!words.isEmpty(), "A name condition needs at least one word");
+            this.words = List.copyOf(words);
+            this.foldedWords = words.stream().map(word -> word.toLowerCase(Locale.ROOT)).collect(Collectors.toList());
+        }
+
+        @Override
+        protected boolean matches(Client client) {
+            return client.getName().getTokens().containsAll(foldedWords);
+        }
+
+        @Override
+        public List<Client> lookUp(QueryIndex index) {
+            List<Client> fewestClients = words.stream()
+                    .map(index::getClientsWithNameWord)
+                    .min(Comparator.comparingInt(List::size))
+                    .orElseThrow();
+            if (words.size() == 1) {
+                return fewestClients;
+            }
+            List<Client> matchingClients = new ArrayList<>();
+            for (Client client : fewestClients) {
+                if (matches(client)) {
+                    matchingClients.add(client);
+                }
+            }
+            return matchingClients;
+        }
+
+        @Override
+        public String getField() {
+            return "name";
+        }
+
+        @Override
+        public String describe() {
+            return words.size() == 1 ? "name:" + words.get(0) : "name:\"" + String.join(" ", words) + "\"";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof NameHasWords)) {
+                return false;
+            }
+
+            NameHasWords otherCondition = (NameHasWords) other;
+            return words.equals(otherCondition.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return words.hashCode();
+        }
+    }
+
+    /**
+     * Matches clients with a given tag.
+     */
+    public static class HasTag extends ClientCondition {
+        private final Tag tag;
+
+        /**
+         * Creates a condition that matches clients with {@code tag}.
+         */
+        public HasTag(Tag tag) {
+            requireNonNull(tag);
+            this.tag = tag;
+        }
+
+        @Override
+        protected boolean matches(Client client) {
+            return client.getTags().contains(tag);
+        }
+
+        @Override
+        public List<Client> lookUp(QueryIndex index) {
+            return index.getClientsWithTag(tag);
+        }
+
+        @Override
+        public String getField() {
+            return "tag";
+        }
+
+        @Override
+        public String describe() {
+            return "tag:" + tag.tagName;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof HasTag)) {
+                return false;
+            }
+
+            HasTag otherCondition = (HasTag) other;
+            return tag.equals(otherCondition.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+
+/**
+ * A condition on a single field of an order.
+ */
+public abstract class OrderCondition extends QueryExpression {
+
+    /**
+     * Returns true if {@code order} meets this condition.
+     */
+    protected abstract boolean matches(Order order);
+
+    /**
+     * Returns true if the field this condition is on is indexed, so that {@link #lookUp(QueryIndex)} may be used.
+     */
+    public boolean isIndexed() {
+        return true;
+    }
+
+    /**
+     * Returns the orders in {@code index} that meet this condition, found through the index of this condition's
+     * field.
+     *
+     * @throws UnsupportedOperationException if the field this condition is on is not indexed
+     */
+    public abstract List<Order> lookUp(QueryIndex index);
+
+    /**
+     * Returns the name of the field this condition is on.
+     */
+    public abstract String getField();
+
+    @Override
+    public boolean test(Client client) {
+        requireNonNull(client);
+        for (Order order : client.getOrders()) {
+            if (matches(order)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean test(Order order, Client owner) {
+        requireNonNull(order);
+        return matches(order);
+    }
+
+    @Override
+    public boolean refersToOrders() {
+        return true;
+    }
+
+    /**
+     * Matches orders with a given status.
+     */
+    public static class StatusIs extends OrderCondition {
+        private final Status status;
+
+        /**
+         * Creates a condition that matches orders with {@code status}.
+         */
+        public StatusIs(Status status) {
+            requireNonNull(status);
+            this.status = status;
+        }
+
+        @Override
+        protected boolean matches(Order order) {
+            return order.getStatus().equals(status);
+        }
+
+        @Override
+        public List<Order> lookUp(QueryIndex index) {
+            return index.getOrdersWithStatus(status);
+        }
+
+        @Override
+        public String getField() {
+            return "status";
+        }
+
+        @Override
+        public String describe() {
+            return "status:" + status.toString().toLowerCase();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof StatusIs)) {
+                return false;
+            }
+
+            StatusIs otherCondition = (StatusIs) other;
+            return status.equals(otherCondition.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return status.hashCode();
+        }
+    }
+
+    /**
+     * Matches orders whose price lies in a given range.
+     */
+    public static class PriceIn extends OrderCondition {
+        private final Range<Double> range;
+
+        /**
+         * Creates a condition that matches orders whose price lies in {@code range}.
+         */
+        public PriceIn(Range<Double> range) {
+            requireNonNull(range);
+            this.range = range;
+        }
+
+        @Override
+        protected boolean matches(Order order) {
+            return range.contains(order.getPrice().value);
+        }
+
+        @Override
+        public List<Order> lookUp(QueryIndex index) {
+            return index.getOrdersWithPriceIn(range);
+        }
+
+        @Override
+        public String getField() {
+            return "price";
+        }
+
+        @Override
+        public String describe() {
+            return "price:" + range.format(price -> String.format("%.2f", price));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PriceIn)) {
+                return false;
+            }
+
+            PriceIn otherCondition = (PriceIn) other;
+            return range.equals(otherCondition.range);
+        }
+
+        @Override
+        public int hashCode() {
+            return range.hashCode();
+        }
+    }
+
+    /**
+     * Matches orders whose deadline lies in a given range.
+     */
+    public static class DeadlineIn extends OrderCondition {
+        private final Range<LocalDateTime> range;
+
+        /**
+         * Creates a condition that matches orders whose deadline lies in {@code range}.
+         */
+        public DeadlineIn(Range<LocalDateTime> range) {
+            requireNonNull(range);
+            this.range = range;
+        }
+
+        @Override
+        protected boolean matches(Order order) {
+            return range.contains(order.getDeadline().deadline);
+        }
+
+        @Override
+        public List<Order> lookUp(QueryIndex index) {
+            return index.getOrdersWithDeadlineIn(range);
+        }
+
+        @Override
+        public String getField() {
+            return "deadline";
+        }
+
+        @Override
+        public String describe() {
+            return "deadline:\"" + range.format(DateTimeUtil::formatDateTime) + "\"";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof DeadlineIn)) {
+                return false;
+            }
+
+            DeadlineIn otherCondition = (DeadlineIn) other;
+            return range.equals(otherCondition.range);
+        }
+
+        @Override
+        public int hashCode() {
+            return range.hashCode();
+        }
+    }
+
+    /**
+     * Matches orders whose remark contains every one of the given words, ignoring case.
+     * Remarks are not indexed, so this condition can only be checked by scanning.
+     */
+    public static class RemarkHasWords extends OrderCondition {
+        private final List<String> words;
+
+        /**
+         * Creates a condition that matches orders whose remark contains every one of {@code words}.
+         */
+        public RemarkHasWords(List<String> words) {
+            requireNonNull(words);
+            checkArgument(!words.isEmpty(), "A remark condition needs at least one word");
+            this.words = List.copyOf(words);
+        }
+
+        @Override
+        protected boolean matches(Order order) {
+            return words.stream().allMatch(word -> StringUtil.containsWordIgnoreCase(order.getRemark().value, word));
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        public List<Order> lookUp(QueryIndex index) {
+            throw new UnsupportedOperationException("Remarks are not indexed");
+        }
+
+        @Override
+        public String getField() {
+            return "remark";
+        }
+
+        @Override
+        public String describe() {
+            return words.size() == 1 ? "remark:" + words.get(0) : "remark:\"" + String.join(" ", words) + "\"";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof RemarkHasWords)) {
+                return false;
+            }
+
+            RemarkHasWords otherCondition = (RemarkHasWords) other;
+            return words.equals(otherCondition.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return words.hashCode();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+
+/**
+ * A boolean expression over the fields of clients and orders, as written in a query.
+ * An expression can be tested against a client or against an order together with the client that owns it.
+ * A condition on order fields matches a client if any of the client's orders match it, and a condition on client
+ * fields matches an order if the client that owns the order matches it.
+ */
+public abstract class QueryExpression {
+
+    /**
+     * Returns true if {@code client} matches this expression.
+     */
+    public abstract boolean test(Client client);
+
+    /**
+     * Returns true if {@code order}, which is owned by {@code owner}, matches this expression.
+     */
+    public abstract boolean test(Order order, Client owner);
+
+    /**
+     * Returns true if this expression refers to any order field.
+     */
+    public abstract boolean refersToOrders();
+
+    /**
+     * Returns this expression written in the query language.
+     */
+    public abstract String describe();
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("expression", describe()).toString();
+    }
+
+    /**
+     * An expression that matches when all of its operands match.
+     */
+    public static class And extends QueryExpression {
+        private final List<QueryExpression> operands;
+
+        /**
+         * Creates an expression that matches when all of {@code operands}, of which there must be at least two,
+         * match.
+         */
+        public And(List<QueryExpression> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "AND needs at least two operands");
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Client client) {
+            for (QueryExpression operand : operands) {
+                if (!operand.test(client)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean test(Order order, Client owner) {
+            for (QueryExpression operand : operands) {
+                if (!operand.test(order, owner)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean refersToOrders() {
+            return operands.stream().anyMatch(QueryExpression::refersToOrders);
+        }
+
+        @Override
+        public String describe() {
+            return operands.stream().map(QueryExpression::describeOperand).collect(Collectors.joining(" AND "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof And)) {
+                return false;
+            }
+
+            And otherAnd = (And) other;
+            return operands.equals(otherAnd.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * An expression that matches when any of its operands match.
+     */
+    public static class Or extends QueryExpression {
+        private final List<QueryExpression> operands;
+
+        /**
+         * Creates an expression that matches when any of {@code operands}, of which there must be at least two,
+         * match.
+         */
+        public Or(List<QueryExpression> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "OR needs at least two operands");
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<QueryExpression> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Client client) {
+            for (QueryExpression operand : operands) {
+                if (operand.test(client)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean test(Order order, Client owner) {
+            for (QueryExpression operand : operands) {
+                if (operand.test(order, owner)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean refersToOrders() {
+            return operands.stream().anyMatch(QueryExpression::refersToOrders);
+        }
+
+        @Override
+        public String describe() {
+            return operands.stream().map(QueryExpression::describeOperand).collect(Collectors.joining(" OR "));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Or)) {
+                return false;
+            }
+
+            Or otherOr = (Or) other;
+            return operands.equals(otherOr.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * An expression that matches when its operand does not.
+     */
+    public static class Not extends QueryExpression {
+        private final QueryExpression operand;
+
+        /**
+         * Creates an expression that matches when {@code operand} does not.
+         */
+        public Not(QueryExpression operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        public QueryExpression getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean test(Client client) {
+            return !operand.test(client);
+        }
+
+        @Override
+        public boolean test(Order order, Client owner) {
+            return !operand.test(order, owner);
+        }
+
+        @Override
+        public boolean refersToOrders() {
+            return operand.refersToOrders();
+        }
+
+        @Override
+        public String describe() {
+            return "NOT " + describeOperand(operand);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Not)) {
+                return false;
+            }
+
+            Not otherNot = (Not) other;
+            return operand.equals(otherNot.operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return operand.hashCode();
+        }
+    }
+
+    private static String describeOperand(QueryExpression operand) {
+        return operand instanceof And || operand instanceof Or ? "(" + operand.describe() + ")" : operand.describe();
+    }
+}
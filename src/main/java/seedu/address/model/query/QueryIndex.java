@@ -0,0 +1,133 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.ReadOnlyBookKeeper;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes of the clients and orders of a bookkeeper, used to answer selective queries without scanning every
+ * client or order.
+ * Guarantees: reflects the bookkeeper as it was when the index was built; it is not updated when the bookkeeper
+ * changes.
+ */
+public class QueryIndex {
+
+    private final List<Client> clients;
+    private final List<Order> orders;
+    private final Map<Order, Client> owners = new IdentityHashMap<>();
+
+    private final Map<String, List<Client>> clientsByNameWord = new HashMap<>();
+    private final Map<Tag, List<Client>> clientsByTag = new HashMap<>();
+    private final Map<Status, List<Order>> ordersByStatus = new HashMap<>();
+    private final NavigableMap<LocalDateTime, List<Order>> ordersByDeadline = new TreeMap<>();
+    private final NavigableMap<Double, List<Order>> ordersByPrice = new TreeMap<>();
+
+    /**
+     * Builds the indexes of the clients and orders currently in {@code bookKeeper}.
+     */
+    public QueryIndex(ReadOnlyBookKeeper bookKeeper) {
+        requireNonNull(bookKeeper);
+        clients = List.copyOf(bookKeeper.getClientList());
+        orders = List.copyOf(bookKeeper.getOrderList());
+
+        for (Client client : clients) {
+            for (String word : client.getName().getTokens()) {
+                List<Client> clientsWithWord = clientsByNameWord.computeIfAbsent(word, unused -> new ArrayList<>());
+                // a word repeated in a name must not list the client twice
+                if (clientsWithWord.isEmpty() || clientsWithWord.get(clientsWithWord.size() - 1) != client) {
+                    clientsWithWord.add(client);
+                }
+            }
+            for (Tag tag : client.getTags()) {
+                clientsByTag.computeIfAbsent(tag, unused -> new ArrayList<>()).add(client);
+            }
+            for (Order order : client.getOrders()) {
+                owners.put(order, client);
+            }
+        }
+
+        for (Order order : orders) {
+            ordersByStatus.computeIfAbsent(order.getStatus(), unused -> new ArrayList<>()).add(order);
+            ordersByDeadline.computeIfAbsent(order.getDeadline().deadline, unused -> new ArrayList<>()).add(order);
+            ordersByPrice.computeIfAbsent(order.getPrice().value, unused -> new ArrayList<>()).add(order);
+        }
+    }
+
+    /**
+     * Returns every client, in the order of the client list.
+     */
+    public List<Client> getClients() {
+        return clients;
+    }
+
+    /**
+     * Returns every order, in the order of the order list.
+     */
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Returns the client that owns {@code order}.
+     */
+    public Client getOwner(Order order) {
+        Client owner = owners.get(order);
+        return owner != null ? owner : order.getClient();
+    }
+
+    /**
+     * Returns the clients with {@code word} in their name, ignoring case.
+     */
+    public List<Client> getClientsWithNameWord(String word) {
+        return clientsByNameWord.getOrDefault(word.toLowerCase(Locale.ROOT), Collections.emptyList());
+    }
+
+    /**
+     * Returns the clients with {@code tag}.
+     */
+    public List<Client> getClientsWithTag(Tag tag) {
+        return clientsByTag.getOrDefault(tag, Collections.emptyList());
+    }
+
+    /**
+     * Returns the orders with {@code status}.
+     */
+    public List<Order> getOrdersWithStatus(Status status) {
+        return ordersByStatus.getOrDefault(status, Collections.emptyList());
+    }
+
+    /**
+     * Returns the orders whose deadline lies in {@code range}, by deadline.
+     */
+    public List<Order> getOrdersWithDeadlineIn(Range<LocalDateTime> range) {
+        return flatten(range.subMapOf(ordersByDeadline));
+    }
+
+    /**
+     * Returns the orders whose price lies in {@code range}, by price.
+     */
+    public List<Order> getOrdersWithPriceIn(Range<Double> range) {
+        return flatten(range.subMapOf(ordersByPrice));
+    }
+
+    private static <K> List<Order> flatten(Map<K, List<Order>> ordersByKey) {
+        List<Order> flattened = new ArrayList<>();
+        ordersByKey.values().forEach(flattened::addAll);
+        return flattened;
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * A plan for finding the rows, either clients or orders, that match a query.
+ * Plans are built by {@link QueryPlanner}.
+ *
+ * @param <T> the type of the rows
+ */
+public abstract class QueryPlan<T> {
+
+    /**
+     * Returns an estimate of the number of rows this plan will examine.
+     */
+    public abstract int estimateRows();
+
+    /**
+     * Runs this plan, and returns the rows that match the query.
+     * The number of rows examined is added to {@code stats}.
+     */
+    abstract Set<T> execute(ExecutionStats stats);
+
+    /**
+     * Appends a description of this plan to {@code builder}, with one line for each step, indented by
+     * {@code depth}.
+     */
+    abstract void describe(StringBuilder builder, int depth);
+
+    /**
+     * Runs this plan.
+     */
+    public QueryResult<T> execute() {
+        ExecutionStats stats = new ExecutionStats();
+        Set<T> matches = execute(stats);
+        return new QueryResult<>(matches, stats.rowsExamined);
+    }
+
+    /**
+     * Returns a description of this plan, with one line for each step.
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder();
+        describe(builder, 0);
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    private static void appendLine(StringBuilder builder, int depth, String line) {
+        if (builder.length() > 0) {
+            builder.append('\n');
+        }
+        builder.append("  ".repeat(depth)).append(line);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Counts the work done while running a plan.
+     */
+    static class ExecutionStats {
+        private int rowsExamined;
+    }
+
+    /**
+     * Checks every row against the query.
+     */
+    static class Scan<T> extends QueryPlan<T> {
+        private final List<T> rows;
+        private final QueryExpression expression;
+        private final BiPredicate<QueryExpression, T> tester;
+
+        Scan(List<T> rows, QueryExpression expression, BiPredicate<QueryExpression, T> tester) {
+            this.rows = requireNonNull(rows);
+            this.expression = requireNonNull(expression);
+            this.tester = requireNonNull(tester);
+        }
+
+        @Override
+        public int estimateRows() {
+            return rows.size();
+        }
+
+        @Override
+        Set<T> execute(ExecutionStats stats) {
+            stats.rowsExamined += rows.size();
+            Set<T> matches = newIdentitySet();
+            for (T row : rows) {
+                if (tester.test(expression, row)) {
+                    matches.add(row);
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            appendLine(builder, depth, "Scan all " + rows.size() + " rows for " + expression.describe());
+        }
+    }
+
+    /**
+     * Reads the rows that meet a condition from the index of the condition's field.
+     */
+    static class IndexLookup<T> extends QueryPlan<T> {
+        private final String field;
+        private final QueryExpression condition;
+        private final List<T> rows;
+
+        /**
+         * @param rows the rows read from the index, which must be exactly those that meet {@code condition}
+         */
+        IndexLookup(String field, QueryExpression condition, List<T> rows) {
+            this.field = requireNonNull(field);
+            this.condition = requireNonNull(condition);
+            this.rows = requireNonNull(rows);
+        }
+
+        @Override
+        public int estimateRows() {
+            return rows.size();
+        }
+
+        @Override
+        Set<T> execute(ExecutionStats stats) {
+            stats.rowsExamined += rows.size();
+            Set<T> matches = newIdentitySet();
+            matches.addAll(rows);
+            return matches;
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            appendLine(builder, depth, "Look up " + condition.describe() + " in the " + field + " index ("
+                    + rows.size() + " rows)");
+        }
+    }
+
+    /**
+     * Checks the rows found by another plan against the rest of the query.
+     */
+    static class Filter<T> extends QueryPlan<T> {
+        private final QueryPlan<T> source;
+        private final QueryExpression residual;
+        private final BiPredicate<QueryExpression, T> tester;
+
+        Filter(QueryPlan<T> source, QueryExpression residual, BiPredicate<QueryExpression, T> tester) {
+            this.source = requireNonNull(source);
+            this.residual = requireNonNull(residual);
+            this.tester = requireNonNull(tester);
+        }
+
+        @Override
+        public int estimateRows() {
+            return source.estimateRows();
+        }
+
+        @Override
+        Set<T> execute(ExecutionStats stats) {
+            Set<T> candidates = source.execute(stats);
+            candidates.removeIf(row -> !tester.test(residual, row));
+            return candidates;
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            appendLine(builder, depth, "Filter by " + residual.describe());
+            source.describe(builder, depth + 1);
+        }
+    }
+
+    /**
+     * Combines the rows found by several plans.
+     */
+    static class Union<T> extends QueryPlan<T> {
+        private final List<QueryPlan<T>> sources;
+
+        Union(List<QueryPlan<T>> sources) {
+            this.sources = List.copyOf(sources);
+        }
+
+        @Override
+        public int estimateRows() {
+            return sources.stream().mapToInt(QueryPlan::estimateRows).sum();
+        }
+
+        @Override
+        Set<T> execute(ExecutionStats stats) {
+            Set<T> matches = newIdentitySet();
+            for (QueryPlan<T> source : sources) {
+                matches.addAll(source.execute(stats));
+            }
+            return matches;
+        }
+
+        @Override
+        void describe(StringBuilder builder, int depth) {
+            appendLine(builder, depth, "Combine");
+            for (QueryPlan<T> source : sources) {
+                source.describe(builder, depth + 1);
+            }
+        }
+    }
+}
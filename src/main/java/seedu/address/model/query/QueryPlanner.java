@@ -0,0 +1,189 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+
+/**
+ * Compiles a {@link QueryExpression} into a {@link QueryPlan}.
+ * A condition on an indexed field is answered from its index. A conjunction is answered by looking up its most
+ * selective indexed operand and checking only those rows against the other operands, and a disjunction is answered
+ * from indexes only if all of its operands can be. Anything else, such as a negation or a condition on a field that
+ * is not indexed, falls back to scanning every row.
+ */
+public class QueryPlanner {
+
+    private QueryPlanner() {} // prevents instantiation
+
+    /**
+     * Returns a plan for finding the clients in {@code index} that match {@code expression}.
+     */
+    public static QueryPlan<Client> planForClients(QueryExpression expression, QueryIndex index) {
+        requireNonNull(expression);
+        requireNonNull(index);
+        return plan(expression, new ClientRows(index));
+    }
+
+    /**
+     * Returns a plan for finding the orders in {@code index} that match {@code expression}.
+     */
+    public static QueryPlan<Order> planForOrders(QueryExpression expression, QueryIndex index) {
+        requireNonNull(expression);
+        requireNonNull(index);
+        return plan(expression, new OrderRows(index));
+    }
+
+    private static <T> QueryPlan<T> plan(QueryExpression expression, Rows<T> rows) {
+        return planFromIndexes(expression, rows)
+                .orElseGet(() -> new QueryPlan.Scan<>(rows.all(), expression, rows::test));
+    }
+
+    /**
+     * Returns a plan that finds exactly the rows that match {@code expression} without scanning every row, or an
+     * empty {@code Optional} if there is none.
+     */
+    private static <T> Optional<QueryPlan<T>> planFromIndexes(QueryExpression expression, Rows<T> rows) {
+        if (expression instanceof QueryExpression.And) {
+            return planConjunction(((QueryExpression.And) expression).getOperands(), rows);
+        } else if (expression instanceof QueryExpression.Or) {
+            return planDisjunction(((QueryExpression.Or) expression).getOperands(), rows);
+        }
+        return rows.lookUp(expression);
+    }
+
+    private static <T> Optional<QueryPlan<T>> planConjunction(List<QueryExpression> operands, Rows<T> rows) {
+        QueryPlan<T> mostSelective = null;
+        int mostSelectiveOperand = -1;
+        for (int i = 0; i < operands.size(); i++) {
+            Optional<QueryPlan<T>> operandPlan = planFromIndexes(operands.get(i), rows);
+            if (operandPlan.isPresent()
+                    && (mostSelective == null || operandPlan.get().estimateRows() < mostSelective.estimateRows())) {
+                mostSelective = operandPlan.get();
+                mostSelectiveOperand = i;
+            }
+        }
+        if (mostSelective == null) {
+            return Optional.empty();
+        }
+
+        List<QueryExpression> residualOperands = new ArrayList<>(operands);
+        residualOperands.remove(mostSelectiveOperand);
+        QueryExpression residual = residualOperands.size() == 1
+                ? residualOperands.get(0)
+                : new QueryExpression.And(residualOperands);
+        return Optional.of(new QueryPlan.Filter<>(mostSelective, residual, rows::test));
+    }
+
+    private static <T> Optional<QueryPlan<T>> planDisjunction(List<QueryExpression> operands, Rows<T> rows) {
+        List<QueryPlan<T>> operandPlans = new ArrayList<>();
+        for (QueryExpression operand : operands) {
+            Optional<QueryPlan<T>> operandPlan = planFromIndexes(operand, rows);
+            if (operandPlan.isEmpty()) {
+                return Optional.empty();
+            }
+            operandPlans.add(operandPlan.get());
+        }
+        return Optional.of(new QueryPlan.Union<>(operandPlans));
+    }
+
+    /**
+     * The rows a query runs over, and how to test and look them up.
+     */
+    private interface Rows<T> {
+        List<T> all();
+
+        boolean test(QueryExpression expression, T row);
+
+        /**
+         * Returns a lookup of the rows that meet {@code condition}, if it is a condition on an indexed field.
+         */
+        Optional<QueryPlan<T>> lookUp(QueryExpression condition);
+    }
+
+    private static class ClientRows implements Rows<Client> {
+        private final QueryIndex index;
+
+        ClientRows(QueryIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public List<Client> all() {
+            return index.getClients();
+        }
+
+        @Override
+        public boolean test(QueryExpression expression, Client client) {
+            return expression.test(client);
+        }
+
+        @Override
+        public Optional<QueryPlan<Client>> lookUp(QueryExpression condition) {
+            if (condition instanceof ClientCondition) {
+                ClientCondition clientCondition = (ClientCondition) condition;
+                return Optional.of(new QueryPlan.IndexLookup<>(clientCondition.getField(), condition,
+                        clientCondition.lookUp(index)));
+            }
+            if (condition instanceof OrderCondition && ((OrderCondition) condition).isIndexed()) {
+                // a client meets an order condition if any of its orders do
+                OrderCondition orderCondition = (OrderCondition) condition;
+                Set<Client> owners = Collections.newSetFromMap(new IdentityHashMap<>());
+                List<Client> clients = new ArrayList<>();
+                for (Order order : orderCondition.lookUp(index)) {
+                    Client owner = index.getOwner(order);
+                    if (owner != null && owners.add(owner)) {
+                        clients.add(owner);
+                    }
+                }
+                return Optional.of(new QueryPlan.IndexLookup<>(orderCondition.getField(), condition, clients));
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static class OrderRows implements Rows<Order> {
+        private final QueryIndex index;
+
+        OrderRows(QueryIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public List<Order> all() {
+            return index.getOrders();
+        }
+
+        @Override
+        public boolean test(QueryExpression expression, Order order) {
+            return expression.test(order, index.getOwner(order));
+        }
+
+        @Override
+        public Optional<QueryPlan<Order>> lookUp(QueryExpression condition) {
+            if (condition instanceof OrderCondition && ((OrderCondition) condition).isIndexed()) {
+                OrderCondition orderCondition = (OrderCondition) condition;
+                return Optional.of(new QueryPlan.IndexLookup<>(orderCondition.getField(), condition,
+                        orderCondition.lookUp(index)));
+            }
+            if (condition instanceof ClientCondition) {
+                // an order meets a client condition if the client that owns it does
+                ClientCondition clientCondition = (ClientCondition) condition;
+                List<Order> orders = new ArrayList<>();
+                for (Client client : clientCondition.lookUp(index)) {
+                    orders.addAll(client.getOrders());
+                }
+                return Optional.of(new QueryPlan.IndexLookup<>(clientCondition.getField(), condition, orders));
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The rows found by running a {@link QueryPlan}, and the number of rows it examined to find them.
+ *
+ * @param <T> the type of the rows
+ */
+public class QueryResult<T> {
+    private final Set<T> matches;
+    private final int rowsExamined;
+
+    /**
+     * @param matches      the rows that match the query, compared by identity
+     * @param rowsExamined the number of rows examined to find them
+     */
+    QueryResult(Set<T> matches, int rowsExamined) {
+        requireNonNull(matches);
+        this.matches = Collections.unmodifiableSet(matches);
+        this.rowsExamined = rowsExamined;
+    }
+
+    /**
+     * Returns the rows that match the query. Rows are compared by identity.
+     */
+    public Set<T> getMatches() {
+        return matches;
+    }
+
+    public int getRowsExamined() {
+        return rowsExamined;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("matches", matches.size())
+                .add("rowsExamined", rowsExamined)
+                .toString();
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An interval of comparable values, each end of which may be open, closed or unbounded.
+ * Guarantees: immutable.
+ */
+public class Range<C extends Comparable<? super C>> {
+
+    private final C lower;
+    private final boolean lowerInclusive;
+    private final C upper;
+    private final boolean upperInclusive;
+
+    private Range(C lower, boolean lowerInclusive, C upper, boolean upperInclusive) {
+        checkArgument(lower == null || upper == null || lower.compareTo(upper) <= 0,
+                "The lower end of a range must not be above its upper end");
+        this.lower = lower;
+        this.lowerInclusive = lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = upperInclusive;
+    }
+
+    /**
+     * Returns the range holding only {@code value}.
+     */
+    public static <C extends Comparable<? super C>> Range<C> singleton(C value) {
+        requireNonNull(value);
+        return new Range<>(value, true, value, true);
+    }
+
+    /**
+     * Returns the range of values from {@code lower} to {@code upper}, both included.
+     */
+    public static <C extends Comparable<? super C>> Range<C> closed(C lower, C upper) {
+        requireNonNull(lower);
+        requireNonNull(upper);
+        return new Range<>(lower, true, upper, true);
+    }
+
+    /**
+     * Returns the range of values above {@code lower}, which is included only if {@code inclusive}.
+     */
+    public static <C extends Comparable<? super C>> Range<C> above(C lower, boolean inclusive) {
+        requireNonNull(lower);
+        return new Range<>(lower, inclusive, null, false);
+    }
+
+    /**
+     * Returns the range of values below {@code upper}, which is included only if {@code inclusive}.
+     */
+    public static <C extends Comparable<? super C>> Range<C> below(C upper, boolean inclusive) {
+        requireNonNull(upper);
+        return new Range<>(null, false, upper, inclusive);
+    }
+
+    /**
+     * Returns true if {@code value} lies in this range.
+     */
+    public boolean contains(C value) {
+        requireNonNull(value);
+        if (lower != null) {
+            int comparison = value.compareTo(lower);
+            if (comparison < 0 || (comparison == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+        if (upper != null) {
+            int comparison = value.compareTo(upper);
+            return comparison < 0 || (comparison == 0 && upperInclusive);
+        }
+        return true;
+    }
+
+    /**
+     * Returns a view of the entries of {@code map} whose keys lie in this range.
+     */
+    public <V> NavigableMap<C, V> subMapOf(NavigableMap<C, V> map) {
+        requireNonNull(map);
+        if (lower != null && upper != null) {
+            return map.subMap(lower, lowerInclusive, upper, upperInclusive);
+        } else if (lower != null) {
+            return map.tailMap(lower, lowerInclusive);
+        } else if (upper != null) {
+            return map.headMap(upper, upperInclusive);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Range)) {
+            return false;
+        }
+
+        Range<?> otherRange = (Range<?>) other;
+        return Objects.equals(lower, otherRange.lower)
+                && lowerInclusive == otherRange.lowerInclusive
+                && Objects.equals(upper, otherRange.upper)
+                && upperInclusive == otherRange.upperInclusive;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /**
+     * Returns this range in interval notation, with each end written by {@code formatter}.
+     * A range holding a single value is written as that value.
+     */
+    public String format(Function<? super C, String> formatter) {
+        requireNonNull(formatter);
+        if (lower != null && lower.equals(upper)) {
+            return formatter.apply(lower);
+        }
+        return (lowerInclusive ? "[" : "(") + (lower == null ? "" : formatter.apply(lower)) + ".."
+                + (upper == null ? "" : formatter.apply(upper)) + (upperInclusive ? "]" : ")");
+    }
+
+    @Override
+    public String toString() {
+        return format(String::valueOf);
+    }
+}
@@ -0,0 +1,488 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Takes point-in-time backups of a data file and restores them.
+ * <p>
+ * Each backup is a manifest listing the SHA-256 hashes of the content-defined chunks of the file. Chunks are stored
+ * once, under their hash, and are shared by every backup that contains them, so a backup only stores the parts of
+ * the file that changed since earlier backups. Old backups are removed according to a {@link RetentionPolicy}, and
+ * chunks that no remaining backup refers to are deleted with them.
+ * <p>
+ * Backups are identified by the local time at which they were taken, e.g. {@code 20241010-153000123}.
+ */
+public class BackupManager {
+
+    public static final String LATEST_BACKUP_ID = "latest";
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "No backup with id %1$s";
+    public static final String MESSAGE_CORRUPTED_BACKUP = "Backup %1$s is corrupted: %2$s";
+
+    static final String CHUNK_DIRECTORY = "chunks";
+    static final String MANIFEST_DIRECTORY = "manifests";
+    static final String MANIFEST_EXTENSION = ".manifest";
+
+    private static final String MANIFEST_HEADER = "bookkeeper-backup 1";
+    private static final DateTimeFormatter ID_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final Logger logger = LogsCenter.getLogger(BackupManager.class);
+
+    private final Path sourceFile;
+    private final Path backupDirectory;
+    private final RetentionPolicy retentionPolicy;
+
+    /**
+     * Creates a {@code BackupManager} that backs up {@code sourceFile} into {@code backupDirectory} and keeps
+     * backups according to {@code retentionPolicy}.
+     */
+    public BackupManager(Path sourceFile, Path backupDirectory, RetentionPolicy retentionPolicy) {
+        requireNonNull(sourceFile);
+        requireNonNull(backupDirectory);
+        requireNonNull(retentionPolicy);
+        this.sourceFile = sourceFile;
+        this.backupDirectory = backupDirectory;
+        this.retentionPolicy = retentionPolicy;
+    }
+
+    public Path getSourceFile() {
+        return sourceFile;
+    }
+
+    public Path getBackupDirectory() {
+        return backupDirectory;
+    }
+
+    /**
+     * Backs up the source file as it is now.
+     * Nothing is backed up if the source file does not exist or has not changed since the latest backup.
+     *
+     * @return the id of the new backup, if one was taken.
+     */
+    public Optional<String> backup() throws IOException {
+        return backup(LocalDateTime.now());
+    }
+
+    /**
+     * Backs up {@code copyOfSourceFile} as the source file. This is for source files that can be partly written
+     * while they are read, such as the file of an open database, which should be backed up from a consistent copy.
+     * Nothing is backed up if the copy does not exist or has not changed since the latest backup.
+     *
+     * @return the id of the new backup, if one was taken.
+     */
+    public Optional<String> backupCopy(Path copyOfSourceFile) throws IOException {
+        requireNonNull(copyOfSourceFile);
+        return backup(LocalDateTime.now(), copyOfSourceFile);
+    }
+
+    /**
+     * Backs up the source file, using {@code time} as the time of the backup.
+     */
+    Optional<String> backup(LocalDateTime time) throws IOException {
+        return backup(time, sourceFile);
+    }
+
+    /**
+     * Backs up {@code file} as the source file, using {@code time} as the time of the backup.
+     */
+    private synchronized Optional<String> backup(LocalDateTime time, Path file) throws IOException {
+        requireNonNull(time);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        String backupId = time.format(ID_FORMATTER);
+        Path manifestFile = getManifestFile(backupId);
+        if (Files.exists(manifestFile)) {
+            return Optional.empty();
+        }
+
+        Manifest manifest = storeChunks(file);
+        Optional<String> latestBackupId = getLatestBackupId();
+        if (latestBackupId.isPresent() && readManifest(latestBackupId.get()).fileHash.equals(manifest.fileHash)) {
+            logger.fine("Skipping backup of unchanged " + sourceFile);
+            return Optional.empty();
+        }
+
+        writeAtomically(manifestFile, out -> out.write(manifest.toText().getBytes(StandardCharsets.UTF_8)));
+        logger.info("Backed up " + sourceFile + " as " + backupId + " (" + manifest.chunkHashes.size() + " chunks)");
+        return Optional.of(backupId);
+    }
+
+    /**
+     * Splits {@code file} into chunks and stores the chunks that are not stored yet.
+     */
+    private Manifest storeChunks(Path file) throws IOException {
+        MessageDigest fileDigest = newDigest();
+        MessageDigest chunkDigest = newDigest();
+        List<String> chunkHashes = new ArrayList<>();
+        long[] size = {0};
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            ContentChunker.split(in, (buffer, offset, length) -> {
+                fileDigest.update(buffer, offset, length);
+                chunkDigest.update(buffer, offset, length);
+                String chunkHash = toHex(chunkDigest.digest());
+                Path chunkFile = getChunkFile(chunkHash);
+                if (!Files.exists(chunkFile)) {
+                    writeAtomically(chunkFile, out -> out.write(buffer, offset, length));
+                }
+                chunkHashes.add(chunkHash);
+                size[0] += length;
+            });
+        }
+        return new Manifest(size[0], toHex(fileDigest.digest()), chunkHashes);
+    }
+
+    /**
+     * Returns the ids of all backups, from oldest to newest.
+     */
+    public synchronized List<String> getBackupIds() throws IOException {
+        Path manifestDirectory = backupDirectory.resolve(MANIFEST_DIRECTORY);
+        if (!Files.isDirectory(manifestDirectory)) {
+            return List.of();
+        }
+
+        List<String> backupIds = new ArrayList<>();
+        try (DirectoryStream<Path> manifests = Files.newDirectoryStream(manifestDirectory, "*" + MANIFEST_EXTENSION)) {
+            for (Path manifest : manifests) {
+                String fileName = manifest.getFileName().toString();
+                String backupId = fileName.substring(0, fileName.length() - MANIFEST_EXTENSION.length());
+                if (parseBackupTime(backupId).isPresent()) {
+                    backupIds.add(backupId);
+                }
+            }
+        }
+        Collections.sort(backupIds);
+        return backupIds;
+    }
+
+    private Optional<String> getLatestBackupId() throws IOException {
+        List<String> backupIds = getBackupIds();
+        return backupIds.isEmpty() ? Optional.empty() : Optional.of(backupIds.get(backupIds.size() - 1));
+    }
+
+    /**
+     * Returns the id of the latest backup taken at or before the backup {@code backupId}, which may have been taken
+     * by another {@code BackupManager}. This is the backup to restore so that its file matches the other file as it
+     * was in the backup {@code backupId}.
+     */
+    public synchronized Optional<String> getLatestBackupIdAsOf(String backupId) throws IOException {
+        requireNonNull(backupId);
+        Optional<String> latestBackupId = Optional.empty();
+        for (String id : getBackupIds()) {
+            if (id.compareTo(backupId) <= 0) {
+                latestBackupId = Optional.of(id);
+            }
+        }
+        return latestBackupId;
+    }
+
+    /**
+     * Replaces the source file with the content of the backup {@code backupId}, or of the latest backup if
+     * {@code backupId} is {@link #LATEST_BACKUP_ID}. The current source file is backed up first, so that a restore
+     * can itself be undone.
+     *
+     * @return the id of the restored backup.
+     * @throws DataLoadingException if the backup does not exist or is corrupted.
+     */
+    public synchronized String restore(String backupId) throws IOException, DataLoadingException {
+        requireNonNull(backupId);
+        String restoredBackupId = backupId;
+        if (backupId.equals(LATEST_BACKUP_ID)) {
+            restoredBackupId = getLatestBackupId().orElseThrow(() ->
+                    new DataLoadingException(new IOException(String.format(MESSAGE_BACKUP_NOT_FOUND, backupId))));
+        }
+        if (parseBackupTime(restoredBackupId).isEmpty() || !Files.exists(getManifestFile(restoredBackupId))) {
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_BACKUP_NOT_FOUND, backupId)));
+        }
+
+        Manifest manifest = readManifest(restoredBackupId);
+        backup();
+        String id = restoredBackupId;
+        MessageDigest fileDigest = newDigest();
+        try {
+            writeAtomically(sourceFile, out -> {
+                for (String chunkHash : manifest.chunkHashes) {
+                    byte[] chunk = Files.readAllBytes(getChunkFile(chunkHash));
+                    if (!toHex(newDigest().digest(chunk)).equals(chunkHash)) {
+                        throw new IOException(String.format(MESSAGE_CORRUPTED_BACKUP, id, "chunk " + chunkHash));
+                    }
+                    fileDigest.update(chunk);
+                    out.write(chunk);
+                }
+                if (!toHex(fileDigest.digest()).equals(manifest.fileHash)) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_BACKUP, id, "file hash mismatch"));
+                }
+            });
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+        logger.info("Restored " + sourceFile + " from backup " + restoredBackupId);
+        return restoredBackupId;
+    }
+
+    /**
+     * Deletes the backups that the retention policy does not keep, and the chunks that only they referred to.
+     *
+     * @return the number of backups deleted.
+     */
+    public synchronized int prune() throws IOException {
+        List<String> backupIds = getBackupIds();
+        Set<String> keptBackupIds = retentionPolicy.selectKept(backupIds);
+
+        int deletedCount = 0;
+        for (String backupId : backupIds) {
+            if (!keptBackupIds.contains(backupId)) {
+                Files.deleteIfExists(getManifestFile(backupId));
+                deletedCount++;
+            }
+        }
+        if (deletedCount == 0) {
+            return 0;
+        }
+
+        Set<String> referencedChunks = new HashSet<>();
+        for (String backupId : keptBackupIds) {
+            referencedChunks.addAll(readManifest(backupId).chunkHashes);
+        }
+        int deletedChunkCount = 0;
+        try (Stream<Path> chunkFiles = Files.walk(backupDirectory.resolve(CHUNK_DIRECTORY))) {
+            for (Path chunkFile : (Iterable<Path>) chunkFiles::iterator) {
+                if (Files.isRegularFile(chunkFile)
+                        && !referencedChunks.contains(chunkFile.getFileName().toString())) {
+                    Files.delete(chunkFile);
+                    deletedChunkCount++;
+                }
+            }
+        }
+        logger.info("Deleted " + deletedCount + " old backups and " + deletedChunkCount + " unused chunks");
+        return deletedCount;
+    }
+
+    private Path getManifestFile(String backupId) {
+        return backupDirectory.resolve(MANIFEST_DIRECTORY).resolve(backupId + MANIFEST_EXTENSION);
+    }
+
+    private Path getChunkFile(String chunkHash) {
+        return backupDirectory.resolve(CHUNK_DIRECTORY).resolve(chunkHash.substring(0, 2)).resolve(chunkHash);
+    }
+
+    private Manifest readManifest(String backupId) throws IOException {
+        List<String> lines = Files.readAllLines(getManifestFile(backupId), StandardCharsets.UTF_8);
+        try {
+            if (lines.size() < 3 || !lines.get(0).equals(MANIFEST_HEADER)) {
+                throw new IllegalArgumentException("unknown manifest format");
+            }
+            return new Manifest(Long.parseLong(lines.get(1)), lines.get(2), lines.subList(3, lines.size()));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_BACKUP, backupId, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Writes a file through a temporary file next to it, so that the file is either complete or absent.
+     */
+    private static void writeAtomically(Path file, OutputWriter writer) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            writer.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Returns the time at which the backup {@code backupId} was taken, if {@code backupId} is a valid backup id.
+     */
+    static Optional<LocalDateTime> parseBackupTime(String backupId) {
+        try {
+            return Optional.of(LocalDateTime.parse(backupId, ID_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sourceFile", sourceFile)
+                .add("backupDirectory", backupDirectory)
+                .add("retentionPolicy", retentionPolicy)
+                .toString();
+    }
+
+    @FunctionalInterface
+    private interface OutputWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * The content of a backup: the size and hash of the file and the hashes of its chunks, in order.
+     */
+    private static class Manifest {
+        private final long size;
+        private final String fileHash;
+        private final List<String> chunkHashes;
+
+        Manifest(long size, String fileHash, List<String> chunkHashes) {
+            this.size = size;
+            this.fileHash = fileHash;
+            this.chunkHashes = chunkHashes;
+        }
+
+        String toText() {
+            StringBuilder text = new StringBuilder(MANIFEST_HEADER).append('\n')
+                    .append(size).append('\n')
+                    .append(fileHash).append('\n');
+            chunkHashes.forEach(chunkHash -> text.append(chunkHash).append('\n'));
+            return text.toString();
+        }
+    }
+
+    /**
+     * Decides which backups to keep: the latest backup of each of the most recent hours, days and weeks that have
+     * backups, up to a number of hours, days and weeks. The latest backup is always kept.
+     */
+    public static class RetentionPolicy {
+
+        public static final RetentionPolicy DEFAULT = new RetentionPolicy(24, 7, 4);
+
+        private final int hourly;
+        private final int daily;
+        private final int weekly;
+
+        /**
+         * Creates a policy that keeps the latest backup of each of the last {@code hourly} hours,
+         * {@code daily} days and {@code weekly} weeks that have backups.
+         */
+        public RetentionPolicy(int hourly, int daily, int weekly) {
+            checkArgument(hourly >= 0 && daily >= 0 && weekly >= 0, "Retention counts must not be negative");
+            this.hourly = hourly;
+            this.daily = daily;
+            this.weekly = weekly;
+        }
+
+        /**
+         * Returns the ids in {@code backupIds} that this policy keeps.
+         */
+        Set<String> selectKept(List<String> backupIds) {
+            List<String> newestFirst = new ArrayList<>(backupIds);
+            newestFirst.sort(Collections.reverseOrder());
+
+            Set<String> kept = new LinkedHashSet<>();
+            if (!newestFirst.isEmpty()) {
+                kept.add(newestFirst.get(0));
+            }
+            keepLatestPerPeriod(newestFirst, hourly, time -> time.truncatedTo(ChronoUnit.HOURS), kept);
+            keepLatestPerPeriod(newestFirst, daily, LocalDateTime::toLocalDate, kept);
+            keepLatestPerPeriod(newestFirst, weekly, time -> time.toLocalDate()
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), kept);
+            return kept;
+        }
+
+        private static void keepLatestPerPeriod(List<String> newestFirst, int count,
+                Function<LocalDateTime, Object> toPeriod, Set<String> kept) {
+            Set<Object> seenPeriods = new HashSet<>();
+            for (String backupId : newestFirst) {
+                if (seenPeriods.size() >= count) {
+                    return;
+                }
+                Object period = toPeriod.apply(parseBackupTime(backupId).orElseThrow());
+                if (seenPeriods.add(period)) {
+                    kept.add(backupId);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof RetentionPolicy)) {
+                return false;
+            }
+
+            RetentionPolicy otherPolicy = (RetentionPolicy) other;
+            return hourly == otherPolicy.hourly
+                    && daily == otherPolicy.daily
+                    && weekly == otherPolicy.weekly;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hourly, daily, weekly);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("hourly", hourly)
+                    .add("daily", daily)
+                    .add("weekly", weekly)
+                    .toString();
+        }
+    }
+}
@@ -44,5 +44,10 @@ public interface BookKeeperStorage {
      */
     void saveAddressBook(ReadOnlyBookKeeper addressBook, Path filePath) throws IOException;
 
+    /**
+     * Releases any resources held open by the storage, such as a database connection.
+     * The storage opens them again if it is used afterwards.
+     */
+    default void close() {}
 
 }
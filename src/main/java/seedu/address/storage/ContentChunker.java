@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Splits a stream into content-defined chunks.
+ * Chunk boundaries are placed where a rolling (gear) hash of the preceding bytes matches a fixed pattern, so they
+ * depend only on the nearby content. An edit therefore only changes the chunks around it, and the other chunks of
+ * the stream stay the same, even if the edit shifts everything after it.
+ */
+class ContentChunker {
+
+    static final int MIN_CHUNK_SIZE = 2 * 1024;
+    static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    /** Selects the top 13 bits of the hash, which gives an average chunk size of about 8 KiB above the minimum. */
+    private static final long BOUNDARY_MASK = ((1L << 13) - 1) << (Long.SIZE - 13);
+
+    /** Random values for each byte value. Generated from a fixed seed, as they must never change. */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        long state = 0x6a09e667f3bcc908L;
+        for (int i = 0; i < GEAR.length; i++) {
+            // SplitMix64
+            state += 0x9e3779b97f4a7c15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    /**
+     * Receives the chunks of a stream, in order.
+     */
+    @FunctionalInterface
+    interface ChunkConsumer {
+        /**
+         * Accepts the chunk in {@code buffer[offset, offset + length)}. The buffer is reused after this returns.
+         */
+        void accept(byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Reads {@code in} to the end and passes its chunks to {@code consumer}.
+     * Every chunk but the last is between {@link #MIN_CHUNK_SIZE} and {@link #MAX_CHUNK_SIZE} bytes long.
+     */
+    static void split(InputStream in, ChunkConsumer consumer) throws IOException {
+        requireNonNull(in);
+        requireNonNull(consumer);
+        byte[] buffer = new byte[MAX_CHUNK_SIZE];
+        int length = 0;
+        while (true) {
+            int read;
+            while (length < buffer.length && (read = in.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+            if (length == 0) {
+                return;
+            }
+
+            int chunkLength = findBoundary(buffer, length);
+            consumer.accept(buffer, 0, chunkLength);
+            System.arraycopy(buffer, chunkLength, buffer, 0, length - chunkLength);
+            length -= chunkLength;
+        }
+    }
+
+    /**
+     * Returns the length of the first chunk in {@code buffer[0, length)}.
+     */
+    private static int findBoundary(byte[] buffer, int length) {
+        if (length <= MIN_CHUNK_SIZE) {
+            return length;
+        }
+        long hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = (hash << 1) + GEAR[buffer[i] & 0xff];
+            if (i >= MIN_CHUNK_SIZE && (hash & BOUNDARY_MASK) == 0) {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,797 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.BookKeeper;
+import seedu.address.model.ReadOnlyBookKeeper;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+
+/**
+ * A class to access BookKeeper data stored in an embedded H2 database on the hard disk.
+ * <p>
+ * Clients, their tags and their orders are kept in separate tables, with the client name as the key that links them.
+ * The rows last read or written are remembered, so that saving only writes the rows that have changed since,
+ * all within a single transaction. Clients are kept in order by positions with gaps between them, and a client keeps
+ * its position for as long as it stays in order, so that adding, removing or moving one client rewrites only its row.
+ * The database can be read, saved, copied and closed from different threads.
+ */
+public class JdbcBookKeeperStorage implements BookKeeperStorage, AutoCloseable {
+
+    /** The suffix H2 appends to the database name to form the name of the database file. */
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(JdbcBookKeeperStorage.class);
+
+    /** The gap between the positions given to clients, which leaves room for clients placed between them later. */
+    private static final int POSITION_GAP = 1 << 10;
+    /** Stands for the lack of a position. Every position fits in an {@code int}, so none is equal to this. */
+    private static final long NO_POSITION = Long.MIN_VALUE;
+
+    // The primary keys also index client names and order ids. Text columns have no length limit, as the fields
+    // they hold have none. The price column holds every price below Price.LIMIT.
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS client ("
+                + "name VARCHAR PRIMARY KEY, "
+                + "phone VARCHAR NOT NULL, "
+                + "email VARCHAR NOT NULL, "
+                + "address VARCHAR NOT NULL, "
+                + "list_position INTEGER NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS client_tag ("
+                + "client_name VARCHAR NOT NULL REFERENCES client (name), "
+                + "tag_name VARCHAR NOT NULL, "
+                + "PRIMARY KEY (client_name, tag_name))",
+        "CREATE TABLE IF NOT EXISTS client_order ("
+                + "order_id VARCHAR(64) PRIMARY KEY, "
+                + "client_name VARCHAR NOT NULL REFERENCES client (name), "
+                + "order_date TIMESTAMP NOT NULL, "
+                + "deadline TIMESTAMP NOT NULL, "
+                + "price DECIMAL(19, 2) NOT NULL, "
+                + "remark VARCHAR NOT NULL, "
+                + "status VARCHAR(16) NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS idx_client_tag_tag_name ON client_tag (tag_name)",
+        "CREATE INDEX IF NOT EXISTS idx_client_order_client_name ON client_order (client_name)",
+        "CREATE INDEX IF NOT EXISTS idx_client_order_deadline ON client_order (deadline)",
+        "CREATE INDEX IF NOT EXISTS idx_client_order_status ON client_order (status)"
+    };
+
+    // Columns limited to 255 characters by databases created before the limits were lifted
+    private static final String SELECT_LIMITED_COLUMNS =
+            "SELECT table_name, column_name FROM information_schema.columns WHERE table_schema = 'PUBLIC' "
+            + "AND table_name IN ('CLIENT', 'CLIENT_TAG', 'CLIENT_ORDER') "
+            + "AND data_type = 'CHARACTER VARYING' AND character_maximum_length = 255";
+
+    private static final String SELECT_CLIENTS = "SELECT name, phone, email, address, list_position FROM client";
+    private static final String SELECT_TAGS = "SELECT client_name, tag_name FROM client_tag";
+    private static final String SELECT_ORDERS =
+            "SELECT order_id, client_name, order_date, deadline, price, remark, status FROM client_order";
+
+    private static final String INSERT_CLIENT =
+            "INSERT INTO client (name, phone, email, address, list_position) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_CLIENT =
+            "UPDATE client SET phone = ?, email = ?, address = ?, list_position = ? WHERE name = ?";
+    private static final String DELETE_CLIENT = "DELETE FROM client WHERE name = ?";
+    private static final String INSERT_TAG = "INSERT INTO client_tag (client_name, tag_name) VALUES (?, ?)";
+    private static final String DELETE_TAGS = "DELETE FROM client_tag WHERE client_name = ?";
+    private static final String INSERT_ORDER = "INSERT INTO client_order "
+            + "(client_name, order_date, deadline, price, remark, status, order_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ORDER = "UPDATE client_order SET client_name = ?, order_date = ?, "
+            + "deadline = ?, price = ?, remark = ?, status = ? WHERE order_id = ?";
+    private static final String DELETE_ORDER = "DELETE FROM client_order WHERE order_id = ?";
+
+    private final Path bookKeeperFilePath;
+    private final String jdbcUrl;
+    private Connection connection;
+
+    // Rows as last read from or written to the database, or null if they have not been loaded yet
+    private Map<String, ClientRow> savedClients;
+    private Map<OrderId, OrderRow> savedOrders;
+
+    /**
+     * Constructs a {@code JdbcBookKeeperStorage} for the H2 database file at {@code bookKeeperFilePath}.
+     *
+     * @param bookKeeperFilePath The path of the database file, which should end with {@link #DATABASE_FILE_SUFFIX}.
+     */
+    public JdbcBookKeeperStorage(Path bookKeeperFilePath) {
+        requireNonNull(bookKeeperFilePath);
+        this.bookKeeperFilePath = bookKeeperFilePath;
+        String databaseName = bookKeeperFilePath.toAbsolutePath().toString();
+        if (databaseName.endsWith(DATABASE_FILE_SUFFIX)) {
+            databaseName = databaseName.substring(0, databaseName.length() - DATABASE_FILE_SUFFIX.length());
+        }
+        this.jdbcUrl = "jdbc:h2:file:" + databaseName;
+    }
+
+    /**
+     * Returns the path of the database file to use in place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getDatabaseFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + DATABASE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getBookKeeperFilePath() {
+        return bookKeeperFilePath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyBookKeeper> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(bookKeeperFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            loadSavedRows(getConnection());
+        } catch (SQLException | IOException e) {
+            logger.warning("Error reading from database " + bookKeeperFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        BookKeeper bookKeeper;
+        try {
+            bookKeeper = toJsonSerializableBookKeeper().toModelType();
+        } catch (IllegalValueException | NumberFormatException e) {
+            logger.info("Illegal values found in " + bookKeeperFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        // Link the saved rows to the objects just read, so that the next save can skip them if they are unchanged
+        for (Client client : bookKeeper.getClientList()) {
+            savedClients.get(client.getName().fullName).source = client;
+            for (Order order : client.getOrders()) {
+                savedOrders.get(order.getOrderId()).source = order;
+            }
+        }
+        return Optional.of(bookKeeper);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyBookKeeper> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(bookKeeperFilePath)) {
+            return readAddressBook();
+        }
+
+        try (JdbcBookKeeperStorage otherStorage = new JdbcBookKeeperStorage(filePath)) {
+            return otherStorage.readAddressBook();
+        }
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyBookKeeper addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        try {
+            Connection connection = getConnection();
+            if (savedClients == null) {
+                loadSavedRows(connection);
+            }
+
+            Map<String, ClientRow> clients = new LinkedHashMap<>();
+            Map<OrderId, OrderRow> orders = new HashMap<>();
+            List<Client> clientList = addressBook.getClientList();
+            int[] positions = assignPositions(clientList);
+            for (int i = 0; i < clientList.size(); i++) {
+                ClientRow clientRow = toClientRow(clientList.get(i), positions[i]);
+                clients.put(clientRow.name, clientRow);
+                for (Order order : clientRow.source.getOrders()) {
+                    OrderRow orderRow = toOrderRow(order, clientRow.name);
+                    orders.put(orderRow.orderId, orderRow);
+                }
+            }
+
+            writeChanges(connection, clients, orders);
+            savedClients = clients;
+            savedOrders = orders;
+        } catch (SQLException e) {
+            throw new IOException("Could not write to database " + bookKeeperFilePath, e);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyBookKeeper)}.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyBookKeeper addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(bookKeeperFilePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        try (JdbcBookKeeperStorage otherStorage = new JdbcBookKeeperStorage(filePath)) {
+            otherStorage.saveAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * Copies the data in {@code source} into the database, if the database file does not exist yet.
+     *
+     * @return true if data was copied.
+     * @throws DataLoadingException if the data in {@code source} could not be read.
+     * @throws IOException if the data could not be written to the database.
+     */
+    public boolean migrateFrom(BookKeeperStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        if (Files.exists(bookKeeperFilePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyBookKeeper> sourceData = source.readAddressBook();
+        if (sourceData.isEmpty()) {
+            return false;
+        }
+        saveAddressBook(sourceData.get());
+        logger.info("Migrated data from " + source.getBookKeeperFilePath() + " to " + bookKeeperFilePath);
+        return true;
+    }
+
+    /**
+     * Writes a consistent copy of the database file to {@code file}, replacing it if it exists. While the database
+     * is open, its file can be partly written, so the copy is then written by the database itself.
+     */
+    public synchronized void writeCopy(Path file) throws IOException {
+        requireNonNull(file);
+        if (connection == null) {
+            Files.copy(bookKeeperFilePath, file, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+
+        // the database can only write its copy into a zip file
+        Path zipFile = file.resolveSibling(file.getFileName() + ".zip");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("BACKUP TO '" + zipFile.toAbsolutePath().toString().replace("'", "''") + "'");
+            try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(zipFile))) {
+                for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                    if (entry.getName().endsWith(DATABASE_FILE_SUFFIX)) {
+                        Files.copy(zip, file, StandardCopyOption.REPLACE_EXISTING);
+                        return;
+                    }
+                }
+            }
+            throw new IOException("No database file in " + zipFile);
+        } catch (SQLException e) {
+            throw new IOException("Could not copy database " + bookKeeperFilePath, e);
+        } finally {
+            Files.deleteIfExists(zipFile);
+        }
+    }
+
+    /**
+     * Closes the connection to the database, if it is open.
+     */
+    @Override
+    public synchronized void close() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Failed to close database " + bookKeeperFilePath + ": " + e);
+        }
+        connection = null;
+    }
+
+    /**
+     * Returns the positions to save the clients of {@code clientList} at, in the same order.
+     * The longest run of saved clients whose saved positions are still in order keep them, and the other clients are
+     * given positions in the gaps between, so that as few client rows as possible change. Every client is given a new
+     * position only if a gap is too small.
+     */
+    private int[] assignPositions(List<Client> clientList) {
+        long[] savedPositions = new long[clientList.size()];
+        for (int i = 0; i < clientList.size(); i++) {
+            ClientRow savedRow = savedClients.get(clientList.get(i).getName().fullName);
+            savedPositions[i] = savedRow == null ? NO_POSITION : savedRow.position;
+        }
+
+        boolean[] isKept = findLongestIncreasingRun(savedPositions);
+        int[] positions = new int[clientList.size()];
+        if (!fillPositions(positions, savedPositions, isKept)) {
+            boolean isFilled = fillPositions(positions, savedPositions, new boolean[clientList.size()]);
+            assert isFilled : "There is always room for every client when none keep their position";
+        }
+        return positions;
+    }
+
+    /**
+     * Returns which of {@code positions} form the longest run of increasing positions, in order but not necessarily
+     * next to each other. Missing positions are never part of the run.
+     */
+    private static boolean[] findLongestIncreasingRun(long[] positions) {
+        // runEnds[k] is the index of the smallest position that ends an increasing run of k + 1 positions
+        int[] runEnds = new int[positions.length];
+        int[] previousInRun = new int[positions.length];
+        int longestRun = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] == NO_POSITION) {
+                continue;
+            }
+            int low = 0;
+            int high = longestRun;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (positions[runEnds[middle]] < positions[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previousInRun[i] = low > 0 ? runEnds[low - 1] : -1;
+            runEnds[low] = i;
+            longestRun = Math.max(longestRun, low + 1);
+        }
+
+        boolean[] isInRun = new boolean[positions.length];
+        for (int i = longestRun > 0 ? runEnds[longestRun - 1] : -1; i >= 0; i = previousInRun[i]) {
+            isInRun[i] = true;
+        }
+        return isInRun;
+    }
+
+    /**
+     * Fills {@code positions} with the saved positions of the clients that keep them, and positions in between for
+     * the others.
+     *
+     * @return false if there is not enough room between two kept positions for the clients between them.
+     */
+    private static boolean fillPositions(int[] positions, long[] savedPositions, boolean[] isKept) {
+        long previous = NO_POSITION;
+        int start = 0;
+        while (start < positions.length) {
+            if (isKept[start]) {
+                positions[start] = (int) savedPositions[start];
+                previous = savedPositions[start];
+                start++;
+                continue;
+            }
+
+            int end = start;
+            while (end < positions.length && !isKept[end]) {
+                end++;
+            }
+            int count = end - start;
+            long next = end < positions.length ? savedPositions[end] : NO_POSITION;
+
+            // the new positions lie strictly between lower and upper
+            long lower;
+            if (previous != NO_POSITION) {
+                lower = previous;
+            } else if (next != NO_POSITION) {
+                lower = Math.max(Integer.MIN_VALUE - 1L, next - (long) POSITION_GAP * (count + 1));
+            } else {
+                lower = -POSITION_GAP;
+            }
+            long upper = next != NO_POSITION
+                    ? next
+                    : Math.min(Integer.MAX_VALUE + 1L, lower + (long) POSITION_GAP * (count + 1));
+            long step = Math.min(POSITION_GAP, (upper - lower) / (count + 1));
+            if (step < 1) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                positions[start + i] = (int) (lower + step * (i + 1));
+            }
+            start = end;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the row for {@code client}, reusing the saved row if it was built from the same client object.
+     * Clients and orders are immutable, so only the new or edited ones need to be converted again.
+     */
+    private ClientRow toClientRow(Client client, int position) {
+        ClientRow savedRow = savedClients.get(client.getName().fullName);
+        if (savedRow != null && savedRow.source == client && savedRow.position == position) {
+            return savedRow;
+        }
+        return new ClientRow(client, position);
+    }
+
+    /**
+     * Returns the row for {@code order}, reusing the saved row if it was built from the same order object.
+     */
+    private OrderRow toOrderRow(Order order, String clientName) {
+        OrderRow savedRow = savedOrders.get(order.getOrderId());
+        if (savedRow != null && savedRow.source == order && savedRow.clientName.equals(clientName)) {
+            return savedRow;
+        }
+        return new OrderRow(order, clientName);
+    }
+
+    private Connection getConnection() throws SQLException, IOException {
+        if (connection == null || connection.isClosed()) {
+            FileUtil.createParentDirsOfFile(bookKeeperFilePath);
+            connection = DriverManager.getConnection(jdbcUrl);
+            try (Statement statement = connection.createStatement()) {
+                for (String definition : SCHEMA) {
+                    statement.execute(definition);
+                }
+                liftColumnLimits(statement);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Removes the length limit from the text columns of a database created with limited ones.
+     */
+    private void liftColumnLimits(Statement statement) throws SQLException {
+        List<String> alterations = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(SELECT_LIMITED_COLUMNS)) {
+            while (resultSet.next()) {
+                alterations.add("ALTER TABLE " + resultSet.getString(1) + " ALTER COLUMN " + resultSet.getString(2)
+                        + " SET DATA TYPE VARCHAR");
+            }
+        }
+        for (String alteration : alterations) {
+            statement.execute(alteration);
+        }
+        if (!alterations.isEmpty()) {
+            logger.info("Lifted the length limits of " + alterations.size() + " columns in " + bookKeeperFilePath);
+        }
+    }
+
+    /**
+     * Reads every row of the database into {@code savedClients} and {@code savedOrders}.
+     */
+    private void loadSavedRows(Connection connection) throws SQLException {
+        Map<String, ClientRow> clients = new HashMap<>();
+        Map<OrderId, OrderRow> orders = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(SELECT_CLIENTS)) {
+                while (resultSet.next()) {
+                    ClientRow clientRow = new ClientRow(resultSet.getString(1), resultSet.getString(2),
+                            resultSet.getString(3), resultSet.getString(4), resultSet.getInt(5), new HashSet<>());
+                    clients.put(clientRow.name, clientRow);
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(SELECT_TAGS)) {
+                while (resultSet.next()) {
+                    ClientRow clientRow = clients.get(resultSet.getString(1));
+                    if (clientRow != null) {
+                        clientRow.tags.add(resultSet.getString(2));
+                    }
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(SELECT_ORDERS)) {
+                while (resultSet.next()) {
+                    String orderId = resultSet.getString(1);
+                    if (!OrderId.isValidOrderId(orderId)) {
+                        throw new SQLException(OrderId.MESSAGE_CONSTRAINTS + ": " + orderId);
+                    }
+                    OrderRow orderRow = new OrderRow(new OrderId(orderId), resultSet.getString(2),
+                            resultSet.getObject(3, LocalDateTime.class), resultSet.getObject(4, LocalDateTime.class),
+                            resultSet.getBigDecimal(5), resultSet.getString(6), resultSet.getString(7));
+                    orders.put(orderRow.orderId, orderRow);
+                }
+            }
+        }
+        savedClients = clients;
+        savedOrders = orders;
+    }
+
+    /**
+     * Converts the saved rows into a {@code JsonSerializableBookKeeper}, so that they go through the same
+     * validation as data read from a JSON file.
+     */
+    private JsonSerializableBookKeeper toJsonSerializableBookKeeper() {
+        Map<String, List<JsonAdaptedOrder>> ordersByClient = new HashMap<>();
+        for (OrderRow orderRow : savedOrders.values()) {
+            ordersByClient.computeIfAbsent(orderRow.clientName, unused -> new ArrayList<>())
+                    .add(orderRow.toJsonAdaptedOrder());
+        }
+
+        List<JsonAdaptedClient> clients = savedClients.values().stream()
+                .sorted((first, second) -> Integer.compare(first.position, second.position))
+                .map(clientRow -> new JsonAdaptedClient(clientRow.name, clientRow.phone, clientRow.email,
+                        clientRow.address,
+                        clientRow.tags.stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                        ordersByClient.get(clientRow.name)))
+                .collect(Collectors.toList());
+        return new JsonSerializableBookKeeper(clients);
+    }
+
+    /**
+     * Writes the differences between the saved rows and the given rows to the database in a single transaction.
+     */
+    private void writeChanges(Connection connection, Map<String, ClientRow> clients, Map<OrderId, OrderRow> orders)
+            throws SQLException {
+        List<ClientRow> addedClients = new ArrayList<>();
+        List<ClientRow> changedClients = new ArrayList<>();
+        List<ClientRow> clientsWithChangedTags = new ArrayList<>();
+        for (ClientRow clientRow : clients.values()) {
+            ClientRow savedRow = savedClients.get(clientRow.name);
+            if (savedRow == null) {
+                addedClients.add(clientRow);
+                clientsWithChangedTags.add(clientRow);
+                continue;
+            }
+            if (!clientRow.hasSameDetails(savedRow)) {
+                changedClients.add(clientRow);
+            }
+            if (!clientRow.tags.equals(savedRow.tags)) {
+                clientsWithChangedTags.add(clientRow);
+            }
+        }
+        List<String> removedClients = savedClients.keySet().stream()
+                .filter(name -> !clients.containsKey(name))
+                .collect(Collectors.toList());
+
+        List<OrderRow> addedOrders = new ArrayList<>();
+        List<OrderRow> changedOrders = new ArrayList<>();
+        for (OrderRow orderRow : orders.values()) {
+            OrderRow savedRow = savedOrders.get(orderRow.orderId);
+            if (savedRow == null) {
+                addedOrders.add(orderRow);
+            } else if (!orderRow.equals(savedRow)) {
+                changedOrders.add(orderRow);
+            }
+        }
+        List<OrderId> removedOrders = savedOrders.keySet().stream()
+                .filter(orderId -> !orders.containsKey(orderId))
+                .collect(Collectors.toList());
+
+        if (addedClients.isEmpty() && changedClients.isEmpty() && clientsWithChangedTags.isEmpty()
+                && removedClients.isEmpty() && addedOrders.isEmpty() && changedOrders.isEmpty()
+                && removedOrders.isEmpty()) {
+            return;
+        }
+
+        boolean isAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            // Clients are written first and deleted last, so that every order and tag always has a client row
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_CLIENT)) {
+                for (ClientRow clientRow : addedClients) {
+                    statement.setString(1, clientRow.name);
+                    statement.setString(2, clientRow.phone);
+                    statement.setString(3, clientRow.email);
+                    statement.setString(4, clientRow.address);
+                    statement.setInt(5, clientRow.position);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_CLIENT)) {
+                for (ClientRow clientRow : changedClients) {
+                    statement.setString(1, clientRow.phone);
+                    statement.setString(2, clientRow.email);
+                    statement.setString(3, clientRow.address);
+                    statement.setInt(4, clientRow.position);
+                    statement.setString(5, clientRow.name);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_TAGS)) {
+                for (ClientRow clientRow : clientsWithChangedTags) {
+                    statement.setString(1, clientRow.name);
+                    statement.addBatch();
+                }
+                for (String name : removedClients) {
+                    statement.setString(1, name);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TAG)) {
+                for (ClientRow clientRow : clientsWithChangedTags) {
+                    for (String tag : clientRow.tags) {
+                        statement.setString(1, clientRow.name);
+                        statement.setString(2, tag);
+                        statement.addBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_ORDER)) {
+                for (OrderId orderId : removedOrders) {
+                    statement.setString(1, orderId.toString());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_ORDER)) {
+                for (OrderRow orderRow : changedOrders) {
+                    orderRow.bind(statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ORDER)) {
+                for (OrderRow orderRow : addedOrders) {
+                    orderRow.bind(statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_CLIENT)) {
+                for (String name : removedClients) {
+                    statement.setString(1, name);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(isAutoCommit);
+        }
+
+        logger.fine(String.format("Wrote %d client and %d order changes to %s",
+                addedClients.size() + changedClients.size() + removedClients.size(),
+                addedOrders.size() + changedOrders.size() + removedOrders.size(), bookKeeperFilePath));
+    }
+
+    /**
+     * A row of the client table, together with the client's tags.
+     */
+    private static class ClientRow {
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final int position;
+        private final Set<String> tags;
+        /** The client this row was built from or read into, if any. Not part of the row's value. */
+        private Client source;
+
+        ClientRow(String name, String phone, String email, String address, int position, Set<String> tags) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.position = position;
+            this.tags = tags;
+        }
+
+        ClientRow(Client client, int position) {
+            this(client.getName().fullName, client.getPhone().value, client.getEmail().value,
+                    client.getAddress().value, position,
+                    client.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet()));
+            this.source = client;
+        }
+
+        /**
+         * Returns true if the client table columns of both rows are the same. Tags are not compared.
+         */
+        boolean hasSameDetails(ClientRow other) {
+            return phone.equals(other.phone)
+                    && email.equals(other.email)
+                    && address.equals(other.address)
+                    && position == other.position;
+        }
+    }
+
+    /**
+     * A row of the order table.
+     */
+    private static class OrderRow {
+        private final OrderId orderId;
+        private final String clientName;
+        private final LocalDateTime orderDate;
+        private final LocalDateTime deadline;
+        private final BigDecimal price;
+        private final String remark;
+        private final String status;
+        /** The order this row was built from or read into, if any. Not part of the row's value. */
+        private Order source;
+
+        OrderRow(OrderId orderId, String clientName, LocalDateTime orderDate, LocalDateTime deadline,
+                 BigDecimal price, String remark, String status) {
+            this.orderId = orderId;
+            this.clientName = clientName;
+            this.orderDate = orderDate;
+            this.deadline = deadline;
+            this.price = price.setScale(2, RoundingMode.HALF_UP);
+            this.remark = remark;
+            this.status = status;
+        }
+
+        OrderRow(Order order, String clientName) {
+            this(order.getOrderId(), clientName,
+                    order.getOrderDate().getDateTime(), order.getDeadline().deadline,
+                    BigDecimal.valueOf(order.getPrice().value), order.getRemark().toString(),
+                    order.getStatus().toString());
+            this.source = order;
+        }
+
+        /**
+         * Binds this row to the parameters of {@link #INSERT_ORDER} or {@link #UPDATE_ORDER}.
+         */
+        void bind(PreparedStatement statement) throws SQLException {
+            statement.setString(1, clientName);
+            statement.setObject(2, orderDate);
+            statement.setObject(3, deadline);
+            statement.setBigDecimal(4, price);
+            statement.setString(5, remark);
+            statement.setString(6, status);
+            statement.setString(7, orderId.toString());
+        }
+
+        JsonAdaptedOrder toJsonAdaptedOrder() {
+            return new JsonAdaptedOrder(orderId.toString(), DateTimeUtil.formatDateTime(orderDate),
+                    DateTimeUtil.formatDateTime(deadline), price.toPlainString(), remark, status);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof OrderRow)) {
+                return false;
+            }
+
+            OrderRow otherRow = (OrderRow) other;
+            return orderId.equals(otherRow.orderId)
+                    && clientName.equals(otherRow.clientName)
+                    && orderDate.equals(otherRow.orderDate)
+                    && deadline.equals(otherRow.deadline)
+                    && price.equals(otherRow.price)
+                    && remark.equals(otherRow.remark)
+                    && status.equals(otherRow.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(orderId, clientName, orderDate, deadline, price, remark, status);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+
+/**
+ * Jackson-friendly version of an archived {@link Order}, stored together with the details of its client.
+ */
+class JsonAdaptedArchivedOrder {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Archived order's %s field is missing!";
+
+    private final JsonAdaptedClient client;
+    private final JsonAdaptedOrder order;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedOrder} with the given client and order details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedOrder(@JsonProperty("client") JsonAdaptedClient client,
+                                    @JsonProperty("order") JsonAdaptedOrder order) {
+        this.client = client;
+        this.order = order;
+    }
+
+    /**
+     * Converts a given {@code Order} into this class for Jackson use.
+     * Only the details of the order's client are kept, not the client's other orders.
+     */
+    public JsonAdaptedArchivedOrder(Order source) {
+        Client owner = source.getClient();
+        List<JsonAdaptedTag> tags = owner.getTags().stream()
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList());
+        client = new JsonAdaptedClient(owner.getName().fullName, owner.getPhone().value, owner.getEmail().value,
+                owner.getAddress().value, tags, List.of());
+        order = new JsonAdaptedOrder(source);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code Order} object,
+     * with its client set to the archived client details.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order or client.
+     */
+    public Order toModelType() throws IllegalValueException {
+        if (client == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Client.class.getSimpleName()));
+        }
+        if (order == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Order.class.getSimpleName()));
+        }
+        Order modelOrder = order.toModelType();
+        modelOrder.setClient(client.toModelType());
+        return modelOrder;
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderDate;
@@ -77,20 +81,22 @@ public class JsonAdaptedOrder {
                     OrderDate.class.getSimpleName()));
         }
 
-        if (!OrderDate.isValidOrderDate(orderDate)) {
+        final Optional<LocalDateTime> parsedOrderDate = DateTimeUtil.tryParseDateTime(orderDate);
+        if (parsedOrderDate.isEmpty()) {
             throw new IllegalValueException(OrderDate.MESSAGE_CONSTRAINTS);
         }
-        final OrderDate modelOrderDate = new OrderDate(orderDate);
+        final OrderDate modelOrderDate = OrderDate.of(parsedOrderDate.get());
 
         if (deadline == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Deadline.class.getSimpleName()));
         }
 
-        if (!Deadline.isValidDeadline(deadline)) {
+        final Optional<LocalDateTime> parsedDeadline = DateTimeUtil.tryParseDateTime(deadline);
+        if (parsedDeadline.isEmpty()) {
             throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
         }
-        final Deadline modelDeadline = new Deadline(deadline);
+        final Deadline modelDeadline = Deadline.of(parsedDeadline.get());
 
         if (price == null) {
             throw new NumberFormatException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Price.class.getSimpleName()));
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderId;
+
+/**
+ * An order archive stored on the hard disk as line-delimited JSON, one archived order per line.
+ * Archiving only ever appends to the file, and lookups stream through it, so the archive can grow
+ * without its contents being held in memory. Only the IDs of the archived orders are kept, once the
+ * first orders are archived, so that orders already in the archive are not appended again.
+ */
+public class JsonOrderArchiveStorage implements OrderArchiveStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonOrderArchiveStorage.class);
+
+    private final Path filePath;
+    /** The IDs of the orders in the archive, or null if the archive has not been read for them yet. */
+    private Set<OrderId> archivedIds;
+
+    /**
+     * Constructs a {@code JsonOrderArchiveStorage} backed by the file at {@code filePath}.
+     */
+    public JsonOrderArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getOrderArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void archiveOrders(List<Order> orders) throws IOException {
+        requireNonNull(orders);
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        if (archivedIds == null) {
+            archivedIds = readArchivedIds();
+        }
+        FileUtil.createIfMissing(filePath);
+        int appended = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            for (Order order : orders) {
+                if (archivedIds.contains(order.getOrderId())) {
+                    continue;
+                }
+                writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedArchivedOrder(order)));
+                writer.newLine();
+                archivedIds.add(order.getOrderId());
+                appended++;
+            }
+        } catch (IOException e) {
+            // what was written before the failure is not known, so the archive is read for its IDs again next time
+            archivedIds = null;
+            throw e;
+        }
+        logger.info("Archived " + appended + " orders to " + filePath);
+    }
+
+    @Override
+    public synchronized List<Order> findOrders(Predicate<Order> predicate, int limit) throws DataLoadingException {
+        requireNonNull(predicate);
+        checkArgument(limit > 0, "Limit must be positive");
+        // only the last limit matches are kept while reading, however many orders match
+        Deque<Order> matches = new ArrayDeque<>();
+        scan(order -> {
+            if (predicate.test(order)) {
+                if (matches.size() == limit) {
+                    matches.removeFirst();
+                }
+                matches.addLast(order);
+            }
+        });
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Reads the whole archive and returns the IDs of the orders in it.
+     */
+    private Set<OrderId> readArchivedIds() throws IOException {
+        Set<OrderId> ids = new HashSet<>();
+        try {
+            scan(order -> ids.add(order.getOrderId()));
+        } catch (DataLoadingException e) {
+            throw new IOException("Order archive could not be read", e);
+        }
+        return ids;
+    }
+
+    /**
+     * Reads the archive from the start and passes each order in it to {@code action}, in the order they were
+     * archived. Only one order is held in memory at a time.
+     */
+    private void scan(Consumer<Order> action) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                action.accept(JsonUtil.fromJsonString(line, JsonAdaptedArchivedOrder.class).toModelType());
+            }
+        } catch (IOException | IllegalValueException | NumberFormatException e) {
+            logger.warning("Error reading from order archive " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+}
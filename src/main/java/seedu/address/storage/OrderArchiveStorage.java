@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+
+/**
+ * Represents a storage for orders that have been moved out of the active order list.
+ */
+public interface OrderArchiveStorage extends OrderArchive {
+
+    /**
+     * Returns the file path of the order archive.
+     */
+    Path getOrderArchiveFilePath();
+
+    /**
+     * Appends the given orders to the archive. Orders already in the archive are not appended again.
+     *
+     * @param orders cannot be null.
+     * @throws IOException if there was any problem writing to the archive.
+     */
+    void archiveOrders(List<Order> orders) throws IOException;
+}
@@ -2,17 +2,20 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyBookKeeper;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
 
 /**
  * API of the Storage component.
  */
-public interface Storage extends BookKeeperStorage, UserPrefsStorage {
+public interface Storage extends BookKeeperStorage, UserPrefsStorage, OrderArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,5 +32,13 @@ public interface Storage extends BookKeeperStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyBookKeeper addressBook) throws IOException;
 
+    @Override
+    Path getOrderArchiveFilePath();
+
+    @Override
+    void archiveOrders(List<Order> orders) throws IOException;
+
+    @Override
+    List<Order> findOrders(Predicate<Order> predicate, int limit) throws DataLoadingException;
 
 }
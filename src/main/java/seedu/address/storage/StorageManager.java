@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,22 +12,38 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyBookKeeper;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
 
 /**
  * Manages storage of BookKeeper data in local storage.
  */
 public class StorageManager implements Storage {
 
+    public static final String DEFAULT_ORDER_ARCHIVE_FILE_NAME = "orderarchive.jsonl";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final BookKeeperStorage bookKeeperStorage;
     private final UserPrefsStorage userPrefsStorage;
+    private final OrderArchiveStorage orderArchiveStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code BookKeeperStorage} and {@code UserPrefStorage}.
+     * Archived orders are kept in {@link #DEFAULT_ORDER_ARCHIVE_FILE_NAME} next to the bookkeeper data file.
      */
     public StorageManager(BookKeeperStorage bookKeeperStorage, UserPrefsStorage userPrefsStorage) {
+        this(bookKeeperStorage, userPrefsStorage, new JsonOrderArchiveStorage(
+                bookKeeperStorage.getBookKeeperFilePath().resolveSibling(DEFAULT_ORDER_ARCHIVE_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code BookKeeperStorage}, {@code UserPrefStorage}
+     * and {@code OrderArchiveStorage}.
+     */
+    public StorageManager(BookKeeperStorage bookKeeperStorage, UserPrefsStorage userPrefsStorage,
+                          OrderArchiveStorage orderArchiveStorage) {
         this.bookKeeperStorage = bookKeeperStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.orderArchiveStorage = orderArchiveStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -74,4 +92,28 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         bookKeeperStorage.saveAddressBook(addressBook, filePath);
     }
+
+    @Override
+    public void close() {
+        logger.fine("Closing data file: " + bookKeeperStorage.getBookKeeperFilePath());
+        bookKeeperStorage.close();
+    }
+
+    // ================ OrderArchive methods ==============================
+
+    @Override
+    public Path getOrderArchiveFilePath() {
+        return orderArchiveStorage.getOrderArchiveFilePath();
+    }
+
+    @Override
+    public void archiveOrders(List<Order> orders) throws IOException {
+        logger.fine("Attempting to archive " + orders.size() + " orders to: " + getOrderArchiveFilePath());
+        orderArchiveStorage.archiveOrders(orders);
+    }
+
+    @Override
+    public List<Order> findOrders(Predicate<Order> predicate, int limit) throws DataLoadingException {
+        return orderArchiveStorage.findOrders(predicate, limit);
+    }
 }
@@ -1,11 +1,23 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Label;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.control.TextFormatter;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.CommandExecution;
+import seedu.address.logic.Completion;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -15,20 +27,59 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Pattern LINE_BREAKS = Pattern.compile("[\\r\\n]+");
+    private static final String COMMAND_SEPARATOR = "; ";
+    private static final String STATUS_RUNNING = "Running %1$d...";
+    private static final String STATUS_SAVING = "Saving...";
 
     private final CommandExecutor commandExecutor;
+    private final Completer completer;
+    private final Previewer previewer;
+    private final ContextMenu suggestions = new ContextMenu();
+
+    /** The number of submitted commands that have not been executed yet. */
+    private int runningCount;
+    /** The number of submitted commands that have not been saved yet. */
+    private int savingCount;
+    /** Whether the text is being set to a command that has already been submitted, which is not to be previewed. */
+    private boolean isRestoringCommand;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private Label statusLabel;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code Completer} and {@code Previewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Completer completer, Previewer previewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completer = completer;
+        this.previewer = previewer;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            suggestions.hide();
+            if (!isRestoringCommand) {
+                previewer.preview(newText);
+            }
+        });
+        // Tab would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !event.isShiftDown()) {
+                event.consume();
+                handleCompletionRequested();
+            }
+        });
+        // a text field drops line breaks, so pasted lines are kept apart as separate commands instead
+        commandTextField.setTextFormatter(new TextFormatter<>(change -> {
+            if (change.isContentChange()) {
+                change.setText(LINE_BREAKS.matcher(change.getText()).replaceAll(COMMAND_SEPARATOR));
+            }
+            return change;
+        }));
     }
 
     /**
@@ -41,11 +92,103 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        CommandExecution execution;
         try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+            execution = commandExecutor.execute(commandText);
+        } catch (ParseException e) {
             setStyleToIndicateCommandFailure();
+            return;
+        }
+
+        // the next command can be typed while this one runs
+        commandTextField.setText("");
+        runningCount++;
+        savingCount++;
+        updateStatus();
+
+        execution.getResult().whenCompleteAsync((unused, error) -> {
+            runningCount--;
+            updateStatus();
+            // give a failed command back to be corrected, unless the next command is already being typed
+            if (error != null && commandTextField.getText().isEmpty()) {
+                isRestoringCommand = true;
+                commandTextField.setText(commandText);
+                isRestoringCommand = false;
+                setStyleToIndicateCommandFailure();
+            }
+        }, Platform::runLater);
+        execution.getSaved().whenCompleteAsync((unused, error) -> {
+            savingCount--;
+            updateStatus();
+        }, Platform::runLater);
+    }
+
+    /**
+     * Handles the Tab button pressed event. A single suggestion is filled in straight away. Otherwise, the part that
+     * all suggestions share is filled in, and the suggestions are listed to choose from.
+     */
+    private void handleCompletionRequested() {
+        String commandText = commandTextField.getText();
+        List<Completion> completions = completer.complete(commandText);
+        if (completions.isEmpty()) {
+            return;
+        }
+        if (completions.size() == 1) {
+            setCommandText(completions.get(0).getCommandText());
+            return;
+        }
+
+        String sharedText = getSharedPrefix(completions);
+        if (sharedText.length() > commandText.length()) {
+            setCommandText(sharedText);
+        }
+        showSuggestions(completions);
+    }
+
+    private void showSuggestions(List<Completion> completions) {
+        List<MenuItem> items = new ArrayList<>();
+        for (Completion completion : completions) {
+            MenuItem item = new MenuItem(completion.getLabel());
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> setCommandText(completion.getCommandText()));
+            items.add(item);
+        }
+        suggestions.getItems().setAll(items);
+        suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    private void setCommandText(String commandText) {
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+    }
+
+    /**
+     * Returns the longest text that the command texts of all {@code completions} start with.
+     */
+    private static String getSharedPrefix(List<Completion> completions) {
+        String shared = completions.get(0).getCommandText();
+        for (Completion completion : completions) {
+            String commandText = completion.getCommandText();
+            int length = 0;
+            while (length < shared.length() && length < commandText.length()
+                    && shared.charAt(length) == commandText.charAt(length)) {
+                length++;
+            }
+            shared = shared.substring(0, length);
+        }
+        return shared;
+    }
+
+    /**
+     * Shows whether any submitted command is still running or being saved.
+     */
+    private void updateStatus() {
+        if (runningCount > 0) {
+            statusLabel.setText(String.format(STATUS_RUNNING, runningCount));
+        } else if (savingCount > 0) {
+            statusLabel.setText(STATUS_SAVING);
+        } else {
+            statusLabel.setText("");
         }
     }
 
@@ -75,11 +218,37 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed and returns its execution.
+         *
+         * @see seedu.address.logic.Logic#submit(String)
+         */
+        CommandExecution execute(String commandText) throws ParseException;
+    }
+
+    /**
+     * Represents a function that suggests ways of completing a command.
+     */
+    @FunctionalInterface
+    public interface Completer {
+        /**
+         * Returns ways of completing the last word of {@code commandText}.
+         *
+         * @see seedu.address.logic.Logic#complete(String)
+         */
+        List<Completion> complete(String commandText);
+    }
+
+    /**
+     * Represents a function that shows what a command would find while it is being typed.
+     */
+    @FunctionalInterface
+    public interface Previewer {
+        /**
+         * Previews {@code commandText} in the lists, if it is a command that can be previewed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#preview(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void preview(String commandText);
     }
 
 }
@@ -0,0 +1,172 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A copy of a list that may be changed on another thread, kept up to date on the JavaFX Application Thread so that
+ * it can be shown in the UI.
+ * <p>
+ * Each change to the source list is recorded on the thread that made it, as the items added, the number removed and
+ * the moves at each position, and the same change is then made to the copy. Only the changed positions are copied,
+ * so the UI keeps its selection, scroll position and the cells of the items that did not change. Changes made while
+ * the JavaFX Application Thread is busy are made together in a single turn of it.
+ */
+class FxListMirror<T> {
+
+    private final MirrorList<T> mirror;
+    /** The changes to the source list that have not been made to the copy yet, oldest first. */
+    private final List<List<Step<T>>> pendingChanges = new ArrayList<>();
+
+    private FxListMirror(ObservableList<T> source) {
+        mirror = new MirrorList<>(source);
+        source.addListener((ListChangeListener<T>) change -> update(record(change)));
+    }
+
+    /**
+     * Returns an unmodifiable list that follows {@code source}, but only ever changes on the JavaFX Application
+     * Thread. Must be called while {@code source} is not being changed.
+     */
+    static <T> ObservableList<T> of(ObservableList<T> source) {
+        return FXCollections.unmodifiableObservableList(new FxListMirror<>(source).mirror);
+    }
+
+    private void update(List<Step<T>> steps) {
+        boolean isFirstPending;
+        synchronized (pendingChanges) {
+            isFirstPending = pendingChanges.isEmpty();
+            pendingChanges.add(steps);
+        }
+
+        if (Platform.isFxApplicationThread()) {
+            applyPendingChanges();
+        } else if (isFirstPending) {
+            Platform.runLater(this::applyPendingChanges);
+        }
+    }
+
+    /**
+     * Makes the pending changes to the copy, in the order they were made to the source list.
+     * Must be called on the JavaFX Application Thread.
+     */
+    private void applyPendingChanges() {
+        List<List<Step<T>>> changes;
+        synchronized (pendingChanges) {
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        changes.forEach(mirror::apply);
+    }
+
+    /**
+     * Returns the steps of {@code change}, with the items they add copied so that they can be made later.
+     */
+    private static <T> List<Step<T>> record(ListChangeListener.Change<? extends T> change) {
+        List<Step<T>> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - from];
+                for (int i = from; i < change.getTo(); i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                steps.add(new Step<>(from, 0, List.of(), permutation, false));
+            } else if (change.wasUpdated()) {
+                steps.add(new Step<>(from, 0, List.copyOf(change.getList().subList(from, change.getTo())), null,
+                        true));
+            } else {
+                steps.add(new Step<>(from, change.getRemovedSize(), List.copyOf(change.getAddedSubList()), null,
+                        false));
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * One part of a change to the source list: the items at {@code from} were either moved by a permutation,
+     * updated in place, or {@code removedSize} of them were replaced by the items added.
+     */
+    private static class Step<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> items;
+        private final int[] permutation;
+        private final boolean isUpdate;
+
+        private Step(int from, int removedSize, List<T> items, int[] permutation, boolean isUpdate) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.items = items;
+            this.permutation = permutation;
+            this.isUpdate = isUpdate;
+        }
+    }
+
+    /**
+     * The copy of the source list, which tells its listeners exactly what changed at each step.
+     */
+    private static class MirrorList<T> extends ObservableListBase<T> {
+        private final List<T> items;
+
+        private MirrorList(List<T> items) {
+            this.items = new ArrayList<>(items);
+        }
+
+        @Override
+        public T get(int index) {
+            return items.get(index);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        /**
+         * Makes the steps of one change to the source list, and tells the listeners about them as one change.
+         */
+        private void apply(List<Step<T>> steps) {
+            beginChange();
+            for (Step<T> step : steps) {
+                if (step.permutation != null) {
+                    permute(step);
+                } else if (step.isUpdate) {
+                    for (int i = 0; i < step.items.size(); i++) {
+                        items.set(step.from + i, step.items.get(i));
+                        nextUpdate(step.from + i);
+                    }
+                } else {
+                    replace(step);
+                }
+            }
+            endChange();
+        }
+
+        private void permute(Step<T> step) {
+            List<T> moved = new ArrayList<>(items.subList(step.from, step.from + step.permutation.length));
+            for (int i = 0; i < moved.size(); i++) {
+                items.set(step.permutation[i], moved.get(i));
+            }
+            nextPermutation(step.from, step.from + step.permutation.length, step.permutation);
+        }
+
+        private void replace(Step<T> step) {
+            List<T> replaced = items.subList(step.from, step.from + step.removedSize);
+            List<T> removed = new ArrayList<>(replaced);
+            replaced.clear();
+            items.addAll(step.from, step.items);
+            if (!removed.isEmpty()) {
+                nextRemove(step.from, removed);
+            }
+            if (!step.items.isEmpty()) {
+                nextAdd(step.from, step.from + step.items.size());
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +14,13 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandExecution;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Order;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -36,6 +41,10 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
+    // Copies of the lists in logic that are only changed on the JavaFX Application Thread
+    private ObservableList<Order> orderList;
+    private ObservableList<Order> orderHistoryList;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -115,10 +124,12 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        clientListPanel = new ClientListPanel(logic.getFilteredClientList());
+        clientListPanel = new ClientListPanel(FxListMirror.of(logic.getFilteredClientList()));
         clientListPanelPlaceholder.getChildren().add(clientListPanel.getRoot());
 
-        orderListPanel = new OrderListPanel(logic.getFilteredOrderList());
+        orderList = FxListMirror.of(logic.getFilteredOrderList());
+        orderHistoryList = FxListMirror.of(logic.getOrderHistoryList());
+        orderListPanel = new OrderListPanel(orderList);
         orderListPanelPlaceholder.getChildren().add(orderListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -127,7 +138,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::complete, logic::preview);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -172,29 +183,56 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed in the background, and shows its result once it has been executed.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CommandExecution executeCommand(String commandText) throws ParseException {
+        CommandExecution execution;
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            execution = logic.submit(commandText);
+        } catch (ParseException e) {
+            logger.info("An error occurred while parsing command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            throw e;
+        }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+        execution.getResult().whenCompleteAsync((commandResult, error) -> {
+            if (error == null) {
+                showResult(commandResult);
+            } else {
+                showError(commandText, error);
             }
-
-            if (commandResult.isExit()) {
-                handleExit();
+        }, Platform::runLater);
+        execution.getSaved().whenCompleteAsync((unused, error) -> {
+            if (error != null) {
+                resultDisplay.setFeedbackToUser(error.getMessage());
             }
+        }, Platform::runLater);
+        return execution;
+    }
+
+    private void showResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        orderListPanel.setOrderList(commandResult.isShowHistory() ? orderHistoryList : orderList);
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    private void showError(String commandText, Throwable error) {
+        if (error instanceof CommandException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(error.getMessage());
+            return;
         }
+        logger.severe("Unexpected error while executing command: " + commandText + StringUtil.getDetails(error));
+        resultDisplay.setFeedbackToUser(error.toString());
     }
 }
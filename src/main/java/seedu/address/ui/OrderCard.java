@@ -33,6 +33,8 @@ public class OrderCard extends UiPart<Region> {
     @FXML
     private Label clientName;
     @FXML
+    private Label orderId;
+    @FXML
     private Label orderDate;
     @FXML
     private Label deadline;
@@ -53,6 +55,7 @@ public class OrderCard extends UiPart<Region> {
         this.order = order;
         id.setText(displayedIndex + ". ");
         clientName.setText("Client Name: " + order.getClient().getName().toString());
+        orderId.setText("ID: #" + order.getOrderId().toString());
         orderDate.setText("Date: " + order.getOrderDate().toString());
         deadline.setText("Deadline: " + order.getDeadline().toString());
         price.setText("Price: " + order.getPrice().toString());
@@ -30,6 +30,15 @@ public class OrderListPanel extends UiPart<Region> {
         orderListView.setCellFactory(listView -> new OrderListViewCell());
     }
 
+    /**
+     * Displays {@code orderList} in this panel in place of the list currently shown.
+     */
+    public void setOrderList(ObservableList<Order> orderList) {
+        if (orderListView.getItems() != orderList) {
+            orderListView.setItems(orderList);
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Order} using a {@code OrderCard}.
      */
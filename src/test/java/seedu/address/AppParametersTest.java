@@ -39,10 +39,64 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_restoreBackupId_success() {
+        parametersStub.namedParameters.put("restore", " latest ");
+        expected.setRestoreBackupId("latest");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_blankRestoreBackupId_ignored() {
+        parametersStub.namedParameters.put("restore", " ");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_scriptAndCheckpoint_success() {
+        parametersStub.namedParameters.put("script", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", " 100 ");
+        expected.setScriptPath("commands.txt");
+        expected.setCheckpointInterval(100);
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_noScript_notHeadless() {
+        assertFalse(AppParameters.parse(parametersStub).isHeadless());
+    }
+
+    @Test
+    public void parse_invalidScriptPath_readsStandardInput() {
+        parametersStub.namedParameters.put("script", "a\0");
+        expected.setScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCheckpoint_savesOnlyAtEnd() {
+        parametersStub.namedParameters.put("checkpoint", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        parametersStub.namedParameters.put("checkpoint", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--script=-", "unnamed", "--=x"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", restoreBackupId=" + appParameters.getRestoreBackupId()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +120,21 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different restore backup id -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setRestoreBackupId("latest");
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(AppParameters.STANDARD_INPUT);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
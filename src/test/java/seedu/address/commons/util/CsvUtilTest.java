@@ -0,0 +1,48 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+    }
+
+    @Test
+    public void parseLine_unquotedFields_success() throws Exception {
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.parseLine("a, b ,,c"));
+        assertEquals(List.of("a", ""), CsvUtil.parseLine("a,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_success() throws Exception {
+        assertEquals(List.of("a,b", "say \"hi\"", ""), CsvUtil.parseLine("\"a,b\",\"say \"\"hi\"\"\",\"\""));
+        assertEquals(List.of("x", "1, Main St"), CsvUtil.parseLine("x,\"1, Main St\""));
+    }
+
+    @Test
+    public void parseLine_malformedQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseLine("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNEXPECTED_QUOTE, () ->
+                CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void toLine_roundTrip_success() throws Exception {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", "", "multi\nline");
+        String line = CsvUtil.toLine(fields);
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",,\"multi\nline\"", line);
+        assertEquals(List.of("plain", "with, comma", "with \"quote\""),
+                CsvUtil.parseLine(CsvUtil.toLine(fields.subList(0, 3))));
+    }
+}
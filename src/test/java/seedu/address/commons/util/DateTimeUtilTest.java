@@ -3,8 +3,12 @@ package seedu.address.commons.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -68,4 +72,70 @@ class DateTimeUtilTest {
     void getCurrentTime_currentTime_success() {
         assertEquals(DateTimeUtil.formatDateTime(LocalDateTime.now()), DateTimeUtil.getCurrentTime());
     }
+
+    @Test
+    void tryParseDateTime_allFieldRanges_matchesFormatter() {
+        int[] years = {0, 1900, 2000, 2023, 2024, 2100, 9999};
+        for (int year : years) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    for (int hour : new int[] {0, 23, 24}) {
+                        for (int minute : new int[] {0, 59, 60}) {
+                            assertMatchesFormatter(String.format("%02d-%02d-%04d %02d:%02d",
+                                    day, month, year, hour, minute));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void tryParseDateTime_malformed_matchesFormatter() {
+        String[] texts = {"", "01-01-2024 10:0", "01-01-2024 10:000", "01-01-2024T10:00", "01-01-2024  10:00",
+            "1-01-2024 10:00 ", "0a-01-2024 10:00", "01-01-2024 10:00\n", "\u0661\u0662-01-2024 10:00",
+            "01-01-+024 10:00", "01-01--024 10:00", "01-01-20240 10:00", "01-01-+2024 10:00", "01-01-+20240 10:00",
+            "01-01--0001 10:00", "01-01--0000 10:00", "29-02--0004 10:00", "29-02-+10004 10:00", "31-12-2024 23:59"};
+        for (String text : texts) {
+            assertMatchesFormatter(text);
+        }
+        assertEquals(Optional.of(LocalDateTime.of(-1, 1, 1, 10, 0)),
+                DateTimeUtil.tryParseDateTime("01-01--0001 10:00"));
+        assertEquals(Optional.of(LocalDateTime.of(20240, 1, 1, 10, 0)),
+                DateTimeUtil.tryParseDateTime("01-01-+20240 10:00"));
+    }
+
+    @Test
+    void parseDateTime_invalid_throwsDateTimeParseException() {
+        assertThrows(DateTimeParseException.class, () -> DateTimeUtil.parseDateTime("29-02-2023 00:00"));
+        assertThrows(NullPointerException.class, () -> DateTimeUtil.parseDateTime(null));
+    }
+
+    @Test
+    void formatDateTime_randomDateTimes_matchesFormatter() {
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.of(random.nextInt(12000) - 1000, random.nextInt(12) + 1,
+                    random.nextInt(28) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60));
+            assertEquals(dateTime.format(DateTimeUtil.FORMATTER), DateTimeUtil.formatDateTime(dateTime));
+        }
+    }
+
+    @Test
+    void appendDateTime_sharedBuffer_appendsEachDate() {
+        StringBuilder builder = new StringBuilder("due ");
+        DateTimeUtil.appendDateTime(builder, LocalDateTime.of(2024, 2, 29, 9, 5)).append(", ");
+        DateTimeUtil.appendDateTime(builder, LocalDateTime.of(10000, 1, 1, 0, 0));
+        assertEquals("due 29-02-2024 09:05, 01-01-+10000 00:00", builder.toString());
+    }
+
+    private static void assertMatchesFormatter(String text) {
+        Optional<LocalDateTime> expected;
+        try {
+            expected = Optional.of(LocalDateTime.parse(text, DateTimeUtil.FORMATTER));
+        } catch (DateTimeParseException e) {
+            expected = Optional.empty();
+        }
+        assertEquals(expected, DateTimeUtil.tryParseDateTime(text), text);
+    }
 }
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(-1));
+    }
+
+    @Test
+    public void get_missingKey_returnsEmpty() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        assertFalse(cache.get("a").isPresent());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // reading "a" makes "b" the least recently used entry
+        assertEquals(Optional.of(1), cache.get("a"));
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("a").isPresent());
+        assertFalse(cache.get("b").isPresent());
+        assertTrue(cache.get("c").isPresent());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("a", 2);
+        assertEquals(1, cache.size());
+        assertEquals(Optional.of(2), cache.get("a"));
+    }
+
+    @Test
+    public void removeAndClear() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.remove("a");
+        assertFalse(cache.get("a").isPresent());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void removeIf_keepsOrderOfRemainingEntries() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("b");
+
+        assertEquals(1, cache.removeIf((key, value) -> value == 2));
+        assertEquals(0, cache.removeIf((key, value) -> key.equals("a")));
+        assertEquals(1, cache.size());
+
+        // removing "b" frees up room, so adding "d" evicts nothing
+        cache.put("d", 4);
+        assertTrue(cache.get("c").isPresent());
+        assertTrue(cache.get("d").isPresent());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixIndexTest {
+
+    @Test
+    public void add_invalidText_throwsException() {
+        PrefixIndex index = new PrefixIndex();
+        assertThrows(NullPointerException.class, () -> index.add(null));
+        assertThrows(IllegalArgumentException.class, () -> index.add("a\0b"));
+    }
+
+    @Test
+    public void getWithPrefix_ignoresCase() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Alex Yeoh");
+        index.add("alice");
+        index.add("Bernice Yu");
+        index.add("ALAN");
+
+        assertEquals(List.of("ALAN", "Alex Yeoh", "alice"), index.getWithPrefix("al", 10));
+        assertEquals(List.of("Alex Yeoh"), index.getWithPrefix("ALEX Y", 10));
+        assertEquals(List.of("ALAN", "Alex Yeoh", "alice", "Bernice Yu"), index.getWithPrefix("", 10));
+        assertEquals(List.of(), index.getWithPrefix("c", 10));
+    }
+
+    @Test
+    public void getWithPrefix_limit_returnsFirstMatches() {
+        PrefixIndex index = new PrefixIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add(String.format("Client %04d", i));
+        }
+
+        assertEquals(List.of("Client 0000", "Client 0001"), index.getWithPrefix("client", 2));
+        assertEquals(List.of("Client 0990", "Client 0991"), index.getWithPrefix("client 099", 2));
+        assertEquals(List.of(), index.getWithPrefix("client", 0));
+        assertThrows(IllegalArgumentException.class, () -> index.getWithPrefix("client", -1));
+    }
+
+    @Test
+    public void getWithPrefix_differentCase_keptApart() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("vip");
+        index.add("VIP");
+        assertEquals(2, index.size());
+        assertEquals(List.of("VIP", "vip"), index.getWithPrefix("v", 10));
+    }
+
+    @Test
+    public void remove_countsEveryAdd() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("friends");
+        index.add("friends");
+
+        index.remove("friends");
+        assertTrue(index.contains("friends"));
+
+        index.remove("friends");
+        assertFalse(index.contains("friends"));
+        assertEquals(0, index.size());
+
+        // removing a string that is not in the index does nothing
+        index.remove("friends");
+        assertEquals(0, index.size());
+    }
+}
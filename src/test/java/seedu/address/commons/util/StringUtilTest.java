@@ -123,6 +123,52 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsApproximately --------------------------------------
+
+    @Test
+    public void containsApproximately_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsApproximately(null, "a", 0));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsApproximately("a", null, 0));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.containsApproximately("a", "a", -1));
+    }
+
+    @Test
+    public void containsApproximately_validInputs_correctResult() {
+        // exact substrings
+        assertTrue(StringUtil.containsApproximately("serangoon ave", "rangoon", 0));
+        assertTrue(StringUtil.containsApproximately("serangoon ave", "", 0));
+        assertFalse(StringUtil.containsApproximately("serangoon ave", "serangon", 0));
+
+        // one edit: missing, extra and wrong characters
+        assertTrue(StringUtil.containsApproximately("serangoon ave", "seragoon", 1));
+        assertTrue(StringUtil.containsApproximately("serangoon ave", "serranggoon", 2));
+        assertTrue(StringUtil.containsApproximately("alex yeoh", "yeah", 1));
+        assertFalse(StringUtil.containsApproximately("alex yeoh", "yaeh", 1));
+
+        // a pattern no longer than the number of edits always matches
+        assertTrue(StringUtil.containsApproximately("", "ab", 2));
+        assertFalse(StringUtil.containsApproximately("", "ab", 1));
+
+        // characters are compared exactly
+        assertFalse(StringUtil.containsApproximately("Alex", "alex", 0));
+    }
+
+    @Test
+    public void containsApproximately_patternLongerThan64_correctResult() {
+        String text = "block 123 serangoon avenue 3 #05-67 singapore 550123, beside the bus interchange";
+        String pattern = text.substring(2, 70);
+        assertTrue(StringUtil.containsApproximately(text, pattern, 0));
+        assertTrue(StringUtil.containsApproximately(text, pattern.replace("serangoon", "serangon"), 1));
+        assertFalse(StringUtil.containsApproximately(text, pattern.replace("serangoon", "srangon"), 1));
+    }
+
+    @Test
+    public void containsApproximately_nonAsciiCharacters_correctResult() {
+        assertTrue(StringUtil.containsApproximately("caf\u00e9 street", "cafe", 1));
+        assertTrue(StringUtil.containsApproximately("caf\u00e9 street", "caf\u00e9 st", 0));
+        assertFalse(StringUtil.containsApproximately("caf\u00e9 street", "cafe", 0));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the validators in {@link ValidationUtil} with the {@code String#matches} and exception-based checks they
+ * replaced, on a mix of valid and invalid values for each field.
+ * <p>
+ * Run with {@code gradlew benchmark -PbenchmarkClass=seedu.address.commons.util.ValidationBenchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final long TARGET_NANOS = 500_000_000L;
+
+    /** Keeps the results reachable so that the checks cannot be optimized away. */
+    private static int sink;
+
+    public static void main(String[] args) {
+        String uuid = UUID.randomUUID().toString();
+
+        System.out.println("field,previousNsPerOp,validatorNsPerOp");
+        run("name", List.of("Alice Pauline", "Bob Choo 2", "Jo_hn", ""),
+                test -> test.matches(Name.VALIDATION_REGEX), ValidationUtil::isAlphanumericWords);
+        run("phone", List.of("94351253", "12", "9435a253"),
+                test -> test.matches(Phone.VALIDATION_REGEX), test -> ValidationUtil.isDigits(test, 3));
+        run("email", List.of("alice@example.com", "alice.pauline+work@mail.example-corp.com", "alice@example", "a@b"),
+                test -> test.matches(Email.VALIDATION_REGEX), ValidationUtil::isEmail);
+        run("address", List.of("123, Jurong West Ave 6, #08-111", " leading space"),
+                test -> test.matches(Address.VALIDATION_REGEX), ValidationUtil::isNonBlankLine);
+        run("tag", List.of("friends", "best friends"),
+                test -> test.matches(Tag.VALIDATION_REGEX), ValidationUtil::isAlphanumeric);
+        run("remark", List.of("10 cupcakes, no nuts", ""),
+                test -> test.matches(Remark.VALIDATION_REGEX) && !test.isEmpty(), ValidationUtil::isNonBlankLine);
+        run("orderId", List.of(uuid, "not a uuid", uuid.toUpperCase()),
+                ValidationBenchmark::isUuidByParsing, ValidationUtil::isUuid);
+
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static void run(String field, List<String> samples, Predicate<String> previous,
+            Predicate<String> validator) {
+        // warm up both before measuring either
+        measure(samples, previous);
+        measure(samples, validator);
+
+        long previousNanos = measure(samples, previous);
+        long validatorNanos = measure(samples, validator);
+        System.out.printf("%s,%d,%d%n", field, previousNanos, validatorNanos);
+    }
+
+    /**
+     * Returns the average time taken by {@code check} on one sample, in nanoseconds.
+     */
+    private static long measure(List<String> samples, Predicate<String> check) {
+        long checks = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 1000; i++) {
+                for (String sample : samples) {
+                    sink += check.test(sample) ? 1 : 0;
+                }
+            }
+            checks += 1000L * samples.size();
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < TARGET_NANOS);
+        return elapsed / checks;
+    }
+
+    private static boolean isUuidByParsing(String test) {
+        try {
+            UUID.fromString(test);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Remark;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters that the validation regexes treat differently, plus a few they all reject. */
+    private static final String ALPHABET = "aZ09 +_.-@\t\n\r\u000B\u0085\u2028\u00e9\u0661";
+    private static final String EMAIL_ALPHABET = "ab1+_.-@";
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    public void isAlphanumeric_matchesRegex() {
+        assertMatchesRegex(Tag.VALIDATION_REGEX, ValidationUtil::isAlphanumeric, ALPHABET);
+    }
+
+    @Test
+    public void isAlphanumericWords_matchesRegex() {
+        assertMatchesRegex(Name.VALIDATION_REGEX, ValidationUtil::isAlphanumericWords, ALPHABET);
+    }
+
+    @Test
+    public void isDigits_matchesRegex() {
+        assertMatchesRegex(Phone.VALIDATION_REGEX, test -> ValidationUtil.isDigits(test, 3), ALPHABET);
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662\u0663", 3)); // non-ASCII digits
+    }
+
+    @Test
+    public void isNonBlankLine_matchesRegex() {
+        assertMatchesRegex(Address.VALIDATION_REGEX, ValidationUtil::isNonBlankLine, ALPHABET);
+        assertMatchesRegex(Remark.VALIDATION_REGEX, ValidationUtil::isNonBlankLine, ALPHABET);
+        assertTrue(ValidationUtil.isNonBlankLine("\u0085 first character may be any non-whitespace"));
+        assertFalse(ValidationUtil.isNonBlankLine("two\nlines"));
+    }
+
+    @Test
+    public void isEmail_matchesRegex() {
+        assertMatchesRegex(Email.VALIDATION_REGEX, ValidationUtil::isEmail, EMAIL_ALPHABET);
+
+        // the last domain label must be splittable into two labels
+        assertTrue(ValidationUtil.isEmail("a@b.c-de"));
+        assertFalse(ValidationUtil.isEmail("a@b.c-d"));
+        assertFalse(ValidationUtil.isEmail("a@b.c--de"));
+    }
+
+    @Test
+    public void isUuid() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isUuid(null));
+
+        assertFalse(ValidationUtil.isUuid("")); // empty
+        assertFalse(ValidationUtil.isUuid("1-1-1-1-1")); // not in the standard form
+        assertFalse(ValidationUtil.isUuid("69c25c8d-9e34-4d9d-8bad-e378f203ae7")); // too short
+        assertFalse(ValidationUtil.isUuid("69c25c8d-9e34-4d9d-8bad-e378f203ae711")); // too long
+        assertFalse(ValidationUtil.isUuid("69c25c8d9e34-4d9d-8bad-e378f203ae71-")); // hyphen misplaced
+        assertFalse(ValidationUtil.isUuid("69c25c8d-9e34-4d9d-8bad-e378f203ae7g")); // not hexadecimal
+        assertFalse(ValidationUtil.isUuid("+9c25c8d-9e34-4d9d-8bad-e378f203ae71")); // sign
+
+        assertTrue(ValidationUtil.isUuid("69c25c8d-9e34-4d9d-8bad-e378f203ae71"));
+        assertTrue(ValidationUtil.isUuid("69C25C8D-9E34-4D9D-8BAD-E378F203AE71")); // upper case
+        Random random = new Random(0);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(ValidationUtil.isUuid(new UUID(random.nextLong(), random.nextLong()).toString()));
+        }
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that {@code regex} matches, for random strings
+     * made of the characters in {@code alphabet}.
+     */
+    private static void assertMatchesRegex(String regex, Predicate<String> validator, String alphabet) {
+        assertThrows(NullPointerException.class, () -> validator.test(null));
+        Random random = new Random(regex.hashCode());
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < SAMPLES; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String test = builder.toString();
+            assertEquals(test.matches(regex), validator.test(test), () -> "Mismatch for \"" + test + "\"");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ClientBuilder;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandCompleter completer =
+            new CommandCompleter(Set.of("delete", "deleteOrder", "edit", "find", "findOrder"), model);
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> completer.complete(null));
+    }
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(List.of(new Completion("delete", "delete "), new Completion("deleteOrder", "deleteOrder ")),
+                completer.complete("del"));
+
+        // case is ignored, and the command word is filled in as registered
+        assertEquals(List.of(new Completion("findOrder", "findOrder ")), completer.complete("FINDO"));
+
+        // the last of several commands is completed
+        assertEquals(List.of(new Completion("edit", "find a;  edit ")), completer.complete("find a;  ed"));
+
+        assertTrue(completer.complete("x").isEmpty());
+    }
+
+    @Test
+    public void complete_clientName_insertsReference() {
+        assertEquals(List.of(new Completion("@Benson Meier", "delete @Benson Meier ")),
+                completer.complete("delete @ben"));
+        // names hold spaces
+        assertEquals(List.of(new Completion("@Benson Meier", "edit @Benson Meier ")),
+                completer.complete("edit @benson m"));
+
+        // every client named with the prefix, sorted
+        assertEquals(List.of("@Daniel Meier"), labels("delete @d"));
+        assertEquals(7, labels("delete @").size());
+
+        // no client with the prefix
+        assertTrue(completer.complete("delete @zed").isEmpty());
+
+        // a name must come right after an @ that starts a word
+        assertTrue(completer.complete("delete ben").isEmpty());
+        assertTrue(completer.complete("edit 1 n/@ben").isEmpty());
+    }
+
+    @Test
+    public void complete_clientName_followsModel() {
+        model.addClient(new ClientBuilder().withName("Bennett Tan").build());
+        assertEquals(List.of("@Bennett Tan", "@Benson Meier"), labels("delete @ben"));
+    }
+
+    @Test
+    public void complete_tag() {
+        assertEquals(List.of(new Completion("t/friends", "edit 1 t/friends ")), completer.complete("edit 1 t/fr"));
+        assertEquals(List.of("t/friends", "t/owesMoney"), labels("edit 1 t/"));
+        assertTrue(completer.complete("edit 1 t/zz").isEmpty());
+    }
+
+    @Test
+    public void complete_otherWord_noCompletions() {
+        assertTrue(completer.complete("edit 1 n/Al").isEmpty());
+        assertFalse(completer.complete("").isEmpty());
+    }
+
+    private List<String> labels(String commandText) {
+        return completer.complete(commandText).stream().map(Completion::getLabel).collect(Collectors.toList());
+    }
+}
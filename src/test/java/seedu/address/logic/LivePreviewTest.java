@@ -0,0 +1,185 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class LivePreviewTest {
+
+    private Model model;
+    private LivePreview livePreview;
+
+    @BeforeEach
+    public void setUp() {
+        Order roses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").withRemark("Roses and a card").build();
+        Order redRoses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").withRemark("Red roses, red ribbon").build();
+        Order tulips = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("03-02-2024 10:00").withRemark("Tulips").build();
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(ALICE.addOrder(roses).addOrder(redRoses), BENSON.addOrder(tulips),
+                CARL, DANIEL, ELLE));
+        model = new ModelManager(bookKeeper, new UserPrefs());
+        livePreview = new LivePreview(model, Runnable::run, 0);
+    }
+
+    @Test
+    public void constructor_negativeDebounce_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LivePreview(model, Runnable::run, -1));
+    }
+
+    @Test
+    public void request_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> livePreview.request(null));
+    }
+
+    @Test
+    public void request_find_showsClientsWithWordStartingWithKeyword() {
+        assertTrue(livePreview.request("find me").join());
+        assertEquals(List.of("Benson Meier", "Daniel Meier", "Elle Meyer"), clientNames());
+
+        // any of the keywords, ignoring case
+        assertTrue(livePreview.request("find KU al").join());
+        assertEquals(List.of("Alice Pauline", "Carl Kurz"), clientNames());
+    }
+
+    @Test
+    public void request_keywordTypedFurther_checksOnlyPreviousMatches() {
+        assertTrue(livePreview.request("find me").join());
+        assertEquals(5, livePreview.getExaminedCount());
+
+        assertTrue(livePreview.request("find mei").join());
+        assertEquals(3, livePreview.getExaminedCount());
+        assertEquals(List.of("Benson Meier", "Daniel Meier"), clientNames());
+
+        // a keyword that no longer starts with the previous one is checked against every client
+        assertTrue(livePreview.request("find mey").join());
+        assertEquals(5, livePreview.getExaminedCount());
+        assertEquals(List.of("Elle Meyer"), clientNames());
+    }
+
+    @Test
+    public void request_clientsChanged_checksEveryClient() {
+        assertTrue(livePreview.request("find me").join());
+        model.addClient(new ClientBuilder().withName("Mei Ling").build());
+
+        assertTrue(livePreview.request("find mei").join());
+        assertEquals(6, livePreview.getExaminedCount());
+        assertEquals(List.of("Benson Meier", "Daniel Meier", "Mei Ling"), clientNames());
+    }
+
+    @Test
+    public void request_findOrder_treatsLastKeywordAsPrefix() {
+        assertTrue(livePreview.request("findOrder ro").join());
+        assertEquals(List.of("Red roses, red ribbon", "Roses and a card"), remarks());
+
+        // a keyword finished with a space is matched whole
+        assertTrue(livePreview.request("findOrder red ").join());
+        assertEquals(List.of("Red roses, red ribbon"), remarks());
+
+        // text that cannot be parsed leaves the orders as they are
+        assertFalse(livePreview.request("findOrder red |").join());
+        assertEquals(List.of("Red roses, red ribbon"), remarks());
+    }
+
+    @Test
+    public void request_otherText_showsEverythingAgain() {
+        assertTrue(livePreview.request("find me").join());
+        assertFalse(livePreview.request("find").join());
+        assertEquals(5, model.getFilteredClientList().size());
+
+        assertTrue(livePreview.request("findOrder tu").join());
+        assertFalse(livePreview.request("list").join());
+        assertEquals(3, model.getFilteredOrderList().size());
+
+        // several commands are not previewed
+        assertFalse(livePreview.request("find me; list").join());
+        assertEquals(5, model.getFilteredClientList().size());
+    }
+
+    @Test
+    public void request_switchBetweenLists_showsEverythingInOtherList() {
+        assertTrue(livePreview.request("find me").join());
+        assertTrue(livePreview.request("findOrder tu").join());
+        assertEquals(5, model.getFilteredClientList().size());
+        assertEquals(List.of("Tulips"), remarks());
+
+        assertTrue(livePreview.request("find al").join());
+        assertEquals(3, model.getFilteredOrderList().size());
+        assertEquals(List.of("Alice Pauline"), clientNames());
+    }
+
+    @Test
+    public void request_supersededDuringDebounce_completesFalse() {
+        LivePreview debounced = new LivePreview(model, Runnable::run, 200);
+        CompletableFuture<Boolean> first = debounced.request("find a");
+        CompletableFuture<Boolean> second = debounced.request("find be");
+
+        assertFalse(first.join());
+        assertTrue(second.join());
+        assertEquals(List.of("Benson Meier"), clientNames());
+    }
+
+    @Test
+    public void cancel_pendingRequest_completesFalseAndKeepsLists() {
+        LivePreview debounced = new LivePreview(model, Runnable::run, 200);
+        CompletableFuture<Boolean> shown = debounced.request("find be");
+        debounced.cancel();
+
+        assertFalse(shown.join());
+        assertEquals(5, model.getFilteredClientList().size());
+    }
+
+    @Test
+    public void cancel_afterPreview_leavesListsToCommand() {
+        assertTrue(livePreview.request("find be").join());
+        livePreview.cancel();
+
+        // the command that follows decides what is shown, so ending the preview does not show everything again
+        assertFalse(livePreview.request("").join());
+        assertEquals(List.of("Benson Meier"), clientNames());
+
+        model.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertTrue(livePreview.request("find be").join());
+        assertEquals(5, livePreview.getExaminedCount());
+    }
+
+    private List<String> clientNames() {
+        return model.getFilteredClientList().stream()
+                .map(Client::getName)
+                .map(name -> name.fullName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private List<String> remarks() {
+        return model.getFilteredOrderList().stream()
+                .map(order -> order.getRemark().value)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
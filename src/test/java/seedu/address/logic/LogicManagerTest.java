@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,6 +15,7 @@ import static seedu.address.testutil.TypicalClients.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +44,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +52,7 @@ public class LogicManagerTest {
         JsonBookKeeperStorage addressBookStorage =
                 new JsonBookKeeperStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -82,6 +86,59 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void submit_validCommands_executesAndSavesInOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CommandExecution addExecution = logic.submit(addCommand);
+        CommandExecution deleteExecution = logic.submit("delete 1");
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(new ClientBuilder(AMY).withTags()
+                .build())), addExecution.getResult().get().getFeedbackToUser());
+        deleteExecution.getSaved().get();
+        logic.awaitSubmitted();
+
+        assertEquals(new ModelManager(), model);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void complete_followsRegisteredCommandsAndModel() throws Exception {
+        assertEquals(new Completion(AddCommand.COMMAND_WORD, AddCommand.COMMAND_WORD + " "),
+                logic.complete("ad").get(0));
+        assertTrue(logic.complete("delete @am").isEmpty());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(List.of(new Completion("@" + AMY.getName(), "delete @" + AMY.getName() + " ")),
+                logic.complete("delete @am"));
+    }
+
+    @Test
+    public void submit_invalidCommand_throwsParseExceptionAtOnce() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> logic.submit("uicfhmowqewca"));
+    }
+
+    @Test
+    public void submit_commandFails_completesExceptionallyWithoutSaving() throws Exception {
+        CommandExecution execution = logic.submit("delete 9");
+
+        Throwable error = execution.getResult().handle((result, e) -> e).get();
+        assertTrue(error instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX, error.getMessage());
+        execution.getSaved().get();
+        logic.awaitSubmitted();
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void submit_afterAwaitSubmitted_stillRuns() throws Exception {
+        logic.submit(ListCommand.COMMAND_WORD);
+        logic.awaitSubmitted();
+        assertEquals(ListCommand.MESSAGE_SUCCESS,
+                logic.submit(ListCommand.COMMAND_WORD).getResult().get().getFeedbackToUser());
+        logic.awaitSubmitted();
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
@@ -0,0 +1,160 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.client.AddCommand;
+import seedu.address.logic.commands.data.ExportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyBookKeeper;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonBookKeeperStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final StringWriter output = new StringWriter();
+    private SaveCountingStorage bookKeeperStorage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        bookKeeperStorage = new SaveCountingStorage(temporaryFolder.resolve("bookkeeper.json"));
+        logic = new LogicManager(model, new StorageManager(bookKeeperStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(logic, output, -1));
+    }
+
+    @Test
+    public void run_allCommandsSucceed_savesOnceAtEnd() throws Exception {
+        int exitStatus = run("list\n\n  # a comment\n" + ADD_AMY + "\ndelete 1; delete 1\n", 0);
+
+        assertEquals(ScriptRunner.EXIT_SUCCESS, exitStatus);
+        assertEquals(1, bookKeeperStorage.saveCount);
+        assertEquals(getTypicalAddressBook().getClientList().size() - 1, model.getAddressBook().getClientList().size());
+        String[] records = output.toString().split("\n");
+        assertEquals(4, records.length);
+        assertTrue(records[0].startsWith("{\"type\":\"command\",\"line\":1,\"command\":\"list\",\"success\":true"));
+        assertTrue(records[1].startsWith("{\"type\":\"command\",\"line\":4,"));
+        assertTrue(records[2].startsWith("{\"type\":\"command\",\"line\":5,"));
+        assertEquals("{\"type\":\"save\",\"line\":5,\"command\":null,\"success\":true,\"message\":\"Saved data\"}",
+                records[3]);
+    }
+
+    @Test
+    public void run_failedCommand_continuesAndReportsFailure() throws Exception {
+        int exitStatus = run("unknownCommand\ndelete 99\n" + ADD_AMY + "\n", 0);
+
+        assertEquals(ScriptRunner.EXIT_COMMAND_FAILED, exitStatus);
+        assertEquals(1, bookKeeperStorage.saveCount);
+        String[] records = output.toString().split("\n");
+        assertEquals(4, records.length);
+        assertTrue(records[0].contains("\"success\":false,\"message\":\"Unknown command\""));
+        assertTrue(records[1].contains("\"success\":false"));
+        assertTrue(records[2].contains("\"success\":true"));
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAfterEveryInterval() throws Exception {
+        run("list\nlist\nlist\nunknownCommand\nlist\nlist\n", 2);
+
+        // after lines 2 and 5, then once more for line 6 at the end
+        assertEquals(3, bookKeeperStorage.saveCount);
+    }
+
+    @Test
+    public void run_nothingRun_doesNotSave() throws Exception {
+        assertEquals(ScriptRunner.EXIT_SUCCESS, run("\n# nothing to do\n", 0));
+        assertEquals(0, bookKeeperStorage.saveCount);
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    public void run_exit_stopsReading() throws Exception {
+        run("list\nexit\n" + ADD_AMY + "\n", 0);
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(3, output.toString().split("\n").length);
+    }
+
+    @Test
+    public void run_exportFails_reportsFailure() throws Exception {
+        Path notFolder = temporaryFolder.resolve("exports");
+        Files.writeString(notFolder, "");
+
+        int exitStatus = run(ExportCommand.COMMAND_WORD + " clients " + notFolder.resolve("clients.csv") + "\n", 0);
+
+        assertEquals(ScriptRunner.EXIT_COMMAND_FAILED, exitStatus);
+        assertTrue(output.toString().split("\n")[0].contains("\"success\":false"));
+    }
+
+    @Test
+    public void run_saveFails_stopsWithError() throws Exception {
+        bookKeeperStorage.failSaves = true;
+
+        int exitStatus = run("list\n" + ADD_AMY + "\n", 1);
+
+        assertEquals(ScriptRunner.EXIT_ERROR, exitStatus);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        String[] records = output.toString().split("\n");
+        assertEquals(2, records.length);
+        assertTrue(records[1].startsWith("{\"type\":\"save\",\"line\":1,\"command\":null,\"success\":false"));
+        assertFalse(output.toString().contains(AddCommand.COMMAND_WORD));
+    }
+
+    private int run(String script, int checkpointInterval) throws IOException {
+        return new ScriptRunner(logic, output, checkpointInterval).run(new BufferedReader(new StringReader(script)));
+    }
+
+    /**
+     * A {@code JsonBookKeeperStorage} that counts the number of times it is saved, and can be made to fail.
+     */
+    private static class SaveCountingStorage extends JsonBookKeeperStorage {
+        private int saveCount;
+        private boolean failSaves;
+
+        SaveCountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyBookKeeper addressBook, Path filePath) throws IOException {
+            if (failSaves) {
+                throw new IOException("dummy IO exception");
+            }
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Name;
+
+public class ClientReferenceTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void resolve_index_usesDisplayedList() throws Exception {
+        assertEquals(BENSON, ClientReference.of(INDEX_SECOND_PERSON).resolve(model));
+
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX, ()
+                -> ClientReference.of(INDEX_SECOND_PERSON).resolve(model));
+    }
+
+    @Test
+    public void resolve_name_ignoresDisplayedList() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        assertEquals(BENSON, ClientReference.of(BENSON.getName()).resolve(model));
+    }
+
+    @Test
+    public void resolve_unknownName_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_CLIENT_NOT_FOUND, "Nobody"), ()
+                -> ClientReference.of(new Name("Nobody")).resolve(model));
+    }
+
+    @Test
+    public void equals() {
+        ClientReference byName = ClientReference.of(ALICE.getName());
+
+        assertTrue(byName.equals(ClientReference.of(new Name(ALICE.getName().fullName))));
+        assertTrue(ClientReference.of(INDEX_FIRST_PERSON).equals(ClientReference.of(INDEX_FIRST_PERSON)));
+
+        assertFalse(byName.equals(null));
+        assertFalse(byName.equals(ClientReference.of(BENSON.getName())));
+        assertFalse(byName.equals(ClientReference.of(INDEX_FIRST_PERSON)));
+        assertFalse(ClientReference.of(INDEX_FIRST_PERSON).equals(ClientReference.of(INDEX_SECOND_PERSON)));
+    }
+}
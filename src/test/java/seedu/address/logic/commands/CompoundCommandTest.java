@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.client.DeleteCommand;
+import seedu.address.logic.commands.client.ExitCommand;
+import seedu.address.logic.commands.client.HelpCommand;
+import seedu.address.logic.commands.client.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.order.AddOrderCommand;
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+
+public class CompoundCommandTest {
+
+    private static final String FIRST_ORDER_ID = "69c25c8d-9e34-4d9d-8bad-e378f203ae75";
+    private static final String SECOND_ORDER_ID = "69c25c8d-9e34-4d9d-8bad-e378f203ae76";
+
+    @Test
+    public void constructor_noCommands_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new CompoundCommand(null));
+        assertThrows(IllegalArgumentException.class, () -> new CompoundCommand(List.of()));
+    }
+
+    @Test
+    public void execute_allSucceed_appliesAllAndCombinesResults() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Client firstClient = model.getFilteredClientList().get(0);
+        Client secondClient = model.getFilteredClientList().get(1);
+
+        CommandResult result = new CompoundCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_FIRST_PERSON), new HelpCommand())).execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deleteClient(firstClient);
+        expectedModel.deleteClient(secondClient);
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+
+        String expectedFeedback = String.format(DeleteCommand.MESSAGE_DELETE_CLIENT_SUCCESS,
+                Messages.format(firstClient)) + "\n"
+                + String.format(DeleteCommand.MESSAGE_DELETE_CLIENT_SUCCESS, Messages.format(secondClient)) + "\n"
+                + HelpCommand.SHOWING_HELP_MESSAGE;
+        assertEquals(expectedFeedback, result.getFeedbackToUser());
+        assertTrue(result.isShowHelp());
+        assertFalse(result.isExit());
+    }
+
+    @Test
+    public void execute_laterCommandFails_appliesNone() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new AddOrderCommand(INDEX_FIRST_PERSON, new OrderBuilder().withOrderId(FIRST_ORDER_ID).build())
+                .execute(model);
+        new AddOrderCommand(INDEX_SECOND_PERSON, new OrderBuilder().withOrderId(SECOND_ORDER_ID).build())
+                .execute(model);
+        BookKeeper expectedBookKeeper = new BookKeeper(model.getAddressBook());
+        List<Order> expectedOrders = new ArrayList<>(model.getAddressBook().getOrderList());
+
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredClientList().size());
+        CompoundCommand compoundCommand = new CompoundCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON),
+                new ListCommand(), new DeleteCommand(outOfBoundIndex)));
+
+        String expectedMessage = String.format(CompoundCommand.MESSAGE_FAILED, 3, 3,
+                Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> compoundCommand.execute(model));
+
+        assertEquals(expectedBookKeeper, model.getAddressBook());
+        assertEquals(expectedOrders, model.getAddressBook().getOrderList());
+        // the restored orders must belong to the restored clients, so that later edits update the right client
+        for (Client client : model.getAddressBook().getClientList()) {
+            for (Order order : client.getOrdersList()) {
+                assertSame(client, order.getClient());
+            }
+        }
+    }
+
+    @Test
+    public void execute_commandFails_restoredInOneChangePerList() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int[] changeCounts = new int[2];
+        model.getAddressBook().getClientList().addListener((ListChangeListener<Client>) change -> changeCounts[0]++);
+        model.getAddressBook().getOrderList().addListener((ListChangeListener<Order>) change -> changeCounts[1]++);
+
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredClientList().size() + 1);
+        CompoundCommand compoundCommand = new CompoundCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(outOfBoundIndex)));
+        assertThrows(CommandException.class, () -> compoundCommand.execute(model));
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        // one change for the delete, and one to put the clients back
+        assertEquals(2, changeCounts[0]);
+        assertEquals(1, changeCounts[1]);
+    }
+
+    @Test
+    public void execute_exit_exitsAfterAll() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandResult result = new CompoundCommand(List.of(new ExitCommand(), new ListCommand())).execute(model);
+        assertTrue(result.isExit());
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n" + ListCommand.MESSAGE_SUCCESS,
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        CompoundCommand compoundCommand = new CompoundCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_SECOND_PERSON)));
+
+        // same values -> returns true
+        assertTrue(compoundCommand.equals(new CompoundCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_SECOND_PERSON)))));
+
+        // same object -> returns true
+        assertTrue(compoundCommand.equals(compoundCommand));
+
+        // null -> returns false
+        assertFalse(compoundCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(compoundCommand.equals(new CompoundCommand(List.of(new DeleteCommand(INDEX_SECOND_PERSON),
+                new DeleteCommand(INDEX_FIRST_PERSON)))));
+    }
+}
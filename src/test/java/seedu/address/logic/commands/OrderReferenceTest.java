@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_ORDER;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+
+public class OrderReferenceTest {
+
+    private Model model;
+    private Order first;
+    private Order second;
+
+    @BeforeEach
+    public void setUp() {
+        first = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").build();
+        second = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").build();
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(ALICE.addOrder(first), BENSON.addOrder(second)));
+        model = new ModelManager(bookKeeper, new UserPrefs());
+    }
+
+    @Test
+    public void resolve_index_usesDisplayedList() throws Exception {
+        assertTrue(OrderReference.of(INDEX_SECOND_ORDER).resolve(model) == second);
+
+        model.updateFilteredOrderList(order -> order == second);
+        assertTrue(OrderReference.of(INDEX_FIRST_ORDER).resolve(model) == second);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX, ()
+                -> OrderReference.of(INDEX_SECOND_ORDER).resolve(model));
+    }
+
+    @Test
+    public void resolve_idPrefix_ignoresDisplayedList() throws Exception {
+        model.updateFilteredOrderList(order -> false);
+
+        assertTrue(OrderReference.of("69C25C8D-9E34-4D9D-8BAD-E378F203AE71").resolve(model) == first);
+        assertTrue(OrderReference.of("69c25c8d-9e34-4d9d-8bad-e378f203ae72").resolve(model) == second);
+    }
+
+    @Test
+    public void resolve_unmatchedOrSharedPrefix_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_ORDER_NOT_FOUND, "7"), ()
+                -> OrderReference.of("7").resolve(model));
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_AMBIGUOUS_ORDER_ID, 2, "69c2"), ()
+                -> OrderReference.of("69c2").resolve(model));
+    }
+
+    @Test
+    public void equals() {
+        OrderReference byId = OrderReference.of("69c2");
+
+        assertTrue(byId.equals(OrderReference.of("69C2")));
+        assertTrue(OrderReference.of(INDEX_FIRST_ORDER).equals(OrderReference.of(INDEX_FIRST_ORDER)));
+
+        assertFalse(byId.equals(null));
+        assertFalse(byId.equals(OrderReference.of("69c25")));
+        assertFalse(byId.equals(OrderReference.of(INDEX_FIRST_ORDER)));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands.client;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -45,4 +46,37 @@ public class AddCommandIntegrationTest {
                 AddCommand.MESSAGE_DUPLICATE_CLIENT);
     }
 
+    @Test
+    public void execute_sharedContactNotEnforced_success() {
+        Client sharingPhone = new ClientBuilder().withName("Alice Tan").withPhone(ALICE.getPhone().value).build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addClient(sharingPhone);
+
+        assertCommandSuccess(new AddCommand(sharingPhone), model,
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(sharingPhone)), expectedModel);
+    }
+
+    @Test
+    public void execute_sharedPhoneEnforced_throwsCommandException() {
+        model.setUserPrefs(uniqueContactsPrefs());
+        Client sharingPhone = new ClientBuilder().withName("Alice Tan").withPhone(ALICE.getPhone().value).build();
+        assertCommandFailure(new AddCommand(sharingPhone), model,
+                String.format(Messages.MESSAGE_DUPLICATE_PHONE, ALICE.getName(), ALICE.getPhone()));
+    }
+
+    @Test
+    public void execute_sharedEmailEnforced_throwsCommandException() {
+        model.setUserPrefs(uniqueContactsPrefs());
+        Client sharingEmail = new ClientBuilder().withName("Alice Tan").withEmail("ALICE@example.com").build();
+        assertCommandFailure(new AddCommand(sharingEmail), model,
+                String.format(Messages.MESSAGE_DUPLICATE_EMAIL, ALICE.getName(), sharingEmail.getEmail()));
+    }
+
+    private static UserPrefs uniqueContactsPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUniqueContactsEnforced(true);
+        return userPrefs;
+    }
+
 }
@@ -9,6 +9,12 @@ import static seedu.address.testutil.TypicalClients.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,8 +28,16 @@ import seedu.address.model.BookKeeper;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyBookKeeper;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.DuplicateGroup;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.RemarkSearch;
+import seedu.address.model.query.QueryIndex;
 import seedu.address.testutil.ClientBuilder;
 
 public class AddCommandTest {
@@ -183,6 +197,106 @@ public class AddCommandTest {
         public void updateFilteredOrderList(Predicate<Order> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void replaceClients(List<Client> targets, Client replacement) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DuplicateGroup> findDuplicateClients() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> getClientsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> getClientsWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Client> searchClients(String text, int maxTypos) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getClientNamesWithPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getTagNamesWithPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Order, Integer> searchOrderRemarks(RemarkSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredOrderList(Predicate<Order> predicate, Comparator<Order> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Client> getClient(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Client> getOwner(Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersWithIdPrefix(String idPrefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryIndex getQueryIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteClients(Collection<Client> clients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void editOrders(Map<Order, Order> editedOrders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergeClients(Collection<Client> clients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteOrders(Collection<Order> orders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setOrderArchive(OrderArchive orderArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getOrderHistoryList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateOrderHistoryList(Predicate<Order> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -225,6 +339,11 @@ public class AddCommandTest {
         public ReadOnlyBookKeeper getAddressBook() {
             return new BookKeeper();
         }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return new UserPrefs();
+        }
     }
 
 }
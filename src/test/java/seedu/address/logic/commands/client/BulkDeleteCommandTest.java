@@ -0,0 +1,82 @@
+package seedu.address.logic.commands.client;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.ClientHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BulkDeleteCommand}.
+ */
+public class BulkDeleteCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_clientsWithTag_deletesAllOfThem() {
+        BulkDeleteCommand command = new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("friends"))));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteClients(List.of(ALICE, BENSON, DANIEL));
+
+        assertCommandSuccess(command, model, String.format(BulkDeleteCommand.MESSAGE_BULK_DELETE_SUCCESS, 3),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_severalTags_deletesClientsWithAllTags() {
+        BulkDeleteCommand command = new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("friends"),
+                new Tag("owesMoney"))));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteClients(List.of(BENSON));
+
+        assertCommandSuccess(command, model, String.format(BulkDeleteCommand.MESSAGE_BULK_DELETE_SUCCESS, 1),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingClients_deletesNothing() {
+        BulkDeleteCommand command = new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("inactive"))));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(command, model, String.format(BulkDeleteCommand.MESSAGE_BULK_DELETE_SUCCESS, 0),
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ClientHasTagsPredicate inactive = new ClientHasTagsPredicate(Set.of(new Tag("inactive")));
+        BulkDeleteCommand command = new BulkDeleteCommand(inactive);
+
+        // same values -> returns true
+        assertTrue(command.equals(new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("inactive"))))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(command.equals(new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("vip"))))));
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.logic.commands.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DedupeCommand}.
+ */
+public class DedupeCommandTest {
+
+    private Order roses;
+    private Order tulips;
+    private Client alice;
+    private Client aliceAgain;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        roses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").withRemark("Roses").build();
+        tulips = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").withRemark("Tulips").build();
+        alice = ALICE.addOrder(roses);
+        aliceAgain = new ClientBuilder().withName("alice  pauline").withPhone("11111111")
+                .withEmail("other@example.com").withTags("vip").build().addOrder(tulips);
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(alice, BENSON, CARL, aliceAgain));
+        model = new ModelManager(bookKeeper, new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        DedupeCommand listCommand = new DedupeCommand();
+        DedupeCommand mergeFirstCommand = new DedupeCommand(INDEX_FIRST_PERSON);
+
+        // same object -> returns true
+        assertTrue(listCommand.equals(listCommand));
+
+        // same values -> returns true
+        assertTrue(listCommand.equals(new DedupeCommand()));
+        assertTrue(mergeFirstCommand.equals(new DedupeCommand(INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(listCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listCommand.equals(null));
+
+        // different group -> returns false
+        assertFalse(mergeFirstCommand.equals(new DedupeCommand(INDEX_SECOND_PERSON)));
+        assertFalse(mergeFirstCommand.equals(listCommand));
+    }
+
+    @Test
+    public void execute_list_showsGroups() {
+        String expectedMessage = String.format(DedupeCommand.MESSAGE_DUPLICATES_LISTED, 1) + "\n"
+                + String.format(DedupeCommand.MESSAGE_GROUP, 1, "Alice Pauline, alice  pauline", "name");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredClientList(client -> client == alice || client == aliceAgain);
+
+        assertCommandSuccess(new DedupeCommand(), model, expectedMessage, expectedModel);
+        assertEquals(List.of(alice, aliceAgain), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_listWithoutDuplicates_noGroups() {
+        model = new ModelManager(new BookKeeper(), new UserPrefs());
+        model.addClient(ALICE);
+        model.addClient(BENSON);
+        assertCommandSuccess(new DedupeCommand(), model, DedupeCommand.MESSAGE_NO_DUPLICATES,
+                new ModelManager(model.getAddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_listManyGroups_listsFirstGroups() throws Exception {
+        BookKeeper bookKeeper = new BookKeeper();
+        for (int i = 0; i < DedupeCommand.MAX_LISTED_GROUPS + 2; i++) {
+            String phone = String.valueOf(10000000 + i);
+            bookKeeper.addClient(new ClientBuilder().withName("Client " + i).withPhone(phone)
+                    .withEmail("a" + i + "@example.com").build());
+            bookKeeper.addClient(new ClientBuilder().withName("Other " + i).withPhone(phone)
+                    .withEmail("b" + i + "@example.com").build());
+        }
+        model = new ModelManager(bookKeeper, new UserPrefs());
+
+        String feedback = new DedupeCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(DedupeCommand.MESSAGE_MORE_GROUPS, 2)));
+        assertEquals(2 * (DedupeCommand.MAX_LISTED_GROUPS + 2), model.getFilteredClientList().size());
+    }
+
+    @Test
+    public void execute_merge_movesOrdersAndTagsToFirstClient() {
+        Client merged = new ClientBuilder(ALICE).withTags("friends", "vip").build().addOrder(roses).addOrder(tulips);
+        String expectedMessage = String.format(DedupeCommand.MESSAGE_MERGED, 2, ALICE.getName(), 2);
+        BookKeeper expectedBookKeeper = new BookKeeper();
+        expectedBookKeeper.setClients(List.of(merged, BENSON, CARL));
+        Model expectedModel = new ModelManager(expectedBookKeeper, new UserPrefs());
+
+        assertCommandSuccess(new DedupeCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+        Client mergedInModel = model.getFilteredClientList().get(0);
+        assertEquals(Set.of(new Tag("friends"), new Tag("vip")), mergedInModel.getTags());
+        assertTrue(mergedInModel == roses.getClient());
+        assertTrue(mergedInModel == tulips.getClient());
+        assertEquals(List.of(roses, tulips), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_mergeMissingGroup_throwsCommandException() {
+        assertCommandFailure(new DedupeCommand(Index.fromOneBased(2)), model,
+                String.format(DedupeCommand.MESSAGE_INVALID_GROUP, 2));
+    }
+}
@@ -92,10 +92,13 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, Messages.format(editedClient));
 
+        // the filter is kept, so the client is hidden once its name no longer matches
         Model expectedModel = new ModelManager(new BookKeeper(model.getAddressBook()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.setClient(model.getFilteredClientList().get(0), editedClient);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredClientList().isEmpty());
     }
 
     @Test
@@ -107,6 +110,41 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_CLIENT);
     }
 
+    @Test
+    public void execute_sharedPhoneEnforced_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUniqueContactsEnforced(true);
+        model.setUserPrefs(userPrefs);
+        Client firstClient = model.getFilteredClientList().get(INDEX_FIRST_PERSON.getZeroBased());
+        EditCommand editCommand = new EditCommand(INDEX_SECOND_PERSON,
+                new EditClientDescriptorBuilder().withPhone(firstClient.getPhone().value).build());
+
+        assertCommandFailure(editCommand, model,
+                String.format(Messages.MESSAGE_DUPLICATE_PHONE, firstClient.getName(), firstClient.getPhone()));
+    }
+
+    @Test
+    public void execute_sharedPhoneKeptEnforced_success() {
+        Client firstClient = model.getFilteredClientList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Client sharingPhone = new ClientBuilder().withName("Alice Tan").withPhone(firstClient.getPhone().value).build();
+        model.addClient(sharingPhone);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUniqueContactsEnforced(true);
+        model.setUserPrefs(userPrefs);
+
+        // clients that already shared a phone can still have their other details edited
+        Client editedClient = new ClientBuilder(sharingPhone).withAddress("12 Serangoon Road").build();
+        Index lastIndex = Index.fromOneBased(model.getFilteredClientList().size());
+        EditCommand editCommand = new EditCommand(lastIndex,
+                new EditClientDescriptorBuilder().withAddress("12 Serangoon Road").build());
+
+        Model expectedModel = new ModelManager(new BookKeeper(model.getAddressBook()), userPrefs);
+        expectedModel.setClient(sharingPhone, editedClient);
+
+        assertCommandSuccess(editCommand, model,
+                String.format(EditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, Messages.format(editedClient)), expectedModel);
+    }
+
     @Test
     public void execute_duplicatePersonFilteredList_failure() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -176,7 +214,7 @@ public class EditCommandTest {
         Index index = Index.fromOneBased(1);
         EditCommand.EditClientDescriptor editClientDescriptor = new EditCommand.EditClientDescriptor();
         EditCommand editCommand = new EditCommand(index, editClientDescriptor);
-        String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editClientDescriptor="
+        String expected = EditCommand.class.getCanonicalName() + "{target=" + index + ", editClientDescriptor="
                 + editClientDescriptor + "}";
         assertEquals(expected, editCommand.toString());
     }
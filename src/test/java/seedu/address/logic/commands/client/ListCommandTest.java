@@ -1,16 +1,20 @@
 package seedu.address.logic.commands.client;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.Comparator;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +40,11 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_orderListIsFiltered_showsAllOrders() {
+        model.updateFilteredOrderList(unused -> false, Comparator.comparing(Order::getDeadline));
+        new ListCommand().execute(model);
+        assertEquals(model.getAddressBook().getOrderList(), model.getFilteredOrderList());
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Phone;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EditClientDescriptorBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LookupCommand lookupPhone = new LookupCommand(new Phone("98765432"));
+        LookupCommand lookupEmail = new LookupCommand(new Email("johnd@example.com"));
+
+        // same object -> returns true
+        assertTrue(lookupPhone.equals(lookupPhone));
+
+        // same values -> returns true
+        assertTrue(lookupPhone.equals(new LookupCommand(new Phone("98765432"))));
+        assertTrue(lookupEmail.equals(new LookupCommand(new Email("johnd@example.com"))));
+
+        // different types -> returns false
+        assertFalse(lookupPhone.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupPhone.equals(null));
+
+        // different phone -> returns false
+        assertFalse(lookupPhone.equals(new LookupCommand(new Phone("98765433"))));
+
+        // phone and email -> returns false
+        assertFalse(lookupPhone.equals(lookupEmail));
+    }
+
+    @Test
+    public void execute_noMatches_noClientFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 0);
+        LookupCommand command = new LookupCommand(new Phone("11111111"));
+        expectedModel.updateFilteredClientList(client -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_phone_clientFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 1);
+        LookupCommand command = new LookupCommand(new Phone("95352563"));
+        expectedModel.updateFilteredClientList(CARL::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_emailOfDifferentCase_clientFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 1);
+        LookupCommand command = new LookupCommand(new Email("JohnD@Example.com"));
+        expectedModel.updateFilteredClientList(BENSON::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_sharedPhone_everyClientFound() {
+        Client sharingPhone = new ClientBuilder().withName("Carl Kurz Junior").withPhone("95352563").build();
+        model.addClient(sharingPhone);
+
+        new LookupCommand(new Phone("95352563")).execute(model);
+        assertEquals(Arrays.asList(CARL, sharingPhone), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_clientEditedAfterwards_listedWhileStillFound() throws Exception {
+        new LookupCommand(new Phone("95352563")).execute(model);
+
+        // the edited client still has the phone number
+        new EditCommand(INDEX_FIRST_PERSON, new EditClientDescriptorBuilder().withAddress("1 Kent Ridge").build())
+                .execute(model);
+        Client editedCarl = new ClientBuilder(CARL).withAddress("1 Kent Ridge").build();
+        assertEquals(1, model.getFilteredClientList().size());
+        assertTrue(editedCarl.isSameClient(model.getFilteredClientList().get(0)));
+        assertEquals(editedCarl.getAddress(), model.getFilteredClientList().get(0).getAddress());
+
+        // the edited client no longer has it
+        new EditCommand(INDEX_FIRST_PERSON, new EditClientDescriptorBuilder().withPhone("11111111").build())
+                .execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredClientList());
+    }
+}
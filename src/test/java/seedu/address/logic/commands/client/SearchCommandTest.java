@@ -0,0 +1,101 @@
+package seedu.address.logic.commands.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.GEORGE;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidTypos_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchCommand("street", -1));
+        assertThrows(IllegalArgumentException.class, () -> new SearchCommand("street", SearchCommand.MAX_TYPOS + 1));
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand searchStreet = new SearchCommand("street", 0);
+
+        // same object -> returns true
+        assertTrue(searchStreet.equals(searchStreet));
+
+        // same values -> returns true
+        assertTrue(searchStreet.equals(new SearchCommand("street", 0)));
+
+        // different types -> returns false
+        assertFalse(searchStreet.equals(1));
+
+        // null -> returns false
+        assertFalse(searchStreet.equals(null));
+
+        // different text -> returns false
+        assertFalse(searchStreet.equals(new SearchCommand("avenue", 0)));
+
+        // different typos -> returns false
+        assertFalse(searchStreet.equals(new SearchCommand("street", 1)));
+    }
+
+    @Test
+    public void execute_noMatches_noClientFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 0);
+        SearchCommand command = new SearchCommand("serangoon", 0);
+        expectedModel.updateFilteredClientList(client -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_textInAddresses_multipleClientsFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 3);
+        SearchCommand command = new SearchCommand("street", 0);
+        expectedModel.updateFilteredClientList(Arrays.asList(CARL, DANIEL, GEORGE)::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL, GEORGE), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_textAcrossWords_clientsFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 2);
+        SearchCommand command = new SearchCommand("th street", 0);
+        expectedModel.updateFilteredClientList(Arrays.asList(DANIEL, GEORGE)::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, GEORGE), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_textWithTypo_clientFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 1);
+        SearchCommand command = new SearchCommand("wal stret", 2);
+        expectedModel.updateFilteredClientList(CARL::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredClientList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand command = new SearchCommand("street", 1);
+        String expected = SearchCommand.class.getCanonicalName() + "{text=street, maxTypos=1}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.data.ExportCommand.Target;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    private static final List<String> ORDERS_CSV = List.of(
+            "name,phone,email,address,tags,deadline,price,remark,status",
+            "Zed Zhang,91234567,zed@example.com,\"1, Main St\",vip,10-10-2024 10:00,20.50,\"Cake, \"\"large\"\"\","
+                    + "COMPLETED",
+            "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends,"
+                    + "12-10-2024 10:00,50.00,Flowers,PENDING");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model importOrders() throws Exception {
+        Path importFile = testFolder.resolve("orders.csv");
+        Files.write(importFile, ORDERS_CSV);
+        Model model = new ModelManager();
+        new ImportCommand(importFile, DataFormat.CSV).execute(model);
+        return model;
+    }
+
+    @Test
+    public void execute_ordersToCsv_roundTrips() throws Exception {
+        Model model = importOrders();
+        Path exportFile = testFolder.resolve("export/orders.csv");
+
+        String feedback = new ExportCommand(Target.ORDERS, exportFile, DataFormat.CSV)
+                .execute(model).getFeedbackToUser();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, "orders", exportFile), feedback);
+        assertEquals(ORDERS_CSV, Files.readAllLines(exportFile));
+        assertFalse(Files.exists(testFolder.resolve("export/orders.csv.tmp")));
+    }
+
+    @Test
+    public void execute_ordersToJsonLines_roundTrips() throws Exception {
+        Model model = importOrders();
+        Path exportFile = testFolder.resolve("orders.jsonl");
+        new ExportCommand(Target.ORDERS, exportFile, DataFormat.JSON_LINES).execute(model);
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(exportFile, DataFormat.JSON_LINES).execute(importedModel);
+        Path reexportFile = testFolder.resolve("reexport.csv");
+        new ExportCommand(Target.ORDERS, reexportFile, DataFormat.CSV).execute(importedModel);
+
+        assertEquals(ORDERS_CSV, Files.readAllLines(reexportFile));
+    }
+
+    @Test
+    public void execute_filteredClients_exportsShownClientsOnly() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredClientList(client -> client.isSameClient(ALICE));
+        Path exportFile = testFolder.resolve("clients.jsonl");
+
+        new ExportCommand(Target.CLIENTS, exportFile, DataFormat.JSON_LINES).execute(model);
+
+        assertEquals(List.of("{\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"email\":\"alice@example.com\","
+                + "\"address\":\"123, Jurong West Ave 6, #08-111\",\"tags\":\"friends\"}"),
+                Files.readAllLines(exportFile));
+    }
+
+    @Test
+    public void execute_fileCannotBeWritten_throwsCommandException() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path notFolder = testFolder.resolve("clients");
+        Files.writeString(notFolder, "");
+        Path exportFile = notFolder.resolve("clients.csv");
+
+        assertThrows(CommandException.class, () ->
+                new ExportCommand(Target.CLIENTS, exportFile, DataFormat.CSV).execute(model));
+        assertFalse(Files.exists(exportFile));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportOrders = new ExportCommand(Target.ORDERS, Path.of("a.csv"), DataFormat.CSV);
+
+        assertTrue(exportOrders.equals(exportOrders));
+        assertTrue(exportOrders.equals(new ExportCommand(Target.ORDERS, Path.of("a.csv"), DataFormat.CSV)));
+        assertFalse(exportOrders.equals(null));
+        assertFalse(exportOrders.equals(new ExportCommand(Target.CLIENTS, Path.of("a.csv"), DataFormat.CSV)));
+        assertFalse(exportOrders.equals(new ExportCommand(Target.ORDERS, Path.of("b.csv"), DataFormat.CSV)));
+    }
+}
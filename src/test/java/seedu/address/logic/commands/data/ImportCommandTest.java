@@ -0,0 +1,193 @@
+package seedu.address.logic.commands.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Order;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,tags,deadline,price,remark,status";
+    private static final String ALICE_ORDER = "Alice Pauline,11111111,other@example.com,elsewhere,,"
+            + "12-10-2024 10:00,50,Flowers,";
+    private static final String NEW_CLIENT = "Zed Zhang,91234567,zed@example.com,\"1, Main St\",vip,,,,";
+    private static final String NEW_CLIENT_ORDER = "Zed Zhang,91234567,zed@example.com,\"1, Main St\",vip,"
+            + "10-10-2024 10:00,20.5,Cake,completed";
+    private static final String INVALID_PHONE = "Yan,phone,yan@example.com,somewhere,,,,,";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeFile(String fileName, List<String> lines) throws Exception {
+        Path filePath = testFolder.resolve(fileName);
+        Files.write(filePath, lines);
+        return filePath;
+    }
+
+    private Client getClient(String name) {
+        return model.getAddressBook().getClientList().stream()
+                .filter(client -> client.getName().equals(new Name(name)))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void execute_validCsv_importsAllRecords() throws Exception {
+        int clientCount = model.getAddressBook().getClientList().size();
+        Path filePath = writeFile("import.csv", List.of(HEADER, ALICE_ORDER, "", NEW_CLIENT, NEW_CLIENT_ORDER));
+
+        CommandResult result = new ImportCommand(filePath, DataFormat.CSV).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, 3, 1, 2), result.getFeedbackToUser());
+        assertEquals(clientCount + 1, model.getAddressBook().getClientList().size());
+
+        // existing clients keep their details and only gain the imported orders
+        Client alice = getClient("Alice Pauline");
+        assertEquals(ALICE.getPhone(), alice.getPhone());
+        assertEquals(1, alice.getOrders().size());
+
+        Client zed = getClient("Zed Zhang");
+        assertEquals(1, zed.getOrders().size());
+        assertEquals(1, zed.getTags().size());
+
+        // the order list is rebuilt in deadline order and points to the merged clients
+        List<Order> orders = model.getAddressBook().getOrderList();
+        assertEquals(2, orders.size());
+        assertEquals("Cake", orders.get(0).getRemark().toString());
+        assertEquals(zed, orders.get(0).getClient());
+        assertEquals(alice, orders.get(1).getClient());
+    }
+
+    @Test
+    public void execute_invalidLines_reportedAndSkipped() throws Exception {
+        List<String> lines = new ArrayList<>(List.of(HEADER, NEW_CLIENT));
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 2; i++) {
+            lines.add(INVALID_PHONE);
+        }
+        Path filePath = writeFile("import.csv", lines);
+
+        String feedback = new ImportCommand(filePath, DataFormat.CSV).execute(model).getFeedbackToUser();
+
+        int recordCount = ImportCommand.MAX_REPORTED_ERRORS + 3;
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, recordCount, 1, 0)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_LINE_ERROR, 3, "")));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 2)));
+        assertTrue(getClient("Zed Zhang").getOrders().isEmpty());
+    }
+
+    @Test
+    public void execute_manyChunks_keepsFileOrder() throws Exception {
+        int recordCount = ImportCommand.CHUNK_SIZE * 2 + 1;
+        List<String> lines = new ArrayList<>(List.of(HEADER));
+        for (int i = 0; i < recordCount; i++) {
+            lines.add(String.format("Client %d,9%07d,client%d@example.com,somewhere,,10-10-2024 10:00,%d,Order %d,",
+                    i, i, i, i, i));
+        }
+        lines.add(INVALID_PHONE);
+        Path filePath = writeFile("import.csv", lines);
+
+        String feedback = new ImportCommand(filePath, DataFormat.CSV).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_LINE_ERROR, recordCount + 2,
+                Phone.MESSAGE_CONSTRAINTS)));
+        assertEquals(recordCount, model.getAddressBook().getOrderList().size());
+        assertEquals(1, getClient("Client " + (recordCount - 1)).getOrders().size());
+    }
+
+    @Test
+    public void execute_jsonLines_importsRecords() throws Exception {
+        Path filePath = writeFile("import.jsonl", List.of(
+                "{\"name\": \"Zed Zhang\", \"phone\": \"91234567\", \"email\": \"zed@example.com\", "
+                        + "\"address\": \"1, Main St\", \"tags\": [\"vip\"]}",
+                "not json"));
+
+        String feedback = new ImportCommand(filePath, DataFormat.JSON_LINES).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 2, 1, 0)));
+        assertTrue(getClient("Zed Zhang").getOrders().isEmpty());
+    }
+
+    @Test
+    public void execute_uniqueContactsEnforced_clashingClientsSkipped() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUniqueContactsEnforced(true);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        int clientCount = model.getAddressBook().getClientList().size();
+        Path filePath = writeFile("import.csv", List.of(HEADER,
+                "Yan Yong,94351253,yan@example.com,somewhere,,10-10-2024 10:00,10,Roses,",
+                NEW_CLIENT,
+                "Xia Xu,81234567,ZED@example.com,somewhere,,,,,",
+                "Yan Yong,94351253,yan@example.com,somewhere,,11-10-2024 10:00,10,Lilies,",
+                ALICE_ORDER));
+
+        String feedback = new ImportCommand(filePath, DataFormat.CSV).execute(model).getFeedbackToUser();
+
+        // a new client may share a phone or email neither with an existing client nor with one imported before it
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 5, 1, 1)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_CLIENT_SKIPPED, "Yan Yong",
+                String.format(Messages.MESSAGE_DUPLICATE_PHONE, ALICE.getName(), ALICE.getPhone()))));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_CLIENT_SKIPPED, "Xia Xu",
+                String.format(Messages.MESSAGE_DUPLICATE_EMAIL, "Zed Zhang", "ZED@example.com"))));
+        assertEquals(clientCount + 1, model.getAddressBook().getClientList().size());
+        assertEquals(1, model.getAddressBook().getOrderList().size());
+        assertEquals(1, getClient("Alice Pauline").getOrders().size());
+    }
+
+    @Test
+    public void execute_onlyExistingClients_modelUnchanged() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path filePath = writeFile("import.csv", List.of(HEADER,
+                "Alice Pauline,11111111,other@example.com,elsewhere,,,,,"));
+
+        new ImportCommand(filePath, DataFormat.CSV).execute(model);
+
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path missingFile = testFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () -> new ImportCommand(missingFile, DataFormat.CSV).execute(model));
+
+        Path emptyFile = writeFile("empty.csv", List.of());
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_EMPTY_FILE, emptyFile), () ->
+                new ImportCommand(emptyFile, DataFormat.CSV).execute(model));
+
+        Path badHeader = writeFile("header.csv", List.of("name,phone"));
+        assertThrows(CommandException.class, () -> new ImportCommand(badHeader, DataFormat.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Path.of("a.csv"), DataFormat.CSV);
+
+        assertTrue(importCsv.equals(importCsv));
+        assertTrue(importCsv.equals(new ImportCommand(Path.of("a.csv"), DataFormat.CSV)));
+        assertFalse(importCsv.equals(null));
+        assertFalse(importCsv.equals(new ImportCommand(Path.of("b.csv"), DataFormat.CSV)));
+        assertFalse(importCsv.equals(new ImportCommand(Path.of("a.csv"), DataFormat.JSON_LINES)));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BOB;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderMatchesFilterPredicate;
+import seedu.address.model.order.Status;
+import seedu.address.testutil.EditOrderDescriptorBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BulkEditOrderCommand}.
+ */
+public class BulkEditOrderCommandTest {
+
+    private static final Order OVERDUE_PENDING = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+            .withDeadline("01-02-2024 10:00").withStatus("PENDING").build();
+    private static final Order OVERDUE_COMPLETED = new OrderBuilder()
+            .withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+            .withDeadline("02-02-2024 10:00").withStatus("COMPLETED").build();
+    private static final Order OTHER_OVERDUE_PENDING = new OrderBuilder()
+            .withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+            .withDeadline("03-02-2024 10:00").withStatus("PENDING").build();
+    private static final Order UPCOMING_PENDING = new OrderBuilder()
+            .withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae74")
+            .withDeadline("01-04-2024 10:00").withStatus("PENDING").build();
+
+    private static final OrderMatchesFilterPredicate OVERDUE_PENDING_PREDICATE =
+            new OrderMatchesFilterPredicate(new Status("pending"), new Deadline("01-03-2024 00:00"), null);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(ALICE.addOrder(OVERDUE_PENDING).addOrder(OVERDUE_COMPLETED),
+                BOB.addOrder(OTHER_OVERDUE_PENDING).addOrder(UPCOMING_PENDING)));
+        model = new ModelManager(bookKeeper, new UserPrefs());
+    }
+
+    @Test
+    public void execute_matchingOrders_editsOnlyMatchingOrders() throws Exception {
+        BulkEditOrderCommand command = new BulkEditOrderCommand(OVERDUE_PENDING_PREDICATE,
+                new EditOrderDescriptorBuilder().withStatus("CANCELED").build());
+
+        assertEquals(String.format(BulkEditOrderCommand.MESSAGE_BULK_EDIT_ORDER_SUCCESS, 2),
+                command.execute(model).getFeedbackToUser());
+
+        List<Order> orders = model.getFilteredOrderList();
+        assertEquals(4, orders.size());
+        assertEquals(List.of("CANCELED", "COMPLETED", "CANCELED", "PENDING"),
+                orders.stream().map(order -> order.getStatus().toString()).collect(Collectors.toList()));
+        for (Client client : model.getAddressBook().getClientList()) {
+            client.getOrders().forEach(order -> assertTrue(order.getClient() == client));
+            assertTrue(orders.containsAll(client.getOrders()));
+        }
+    }
+
+    @Test
+    public void execute_noMatchingOrders_editsNothing() throws Exception {
+        BulkEditOrderCommand command = new BulkEditOrderCommand(
+                new OrderMatchesFilterPredicate(new Status("canceled"), null, null),
+                new EditOrderDescriptorBuilder().withStatus("COMPLETED").build());
+
+        assertEquals(String.format(BulkEditOrderCommand.MESSAGE_BULK_EDIT_ORDER_SUCCESS, 0),
+                command.execute(model).getFeedbackToUser());
+        assertEquals(Set.of(OVERDUE_PENDING, OVERDUE_COMPLETED, OTHER_OVERDUE_PENDING, UPCOMING_PENDING),
+                new HashSet<>(model.getFilteredOrderList()));
+    }
+
+    @Test
+    public void equals() {
+        BulkEditOrderCommand command = new BulkEditOrderCommand(OVERDUE_PENDING_PREDICATE,
+                new EditOrderDescriptorBuilder().withStatus("CANCELED").build());
+
+        // same values -> returns true
+        assertTrue(command.equals(new BulkEditOrderCommand(OVERDUE_PENDING_PREDICATE,
+                new EditOrderDescriptorBuilder().withStatus("CANCELED").build())));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(command.equals(new BulkEditOrderCommand(new OrderMatchesFilterPredicate(null, null, null),
+                new EditOrderDescriptorBuilder().withStatus("CANCELED").build())));
+
+        // different descriptor -> returns false
+        assertFalse(command.equals(new BulkEditOrderCommand(OVERDUE_PENDING_PREDICATE,
+                new EditOrderDescriptorBuilder().withStatus("COMPLETED").build())));
+    }
+}
@@ -8,7 +8,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,7 +29,14 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyBookKeeper;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.DuplicateGroup;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.RemarkSearch;
+import seedu.address.model.query.QueryIndex;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.OrderBuilder;
 
@@ -152,6 +164,106 @@ public class DeleteOrderCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceClients(List<Client> targets, Client replacement) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DuplicateGroup> findDuplicateClients() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> getClientsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> getClientsWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Client> searchClients(String text, int maxTypos) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getClientNamesWithPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getTagNamesWithPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Order, Integer> searchOrderRemarks(RemarkSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredOrderList(Predicate<Order> predicate, Comparator<Order> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Client> getClient(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Client> getOwner(Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersWithIdPrefix(String idPrefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryIndex getQueryIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteClients(Collection<Client> clients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void editOrders(Map<Order, Order> editedOrders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergeClients(Collection<Client> clients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteOrders(Collection<Order> orders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setOrderArchive(OrderArchive orderArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getOrderHistoryList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateOrderHistoryList(Predicate<Order> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -185,6 +297,11 @@ public class DeleteOrderCommandTest {
             this.client = editedClient;
         }
 
+        @Override
+        public Optional<Client> getOwner(Order order) {
+            return client.getOrders().contains(order) ? Optional.of(client) : Optional.empty();
+        }
+
         @Override
         public ObservableList<Client> getFilteredClientList() {
             List<Client> sampleList = new ArrayList<>();
@@ -0,0 +1,135 @@
+package seedu.address.logic.commands.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ORDERS_LISTED_OVERVIEW;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_ORDER;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.RemarkSearch;
+import seedu.address.testutil.EditOrderDescriptorBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindOrderCommand}.
+ */
+public class FindOrderCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        Order roses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").withRemark("Roses and a card").build();
+        Order redRoses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").withRemark("Red roses, red ribbon").build();
+        Order tulips = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("03-02-2024 10:00").withRemark("Tulips").build();
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(ALICE.addOrder(roses).addOrder(redRoses), BENSON.addOrder(tulips)));
+        model = new ModelManager(bookKeeper, new UserPrefs());
+    }
+
+    @Test
+    public void execute_noMatches_noOrderFound() {
+        FindOrderCommand command = new FindOrderCommand(search(List.of("lilies")));
+
+        assertEquals(String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 0), command.execute(model).getFeedbackToUser());
+        assertTrue(model.getFilteredOrderList().isEmpty());
+    }
+
+    @Test
+    public void execute_matches_rankedByMatchCount() {
+        FindOrderCommand command = new FindOrderCommand(search(List.of("r*")));
+
+        assertEquals(String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 2), command.execute(model).getFeedbackToUser());
+        assertEquals(List.of("Red roses, red ribbon", "Roses and a card"), remarks());
+    }
+
+    @Test
+    public void execute_alternatives_matchesAny() {
+        FindOrderCommand command = new FindOrderCommand(search(List.of("red", "roses"), List.of("tulips")));
+
+        assertEquals(String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 2), command.execute(model).getFeedbackToUser());
+        assertEquals(List.of("Red roses, red ribbon", "Tulips"), remarks());
+    }
+
+    @Test
+    public void execute_orderEditedAfterwards_listedWhileStillMatching() throws Exception {
+        new FindOrderCommand(search(List.of("r*"))).execute(model);
+
+        // the edited order matches better than the other one now
+        new EditOrderCommand(INDEX_SECOND_ORDER,
+                new EditOrderDescriptorBuilder().withRemark("Roses, ribbon, red rose and rum").build()).execute(model);
+        assertEquals(List.of("Roses, ribbon, red rose and rum", "Red roses, red ribbon"), remarks());
+
+        // the edited order no longer matches
+        new EditOrderCommand(INDEX_FIRST_ORDER, new EditOrderDescriptorBuilder().withRemark("Lilies").build())
+                .execute(model);
+        assertEquals(List.of("Red roses, red ribbon"), remarks());
+    }
+
+    @Test
+    public void execute_thenShowAll_restoresListOrder() {
+        new FindOrderCommand(search(List.of("r*"))).execute(model);
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+
+        assertEquals(3, model.getFilteredOrderList().size());
+        assertEquals(model.getAddressBook().getOrderList(), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void equals() {
+        FindOrderCommand findRoses = new FindOrderCommand(search(List.of("roses")));
+        FindOrderCommand findTulips = new FindOrderCommand(search(List.of("tulips")));
+
+        // same object -> returns true
+        assertTrue(findRoses.equals(findRoses));
+
+        // same values -> returns true
+        assertTrue(findRoses.equals(new FindOrderCommand(search(List.of("roses")))));
+
+        // different types -> returns false
+        assertFalse(findRoses.equals(1));
+
+        // null -> returns false
+        assertFalse(findRoses.equals(null));
+
+        // different search -> returns false
+        assertFalse(findRoses.equals(findTulips));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RemarkSearch search = search(List.of("roses"));
+        FindOrderCommand command = new FindOrderCommand(search);
+        String expected = FindOrderCommand.class.getCanonicalName() + "{search=" + search + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    @SafeVarargs
+    private static RemarkSearch search(List<String>... alternatives) {
+        return new RemarkSearch(List.of(alternatives));
+    }
+
+    private List<String> remarks() {
+        return model.getFilteredOrderList().stream()
+                .map(order -> order.getRemark().value)
+                .collect(Collectors.toList());
+    }
+}
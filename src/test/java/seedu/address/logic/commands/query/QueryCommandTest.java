@@ -0,0 +1,121 @@
+package seedu.address.logic.commands.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.Messages.MESSAGE_ORDERS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.query.QueryCommand.Target;
+import seedu.address.model.BookKeeper;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.query.ClientCondition;
+import seedu.address.model.query.OrderCondition;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+
+    private static final QueryExpression FRIENDS = new ClientCondition.HasTag(new Tag("friends"));
+    private static final QueryExpression PENDING = new OrderCondition.StatusIs(new Status("pending"));
+
+    private Model model;
+    private Order alicePending;
+    private Order carlPending;
+
+    @BeforeEach
+    public void setUp() {
+        alicePending = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").withStatus("PENDING").build();
+        Order aliceCompleted = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").withStatus("COMPLETED").build();
+        carlPending = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("03-02-2024 10:00").withStatus("PENDING").build();
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(ALICE.addOrder(alicePending).addOrder(aliceCompleted), BENSON,
+                CARL.addOrder(carlPending)));
+        model = new ModelManager(bookKeeper, new UserPrefs());
+    }
+
+    @Test
+    public void execute_clients_filtersClientList() {
+        QueryCommand command = new QueryCommand(FRIENDS, Target.CLIENTS, false);
+
+        assertEquals(String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 2), command.execute(model).getFeedbackToUser());
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), clientNames());
+    }
+
+    @Test
+    public void execute_orders_filtersOrderList() {
+        QueryCommand command = new QueryCommand(new QueryExpression.And(List.of(FRIENDS, PENDING)), Target.ORDERS,
+                false);
+
+        assertEquals(String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1), command.execute(model).getFeedbackToUser());
+        assertEquals(1, model.getFilteredOrderList().size());
+        assertTrue(model.getFilteredOrderList().get(0) == alicePending);
+    }
+
+    @Test
+    public void execute_explain_showsPlanAndRowsExamined() {
+        QueryCommand command = new QueryCommand(new QueryExpression.Not(PENDING), Target.ORDERS, true);
+
+        assertEquals(String.format(QueryCommand.MESSAGE_EXPLANATION,
+                String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1), "Scan all 3 rows for NOT status:pending", 3, 3),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterChange_usesRebuiltIndex() {
+        model.deleteOrders(List.of(carlPending));
+
+        new QueryCommand(PENDING, Target.CLIENTS, false).execute(model);
+
+        assertEquals(List.of("Alice Pauline"), clientNames());
+    }
+
+    @Test
+    public void equals() {
+        QueryCommand command = new QueryCommand(FRIENDS, Target.CLIENTS, false);
+
+        // same values -> returns true
+        assertTrue(command.equals(new QueryCommand(new ClientCondition.HasTag(new Tag("friends")), Target.CLIENTS,
+                false)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different expression -> returns false
+        assertFalse(command.equals(new QueryCommand(PENDING, Target.CLIENTS, false)));
+
+        // different target -> returns false
+        assertFalse(command.equals(new QueryCommand(FRIENDS, Target.ORDERS, false)));
+
+        // different explain -> returns false
+        assertFalse(command.equals(new QueryCommand(FRIENDS, Target.CLIENTS, true)));
+    }
+
+    private List<String> clientNames() {
+        return model.getFilteredClientList().stream().map(client -> client.getName().fullName)
+                .collect(Collectors.toList());
+    }
+}
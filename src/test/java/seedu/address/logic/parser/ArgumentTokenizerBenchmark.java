@@ -0,0 +1,118 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the single-pass {@link ArgumentTokenizer} with the previous tokenizer, which searched the arguments once
+ * per prefix and then sorted the positions found, on {@code add} arguments with many {@code t/} tags.
+ * <p>
+ * Run with {@code gradlew benchmark -PbenchmarkClass=seedu.address.logic.parser.ArgumentTokenizerBenchmark},
+ * optionally passing the tag counts to try as {@code -Psizes=10,100,1000}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int[] DEFAULT_TAG_COUNTS = {1, 10, 100, 1000};
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG};
+    private static final long TARGET_NANOS = 1_000_000_000L;
+
+    /** Keeps the results reachable so that the tokenizing cannot be optimized away. */
+    private static int sink;
+
+    public static void main(String[] args) {
+        int[] tagCounts = args.length == 0
+                ? DEFAULT_TAG_COUNTS
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        System.out.println("tags,length,previousNsPerOp,singlePassNsPerOp");
+        for (int tagCount : tagCounts) {
+            String argsString = generateArguments(tagCount);
+            ArgumentTokenizer tokenizer = new ArgumentTokenizer(PREFIXES);
+
+            // warm up both before measuring either
+            measure(() -> PreviousTokenizer.tokenize(argsString, PREFIXES));
+            measure(() -> tokenizer.scan(argsString));
+
+            long previousNanos = measure(() -> PreviousTokenizer.tokenize(argsString, PREFIXES));
+            long singlePassNanos = measure(() -> tokenizer.scan(argsString));
+            System.out.printf("%d,%d,%d,%d%n", tagCount, argsString.length(), previousNanos, singlePassNanos);
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static String generateArguments(int tagCount) {
+        StringBuilder builder = new StringBuilder(" n/Alice Pauline p/94351253 e/alice@example.com"
+                + " a/123, Jurong West Ave 6, #08-111");
+        for (int i = 0; i < tagCount; i++) {
+            builder.append(" t/tag").append(i);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the average time taken by {@code tokenizing}, in nanoseconds, over about a second of repetitions.
+     */
+    private static long measure(Tokenizing tokenizing) {
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 100; i++) {
+                sink += tokenizing.run().getAllValues(PREFIX_TAG).size();
+            }
+            iterations += 100;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < TARGET_NANOS);
+        return elapsed / iterations;
+    }
+
+    @FunctionalInterface
+    private interface Tokenizing {
+        ArgumentMultimap run();
+    }
+
+    /**
+     * The tokenizer as it was before the single-pass scanner, kept as the baseline.
+     */
+    private static class PreviousTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = new ArrayList<>();
+            List<Prefix> positionPrefixes = new ArrayList<>();
+            for (int p = 0; p < prefixes.length; p++) {
+                int position = argsString.indexOf(" " + prefixes[p].getPrefix(), 0);
+                while (position != -1) {
+                    positions.add(new int[] {position + 1, p});
+                    position = argsString.indexOf(" " + prefixes[p].getPrefix(), position + 1);
+                }
+            }
+            positions.sort((first, second) -> first[0] - second[0]);
+            for (int[] position : positions) {
+                positionPrefixes.add(prefixes[position[1]]);
+            }
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int currentStart = 0;
+            for (int i = 0; i < positions.size(); i++) {
+                int nextStart = positions.get(i)[0];
+                argMultimap.put(currentPrefix, argsString.substring(
+                        currentStart + currentPrefix.getPrefix().length(), nextStart).trim());
+                currentPrefix = positionPrefixes.get(i);
+                currentStart = nextStart;
+            }
+            argMultimap.put(currentPrefix,
+                    argsString.substring(currentStart + currentPrefix.getPrefix().length()).trim());
+            return argMultimap;
+        }
+    }
+}
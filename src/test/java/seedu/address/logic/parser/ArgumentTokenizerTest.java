@@ -136,6 +136,50 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixNotAfterSpace_notRecognized() {
+        String argsString = " e/hip/900\tp/tabbed p/ spaced";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "e/hip/900\tp/tabbed");
+        assertArgumentPresent(argMultimap, pSlash, "spaced");
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestMatchRecognized() {
+        Prefix b = new Prefix("b");
+        Prefix bySlash = new Prefix("by/");
+        String argsString = "preamble by/ tomorrow bx b value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, b, bySlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, bySlash, "tomorrow");
+        assertArgumentPresent(argMultimap, b, "x", "value");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[1000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" -t ").append(expectedValues[i]).append(' ');
+        }
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(pSlash, dashT).scan(argsString.toString());
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashT, expectedValues);
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void tokenize_sameTokenizerReused_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        assertArgumentPresent(tokenizer.scan(" p/first"), pSlash, "first");
+
+        ArgumentMultimap argMultimap = tokenizer.scan("preamble -t second");
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "second");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
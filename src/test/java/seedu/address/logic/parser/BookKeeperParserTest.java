@@ -2,31 +2,48 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.CompoundCommand;
 import seedu.address.logic.commands.client.AddCommand;
+import seedu.address.logic.commands.client.BulkDeleteCommand;
 import seedu.address.logic.commands.client.ClearCommand;
+import seedu.address.logic.commands.client.DedupeCommand;
 import seedu.address.logic.commands.client.DeleteCommand;
 import seedu.address.logic.commands.client.EditCommand;
 import seedu.address.logic.commands.client.ExitCommand;
 import seedu.address.logic.commands.client.FindCommand;
 import seedu.address.logic.commands.client.HelpCommand;
 import seedu.address.logic.commands.client.ListCommand;
+import seedu.address.logic.commands.client.LookupCommand;
+import seedu.address.logic.commands.client.SearchCommand;
+import seedu.address.logic.commands.data.DataFormat;
+import seedu.address.logic.commands.data.ExportCommand;
+import seedu.address.logic.commands.data.ExportCommand.Target;
+import seedu.address.logic.commands.data.ImportCommand;
 import seedu.address.logic.commands.order.AddOrderCommand;
+import seedu.address.logic.commands.order.BulkEditOrderCommand;
 import seedu.address.logic.commands.order.DeleteOrderCommand;
 import seedu.address.logic.commands.order.EditOrderCommand;
+import seedu.address.logic.commands.order.FindOrderCommand;
+import seedu.address.logic.commands.order.HistoryCommand;
+import seedu.address.logic.commands.query.QueryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.NameContainsKeywordsPredicate;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.RemarkSearch;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.ClientUtil;
 import seedu.address.testutil.EditClientDescriptorBuilder;
@@ -118,6 +135,18 @@ public class BookKeeperParserTest {
                 + deadline + price + remarks + status) instanceof EditOrderCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("data/clients.csv"), DataFormat.CSV),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " data/clients.csv"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Target.ORDERS, Paths.get("orders.jsonl"), DataFormat.JSON_LINES),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " orders orders.jsonl"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -128,4 +157,130 @@ public class BookKeeperParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_unambiguousAbbreviation_success() throws Exception {
+        assertEquals(new ExportCommand(Target.ORDERS, Paths.get("orders.jsonl"), DataFormat.JSON_LINES),
+                parser.parseCommand("exp orders orders.jsonl"));
+        assertTrue(parser.parseCommand("hi") instanceof HistoryCommand);
+        assertTrue(parser.parseCommand("l") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "h", "help, history"), ()
+                -> parser.parseCommand("h"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "del", "delete, deleteOrder"), ()
+                -> parser.parseCommand("del 1"));
+    }
+
+    @Test
+    public void parseCommand_commandWordStartsOtherCommandWord_exactMatchWins() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedClear_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cle"));
+    }
+
+    @Test
+    public void parseCommand_bulkCommands() throws Exception {
+        assertTrue(parser.parseCommand(BulkEditOrderCommand.COMMAND_WORD + " s/pending set s/canceled")
+                instanceof BulkEditOrderCommand);
+        assertTrue(parser.parseCommand(BulkDeleteCommand.COMMAND_WORD + " t/inactive") instanceof BulkDeleteCommand);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        assertTrue(parser.parseCommand(QueryCommand.COMMAND_WORD + " explain tag:vip OR status:pending")
+                instanceof QueryCommand);
+    }
+
+    @Test
+    public void getCommandWords_sorted() {
+        List<String> commandWords = List.copyOf(parser.getCommandWords());
+        assertTrue(commandWords.contains(FindOrderCommand.COMMAND_WORD));
+        assertTrue(commandWords.contains(ClearCommand.COMMAND_WORD));
+        assertEquals(commandWords.stream().sorted().collect(Collectors.toList()), commandWords);
+    }
+
+    @Test
+    public void parseCommand_findOrder() throws Exception {
+        FindOrderCommand command = (FindOrderCommand) parser.parseCommand(
+                FindOrderCommand.COMMAND_WORD + " red ros* OR tulips");
+        assertEquals(new FindOrderCommand(new RemarkSearch(List.of(List.of("red", "ros*"), List.of("tulips")))),
+                command);
+
+        // "find" still stands for itself
+        assertTrue(parser.parseCommand(FindCommand.COMMAND_WORD + " foo") instanceof FindCommand);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " wall stret typos/1");
+        assertEquals(new SearchCommand("wall stret", 1), command);
+    }
+
+    @Test
+    public void parseCommand_dedupe() throws Exception {
+        assertEquals(new DedupeCommand(), parser.parseCommand(DedupeCommand.COMMAND_WORD));
+        assertEquals(new DedupeCommand(INDEX_FIRST_PERSON), parser.parseCommand(DedupeCommand.COMMAND_WORD + " 1"));
+    }
+
+    @Test
+    public void parseCommand_lookup() throws Exception {
+        LookupCommand command = (LookupCommand) parser.parseCommand(LookupCommand.COMMAND_WORD + " p/98765432");
+        assertEquals(new LookupCommand(new Phone("98765432")), command);
+    }
+
+    @Test
+    public void parseCommand_abbreviatedBulkDelete_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("bulkD t/inactive"));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand_success() throws Exception {
+        BookKeeperParser extendedParser = new BookKeeperParser();
+        extendedParser.register("bye", arguments -> new ExitCommand());
+        assertTrue(extendedParser.parseCommand("bye") instanceof ExitCommand);
+        assertTrue(extendedParser.parseCommand("by") instanceof ExitCommand);
+    }
+
+    @Test
+    public void register_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.register(AddCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> parser.register("", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> parser.register("a b", arguments -> new ExitCommand()));
+    }
+
+    @Test
+    public void parseCommand_severalCommands_returnsCompoundCommand() throws Exception {
+        CompoundCommand expected = new CompoundCommand(List.of(new DeleteCommand(INDEX_FIRST_PERSON),
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("a;b"))),
+                new DeleteCommand(INDEX_FIRST_PERSON)));
+        assertEquals(expected, parser.parseCommand(" delete 1 ;find a;;b\n\n delete 1;  "));
+        assertEquals(expected, parser.parseCommand("delete 1\r\nfind a;;b\r\ndelete 1"));
+    }
+
+    @Test
+    public void parseCommand_oneCommandWithSeparators_returnsCommand() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand(" ; \n delete 1 ;\n"));
+        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(List.of("a;"))),
+                parser.parseCommand("find a;;"));
+    }
+
+    @Test
+    public void parseCommand_onlySeparators_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(" ; \n ;"));
+    }
+
+    @Test
+    public void parseCommand_invalidCommandAmongSeveral_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CompoundCommand.MESSAGE_INVALID_COMMAND, 2, 3,
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parseCommand("list; unknownCommand; list"));
+    }
 }
@@ -14,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.ClientReference;
+import seedu.address.logic.commands.OrderReference;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.client.Address;
 import seedu.address.model.client.Email;
@@ -71,6 +73,36 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseClientReference_validInput_success() throws Exception {
+        assertEquals(ClientReference.of(INDEX_FIRST_PERSON), ParserUtil.parseClientReference(" 1 "));
+        assertEquals(ClientReference.of(new Name(VALID_NAME)), ParserUtil.parseClientReference(" @" + VALID_NAME));
+    }
+
+    @Test
+    public void parseClientReference_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseClientReference("a"));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, ()
+                -> ParserUtil.parseClientReference("@" + INVALID_NAME));
+    }
+
+    @Test
+    public void parseOrderReference_validInput_success() throws Exception {
+        assertEquals(OrderReference.of(INDEX_FIRST_PERSON), ParserUtil.parseOrderReference("1"));
+        assertEquals(OrderReference.of("58b76419"), ParserUtil.parseOrderReference(" #58B76419 "));
+        assertEquals(OrderReference.of("58b76419-f9ff-4aa1-8e70-604993fc1a20"),
+                ParserUtil.parseOrderReference("#58b76419-f9ff-4aa1-8e70-604993fc1a20"));
+    }
+
+    @Test
+    public void parseOrderReference_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseOrderReference("58b7"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_ORDER_ID_PREFIX, ()
+                -> ParserUtil.parseOrderReference("#"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_ORDER_ID_PREFIX, ()
+                -> ParserUtil.parseOrderReference("#58g7"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
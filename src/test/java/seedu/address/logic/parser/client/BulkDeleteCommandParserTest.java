@@ -0,0 +1,38 @@
+package seedu.address.logic.parser.client;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.client.BulkDeleteCommand;
+import seedu.address.model.client.ClientHasTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains unit tests for {@code BulkDeleteCommandParser}.
+ */
+public class BulkDeleteCommandParserTest {
+
+    private BulkDeleteCommandParser parser = new BulkDeleteCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBulkDeleteCommand() {
+        assertParseSuccess(parser, " t/inactive",
+                new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("inactive")))));
+        assertParseSuccess(parser, " t/inactive  t/overseas ",
+                new BulkDeleteCommand(new ClientHasTagsPredicate(Set.of(new Tag("inactive"), new Tag("overseas")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkDeleteCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " inactive", expectedMessage);
+        assertParseFailure(parser, " 1 t/inactive", expectedMessage);
+        assertParseFailure(parser, " t/in*active", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser.client;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.client.DedupeCommand;
+
+public class DedupeCommandParserTest {
+
+    private DedupeCommandParser parser = new DedupeCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListingCommand() {
+        assertParseSuccess(parser, "", new DedupeCommand());
+        assertParseSuccess(parser, "   ", new DedupeCommand());
+    }
+
+    @Test
+    public void parse_groupNumber_returnsMergingCommand() {
+        assertParseSuccess(parser, " 1 ", new DedupeCommand(INDEX_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DedupeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "1 2", expectedMessage);
+    }
+}
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ClientReference;
 import seedu.address.logic.commands.client.EditCommand;
 import seedu.address.logic.commands.client.EditCommand.EditClientDescriptor;
 import seedu.address.model.client.Address;
@@ -129,6 +130,16 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_clientName_success() {
+        String userInput = "@" + VALID_NAME_AMY + PHONE_DESC_BOB;
+
+        EditClientDescriptor descriptor = new EditClientDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+        EditCommand expectedCommand = new EditCommand(ClientReference.of(new Name(VALID_NAME_AMY)), descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
     @Test
     public void parse_oneFieldSpecified_success() {
         // name
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser.client;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.client.LookupCommand;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Phone;
+
+public class LookupCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE);
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_missingPhoneAndEmail_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "98765432", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_bothPhoneAndEmail_throwsParseException() {
+        assertParseFailure(parser, " p/98765432 e/johnd@example.com", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, "john p/98765432", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, " p/98a", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " e/john", Email.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePhone_throwsParseException() {
+        assertParseFailure(parser, " p/98765432 p/98765433",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PHONE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        assertParseSuccess(parser, " p/98765432 ", new LookupCommand(new Phone("98765432")));
+        assertParseSuccess(parser, " e/johnd@example.com", new LookupCommand(new Email("johnd@example.com")));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser.client;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.client.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyText_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " typos/1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTypos_throwsParseException() {
+        assertParseFailure(parser, "street typos/", SearchCommandParser.MESSAGE_INVALID_TYPOS);
+        assertParseFailure(parser, "street typos/-1", SearchCommandParser.MESSAGE_INVALID_TYPOS);
+        assertParseFailure(parser, "street typos/4", SearchCommandParser.MESSAGE_INVALID_TYPOS);
+        assertParseFailure(parser, "street typos/one", SearchCommandParser.MESSAGE_INVALID_TYPOS);
+    }
+
+    @Test
+    public void parse_duplicateTypos_throwsParseException() {
+        assertParseFailure(parser, "street typos/1 typos/2",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TYPOS));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        // no typos given
+        assertParseSuccess(parser, "wall street", new SearchCommand("wall street", 0));
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \t wall street \n typos/ 2 ", new SearchCommand("wall street", 2));
+    }
+}
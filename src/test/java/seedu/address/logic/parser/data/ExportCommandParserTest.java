@@ -0,0 +1,42 @@
+package seedu.address.logic.parser.data;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.data.DataFormat;
+import seedu.address.logic.commands.data.ExportCommand;
+import seedu.address.logic.commands.data.ExportCommand.Target;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "orders", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "data/orders.csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "tags data/tags.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "orders data/orders.xlsx", DataFormat.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " orders  data/my orders.csv ",
+                new ExportCommand(Target.ORDERS, Paths.get("data/my orders.csv"), DataFormat.CSV));
+        assertParseSuccess(parser, "Clients clients.jsonl",
+                new ExportCommand(Target.CLIENTS, Paths.get("clients.jsonl"), DataFormat.JSON_LINES));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser.data;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.data.DataFormat;
+import seedu.address.logic.commands.data.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "data/clients.txt", DataFormat.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, "data", DataFormat.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/clients.csv ",
+                new ImportCommand(Paths.get("data/clients.csv"), DataFormat.CSV));
+        assertParseSuccess(parser, "data/My Clients.JSONL",
+                new ImportCommand(Paths.get("data/My Clients.JSONL"), DataFormat.JSON_LINES));
+    }
+}
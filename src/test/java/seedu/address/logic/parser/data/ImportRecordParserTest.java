@@ -0,0 +1,93 @@
+package seedu.address.logic.parser.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.data.ImportCommand.ImportRecord;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Price;
+import seedu.address.model.order.Remark;
+import seedu.address.model.order.Status;
+
+public class ImportRecordParserTest {
+
+    private static final String HEADER = "name,phone,email,address,tags,deadline,price,remark,status";
+    private static final String ALICE_CSV = "Alice Pauline,94351253,alice@example.com,"
+            + "\"123, Jurong West Ave 6, #08-111\",friends";
+
+    @Test
+    public void forCsv_invalidHeader_throwsParseException() {
+        assertThrows(ParseException.class, String.format(ImportRecordParser.MESSAGE_UNKNOWN_FIELD, "age"), () ->
+                ImportRecordParser.forCsv("name,phone,email,address,age"));
+        assertThrows(ParseException.class, String.format(ImportRecordParser.MESSAGE_DUPLICATE_COLUMN, "name"), () ->
+                ImportRecordParser.forCsv("name,phone,email,address,name"));
+        assertThrows(ParseException.class, () -> ImportRecordParser.forCsv("name,phone,email"));
+    }
+
+    @Test
+    public void parse_csvClientOnly_success() throws Exception {
+        ImportRecordParser parser = ImportRecordParser.forCsv(HEADER);
+        ImportRecord record = parser.parse(ALICE_CSV + ",,,,");
+        assertEquals(ALICE, record.getClient());
+        assertFalse(record.getOrder().isPresent());
+
+        // columns in any order and any case, optional columns absent
+        parser = ImportRecordParser.forCsv("Tags,ADDRESS,email,phone,name");
+        record = parser.parse("friends,\"123, Jurong West Ave 6, #08-111\",alice@example.com,94351253,Alice Pauline");
+        assertEquals(ALICE, record.getClient());
+    }
+
+    @Test
+    public void parse_csvWithOrder_success() throws Exception {
+        ImportRecord record = ImportRecordParser.forCsv(HEADER)
+                .parse(ALICE_CSV + ",11-10-2024 23:59,100,Birthday cake,");
+        assertEquals(ALICE, record.getClient());
+        assertTrue(record.getOrder().isPresent());
+        Order order = record.getOrder().get();
+        assertEquals(new Deadline("11-10-2024 23:59"), order.getDeadline());
+        assertEquals(new Price("100"), order.getPrice());
+        assertEquals(new Remark("Birthday cake"), order.getRemark());
+        assertEquals(new Status("pending"), order.getStatus());
+    }
+
+    @Test
+    public void parse_invalidCsvLine_throwsParseException() throws Exception {
+        ImportRecordParser parser = ImportRecordParser.forCsv(HEADER);
+        assertThrows(ParseException.class, String.format(ImportRecordParser.MESSAGE_FIELD_COUNT, 9, 5), () ->
+                parser.parse(ALICE_CSV));
+        assertThrows(ParseException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                parser.parse("Alice,phone,alice@example.com,somewhere,,,,,"));
+        assertThrows(ParseException.class, String.format(ImportRecordParser.MESSAGE_MISSING_FIELD, "email"), () ->
+                parser.parse("Alice,94351253,,somewhere,,,,,"));
+        assertThrows(ParseException.class, ImportRecordParser.MESSAGE_INCOMPLETE_ORDER, () ->
+                parser.parse(ALICE_CSV + ",11-10-2024 23:59,,Birthday cake,"));
+    }
+
+    @Test
+    public void parse_jsonLine_success() throws Exception {
+        ImportRecordParser parser = ImportRecordParser.forJsonLines();
+        ImportRecord record = parser.parse("{\"name\": \"Alice Pauline\", \"phone\": 94351253, "
+                + "\"email\": \"alice@example.com\", \"address\": \"123, Jurong West Ave 6, #08-111\", "
+                + "\"tags\": [\"friends\"], \"deadline\": \"11-10-2024 23:59\", \"price\": 100, "
+                + "\"remark\": \"Birthday cake\", \"status\": \"completed\"}");
+        assertEquals(ALICE, record.getClient());
+        assertEquals(new Status("completed"), record.getOrder().get().getStatus());
+    }
+
+    @Test
+    public void parse_invalidJsonLine_throwsParseException() {
+        ImportRecordParser parser = ImportRecordParser.forJsonLines();
+        assertThrows(ParseException.class, ImportRecordParser.MESSAGE_INVALID_JSON, () -> parser.parse("[1, 2]"));
+        assertThrows(ParseException.class, ImportRecordParser.MESSAGE_INVALID_JSON, () -> parser.parse("{\"name\""));
+        assertThrows(ParseException.class, String.format(ImportRecordParser.MESSAGE_UNKNOWN_FIELD, "age"), () ->
+                parser.parse("{\"age\": 3}"));
+    }
+}
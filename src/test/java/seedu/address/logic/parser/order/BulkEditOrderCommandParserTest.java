@@ -0,0 +1,79 @@
+package seedu.address.logic.parser.order;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.order.BulkEditOrderCommand;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.OrderMatchesFilterPredicate;
+import seedu.address.model.order.Status;
+import seedu.address.testutil.EditOrderDescriptorBuilder;
+
+/**
+ * Contains unit tests for {@code BulkEditOrderCommandParser}.
+ */
+public class BulkEditOrderCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditOrderCommand.MESSAGE_USAGE);
+
+    private BulkEditOrderCommandParser parser = new BulkEditOrderCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBulkEditOrderCommand() {
+        BulkEditOrderCommand expectedCommand = new BulkEditOrderCommand(
+                new OrderMatchesFilterPredicate(new Status("pending"), new Deadline("01-03-2024 00:00"), null),
+                new EditOrderDescriptorBuilder().withStatus("canceled").build());
+        assertParseSuccess(parser, " s/pending before/01-03-2024 00:00 set s/canceled", expectedCommand);
+
+        // conditions in any order, with extra whitespace
+        assertParseSuccess(parser, "  before/01-03-2024 00:00 \t s/PENDING   set \n s/canceled ", expectedCommand);
+    }
+
+    @Test
+    public void parse_allFields_returnsBulkEditOrderCommand() {
+        BulkEditOrderCommand expectedCommand = new BulkEditOrderCommand(
+                new OrderMatchesFilterPredicate(null, new Deadline("08-03-2024 00:00"),
+                        new Deadline("01-03-2024 00:00")),
+                new EditOrderDescriptorBuilder().withDeadline("09-03-2024 12:00").withPrice("20")
+                        .withRemark("set aside").withStatus("completed").build());
+
+        // only the first standalone "set" separates the conditions from the new values
+        assertParseSuccess(parser, " after/01-03-2024 00:00 before/08-03-2024 00:00 set by/09-03-2024 12:00 c/20"
+                + " d/set aside s/completed", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no set keyword
+        assertParseFailure(parser, " s/pending s/canceled", MESSAGE_INVALID_FORMAT);
+
+        // no conditions
+        assertParseFailure(parser, " set s/canceled", MESSAGE_INVALID_FORMAT);
+
+        // no new values
+        assertParseFailure(parser, " s/pending set", MESSAGE_INVALID_FORMAT);
+
+        // text that is not a prefix
+        assertParseFailure(parser, " 1 s/pending set s/canceled", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " s/pending set 1 s/canceled", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " s/unknown set s/canceled", Status.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " before/tomorrow set s/canceled", Deadline.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " s/pending set s/unknown", Status.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePrefixes_failure() {
+        assertParseFailure(parser, " s/pending s/completed set s/canceled",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_STATUS));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.OrderReference;
 import seedu.address.logic.commands.order.DeleteOrderCommand;
 
 /**
@@ -19,6 +20,13 @@ public class DeleteOrderCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "1", new DeleteOrderCommand(INDEX_FIRST_ORDER));
+        assertParseSuccess(parser, " #58B76419", new DeleteOrderCommand(OrderReference.of("58b76419")));
+    }
+
+    @Test
+    public void parse_invalidOrderId_throwsParseException() {
+        final String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteOrderCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "#58x7", expectedMessage);
     }
 
     @Test
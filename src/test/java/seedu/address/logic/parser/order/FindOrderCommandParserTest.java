@@ -0,0 +1,73 @@
+package seedu.address.logic.parser.order;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.order.FindOrderCommand;
+import seedu.address.model.order.RemarkSearch;
+
+/**
+ * Contains unit tests for {@code FindOrderCommandParser}.
+ */
+public class FindOrderCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindOrderCommand.MESSAGE_USAGE);
+
+    private FindOrderCommandParser parser = new FindOrderCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindOrderCommand() {
+        FindOrderCommand expectedCommand =
+                new FindOrderCommand(new RemarkSearch(List.of(List.of("red", "roses"))));
+        assertParseSuccess(parser, "Red ROSES", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n red \n \t roses  \t", expectedCommand);
+
+        // punctuation separates terms
+        assertParseSuccess(parser, "red,roses!", expectedCommand);
+    }
+
+    @Test
+    public void parse_prefixKeyword_returnsFindOrderCommand() {
+        assertParseSuccess(parser, "red ros*",
+                new FindOrderCommand(new RemarkSearch(List.of(List.of("red", "ros*")))));
+
+        // only the last term of a keyword is a prefix
+        assertParseSuccess(parser, "gift-wr*",
+                new FindOrderCommand(new RemarkSearch(List.of(List.of("gift", "wr*")))));
+    }
+
+    @Test
+    public void parse_orOperator_returnsAlternatives() {
+        assertParseSuccess(parser, "red roses OR tulips",
+                new FindOrderCommand(new RemarkSearch(List.of(List.of("red", "roses"), List.of("tulips")))));
+
+        // a lower-case "or" is a keyword
+        assertParseSuccess(parser, "red or tulips",
+                new FindOrderCommand(new RemarkSearch(List.of(List.of("red", "or", "tulips")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // OR without keywords on both sides
+        assertParseFailure(parser, "OR tulips", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "roses OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "roses OR OR tulips", MESSAGE_INVALID_FORMAT);
+
+        // keyword without letters or digits
+        assertParseFailure(parser, "roses *",
+                String.format(FindOrderCommandParser.MESSAGE_INVALID_KEYWORD, "*"));
+    }
+}
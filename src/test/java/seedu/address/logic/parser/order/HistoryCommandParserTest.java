@@ -0,0 +1,34 @@
+package seedu.address.logic.parser.order;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.order.HistoryCommand;
+import seedu.address.model.order.OrderNameContainsKeywordsPredicate;
+
+/**
+ * Contains unit tests for {@code HistoryCommandParser}.
+ */
+public class HistoryCommandParserTest {
+
+    private HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsShowAllHistoryCommand() {
+        assertParseSuccess(parser, "     ", new HistoryCommand(PREDICATE_SHOW_ALL_ORDERS));
+    }
+
+    @Test
+    public void parse_validArgs_returnsHistoryCommand() {
+        HistoryCommand expectedHistoryCommand =
+                new HistoryCommand(new OrderNameContainsKeywordsPredicate(Arrays.asList("cake", "roses")));
+        assertParseSuccess(parser, "cake roses", expectedHistoryCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n cake \n \t roses  \t", expectedHistoryCommand);
+    }
+}
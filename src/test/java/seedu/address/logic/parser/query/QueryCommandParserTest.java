@@ -0,0 +1,54 @@
+package seedu.address.logic.parser.query;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.query.QueryCommand;
+import seedu.address.logic.commands.query.QueryCommand.Target;
+import seedu.address.model.order.Status;
+import seedu.address.model.query.ClientCondition;
+import seedu.address.model.query.OrderCondition;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains unit tests for {@code QueryCommandParser}.
+ */
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_noTarget_targetsListOfFieldsUsed() {
+        assertParseSuccess(parser, " tag:vip",
+                new QueryCommand(new ClientCondition.HasTag(new Tag("vip")), Target.CLIENTS, false));
+        assertParseSuccess(parser, " status:pending",
+                new QueryCommand(new OrderCondition.StatusIs(new Status("pending")), Target.ORDERS, false));
+    }
+
+    @Test
+    public void parse_explainAndTarget_success() {
+        assertParseSuccess(parser, " EXPLAIN orders tag:vip",
+                new QueryCommand(new ClientCondition.HasTag(new Tag("vip")), Target.ORDERS, true));
+        assertParseSuccess(parser, " clients  status:pending",
+                new QueryCommand(new OrderCondition.StatusIs(new Status("pending")), Target.CLIENTS, false));
+    }
+
+    @Test
+    public void parse_noQuery_failure() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " explain", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " explain clients ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        assertParseFailure(parser, " explain explain tag:vip",
+                String.format(QueryExpressionParser.MESSAGE_UNEXPECTED_TOKEN, "explain"));
+    }
+}
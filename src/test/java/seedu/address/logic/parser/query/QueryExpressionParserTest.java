@@ -0,0 +1,115 @@
+package seedu.address.logic.parser.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Price;
+import seedu.address.model.order.Status;
+import seedu.address.model.query.ClientCondition;
+import seedu.address.model.query.OrderCondition;
+import seedu.address.model.query.QueryExpression;
+import seedu.address.model.query.Range;
+import seedu.address.model.tag.Tag;
+
+public class QueryExpressionParserTest {
+
+    private static final QueryExpression VIP = new ClientCondition.HasTag(new Tag("vip"));
+    private static final QueryExpression PENDING = new OrderCondition.StatusIs(new Status("pending"));
+    private static final QueryExpression ROSES = new OrderCondition.RemarkHasWords(List.of("roses"));
+
+    @Test
+    public void parse_conditions() throws Exception {
+        assertEquals(VIP, QueryExpressionParser.parse("tag:vip"));
+        assertEquals(PENDING, QueryExpressionParser.parse("status=PENDING"));
+        assertEquals(new ClientCondition.NameHasWords(List.of("alex", "yeoh")),
+                QueryExpressionParser.parse("name:\"alex  yeoh\""));
+        assertEquals(new OrderCondition.RemarkHasWords(List.of("red", "roses")),
+                QueryExpressionParser.parse("remark:\"red roses\""));
+    }
+
+    @Test
+    public void parse_priceComparisons() throws Exception {
+        assertEquals(new OrderCondition.PriceIn(Range.singleton(20.0)), QueryExpressionParser.parse("price:20"));
+        assertEquals(new OrderCondition.PriceIn(Range.below(20.0, false)), QueryExpressionParser.parse("price<20"));
+        assertEquals(new OrderCondition.PriceIn(Range.below(20.0, true)), QueryExpressionParser.parse("price<=20"));
+        assertEquals(new OrderCondition.PriceIn(Range.above(20.0, false)), QueryExpressionParser.parse("price>20"));
+        assertEquals(new OrderCondition.PriceIn(Range.above(20.0, true)), QueryExpressionParser.parse("price>=20"));
+        assertEquals(new OrderCondition.PriceIn(Range.closed(10.0, 50.5)),
+                QueryExpressionParser.parse("price:10..50.5"));
+        assertEquals(new OrderCondition.PriceIn(Range.above(10.0, true)), QueryExpressionParser.parse("price:10.."));
+        assertEquals(new OrderCondition.PriceIn(Range.below(50.0, true)), QueryExpressionParser.parse("price:..50"));
+    }
+
+    @Test
+    public void parse_deadlineComparisons() throws Exception {
+        LocalDateTime startOfDay = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime endOfDay = LocalDateTime.of(2024, 3, 1, 23, 59);
+        LocalDateTime noon = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+        assertEquals(new OrderCondition.DeadlineIn(Range.below(noon, false)),
+                QueryExpressionParser.parse("deadline<\"01-03-2024 12:00\""));
+        // a date without a time stands for the whole day
+        assertEquals(new OrderCondition.DeadlineIn(Range.closed(startOfDay, endOfDay)),
+                QueryExpressionParser.parse("deadline:01-03-2024"));
+        assertEquals(new OrderCondition.DeadlineIn(Range.below(startOfDay, false)),
+                QueryExpressionParser.parse("deadline<01-03-2024"));
+        assertEquals(new OrderCondition.DeadlineIn(Range.below(endOfDay, true)),
+                QueryExpressionParser.parse("deadline<=01-03-2024"));
+        assertEquals(new OrderCondition.DeadlineIn(Range.above(endOfDay, false)),
+                QueryExpressionParser.parse("deadline>01-03-2024"));
+    }
+
+    @Test
+    public void parse_operators_respectsPrecedence() throws Exception {
+        // AND binds tighter than OR, and is implied between conditions
+        assertEquals(new QueryExpression.Or(List.of(VIP, new QueryExpression.And(List.of(PENDING, ROSES)))),
+                QueryExpressionParser.parse("tag:vip or status:pending remark:roses"));
+        assertEquals(new QueryExpression.And(List.of(new QueryExpression.Or(List.of(VIP, PENDING)), ROSES)),
+                QueryExpressionParser.parse("(tag:vip OR status:pending) AND remark:roses"));
+        assertEquals(new QueryExpression.And(List.of(new QueryExpression.Not(VIP), PENDING)),
+                QueryExpressionParser.parse("NOT tag:vip status:pending"));
+        assertEquals(new QueryExpression.Not(new QueryExpression.Not(VIP)),
+                QueryExpressionParser.parse("not not (tag:vip)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, QueryExpressionParser.MESSAGE_EMPTY_QUERY, ()
+                -> QueryExpressionParser.parse("  "));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_UNEXPECTED_TOKEN, "vip"), ()
+                -> QueryExpressionParser.parse("vip"));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_UNEXPECTED_TOKEN, ")"), ()
+                -> QueryExpressionParser.parse("tag:vip)"));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_UNEXPECTED_TOKEN,
+                "the end of the query"), () -> QueryExpressionParser.parse("tag:vip AND"));
+        assertThrows(ParseException.class, QueryExpressionParser.MESSAGE_UNCLOSED_PARENTHESIS, ()
+                -> QueryExpressionParser.parse("(tag:vip"));
+        assertThrows(ParseException.class, QueryExpressionParser.MESSAGE_UNCLOSED_QUOTE, ()
+                -> QueryExpressionParser.parse("name:\"alex"));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_UNKNOWN_FIELD, "colour"), ()
+                -> QueryExpressionParser.parse("colour:red"));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_UNSUPPORTED_OPERATOR, "tag"),
+                () -> QueryExpressionParser.parse("tag>vip"));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_EMPTY_VALUE, "tag", ":"), ()
+                -> QueryExpressionParser.parse("tag:"));
+        assertThrows(ParseException.class, String.format(QueryExpressionParser.MESSAGE_INVALID_RANGE, "price"), ()
+                -> QueryExpressionParser.parse("price:50..10"));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> QueryExpressionParser.parse("tag:v*p"));
+        assertThrows(ParseException.class, Status.MESSAGE_CONSTRAINTS, ()
+                -> QueryExpressionParser.parse("status:late"));
+        assertThrows(ParseException.class, Price.MESSAGE_CONSTRAINTS, () -> QueryExpressionParser.parse("price<x"));
+        assertThrows(ParseException.class, Deadline.MESSAGE_CONSTRAINTS, ()
+                -> QueryExpressionParser.parse("deadline<tomorrow"));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class BookKeeperSnapshotTest {
+
+    private final Order roses = new OrderBuilder().withRemark("Roses").build();
+    private final Client alice = ALICE.addOrder(roses);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BookKeeperSnapshot(null));
+    }
+
+    @Test
+    public void constructor_bookKeeperChangedAfterwards_snapshotUnchanged() {
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(alice, BENSON));
+        BookKeeperSnapshot snapshot = new BookKeeperSnapshot(bookKeeper);
+
+        Client editedAlice = new ClientBuilder(alice).withAddress("1 Kent Ridge").build();
+        bookKeeper.setClient(alice, editedAlice);
+        bookKeeper.removeClient(BENSON);
+        bookKeeper.addClient(CARL);
+
+        assertEquals(List.of(alice, BENSON), snapshot.getClientList());
+        assertEquals(List.of(roses), snapshot.getOrderList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getClientList().add(CARL));
+    }
+
+    @Test
+    public void resetData_snapshot_restoresBookKeeper() {
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(alice, BENSON));
+        BookKeeper expectedBookKeeper = new BookKeeper(bookKeeper);
+        BookKeeperSnapshot snapshot = new BookKeeperSnapshot(bookKeeper);
+
+        bookKeeper.setClient(alice, new ClientBuilder(alice).withAddress("1 Kent Ridge").build());
+        bookKeeper.addClient(CARL);
+        bookKeeper.resetData(snapshot);
+
+        assertEquals(expectedBookKeeper, bookKeeper);
+        // the orders point at the clients of the snapshot again
+        assertSame(alice, bookKeeper.getOrderList().get(0).getClient());
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FilterCacheTest {
+
+    private ObservableList<String> list;
+    private FilterCache<String> cache;
+
+    @BeforeEach
+    public void setUp() {
+        list = FXCollections.observableArrayList("apple", "avocado", "banana");
+        cache = new FilterCache<>(list, 2);
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new FilterCache<String>(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> new FilterCache<>(list, 0));
+        assertThrows(NullPointerException.class, () -> new FilterCache<>(list, 2, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FilterCache<>(list, 2, ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    public void lookUp_uncacheablePredicate_returnedAsItIs() {
+        Predicate<String> predicate = item -> true;
+        assertSame(predicate, cache.lookUp(predicate));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void getMatches_equalPredicate_hit() {
+        assertEquals(Set.of("apple", "avocado"), cache.getMatches(new StartsWith("a")));
+        assertEquals(Set.of("apple", "avocado"), cache.getMatches(new StartsWith("a")));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void getMatches_overCapacity_evictsLeastRecentlyUsed() {
+        cache.getMatches(new StartsWith("a"));
+        cache.getMatches(new StartsWith("b"));
+        cache.getMatches(new StartsWith("c"));
+        assertEquals(2, cache.size());
+
+        cache.getMatches(new StartsWith("a"));
+        assertEquals(4, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void listChanged_onlyAffectedEntriesInvalidated() {
+        cache.getMatches(new StartsWith("a"));
+        cache.getMatches(new StartsWith("b"));
+
+        // neither added nor removed item matches "b"
+        list.add("apricot");
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(1, cache.getRevision());
+        assertEquals(Set.of("banana"), cache.getMatches(new StartsWith("b")));
+        assertEquals(1, cache.getHitCount());
+
+        // a removed item held by the entry
+        list.remove("banana");
+        assertEquals(2, cache.getInvalidationCount());
+        assertEquals(0, cache.size());
+        assertEquals(Set.of("apple", "avocado", "apricot"), cache.getMatches(new StartsWith("a")));
+    }
+
+    @Test
+    public void listChanged_itemsSetAgain_nothingInvalidated() {
+        cache.getMatches(new StartsWith("a"));
+        cache.getMatches(new StartsWith("b"));
+
+        list.set(2, list.get(2));
+        list.setAll(List.copyOf(list));
+        assertEquals(0, cache.getInvalidationCount());
+        assertEquals(2, cache.getRevision());
+        assertEquals(Set.of("banana"), cache.getMatches(new StartsWith("b")));
+        assertEquals(1, cache.getHitCount());
+
+        // only the item that is not added back affects the entries
+        list.setAll(List.of(list.get(0), list.get(2)));
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(Set.of("banana"), cache.getMatches(new StartsWith("b")));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void getMatches_aboveThreshold_testedOnPool() {
+        ObservableList<String> longList = FXCollections.observableArrayList();
+        for (int i = 0; i < 10000; i++) {
+            longList.add(i % 3 == 0 ? "a" + i : "b" + i);
+        }
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        StartsWith startsWithA = new StartsWith("a") {
+            @Override
+            public boolean test(String item) {
+                threads.add(Thread.currentThread());
+                return super.test(item);
+            }
+        };
+
+        FilterCache<String> parallelCache = new FilterCache<>(longList, 2, new ForkJoinPool(4), 1);
+        assertEquals(longList.stream().filter(new StartsWith("a")).collect(Collectors.toSet()),
+                parallelCache.getMatches(startsWithA));
+        assertTrue(threads.stream().allMatch(thread -> thread instanceof ForkJoinWorkerThread));
+
+        threads.clear();
+        new FilterCache<>(longList, 2, new ForkJoinPool(4), longList.size() + 1).getMatches(startsWithA);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void lookUp_equalPredicates_equalFilters() {
+        Predicate<String> startsWithA = cache.lookUp(new StartsWith("a"));
+        assertEquals(startsWithA, cache.lookUp(new StartsWith("a")));
+        assertEquals(startsWithA.hashCode(), cache.lookUp(new StartsWith("a")).hashCode());
+        assertNotEquals(startsWithA, cache.lookUp(new StartsWith("b")));
+        assertNotEquals(startsWithA, new StartsWith("a"));
+    }
+
+    @Test
+    public void lookUp_listChanged_filterStaysCorrect() {
+        Predicate<String> startsWithA = cache.lookUp(new StartsWith("a"));
+        Predicate<String> startsWithB = cache.lookUp(new StartsWith("b"));
+        assertTrue(startsWithA.test("apple"));
+        assertFalse(startsWithA.test("banana"));
+
+        // the entry for "a" is dropped, so new items are tested against the predicate itself
+        list.add("almond");
+        assertTrue(startsWithA.test("almond"));
+
+        // the entry for "b" is still correct, and the new item is not among its matches
+        assertFalse(startsWithB.test("almond"));
+        assertTrue(startsWithB.test("banana"));
+
+        // evicted entries also fall back to the predicate
+        cache.getMatches(new StartsWith("c"));
+        cache.getMatches(new StartsWith("d"));
+        list.add("blueberry");
+        assertTrue(startsWithB.test("blueberry"));
+    }
+
+    /**
+     * Accepts strings starting with a prefix. Predicates with the same prefix are equal.
+     */
+    private static class StartsWith implements CacheablePredicate<String> {
+        private final String prefix;
+
+        StartsWith(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean test(String item) {
+            return item.startsWith(prefix);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StartsWith && prefix.equals(((StartsWith) other).prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return prefix.hashCode();
+        }
+    }
+}
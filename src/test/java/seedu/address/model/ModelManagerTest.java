@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,12 +13,17 @@ import static seedu.address.testutil.TypicalClients.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.NameContainsKeywordsPredicate;
+import seedu.address.model.query.QueryIndex;
 import seedu.address.testutil.BookKeeperBuilder;
+import seedu.address.testutil.ClientBuilder;
 
 public class ModelManagerTest {
 
@@ -103,6 +110,69 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredOrderList().remove(0));
     }
 
+    @Test
+    public void getQueryIndex_rebuiltOnlyAfterChange() {
+        QueryIndex queryIndex = modelManager.getQueryIndex();
+        assertSame(queryIndex, modelManager.getQueryIndex());
+
+        modelManager.addClient(ALICE);
+        QueryIndex rebuiltIndex = modelManager.getQueryIndex();
+        assertNotSame(queryIndex, rebuiltIndex);
+        assertEquals(1, rebuiltIndex.getClients().size());
+    }
+
+    @Test
+    public void updateFilteredClientList_repeatedFilter_servedFromCache() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        FilterCache<Client> cache = modelManager.getClientFilterCache();
+
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(Arrays.asList("ALICE")));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateFilteredClientList_clientChangedAfterFiltering_filterStillApplied() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredClientList());
+
+        // a client edited to match the filter is shown
+        Client editedAlice = new ClientBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setClient(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredClientList());
+
+        // a client edited to no longer match is hidden
+        Client editedBenson = new ClientBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.setClient(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateFilteredClientList_unchangedFilter_listNotChanged() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getFilteredClientList().addListener((ListChangeListener<Client>) change ->
+                changeCount.incrementAndGet());
+
+        // showing everything again, or filtering by an equal predicate, leaves the list as it is
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(0, changeCount.get());
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(Arrays.asList("alice")));
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(Arrays.asList("ALICE")));
+        assertEquals(1, changeCount.get());
+
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(2, changeCount.get());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredClientList());
+    }
+
     @Test
     public void equals() {
         BookKeeper bookKeeper = new BookKeeperBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,184 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ParallelFilteredListTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final int LIST_SIZE = 10000;
+
+    private ObservableList<Integer> source;
+    private ParallelFilteredList<Integer> view;
+    private List<Integer> replayed;
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(IntStream.range(0, LIST_SIZE).boxed().collect(Collectors.toList()));
+        view = new ParallelFilteredList<>(source, POOL, 1);
+        replayed = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> {
+            changeCount++;
+            replay(change, replayed);
+        });
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ParallelFilteredList<>(source, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelFilteredList<>(source, POOL, 0));
+    }
+
+    @Test
+    public void constructor_noPredicate_showsEverything() {
+        assertEquals(source, view);
+        assertEquals(LIST_SIZE - 1, view.getSourceIndex(LIST_SIZE - 1));
+    }
+
+    @Test
+    public void setPredicate_aboveThreshold_testsOnPoolAndMatchesSerialFilter() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        view.setPredicate(item -> {
+            threads.add(Thread.currentThread());
+            return item % 7 == 3;
+        });
+
+        assertEquals(filter(item -> item % 7 == 3), view);
+        assertTrue(threads.stream().allMatch(thread -> thread instanceof ForkJoinWorkerThread));
+        assertEquals(1, changeCount);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void setPredicate_belowThreshold_testsOnCallingThread() {
+        ParallelFilteredList<Integer> serialView = new ParallelFilteredList<>(source, POOL, LIST_SIZE + 1);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        serialView.setPredicate(item -> {
+            threads.add(Thread.currentThread());
+            return item % 2 == 0;
+        });
+
+        assertEquals(filter(item -> item % 2 == 0), serialView);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void setPredicate_sameMatches_noChange() {
+        view.setPredicate(item -> item < 100);
+        view.setPredicate(item -> item <= 99);
+        assertEquals(1, changeCount);
+
+        view.setPredicate(null);
+        assertEquals(source, view);
+        assertEquals(2, changeCount);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void setPredicate_equalPredicate_nothingTested() {
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Integer> isEven = item -> {
+            testCount.incrementAndGet();
+            return item % 2 == 0;
+        };
+        view.setPredicate(isEven);
+        view.setPredicate(isEven);
+        assertEquals(LIST_SIZE, testCount.get());
+        assertEquals(1, changeCount);
+
+        // a changed item is the only one tested again
+        source.set(0, 5);
+        assertEquals(LIST_SIZE + 1, testCount.get());
+        assertEquals(filter(item -> item % 2 == 0), view);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void setPredicate_snapshotPredicate_onlyAddedItemsTested() {
+        AtomicInteger testCount = new AtomicInteger();
+        List<Integer> found = filter(item -> item % 5 == 0);
+        view.setPredicate(new SnapshotPredicate<>(found, item -> {
+            testCount.incrementAndGet();
+            return item % 5 == 0;
+        }));
+        assertEquals(found, view);
+        assertEquals(0, testCount.get());
+
+        // the items replacing found ones are tested, and shown if they match
+        source.set(0, 20000);
+        source.set(5, 20001);
+        assertEquals(2, testCount.get());
+        assertEquals(filter(item -> item % 5 == 0), view);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void setPredicate_predicateThrows_exceptionPropagated() {
+        assertThrows(IllegalStateException.class, () -> view.setPredicate(item -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void sourceChanged_itemsAddedRemovedAndSet_viewFollows() {
+        Predicate<Integer> isEven = item -> item % 2 == 0;
+        view.setPredicate(isEven);
+
+        source.add(0, -2);
+        source.add(5, 7);
+        source.remove(Integer.valueOf(4));
+        source.set(10, 1);
+        source.set(11, 100);
+        assertEquals(filter(isEven), view);
+        assertEquals(view, replayed);
+
+        source.setAll(IntStream.range(0, 3 * LIST_SIZE).boxed().collect(Collectors.toList()));
+        assertEquals(filter(isEven), view);
+        assertEquals(view, replayed);
+    }
+
+    @Test
+    public void getViewIndex() {
+        view.setPredicate(item -> item % 3 == 0);
+        assertEquals(2, view.getViewIndex(6));
+        assertTrue(view.getViewIndex(7) < 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getSourceIndex(LIST_SIZE));
+    }
+
+    private List<Integer> filter(Predicate<Integer> predicate) {
+        return source.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Makes the same changes to {@code copy} as {@code change} describes.
+     */
+    private static void replay(ListChangeListener.Change<? extends Integer> change, List<Integer> copy) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            copy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            copy.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
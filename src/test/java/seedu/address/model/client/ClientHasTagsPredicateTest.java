@@ -0,0 +1,58 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientHasTagsPredicateTest {
+
+    @Test
+    public void equals() {
+        ClientHasTagsPredicate firstPredicate = new ClientHasTagsPredicate(Set.of(new Tag("first")));
+        ClientHasTagsPredicate secondPredicate = new ClientHasTagsPredicate(Set.of(new Tag("first"),
+                new Tag("second")));
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new ClientHasTagsPredicate(Set.of(new Tag("first"))));
+
+        // different types -> returns false
+        assertNotEquals(1, firstPredicate);
+
+        // null -> returns false
+        assertNotEquals(null, firstPredicate);
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_clientHasAllTags_returnsTrue() {
+        ClientHasTagsPredicate predicate = new ClientHasTagsPredicate(Set.of(new Tag("inactive"), new Tag("vip")));
+        assertTrue(predicate.test(new ClientBuilder().withTags("inactive", "vip", "friends").build()));
+
+        // no tags
+        predicate = new ClientHasTagsPredicate(Collections.emptySet());
+        assertTrue(predicate.test(new ClientBuilder().build()));
+    }
+
+    @Test
+    public void test_clientLacksTag_returnsFalse() {
+        ClientHasTagsPredicate predicate = new ClientHasTagsPredicate(Set.of(new Tag("inactive"), new Tag("vip")));
+        assertFalse(predicate.test(new ClientBuilder().withTags("inactive").build()));
+
+        // tags are case-sensitive
+        assertFalse(predicate.test(new ClientBuilder().withTags("Inactive", "vip").build()));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientTextIndexTest {
+
+    private ClientTextIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new ClientTextIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void search_negativeTypos_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("alice", -1));
+    }
+
+    @Test
+    public void search_exactText_matchesAnyField() {
+        // name, ignoring case
+        assertEquals(Set.of(ALICE), index.search("PAULINE", 0));
+
+        // middle of an address
+        assertEquals(Set.of(BENSON), index.search("menti av", 0));
+
+        // email
+        assertEquals(Set.of(CARL), index.search("heinz@", 0));
+
+        // shared by several clients
+        assertEquals(Set.of(ALICE, BENSON, CARL), index.search("example.com", 0));
+
+        // grams all present, but not in that order
+        assertTrue(index.search("paulinealice", 0).isEmpty());
+    }
+
+    @Test
+    public void search_shortText_checksEveryClient() {
+        assertEquals(Set.of(ALICE, BENSON), index.search("ve", 0));
+        assertEquals(Set.of(ALICE, BENSON, CARL), index.search("", 0));
+    }
+
+    @Test
+    public void search_withTypos_allowsUpToMaxTypos() {
+        // one character missing
+        assertEquals(Set.of(BENSON), index.search("clemnti", 1));
+        assertTrue(index.search("clemnti", 0).isEmpty());
+
+        // one wrong and one extra character
+        assertEquals(Set.of(ALICE), index.search("jurrongg", 2));
+        assertTrue(index.search("jurrongg", 1).isEmpty());
+
+        // one character swapped for another
+        assertEquals(Set.of(CARL), index.search("wall strret", 1));
+    }
+
+    @Test
+    public void remove_indexedClient_noLongerFound() {
+        index.remove(ALICE);
+        assertTrue(index.search("pauline", 0).isEmpty());
+        assertEquals(2, index.size());
+
+        // removing a client that is not indexed does nothing
+        index.remove(ALICE);
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void add_equalClients_indexedSeparately() {
+        Client aliceCopy = new ClientBuilder(ALICE).build();
+        index.add(aliceCopy);
+        index.add(aliceCopy);
+        assertEquals(4, index.size());
+        assertEquals(2, index.search("pauline", 0).size());
+
+        index.remove(ALICE);
+        Set<Client> matches = index.search("pauline", 0);
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(aliceCopy));
+    }
+
+    @Test
+    public void remove_mostClients_remainingStillFound() {
+        for (int i = 0; i < 10; i++) {
+            Client client = new ClientBuilder().withName("Client " + (char) ('a' + i)).build();
+            index.add(client);
+            index.remove(client);
+        }
+        index.remove(BENSON);
+        assertEquals(2, index.size());
+        assertEquals(Set.of(ALICE), index.search("pauline", 0));
+        assertEquals(Set.of(CARL), index.search("wall stret", 1));
+
+        index.add(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), index.search("ave", 0));
+    }
+}
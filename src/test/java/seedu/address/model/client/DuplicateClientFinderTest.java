@@ -0,0 +1,87 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.DuplicateGroup.Reason;
+import seedu.address.testutil.ClientBuilder;
+
+public class DuplicateClientFinderTest {
+
+    @Test
+    public void findDuplicates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DuplicateClientFinder.findDuplicates(null));
+    }
+
+    @Test
+    public void findDuplicates_distinctClients_noGroups() {
+        assertTrue(DuplicateClientFinder.findDuplicates(getTypicalPersons()).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_sameNormalizedName_grouped() {
+        Client spacedAlice = new ClientBuilder().withName("alice  PAULINE").withPhone("11111111")
+                .withEmail("other@example.com").build();
+        assertEquals(List.of(new DuplicateGroup(List.of(ALICE, spacedAlice), Set.of(Reason.NAME))),
+                DuplicateClientFinder.findDuplicates(List.of(ALICE, BENSON, spacedAlice)));
+    }
+
+    @Test
+    public void findDuplicates_samePhone_grouped() {
+        Client sharingPhone = new ClientBuilder().withName("Bernice Tan").withPhone(BENSON.getPhone().value)
+                .withEmail("bernice@example.com").build();
+        assertEquals(List.of(new DuplicateGroup(List.of(BENSON, sharingPhone), Set.of(Reason.PHONE))),
+                DuplicateClientFinder.findDuplicates(List.of(ALICE, BENSON, sharingPhone)));
+    }
+
+    @Test
+    public void findDuplicates_similarEmail_grouped() {
+        // case, dots before the @ and a + suffix are ignored
+        Client similarEmail = new ClientBuilder().withName("Ali P").withPhone("11111111")
+                .withEmail("A.lice+shop@Example.com").build();
+        Client otherDomain = new ClientBuilder().withName("Ali Q").withPhone("22222222")
+                .withEmail("alice@example.org").build();
+        assertEquals(List.of(new DuplicateGroup(List.of(ALICE, similarEmail), Set.of(Reason.EMAIL))),
+                DuplicateClientFinder.findDuplicates(List.of(ALICE, otherDomain, similarEmail)));
+    }
+
+    @Test
+    public void findDuplicates_chainedMatches_oneGroup() {
+        Client sharingPhone = new ClientBuilder().withName("Carl K").withPhone(CARL.getPhone().value)
+                .withEmail("carlk@example.com").build();
+        Client sharingEmail = new ClientBuilder().withName("Karl Kurz").withPhone("11111111")
+                .withEmail("CarlK@example.com").build();
+        Client sharingBensonPhone = new ClientBuilder().withName("Ben M").withPhone(BENSON.getPhone().value)
+                .withEmail("benm@example.com").build();
+
+        List<DuplicateGroup> groups = DuplicateClientFinder.findDuplicates(
+                List.of(BENSON, sharingEmail, CARL, sharingBensonPhone, sharingPhone));
+        assertEquals(List.of(
+                new DuplicateGroup(List.of(BENSON, sharingBensonPhone), Set.of(Reason.PHONE)),
+                new DuplicateGroup(List.of(sharingEmail, CARL, sharingPhone), Set.of(Reason.PHONE, Reason.EMAIL))),
+                groups);
+    }
+
+    @Test
+    public void normalizeName() {
+        assertEquals("alice pauline", DuplicateClientFinder.normalizeName(new Name("Alice   Pauline")));
+        assertEquals("alice pauline", DuplicateClientFinder.normalizeName(ALICE.getName()));
+    }
+
+    @Test
+    public void normalizeEmail() {
+        assertEquals("johndoe@example.com",
+                DuplicateClientFinder.normalizeEmail(new Email("John.Doe+shop@Example.com")));
+        assertEquals("johndoe@ex.ample.com", DuplicateClientFinder.normalizeEmail(new Email("johndoe@ex.ample.com")));
+    }
+}
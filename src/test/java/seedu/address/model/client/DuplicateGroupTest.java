@@ -0,0 +1,54 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.DuplicateGroup.Reason;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class DuplicateGroupTest {
+
+    @Test
+    public void constructor_singleClient_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateGroup(List.of(ALICE), Set.of(Reason.NAME)));
+    }
+
+    @Test
+    public void toMergedClient_keepsFirstClientWithEveryTagAndOrder() {
+        Order roses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71").build();
+        Order tulips = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72").build();
+        Client first = new ClientBuilder(ALICE).withTags("friends").build().addOrder(roses);
+        Client second = new ClientBuilder().withName("alice pauline").withTags("vip").build().addOrder(tulips);
+
+        Client merged = new DuplicateGroup(List.of(first, second), Set.of(Reason.NAME)).toMergedClient();
+        assertEquals(ALICE.getName(), merged.getName());
+        assertEquals(ALICE.getPhone(), merged.getPhone());
+        assertEquals(ALICE.getEmail(), merged.getEmail());
+        assertEquals(ALICE.getAddress(), merged.getAddress());
+        assertEquals(Set.of(new Tag("friends"), new Tag("vip")), merged.getTags());
+        assertEquals(Set.of(roses, tulips), merged.getOrders());
+    }
+
+    @Test
+    public void equals() {
+        DuplicateGroup group = new DuplicateGroup(List.of(ALICE, BENSON), Set.of(Reason.PHONE));
+
+        assertTrue(group.equals(group));
+        assertTrue(group.equals(new DuplicateGroup(List.of(ALICE, BENSON), Set.of(Reason.PHONE))));
+        assertFalse(group.equals(null));
+        assertFalse(group.equals(new DuplicateGroup(List.of(BENSON, ALICE), Set.of(Reason.PHONE))));
+        assertFalse(group.equals(new DuplicateGroup(List.of(ALICE, BENSON), Set.of(Reason.EMAIL))));
+    }
+}
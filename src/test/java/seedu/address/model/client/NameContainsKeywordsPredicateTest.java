@@ -3,6 +3,7 @@ package seedu.address.model.client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,6 +30,12 @@ public class NameContainsKeywordsPredicateTest {
         NameContainsKeywordsPredicate firstPredicateCopy = new NameContainsKeywordsPredicate(firstPredicateKeywordList);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
 
+        // same keywords in another order and case -> returns true
+        NameContainsKeywordsPredicate secondPredicateReordered =
+                new NameContainsKeywordsPredicate(Arrays.asList("SECOND", "first"));
+        assertTrue(secondPredicate.equals(secondPredicateReordered));
+        assertEquals(secondPredicate.hashCode(), secondPredicateReordered.hashCode());
+
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
 
@@ -74,6 +81,18 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_nameWithRepeatedSpaces_matchesWords() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("BOB"));
+        assertTrue(predicate.test(new ClientBuilder().withName("Alice  Bob ").build()));
+    }
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("Alice Bob")));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -1,9 +1,12 @@
 package seedu.address.model.client;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,16 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getTokens() {
+        assertEquals(List.of("peter"), new Name("Peter").getTokens());
+        assertEquals(List.of("david", "roger", "jackson", "ray", "jr", "2nd"),
+                new Name("David Roger Jackson Ray Jr 2nd").getTokens());
+
+        // repeated words and spaces are dropped
+        assertEquals(List.of("alex", "yeoh"), new Name("Alex  ALEX yeoh  ").getTokens());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -8,17 +8,23 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
 import static seedu.address.testutil.TypicalClients.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.RemarkSearch;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.testutil.OrderBuilder;
 
@@ -151,6 +157,183 @@ public class UniqueClientListTest {
         assertEquals(0, uniqueClientList.asUnmodifiableObservableListOrders().size());
     }
 
+    @Test
+    public void removeOrders_ordersAcrossClients_removesOnlyGivenOrders() {
+        Order firstOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71").build();
+        Order secondOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72").build();
+        Order keptOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73").build();
+        Client alice = ALICE.addOrder(firstOrder).addOrder(keptOrder);
+        Client bob = BOB.addOrder(secondOrder);
+        uniqueClientList.setClients(Arrays.asList(alice, bob));
+
+        uniqueClientList.removeOrders(Arrays.asList(firstOrder, secondOrder));
+
+        assertEquals(List.of(keptOrder), uniqueClientList.asUnmodifiableObservableListOrders());
+        Client editedAlice = uniqueClientList.asUnmodifiableObservableList().get(0);
+        assertEquals(Set.of(keptOrder), editedAlice.getOrders());
+        assertEquals(editedAlice, keptOrder.getClient());
+        assertTrue(uniqueClientList.asUnmodifiableObservableList().get(1).getOrders().isEmpty());
+    }
+
+    @Test
+    public void mergeClients_newAndExistingClients_replacesAndAppends() {
+        Order earlyOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-10-2024 10:00").build();
+        Order lateOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("20-10-2024 10:00").build();
+        Client alice = ALICE.addOrder(lateOrder);
+        uniqueClientList.setClients(Arrays.asList(alice, BENSON));
+
+        Client editedBenson = BENSON.addOrder(earlyOrder);
+        uniqueClientList.mergeClients(Arrays.asList(BOB, editedBenson));
+
+        assertEquals(List.of(alice, editedBenson, BOB), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(List.of(earlyOrder, lateOrder), uniqueClientList.asUnmodifiableObservableListOrders());
+    }
+
+    @Test
+    public void mergeClients_fewClients_onlyThoseIndexedAgain() {
+        Order early = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-10-2024 10:00").build();
+        Order middle = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("10-10-2024 10:00").build();
+        Order late = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("20-10-2024 10:00").build();
+        Client alice = ALICE.addOrder(early).addOrder(late);
+        Client benson = BENSON.addOrder(middle);
+        uniqueClientList.setClients(List.of(alice, benson, CARL), List.of(early, middle, late));
+        int[] indexedOrderCount = countIndexedOrders();
+        int[] indexedClientCount = {0};
+        uniqueClientList.asUnmodifiableObservableList().addListener((ListChangeListener<Client>) change -> {
+            while (change.next()) {
+                indexedClientCount[0] += change.getAddedSize();
+            }
+        });
+
+        // benson keeps its order and gains one, and bob is new
+        Order bensonOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae74")
+                .withDeadline("15-10-2024 10:00").build();
+        Client editedBenson = benson.addOrder(bensonOrder);
+        uniqueClientList.mergeClients(List.of(editedBenson, BOB));
+
+        assertEquals(List.of(alice, editedBenson, CARL, BOB), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(List.of(early, middle, bensonOrder, late), uniqueClientList.asUnmodifiableObservableListOrders());
+        assertEquals(2, indexedClientCount[0]);
+        assertEquals(1, indexedOrderCount[0]);
+    }
+
+    @Test
+    public void mergeClients_duplicateClients_throwsDuplicatePersonException() {
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.mergeClients(Arrays.asList(ALICE,
+                new ClientBuilder(ALICE).withPhone("11111111").build())));
+    }
+
+    @Test
+    public void replaceClients_duplicates_mergedIntoFirstPlace() {
+        Order firstOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71").build();
+        Order secondOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72").build();
+        Client alice = ALICE.addOrder(firstOrder);
+        Client aliceAgain = new ClientBuilder().withName("alice pauline").build().addOrder(secondOrder);
+        uniqueClientList.setClients(Arrays.asList(alice, BENSON, aliceAgain));
+
+        Client merged = alice.addOrder(secondOrder);
+        uniqueClientList.replaceClients(List.of(alice, aliceAgain), merged);
+
+        assertEquals(List.of(merged, BENSON), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(List.of(firstOrder, secondOrder), uniqueClientList.asUnmodifiableObservableListOrders());
+        assertTrue(merged == firstOrder.getClient());
+        assertTrue(merged == secondOrder.getClient());
+        assertTrue(merged == uniqueClientList.getOwner(secondOrder).get());
+        assertFalse(uniqueClientList.getClient(aliceAgain.getName()).isPresent());
+    }
+
+    @Test
+    public void replaceClients_targetNotInList_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.replaceClients(List.of(ALICE, BENSON),
+                ALICE));
+        assertEquals(List.of(ALICE), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceClients_replacementSameAsOtherClient_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BENSON);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.replaceClients(List.of(ALICE),
+                new ClientBuilder(BENSON).withPhone("11111111").build()));
+    }
+
+    @Test
+    public void editOrders_ordersAcrossClients_replacesOrdersAndResorts() {
+        Order earlyOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-10-2024 10:00").build();
+        Order lateOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("20-10-2024 10:00").build();
+        Order keptOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("10-10-2024 10:00").build();
+        uniqueClientList.setClients(Arrays.asList(ALICE.addOrder(earlyOrder).addOrder(keptOrder),
+                BOB.addOrder(lateOrder)));
+
+        Order editedEarlyOrder = new OrderBuilder(earlyOrder).withDeadline("30-10-2024 10:00")
+                .withStatus("CANCELED").build();
+        Order editedLateOrder = new OrderBuilder(lateOrder).withStatus("COMPLETED").build();
+        uniqueClientList.editOrders(Map.of(earlyOrder, editedEarlyOrder, lateOrder, editedLateOrder));
+
+        assertEquals(List.of(keptOrder, editedLateOrder, editedEarlyOrder),
+                uniqueClientList.asUnmodifiableObservableListOrders());
+        Client editedAlice = uniqueClientList.asUnmodifiableObservableList().get(0);
+        Client editedBob = uniqueClientList.asUnmodifiableObservableList().get(1);
+        assertEquals(Set.of(editedEarlyOrder, keptOrder), editedAlice.getOrders());
+        assertEquals(Set.of(editedLateOrder), editedBob.getOrders());
+        assertTrue(editedAlice == editedEarlyOrder.getClient());
+        assertTrue(editedAlice == keptOrder.getClient());
+        assertTrue(editedBob == editedLateOrder.getClient());
+    }
+
+    @Test
+    public void removeAll_clientsWithOrders_removesClientsAndTheirOrders() {
+        Order aliceOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71").build();
+        Order bobOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72").build();
+        Client alice = ALICE.addOrder(aliceOrder);
+        Client bob = BOB.addOrder(bobOrder);
+        uniqueClientList.setClients(Arrays.asList(alice, BENSON, bob));
+
+        uniqueClientList.removeAll(Arrays.asList(alice, BENSON));
+
+        assertEquals(List.of(bob), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(List.of(bobOrder), uniqueClientList.asUnmodifiableObservableListOrders());
+    }
+
+    @Test
+    public void removeAll_clientDoesNotExist_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.removeAll(Arrays.asList(ALICE, BOB)));
+    }
+
+    @Test
+    public void setClientsAndOrders_ordersInGivenOrder_keepsOrderAndOwners() {
+        Order earlyOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-10-2024 10:00").build();
+        Order lateOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("20-10-2024 10:00").build();
+        Client alice = ALICE.addOrder(earlyOrder);
+        Client bob = BOB.addOrder(lateOrder);
+
+        // not sorted by deadline, as the given order is kept
+        uniqueClientList.setClients(Arrays.asList(alice, bob), Arrays.asList(lateOrder, earlyOrder));
+
+        assertEquals(List.of(alice, bob), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(List.of(lateOrder, earlyOrder), uniqueClientList.asUnmodifiableObservableListOrders());
+        assertTrue(alice == earlyOrder.getClient());
+        assertTrue(bob == lateOrder.getClient());
+    }
+
+    @Test
+    public void setClientsAndOrders_duplicateClients_throwsDuplicatePersonException() {
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(Arrays.asList(ALICE,
+                new ClientBuilder(ALICE).withPhone("11111111").build()), List.of()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.setClients((UniqueClientList) null));
@@ -248,6 +431,239 @@ public class UniqueClientListTest {
         assertDoesNotThrow(() -> uniqueClientList.setClientAndDeleteOrder(originalClient, editedClient, newOrder));
     }
 
+    @Test
+    public void setClientAndEditOrder_oneOrderEdited_onlyThatOrderIndexedAgain() {
+        Order first = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-10-2024 10:00").build();
+        Order second = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("10-10-2024 10:00").build();
+        Order third = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("20-10-2024 10:00").build();
+        Client alice = ALICE.addOrder(first).addOrder(second);
+        uniqueClientList.setClients(Arrays.asList(alice, BOB.addOrder(third)));
+        int[] indexedCount = countIndexedOrders();
+
+        Order completedSecond = new OrderBuilder(second).withStatus("COMPLETED").build();
+        Client editedAlice = alice.editOrder(second, completedSecond);
+        uniqueClientList.setClientAndEditOrder(alice, editedAlice, second, completedSecond);
+        assertEquals(1, indexedCount[0]);
+        assertEquals(List.of(first, completedSecond, third), uniqueClientList.asUnmodifiableObservableListOrders());
+
+        // an order whose deadline moves it is moved on its own
+        Order movedFirst = new OrderBuilder(first).withDeadline("30-10-2024 10:00").build();
+        uniqueClientList.setClientAndEditOrder(editedAlice, editedAlice.editOrder(first, movedFirst), first,
+                movedFirst);
+        assertEquals(2, indexedCount[0]);
+        assertEquals(List.of(completedSecond, third, movedFirst),
+                uniqueClientList.asUnmodifiableObservableListOrders());
+        assertEquals(List.of(movedFirst), uniqueClientList.getOrdersWithIdPrefix(movedFirst.getOrderId().toString()));
+    }
+
+    @Test
+    public void setClient_clientWithOrders_onlyItsOrdersIndexedAgain() {
+        Order aliceOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-10-2024 10:00").build();
+        Order bobOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("10-10-2024 10:00").build();
+        Client alice = ALICE.addOrder(aliceOrder);
+        uniqueClientList.setClients(Arrays.asList(alice, BOB.addOrder(bobOrder)));
+        int[] indexedCount = countIndexedOrders();
+
+        uniqueClientList.setClient(alice, new ClientBuilder(alice).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(1, indexedCount[0]);
+        assertEquals(List.of(aliceOrder, bobOrder), uniqueClientList.asUnmodifiableObservableListOrders());
+    }
+
+    @Test
+    public void bulkChanges_fewOrdersAffected_onlyThoseIndexedAgain() {
+        Order early = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").build();
+        Order middle = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").build();
+        Order late = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("03-02-2024 10:00").build();
+        Client alice = new ClientBuilder(ALICE).build().addOrder(early).addOrder(late);
+        Client benson = new ClientBuilder(BENSON).build().addOrder(middle);
+        uniqueClientList.setClients(List.of(alice, benson, CARL), List.of(early, middle, late));
+        int[] indexedOrderCount = countIndexedOrders();
+        int[] indexedClientCount = {0};
+        uniqueClientList.asUnmodifiableObservableList().addListener((ListChangeListener<Client>) change -> {
+            while (change.next()) {
+                indexedClientCount[0] += change.getAddedSize();
+            }
+        });
+
+        // one order moves past the others, and one keeps its place
+        Order movedEarly = new OrderBuilder(early).withDeadline("04-02-2024 10:00").build();
+        Order editedMiddle = new OrderBuilder(middle).withStatus("COMPLETED").build();
+        uniqueClientList.editOrders(Map.of(early, movedEarly, middle, editedMiddle));
+        assertEquals(List.of(editedMiddle, late, movedEarly), uniqueClientList.asUnmodifiableObservableListOrders());
+        assertEquals(2, indexedOrderCount[0]);
+        assertEquals(2, indexedClientCount[0]);
+
+        uniqueClientList.removeOrders(List.of(late));
+        assertEquals(List.of(editedMiddle, movedEarly), uniqueClientList.asUnmodifiableObservableListOrders());
+        assertEquals(2, indexedOrderCount[0]);
+        assertEquals(3, indexedClientCount[0]);
+
+        uniqueClientList.removeAll(List.of(uniqueClientList.getOwner(editedMiddle).get()));
+        assertEquals(List.of(movedEarly), uniqueClientList.asUnmodifiableObservableListOrders());
+        assertEquals(2, uniqueClientList.asUnmodifiableObservableList().size());
+        assertEquals(2, indexedOrderCount[0]);
+        assertEquals(3, indexedClientCount[0]);
+    }
+
+    /**
+     * Returns a counter of the orders added to the order list from now on, each of which is indexed again.
+     */
+    private int[] countIndexedOrders() {
+        int[] count = {0};
+        uniqueClientList.asUnmodifiableObservableListOrders().addListener((ListChangeListener<Order>) change -> {
+            while (change.next()) {
+                if (!change.wasPermutated()) {
+                    count[0] += change.getAddedSize();
+                }
+            }
+        });
+        return count;
+    }
+
+    @Test
+    public void add_clientWithOrders_addsOrdersToOrderList() {
+        Order order = new OrderBuilder().build();
+        uniqueClientList.add(ALICE.addOrder(order));
+        assertEquals(List.of(order), uniqueClientList.asUnmodifiableObservableListOrders());
+    }
+
+    @Test
+    public void getClient_afterChanges_followsList() {
+        uniqueClientList.add(ALICE);
+        assertTrue(uniqueClientList.getClient(ALICE.getName()).get() == ALICE);
+
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertTrue(uniqueClientList.getClient(ALICE.getName()).get() == editedAlice);
+
+        uniqueClientList.setClient(editedAlice, BOB);
+        assertFalse(uniqueClientList.getClient(ALICE.getName()).isPresent());
+        assertTrue(uniqueClientList.getClient(BOB.getName()).get() == BOB);
+
+        uniqueClientList.remove(BOB);
+        assertFalse(uniqueClientList.getClient(BOB.getName()).isPresent());
+    }
+
+    @Test
+    public void getOrdersWithIdPrefix_afterChanges_followsOrderList() {
+        Order first = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71").build();
+        Order second = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72").build();
+        Order other = new OrderBuilder().withOrderId("7a000000-9e34-4d9d-8bad-e378f203ae71").build();
+        Client alice = new ClientBuilder(ALICE).build().addOrder(first).addOrder(second);
+        uniqueClientList.setClients(List.of(alice, new ClientBuilder(BENSON).build().addOrder(other)));
+
+        assertEquals(Set.of(first, second), Set.copyOf(uniqueClientList.getOrdersWithIdPrefix("69C2")));
+        assertEquals(List.of(other), uniqueClientList.getOrdersWithIdPrefix("7"));
+        assertEquals(List.of(second), uniqueClientList.getOrdersWithIdPrefix("69c25c8d-9e34-4d9d-8bad-e378f203ae72"));
+        assertEquals(List.of(), uniqueClientList.getOrdersWithIdPrefix("8"));
+        assertTrue(uniqueClientList.getOwner(first).get() == alice);
+
+        uniqueClientList.removeOrders(List.of(first));
+        assertEquals(List.of(second), uniqueClientList.getOrdersWithIdPrefix("69c2"));
+        assertFalse(uniqueClientList.getOwner(first).isPresent());
+        Client aliceWithoutFirst = uniqueClientList.getOwner(second).get();
+        assertEquals(Set.of(second), aliceWithoutFirst.getOrders());
+
+        Order editedSecond = new OrderBuilder(second).withStatus("COMPLETED").build();
+        uniqueClientList.editOrders(Map.of(second, editedSecond));
+        assertTrue(uniqueClientList.getOrdersWithIdPrefix("69c2").get(0) == editedSecond);
+        assertTrue(uniqueClientList.getOwner(editedSecond).get().getOrders().contains(editedSecond));
+
+        uniqueClientList.removeAll(List.of(uniqueClientList.getOwner(editedSecond).get()));
+        assertEquals(List.of(), uniqueClientList.getOrdersWithIdPrefix("69c2"));
+        assertFalse(uniqueClientList.getOwner(editedSecond).isPresent());
+    }
+
+    @Test
+    public void getNamesWithPrefix_afterChanges_followsList() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BENSON);
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), uniqueClientList.getClientNamesWithPrefix("", 10));
+        assertEquals(List.of("friends", "owesMoney"), uniqueClientList.getTagNamesWithPrefix("", 10));
+
+        Client editedAlice = new ClientBuilder(ALICE).withName("Alicia Pauline").withTags("vip").build();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertEquals(List.of("Alicia Pauline"), uniqueClientList.getClientNamesWithPrefix("ali", 10));
+        assertEquals(List.of("friends", "owesMoney", "vip"), uniqueClientList.getTagNamesWithPrefix("", 10));
+
+        // a tag stays while any client still has it
+        uniqueClientList.remove(editedAlice);
+        assertEquals(List.of("friends", "owesMoney"), uniqueClientList.getTagNamesWithPrefix("", 10));
+        uniqueClientList.removeAll(List.of(BENSON));
+        assertEquals(List.of(), uniqueClientList.getClientNamesWithPrefix("", 10));
+        assertEquals(List.of(), uniqueClientList.getTagNamesWithPrefix("", 10));
+    }
+
+    @Test
+    public void searchRemarks_afterChanges_followsOrderList() {
+        RemarkSearch roses = new RemarkSearch(List.of(List.of("roses")));
+        Order first = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withRemark("Red roses").build();
+        Order second = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withRemark("Tulips").build();
+        uniqueClientList.setClients(List.of(new ClientBuilder(ALICE).build().addOrder(first).addOrder(second)));
+        assertEquals(Set.of(first), uniqueClientList.searchRemarks(roses).keySet());
+
+        Order editedSecond = new OrderBuilder(second).withRemark("Roses, roses").build();
+        uniqueClientList.editOrders(Map.of(second, editedSecond));
+        Map<Order, Integer> scores = uniqueClientList.searchRemarks(roses);
+        assertEquals(2, scores.size());
+        assertEquals(2, (int) scores.get(editedSecond));
+        assertFalse(scores.containsKey(second));
+
+        uniqueClientList.removeOrders(List.of(first));
+        assertEquals(Set.of(editedSecond), uniqueClientList.searchRemarks(roses).keySet());
+
+        uniqueClientList.removeAll(List.of(uniqueClientList.getOwner(editedSecond).get()));
+        assertTrue(uniqueClientList.searchRemarks(roses).isEmpty());
+    }
+
+    @Test
+    public void searchClients_afterChanges_followsList() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BENSON);
+        assertEquals(Set.of(ALICE), uniqueClientList.searchClients("jurong", 0));
+
+        Client editedAlice = new ClientBuilder(ALICE).withAddress("12 Serangoon Road").build();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertTrue(uniqueClientList.searchClients("jurong", 0).isEmpty());
+        assertEquals(Set.of(editedAlice), uniqueClientList.searchClients("serangon", 1));
+
+        uniqueClientList.remove(editedAlice);
+        assertTrue(uniqueClientList.searchClients("serangoon", 0).isEmpty());
+        assertEquals(Set.of(BENSON), uniqueClientList.searchClients("clementi", 0));
+    }
+
+    @Test
+    public void getClientsWithPhoneAndEmail_afterChanges_followsList() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BENSON);
+        Client sharingPhone = new ClientBuilder().withName("Alice Tan").withPhone(ALICE.getPhone().value)
+                .withEmail("ALICE@example.com").build();
+        uniqueClientList.add(sharingPhone);
+        assertEquals(List.of(ALICE, sharingPhone), uniqueClientList.getClientsWithPhone(ALICE.getPhone()));
+        // emails are compared ignoring case
+        assertEquals(List.of(ALICE, sharingPhone), uniqueClientList.getClientsWithEmail(ALICE.getEmail()));
+        assertEquals(List.of(BENSON), uniqueClientList.getClientsWithEmail(new Email("JOHND@EXAMPLE.COM")));
+
+        Client editedAlice = new ClientBuilder(ALICE).withPhone("11111111").build();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertEquals(List.of(sharingPhone), uniqueClientList.getClientsWithPhone(ALICE.getPhone()));
+        assertEquals(List.of(editedAlice), uniqueClientList.getClientsWithPhone(new Phone("11111111")));
+
+        uniqueClientList.remove(sharingPhone);
+        assertTrue(uniqueClientList.getClientsWithPhone(ALICE.getPhone()).isEmpty());
+        assertEquals(List.of(editedAlice), uniqueClientList.getClientsWithEmail(ALICE.getEmail()));
+    }
+
     @Test
     public void testEquals_sameInput() {
         UniqueClientList uniqueClientList = new UniqueClientList();
@@ -1,7 +1,9 @@
 package seedu.address.model.order;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.OrderBuilder.DEFAULT_ORDER_ID;
 
@@ -14,6 +16,21 @@ class OrderIdTest {
         assertThrows(IllegalArgumentException.class, () -> new OrderId(invalidOrderId));
     }
 
+    @Test
+    void isValidOrderId() {
+        // null order id
+        assertThrows(NullPointerException.class, () -> OrderId.isValidOrderId(null));
+
+        // invalid order ids
+        assertFalse(OrderId.isValidOrderId("")); // empty string
+        assertFalse(OrderId.isValidOrderId("not a uuid"));
+        assertFalse(OrderId.isValidOrderId("1-1-1-1-1")); // not in the standard form
+
+        // valid order ids
+        assertTrue(OrderId.isValidOrderId(DEFAULT_ORDER_ID));
+        assertTrue(OrderId.isValidOrderId(new OrderId().toString()));
+    }
+
     @Test
     void testEquals() {
         OrderId orderId = new OrderId();
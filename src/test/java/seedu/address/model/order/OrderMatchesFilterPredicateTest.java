@@ -0,0 +1,59 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.OrderBuilder;
+
+public class OrderMatchesFilterPredicateTest {
+
+    private static final Status PENDING = new Status("pending");
+    private static final Deadline MARCH = new Deadline("01-03-2024 00:00");
+    private static final Deadline APRIL = new Deadline("01-04-2024 00:00");
+
+    @Test
+    public void equals() {
+        OrderMatchesFilterPredicate firstPredicate = new OrderMatchesFilterPredicate(PENDING, APRIL, null);
+        OrderMatchesFilterPredicate secondPredicate = new OrderMatchesFilterPredicate(PENDING, null, APRIL);
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new OrderMatchesFilterPredicate(new Status("PENDING"), APRIL, null));
+
+        // different types -> returns false
+        assertNotEquals(1, firstPredicate);
+
+        // null -> returns false
+        assertNotEquals(null, firstPredicate);
+
+        // different conditions -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_orderMatchesAllConditions_returnsTrue() {
+        Order order = new OrderBuilder().withStatus("PENDING").withDeadline("15-03-2024 12:00").build();
+
+        assertTrue(new OrderMatchesFilterPredicate(PENDING, APRIL, MARCH).test(order));
+        assertTrue(new OrderMatchesFilterPredicate(null, APRIL, null).test(order));
+        assertTrue(new OrderMatchesFilterPredicate(null, null, null).test(order));
+    }
+
+    @Test
+    public void test_orderFailsAnyCondition_returnsFalse() {
+        Order order = new OrderBuilder().withStatus("COMPLETED").withDeadline("01-03-2024 00:00").build();
+
+        // different status
+        assertFalse(new OrderMatchesFilterPredicate(PENDING, null, null).test(order));
+
+        // bounds are exclusive
+        assertFalse(new OrderMatchesFilterPredicate(null, MARCH, null).test(order));
+        assertFalse(new OrderMatchesFilterPredicate(null, null, MARCH).test(order));
+    }
+}
@@ -33,6 +33,12 @@ public class OrderNameContainsKeywordsPredicateTest {
                 OrderNameContainsKeywordsPredicate(firstPredicateKeywordList);
         assertEquals(firstPredicate, firstPredicateCopy);
 
+        // same keywords in another order and case -> returns true
+        OrderNameContainsKeywordsPredicate secondPredicateReordered = new
+                OrderNameContainsKeywordsPredicate(Arrays.asList("SECOND", "first"));
+        assertEquals(secondPredicate, secondPredicateReordered);
+        assertEquals(secondPredicate.hashCode(), secondPredicateReordered.hashCode());
+
         // different types -> returns false
         assertNotEquals(1, firstPredicate);
 
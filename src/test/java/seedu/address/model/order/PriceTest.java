@@ -44,6 +44,13 @@ class PriceTest {
         assertTrue(Price.isValidPrice("1.5"));
         assertTrue(Price.isValidPrice("1.55"));
         assertTrue(Price.isValidPrice("1.500"));
+        assertTrue(Price.isValidPrice("999999999999.99"));
+
+        // too large for storage, or not a number
+        assertFalse(Price.isValidPrice("1000000000000"));
+        assertFalse(Price.isValidPrice("1e20"));
+        assertFalse(Price.isValidPrice("Infinity"));
+        assertFalse(Price.isValidPrice("NaN"));
     }
 
     @Test
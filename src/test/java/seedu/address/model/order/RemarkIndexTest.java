@@ -0,0 +1,93 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.OrderBuilder;
+
+public class RemarkIndexTest {
+
+    private final Order redRoses = new OrderBuilder().withRemark("Red roses, red ribbon").build();
+    private final Order whiteRoses = new OrderBuilder().withRemark("White roses").build();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RemarkIndex().add(null));
+    }
+
+    @Test
+    public void add_countsRepeatedTerms() {
+        RemarkIndex index = new RemarkIndex();
+        index.add(redRoses);
+        index.add(whiteRoses);
+
+        assertEquals(Map.of(redRoses, 2), index.getPostings("red"));
+        assertEquals(2, index.getPostings("roses").size());
+        assertEquals(1, (int) index.getPostings("roses").get(whiteRoses));
+        assertTrue(index.getPostings("blue").isEmpty());
+    }
+
+    @Test
+    public void add_sameOrderTwice_indexedOnce() {
+        RemarkIndex index = new RemarkIndex();
+        index.add(redRoses);
+        index.add(redRoses);
+        assertEquals(Map.of(redRoses, 2), index.getPostings("red"));
+    }
+
+    @Test
+    public void add_equalOrders_indexedSeparately() {
+        Order redRosesCopy = new OrderBuilder(redRoses).build();
+        RemarkIndex index = new RemarkIndex();
+        index.add(redRoses);
+        index.add(redRosesCopy);
+        assertEquals(2, index.getPostings("red").size());
+
+        index.remove(redRoses);
+        assertEquals(1, index.getPostings("red").size());
+        assertTrue(index.getPostings("red").containsKey(redRosesCopy));
+    }
+
+    @Test
+    public void remove_lastOrderWithTerm_dropsTerm() {
+        RemarkIndex index = new RemarkIndex();
+        index.add(redRoses);
+        index.add(whiteRoses);
+        assertEquals(4, index.size());
+
+        index.remove(redRoses);
+        assertTrue(index.getPostings("red").isEmpty());
+        assertEquals(Map.of(whiteRoses, 1), index.getPostings("roses"));
+        assertEquals(2, index.size());
+
+        // removing an order that is not indexed does nothing
+        index.remove(redRoses);
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void getPostingsWithPrefix() {
+        RemarkIndex index = new RemarkIndex();
+        index.add(redRoses);
+        index.add(whiteRoses);
+
+        // "red", "ribbon" and "roses"
+        assertEquals(3, index.getPostingsWithPrefix("r").size());
+        assertEquals(List.of(Map.of(redRoses, 1)), List.copyOf(index.getPostingsWithPrefix("rib")));
+        assertTrue(index.getPostingsWithPrefix("x").isEmpty());
+    }
+
+    @Test
+    public void clear() {
+        RemarkIndex index = new RemarkIndex();
+        index.add(redRoses);
+        index.clear();
+        assertEquals(0, index.size());
+    }
+}
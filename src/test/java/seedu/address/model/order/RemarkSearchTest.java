@@ -0,0 +1,134 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.OrderBuilder;
+
+public class RemarkSearchTest {
+
+    private final Order redRoses = new OrderBuilder().withRemark("Red roses, red ribbon").build();
+    private final Order whiteRoses = new OrderBuilder().withRemark("White roses").build();
+    private final Order tulips = new OrderBuilder().withRemark("Tulips in a red vase").build();
+    private final RemarkIndex index = new RemarkIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(redRoses);
+        index.add(whiteRoses);
+        index.add(tulips);
+    }
+
+    @Test
+    public void constructor_invalidAlternatives_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new RemarkSearch(null));
+        assertThrows(IllegalArgumentException.class, () -> new RemarkSearch(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new RemarkSearch(List.of(List.of("red"), List.of())));
+    }
+
+    @Test
+    public void search_singleTerm_scoredByCount() {
+        Map<Order, Integer> scores = search(List.of("red"));
+        assertEquals(2, scores.size());
+        assertEquals(2, (int) scores.get(redRoses));
+        assertEquals(1, (int) scores.get(tulips));
+    }
+
+    @Test
+    public void search_allTerms_intersected() {
+        Map<Order, Integer> scores = search(List.of("red", "roses"));
+        assertEquals(1, scores.size());
+        assertEquals(3, (int) scores.get(redRoses));
+
+        // a missing term matches nothing
+        assertTrue(search(List.of("red", "lilies")).isEmpty());
+    }
+
+    @Test
+    public void search_alternatives_unitedWithBestScore() {
+        Map<Order, Integer> scores = search(List.of("roses"), List.of("red"));
+        assertEquals(3, scores.size());
+        assertEquals(2, (int) scores.get(redRoses));
+        assertEquals(1, (int) scores.get(whiteRoses));
+        assertEquals(1, (int) scores.get(tulips));
+    }
+
+    @Test
+    public void search_prefixTerm_matchesEveryTermWithPrefix() {
+        // "red", "ribbon" and "roses" all start with "r"
+        Map<Order, Integer> scores = search(List.of("r*"));
+        assertEquals(3, scores.size());
+        assertEquals(4, (int) scores.get(redRoses));
+
+        assertEquals(Map.of(tulips, 1), search(List.of("tul*")));
+        assertTrue(search(List.of("x*")).isEmpty());
+    }
+
+    @Test
+    public void search_editedIndex_followsIndex() {
+        RemarkSearch search = new RemarkSearch(List.of(List.of("roses")));
+        index.remove(redRoses);
+        assertEquals(Map.of(whiteRoses, 1), search.search(index));
+    }
+
+    @Test
+    public void score_sameAsSearch() {
+        RemarkSearch search = new RemarkSearch(List.of(List.of("roses"), List.of("red", "r*")));
+        Map<Order, Integer> scores = search.search(index);
+        for (Order order : List.of(redRoses, whiteRoses, tulips)) {
+            assertEquals(scores.getOrDefault(order, 0), Integer.valueOf(search.score(order)));
+        }
+        assertEquals(0, search.score(new OrderBuilder().withRemark("Lilies").build()));
+    }
+
+    @Test
+    public void byScore_higherScoresFirst() {
+        RemarkSearch search = new RemarkSearch(List.of(List.of("r*")));
+        Map<Order, Integer> scores = search.search(index);
+        List<Order> orders = new ArrayList<>(List.of(whiteRoses, tulips, redRoses));
+        orders.sort(search.byScore(scores));
+        assertEquals(redRoses, orders.get(0));
+        // equal scores keep their order
+        assertEquals(List.of(whiteRoses, tulips), orders.subList(1, 3));
+
+        // orders missing from the scores are scored from their remark
+        Order roses = new OrderBuilder().withRemark("Roses, ribbon, red rose and rum").build();
+        orders.add(roses);
+        orders.sort(search.byScore(scores));
+        assertEquals(List.of(roses, redRoses), orders.subList(0, 2));
+    }
+
+    @Test
+    public void equals() {
+        RemarkSearch search = new RemarkSearch(List.of(List.of("red", "ros*")));
+
+        // same values -> returns true
+        assertTrue(search.equals(new RemarkSearch(List.of(List.of("red", "ros*")))));
+
+        // same object -> returns true
+        assertTrue(search.equals(search));
+
+        // null -> returns false
+        assertFalse(search.equals(null));
+
+        // different types -> returns false
+        assertFalse(search.equals(1));
+
+        // different alternatives -> returns false
+        assertFalse(search.equals(new RemarkSearch(List.of(List.of("red"), List.of("ros*")))));
+    }
+
+    @SafeVarargs
+    private Map<Order, Integer> search(List<String>... alternatives) {
+        return new RemarkSearch(List.of(alternatives)).search(index);
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 class RemarkTest {
@@ -37,6 +39,22 @@ class RemarkTest {
         assertTrue(Remark.isValidRemark("Remark-with-dashes")); // Contains dashes
     }
 
+    @Test
+    public void getTerms() {
+        // split on anything that is not a letter or digit, keeping repeats
+        assertEquals(List.of("red", "roses", "2x", "red"), new Remark("Red roses, 2x (RED!)").getTerms());
+
+        // no letters or digits
+        assertEquals(List.of(), new Remark("-- ...").getTerms());
+    }
+
+    @Test
+    public void toTerms() {
+        assertThrows(NullPointerException.class, () -> Remark.toTerms(null));
+        assertEquals(List.of(), Remark.toTerms(""));
+        assertEquals(List.of("gift", "wrap"), Remark.toTerms("gift-wrap*"));
+    }
+
     @Test
     public void equals() {
         Remark remark = new Remark("A valid remark.");
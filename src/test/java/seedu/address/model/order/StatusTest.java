@@ -68,4 +68,10 @@ class StatusTest {
         assertNotEquals(status, new Status("completed"));
     }
 
+    @Test
+    public void isTerminal() {
+        assertFalse(new Status("pending").isTerminal());
+        assertTrue(new Status("completed").isTerminal());
+        assertTrue(new Status("canceled").isTerminal());
+    }
 }
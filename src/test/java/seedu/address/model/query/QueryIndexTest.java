@@ -0,0 +1,54 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookKeeper;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class QueryIndexTest {
+
+    private static final Order EARLY_PENDING = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+            .withDeadline("01-02-2024 10:00").withPrice("20").withStatus("PENDING").build();
+    private static final Order LATE_COMPLETED = new OrderBuilder()
+            .withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+            .withDeadline("01-04-2024 10:00").withPrice("150").withStatus("COMPLETED").build();
+
+    @Test
+    public void constructor_indexesClientsAndOrders() {
+        Client alice = ALICE.addOrder(EARLY_PENDING);
+        Client benson = BENSON.addOrder(LATE_COMPLETED);
+        Client repeatedWord = new ClientBuilder().withName("Meier Meier").build();
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(alice, benson, DANIEL, repeatedWord));
+
+        QueryIndex index = new QueryIndex(bookKeeper);
+
+        assertEquals(List.of(alice, benson, DANIEL, repeatedWord), index.getClients());
+        assertEquals(List.of(benson, DANIEL, repeatedWord), index.getClientsWithNameWord("MEIER"));
+        assertEquals(List.of(alice, benson, DANIEL), index.getClientsWithTag(new Tag("friends")));
+        assertTrue(index.getClientsWithTag(new Tag("unknown")).isEmpty());
+
+        assertEquals(List.of(EARLY_PENDING), index.getOrdersWithStatus(new Status("pending")));
+        assertTrue(index.getOrdersWithStatus(new Status("canceled")).isEmpty());
+        assertEquals(List.of(LATE_COMPLETED), index.getOrdersWithPriceIn(Range.above(100.0, true)));
+        assertEquals(List.of(EARLY_PENDING, LATE_COMPLETED), index.getOrdersWithDeadlineIn(
+                Range.closed(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 5, 1, 0, 0))));
+
+        assertTrue(index.getOwner(EARLY_PENDING) == alice);
+        assertTrue(index.getOwner(LATE_COMPLETED) == benson);
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.BookKeeper;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.OrderBuilder;
+
+public class QueryPlannerTest {
+
+    private static final QueryExpression FRIENDS = new ClientCondition.HasTag(new Tag("friends"));
+    private static final QueryExpression OWES_MONEY = new ClientCondition.HasTag(new Tag("owesMoney"));
+    private static final QueryExpression PENDING = new OrderCondition.StatusIs(new Status("pending"));
+    private static final QueryExpression EXPENSIVE = new OrderCondition.PriceIn(Range.above(100.0, true));
+    private static final QueryExpression ROSES = new OrderCondition.RemarkHasWords(List.of("roses"));
+
+    private Order alicePending;
+    private Order aliceRoses;
+    private Order carlExpensive;
+    private Client alice;
+    private Client carl;
+    private QueryIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        alicePending = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+                .withDeadline("01-02-2024 10:00").withPrice("20").withStatus("PENDING").withRemark("lily").build();
+        aliceRoses = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withDeadline("02-02-2024 10:00").withPrice("150").withStatus("COMPLETED").withRemark("red roses")
+                .build();
+        carlExpensive = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae73")
+                .withDeadline("03-02-2024 10:00").withPrice("300").withStatus("PENDING").withRemark("roses").build();
+        alice = ALICE.addOrder(alicePending).addOrder(aliceRoses);
+        carl = CARL.addOrder(carlExpensive);
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(List.of(alice, BENSON, carl));
+        index = new QueryIndex(bookKeeper);
+    }
+
+    @Test
+    public void planForClients_indexedCondition_looksUpIndex() {
+        QueryPlan<Client> plan = QueryPlanner.planForClients(FRIENDS, index);
+        QueryResult<Client> result = plan.execute();
+
+        assertTrue(plan instanceof QueryPlan.IndexLookup);
+        assertEquals(Set.of(alice, BENSON), result.getMatches());
+        assertEquals(2, result.getRowsExamined());
+    }
+
+    @Test
+    public void planForClients_orderCondition_matchesOwnersOfMatchingOrders() {
+        QueryResult<Client> result = QueryPlanner.planForClients(PENDING, index).execute();
+
+        assertEquals(Set.of(alice, carl), result.getMatches());
+    }
+
+    @Test
+    public void planForOrders_conjunction_looksUpMostSelectiveOperand() {
+        // one order of at least 200 against two pending ones
+        QueryExpression veryExpensive = new OrderCondition.PriceIn(Range.above(200.0, true));
+        QueryExpression expression = new QueryExpression.And(List.of(PENDING, veryExpensive));
+        QueryPlan<Order> plan = QueryPlanner.planForOrders(expression, index);
+        QueryResult<Order> result = plan.execute();
+
+        assertEquals("Filter by status:pending\n  Look up price:[200.00..) in the price index (1 rows)",
+                plan.describe());
+        assertEquals(Set.of(carlExpensive), result.getMatches());
+        assertEquals(1, result.getRowsExamined());
+    }
+
+    @Test
+    public void planForOrders_disjunctionOfIndexedConditions_combinesLookups() {
+        QueryExpression expression = new QueryExpression.Or(List.of(OWES_MONEY, EXPENSIVE));
+        QueryPlan<Order> plan = QueryPlanner.planForOrders(expression, index);
+
+        assertTrue(plan instanceof QueryPlan.Union);
+        assertEquals(Set.of(aliceRoses, carlExpensive), plan.execute().getMatches());
+    }
+
+    @Test
+    public void planForOrders_unindexedCondition_scans() {
+        QueryExpression expression = new QueryExpression.Or(List.of(ROSES, EXPENSIVE));
+        QueryPlan<Order> plan = QueryPlanner.planForOrders(expression, index);
+        QueryResult<Order> result = plan.execute();
+
+        assertTrue(plan instanceof QueryPlan.Scan);
+        assertEquals(Set.of(aliceRoses, carlExpensive), result.getMatches());
+        assertEquals(3, result.getRowsExamined());
+    }
+
+    @Test
+    public void planForOrders_negation_scansUnlessConjoinedWithIndexedCondition() {
+        QueryExpression notPending = new QueryExpression.Not(PENDING);
+        assertTrue(QueryPlanner.planForOrders(notPending, index) instanceof QueryPlan.Scan);
+        assertEquals(Set.of(aliceRoses), QueryPlanner.planForOrders(notPending, index).execute().getMatches());
+
+        QueryExpression friendsNotPending = new QueryExpression.And(List.of(notPending, FRIENDS));
+        QueryPlan<Order> plan = QueryPlanner.planForOrders(friendsNotPending, index);
+        assertTrue(plan instanceof QueryPlan.Filter);
+        assertEquals(Set.of(aliceRoses), plan.execute().getMatches());
+    }
+}
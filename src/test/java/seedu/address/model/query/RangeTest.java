@@ -0,0 +1,70 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeTest {
+
+    @Test
+    public void closed_lowerAboveUpper_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Range.closed(2, 1));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(Range.singleton(5).contains(5));
+        assertFalse(Range.singleton(5).contains(6));
+
+        assertTrue(Range.closed(1, 3).contains(1));
+        assertTrue(Range.closed(1, 3).contains(3));
+        assertFalse(Range.closed(1, 3).contains(4));
+
+        assertTrue(Range.above(1, true).contains(1));
+        assertFalse(Range.above(1, false).contains(1));
+        assertTrue(Range.above(1, false).contains(Integer.MAX_VALUE));
+
+        assertTrue(Range.below(1, true).contains(1));
+        assertFalse(Range.below(1, false).contains(1));
+        assertTrue(Range.below(1, false).contains(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void subMapOf_returnsEntriesInRange() {
+        NavigableMap<Integer, String> map = new TreeMap<>();
+        for (int i = 1; i <= 5; i++) {
+            map.put(i, "v" + i);
+        }
+
+        assertEquals(List.of(2, 3, 4), List.copyOf(Range.closed(2, 4).subMapOf(map).keySet()));
+        assertEquals(List.of(4, 5), List.copyOf(Range.above(3, false).subMapOf(map).keySet()));
+        assertEquals(List.of(1, 2, 3), List.copyOf(Range.below(3, true).subMapOf(map).keySet()));
+        assertEquals(List.of(3), List.copyOf(Range.singleton(3).subMapOf(map).keySet()));
+    }
+
+    @Test
+    public void format() {
+        assertEquals("3", Range.singleton(3).toString());
+        assertEquals("[1..3]", Range.closed(1, 3).toString());
+        assertEquals("(1..)", Range.above(1, false).toString());
+        assertEquals("(..1]", Range.below(1, true).toString());
+        assertEquals("[#1..#3]", Range.closed(1, 3).format(value -> "#" + value));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(Range.closed(1, 3), Range.closed(1, 3));
+        assertEquals(Range.singleton(1), Range.closed(1, 1));
+        assertNotEquals(Range.above(1, true), Range.above(1, false));
+        assertNotEquals(Range.above(1, true), Range.below(1, true));
+        assertNotEquals(null, Range.singleton(1));
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.storage.BackupManager.RetentionPolicy;
+
+public class BackupManagerTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 10, 10, 15, 30);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFile;
+    private BackupManager backupManager;
+
+    @BeforeEach
+    public void setUp() {
+        dataFile = testFolder.resolve("bookkeeper.json");
+        backupManager = new BackupManager(dataFile, testFolder.resolve("backups"), RetentionPolicy.DEFAULT);
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private long countChunks() throws Exception {
+        try (Stream<Path> files = Files.walk(testFolder.resolve("backups").resolve(BackupManager.CHUNK_DIRECTORY))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    public void backup_missingFile_noBackup() throws Exception {
+        assertFalse(backupManager.backup(TIME).isPresent());
+        assertTrue(backupManager.getBackupIds().isEmpty());
+    }
+
+    @Test
+    public void backup_unchangedFile_skipped() throws Exception {
+        Files.write(dataFile, randomBytes(100_000, 1));
+
+        assertEquals(Optional.of("20241010-153000000"), backupManager.backup(TIME));
+        assertFalse(backupManager.backup(TIME.plusHours(1)).isPresent());
+        assertEquals(List.of("20241010-153000000"), backupManager.getBackupIds());
+    }
+
+    @Test
+    public void backup_smallEdit_sharesUnchangedChunks() throws Exception {
+        byte[] data = randomBytes(500_000, 2);
+        Files.write(dataFile, data);
+        backupManager.backup(TIME);
+        long chunksAfterFirstBackup = countChunks();
+
+        data[250_000]++;
+        Files.write(dataFile, data);
+        backupManager.backup(TIME.plusHours(1));
+
+        assertEquals(2, backupManager.getBackupIds().size());
+        assertTrue(countChunks() <= chunksAfterFirstBackup + 2);
+    }
+
+    @Test
+    public void restore_existingBackup_restoresFileAndBacksUpCurrentFile() throws Exception {
+        byte[] original = randomBytes(200_000, 3);
+        Files.write(dataFile, original);
+        String backupId = backupManager.backup(TIME).get();
+        Files.write(dataFile, randomBytes(150_000, 4));
+
+        assertEquals(backupId, backupManager.restore(backupId));
+        assertArrayEquals(original, Files.readAllBytes(dataFile));
+        // the overwritten content was backed up before restoring
+        assertEquals(2, backupManager.getBackupIds().size());
+    }
+
+    @Test
+    public void backupCopy_copyOfSourceFile_restoredAsSourceFile() throws Exception {
+        byte[] original = randomBytes(100_000, 11);
+        Files.write(dataFile, randomBytes(100_000, 12));
+        Path copy = testFolder.resolve("bookkeeper.json.copy");
+        Files.write(copy, original);
+
+        String backupId = backupManager.backupCopy(copy).get();
+        assertTrue(backupManager.backupCopy(copy).isEmpty());
+        backupManager.restore(backupId);
+        assertArrayEquals(original, Files.readAllBytes(dataFile));
+    }
+
+    @Test
+    public void getLatestBackupIdAsOf_backupsAroundId_latestNotAfterId() throws Exception {
+        Files.write(dataFile, randomBytes(1000, 13));
+        String first = backupManager.backup(TIME).get();
+        Files.write(dataFile, randomBytes(1000, 14));
+        String second = backupManager.backup(TIME.plusHours(1)).get();
+
+        assertEquals(Optional.empty(), backupManager.getLatestBackupIdAsOf("20241010-150000000"));
+        assertEquals(Optional.of(first), backupManager.getLatestBackupIdAsOf(first));
+        assertEquals(Optional.of(first), backupManager.getLatestBackupIdAsOf("20241010-160000000"));
+        assertEquals(Optional.of(second), backupManager.getLatestBackupIdAsOf("20241011-000000000"));
+    }
+
+    @Test
+    public void restore_latest_restoresNewestBackup() throws Exception {
+        Files.write(dataFile, randomBytes(1000, 5));
+        backupManager.backup(TIME);
+        byte[] newest = randomBytes(1000, 6);
+        Files.write(dataFile, newest);
+        String newestId = backupManager.backup(TIME.plusDays(1)).get();
+        Files.delete(dataFile);
+
+        assertEquals(newestId, backupManager.restore(BackupManager.LATEST_BACKUP_ID));
+        assertArrayEquals(newest, Files.readAllBytes(dataFile));
+    }
+
+    @Test
+    public void restore_invalidBackup_throwsDataLoadingException() throws Exception {
+        assertThrows(DataLoadingException.class, () -> backupManager.restore(BackupManager.LATEST_BACKUP_ID));
+        assertThrows(DataLoadingException.class, () -> backupManager.restore("20241010-153000000"));
+        assertThrows(DataLoadingException.class, () -> backupManager.restore("../bookkeeper"));
+    }
+
+    @Test
+    public void restore_corruptedChunk_throwsDataLoadingExceptionAndKeepsFile() throws Exception {
+        Files.write(dataFile, randomBytes(50_000, 7));
+        String backupId = backupManager.backup(TIME).get();
+        byte[] current = randomBytes(100, 8);
+        Files.write(dataFile, current);
+        try (Stream<Path> files = Files.walk(testFolder.resolve("backups").resolve(BackupManager.CHUNK_DIRECTORY))) {
+            Path chunk = files.filter(Files::isRegularFile).findFirst().get();
+            Files.write(chunk, new byte[] {1, 2, 3});
+        }
+
+        assertThrows(DataLoadingException.class, () -> backupManager.restore(backupId));
+        assertArrayEquals(current, Files.readAllBytes(dataFile));
+    }
+
+    @Test
+    public void prune_oldBackups_deletesBackupsAndUnusedChunks() throws Exception {
+        BackupManager pruningManager = new BackupManager(dataFile, testFolder.resolve("backups"),
+                new RetentionPolicy(2, 0, 0));
+        for (int i = 0; i < 4; i++) {
+            Files.write(dataFile, randomBytes(20_000, 10 + i));
+            pruningManager.backup(TIME.plusHours(i));
+        }
+        long chunksBeforePrune = countChunks();
+
+        assertEquals(2, pruningManager.prune());
+
+        assertEquals(List.of("20241010-173000000", "20241010-183000000"), pruningManager.getBackupIds());
+        assertTrue(countChunks() < chunksBeforePrune);
+        Files.delete(dataFile);
+        pruningManager.restore("20241010-173000000");
+        assertArrayEquals(randomBytes(20_000, 12), Files.readAllBytes(dataFile));
+    }
+
+    @Test
+    public void selectKept_hourlyDailyWeekly_keepsLatestPerPeriod() {
+        List<String> backupIds = List.of(
+                "20241001-090000000", // Tuesday of the week before
+                "20241007-090000000", // Monday
+                "20241009-090000000", "20241009-180000000",
+                "20241010-100000000", "20241010-101500000", "20241010-110000000");
+
+        Set<String> kept = new RetentionPolicy(2, 2, 2).selectKept(backupIds);
+
+        assertEquals(Set.of("20241010-110000000", "20241010-101500000", "20241009-180000000",
+                "20241001-090000000"), kept);
+        assertEquals(Set.of("20241010-110000000"), new RetentionPolicy(0, 0, 0).selectKept(backupIds));
+        // backups within the same hour count once
+        assertEquals(Set.of("20241010-110000000", "20241010-101500000", "20241009-180000000"),
+                new RetentionPolicy(3, 0, 0).selectKept(backupIds));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ContentChunkerTest {
+
+    private static List<byte[]> split(byte[] data) throws Exception {
+        List<byte[]> chunks = new ArrayList<>();
+        ContentChunker.split(new ByteArrayInputStream(data), (buffer, offset, length) ->
+                chunks.add(Arrays.copyOfRange(buffer, offset, offset + length)));
+        return chunks;
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void split_emptyStream_noChunks() throws Exception {
+        assertTrue(split(new byte[0]).isEmpty());
+    }
+
+    @Test
+    public void split_smallStream_singleChunk() throws Exception {
+        byte[] data = randomBytes(ContentChunker.MIN_CHUNK_SIZE, 1);
+        List<byte[]> chunks = split(data);
+        assertEquals(1, chunks.size());
+        assertArrayEquals(data, chunks.get(0));
+    }
+
+    @Test
+    public void split_largeStream_chunksWithinBoundsAndReassemble() throws Exception {
+        byte[] data = randomBytes(1_000_000, 2);
+        List<byte[]> chunks = split(data);
+
+        ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+        for (int i = 0; i < chunks.size(); i++) {
+            int length = chunks.get(i).length;
+            assertTrue(length <= ContentChunker.MAX_CHUNK_SIZE);
+            assertTrue(i == chunks.size() - 1 || length > ContentChunker.MIN_CHUNK_SIZE);
+            reassembled.write(chunks.get(i));
+        }
+        assertArrayEquals(data, reassembled.toByteArray());
+        // about 10 KiB on average
+        assertTrue(chunks.size() > 50 && chunks.size() < 200);
+    }
+
+    @Test
+    public void split_insertionInMiddle_onlyNearbyChunksChange() throws Exception {
+        byte[] data = randomBytes(1_000_000, 3);
+        byte[] edited = new byte[data.length + 10];
+        System.arraycopy(data, 0, edited, 0, 500_000);
+        System.arraycopy(data, 500_000, edited, 500_010, 500_000);
+
+        Set<String> originalChunks = new HashSet<>();
+        split(data).forEach(chunk -> originalChunks.add(Arrays.toString(chunk)));
+        List<byte[]> editedChunks = split(edited);
+        long changedChunks = editedChunks.stream()
+                .filter(chunk -> !originalChunks.contains(Arrays.toString(chunk)))
+                .count();
+
+        assertTrue(changedChunks <= 2);
+    }
+}
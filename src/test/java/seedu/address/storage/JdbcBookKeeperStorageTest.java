@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.GEORGE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.BookKeeper;
+import seedu.address.model.ReadOnlyBookKeeper;
+import seedu.address.model.client.Client;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+public class JdbcBookKeeperStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDatabaseFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "bookkeeper.mv.db"),
+                JdbcBookKeeperStorage.getDatabaseFilePath(Paths.get("data", "bookkeeper.json")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(testFolder.resolve("missing.mv.db"))) {
+            assertFalse(storage.readAddressBook().isPresent());
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        BookKeeper original = getTypicalAddressBook();
+
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            // Save in new file and read back
+            storage.saveAddressBook(original);
+            assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+
+            // Modify data, save only the changes and read back
+            original.addClient(HOON);
+            original.removeClient(ALICE);
+            storage.saveAddressBook(original);
+            assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+        }
+
+        // Read back with a new connection
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_editedOrders_success() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        Order order = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71").build();
+        Order otherOrder = new OrderBuilder().withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+                .withPrice("999999999999.99").withRemark("Lilies").build();
+        Client client = new ClientBuilder().build().addOrder(order).addOrder(otherOrder);
+        BookKeeper original = new BookKeeper();
+        original.setClients(List.of(client));
+
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            storage.saveAddressBook(original);
+            assertEquals(describeOrders(original), describeOrders(storage.readAddressBook().get()));
+
+            Order completedOrder = new OrderBuilder(order).withStatus("COMPLETED").build();
+            Client editedClient = client.editOrder(order, completedOrder).removeOrder(otherOrder);
+            original.setClients(List.of(editedClient));
+            storage.saveAddressBook(original);
+
+            ReadOnlyBookKeeper readBack = storage.readAddressBook().get();
+            assertEquals(describeOrders(original), describeOrders(readBack));
+            assertEquals(1, readBack.getClientList().get(0).getOrders().size());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_clientsAddedRemovedAndMoved_otherPositionsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        BookKeeper original = getTypicalAddressBook();
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            storage.saveAddressBook(original);
+            storage.close();
+            Map<String, Integer> expectedPositions = readPositions();
+
+            original.removeClient(ALICE);
+            original.addClient(HOON);
+            storage.saveAddressBook(original);
+            storage.close();
+            Map<String, Integer> positions = readPositions();
+            expectedPositions.remove(ALICE.getName().fullName);
+            expectedPositions.put(HOON.getName().fullName, positions.get(HOON.getName().fullName));
+            assertEquals(expectedPositions, positions);
+
+            // moving the last client to the front only gives that client a new position
+            List<Client> clients = new ArrayList<>(original.getClientList());
+            clients.remove(GEORGE);
+            clients.add(0, GEORGE);
+            original.setClients(clients);
+            storage.saveAddressBook(original);
+            storage.close();
+            positions = readPositions();
+            expectedPositions.put(GEORGE.getName().fullName, positions.get(GEORGE.getName().fullName));
+            assertEquals(expectedPositions, positions);
+            assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_longFields_success() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        Client client = new ClientBuilder().withName("A".repeat(300)).withPhone("9".repeat(300))
+                .withEmail("a".repeat(300) + "@example.com").withTags("t".repeat(300)).build();
+        BookKeeper original = new BookKeeper();
+        original.setClients(List.of(client.addOrder(new OrderBuilder().build())));
+
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            storage.saveAddressBook(original);
+            ReadOnlyBookKeeper readBack = storage.readAddressBook().get();
+            assertTrue(client.isSameClient(readBack.getClientList().get(0)));
+            assertEquals(client.getTags(), readBack.getClientList().get(0).getTags());
+            assertEquals(describeOrders(original), describeOrders(readBack));
+        }
+    }
+
+    @Test
+    public void readAddressBook_limitedColumns_limitsLifted() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        String jdbcUrl = "jdbc:h2:file:" + testFolder.resolve("TempBookKeeper").toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE client (name VARCHAR(255) PRIMARY KEY, phone VARCHAR(255) NOT NULL, "
+                    + "email VARCHAR(255) NOT NULL, address VARCHAR NOT NULL, list_position INTEGER NOT NULL)");
+            statement.execute("CREATE TABLE client_tag (client_name VARCHAR(255) NOT NULL REFERENCES client (name), "
+                    + "tag_name VARCHAR(255) NOT NULL, PRIMARY KEY (client_name, tag_name))");
+            statement.execute("INSERT INTO client VALUES ('Amy', '911', 'amy@example.com', 'Clementi', 0)");
+            statement.execute("INSERT INTO client_tag VALUES ('Amy', 'friends')");
+        }
+
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            BookKeeper bookKeeper = new BookKeeper(storage.readAddressBook().get());
+            assertEquals(1, bookKeeper.getClientList().size());
+
+            bookKeeper.addClient(new ClientBuilder().withName("B".repeat(300)).withTags("t".repeat(300)).build());
+            storage.saveAddressBook(bookKeeper);
+            assertEquals(bookKeeper, new BookKeeper(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void close_thenUsedAgain_reopens() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        BookKeeper original = getTypicalAddressBook();
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            storage.saveAddressBook(original);
+            storage.close();
+            storage.close();
+            assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void writeCopy_openAndClosedDatabase_copyReadable() throws Exception {
+        Path filePath = testFolder.resolve("TempBookKeeper.mv.db");
+        Path openCopy = testFolder.resolve("open.mv.db");
+        Path closedCopy = testFolder.resolve("closed.mv.db");
+        BookKeeper original = getTypicalAddressBook();
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(filePath)) {
+            storage.saveAddressBook(original);
+            storage.writeCopy(openCopy);
+            storage.close();
+            storage.writeCopy(closedCopy);
+        }
+
+        for (Path copy : List.of(openCopy, closedCopy)) {
+            try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(copy)) {
+                assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+            }
+        }
+        assertFalse(Files.exists(testFolder.resolve("open.mv.db.zip")));
+    }
+
+    @Test
+    public void migrateFrom_jsonStorage_copiesDataOnce() throws Exception {
+        JsonBookKeeperStorage jsonStorage = new JsonBookKeeperStorage(testFolder.resolve("bookkeeper.json"));
+        BookKeeper original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(testFolder.resolve("bookkeeper.mv.db"))) {
+            assertTrue(storage.migrateFrom(jsonStorage));
+            assertEquals(original, new BookKeeper(storage.readAddressBook().get()));
+
+            // the database already exists
+            assertFalse(storage.migrateFrom(jsonStorage));
+        }
+    }
+
+    /**
+     * Returns the list position of every client saved in the test database, by client name.
+     */
+    private Map<String, Integer> readPositions() throws Exception {
+        String jdbcUrl = "jdbc:h2:file:" + testFolder.resolve("TempBookKeeper").toAbsolutePath();
+        Map<String, Integer> positions = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT name, list_position FROM client")) {
+            while (resultSet.next()) {
+                positions.put(resultSet.getString(1), resultSet.getInt(2));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the details of every order in {@code bookKeeper}, excluding the order's client.
+     */
+    private static Set<String> describeOrders(ReadOnlyBookKeeper bookKeeper) {
+        return bookKeeper.getClientList().stream()
+                .flatMap(client -> client.getOrders().stream())
+                .map(Order::toString)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+
+public class JsonOrderArchiveStorageTest {
+
+    private static final Order FIRST_ORDER = new OrderBuilder()
+            .withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae71")
+            .withRemark("Birthday cake")
+            .withStatus("COMPLETED")
+            .withPerson(ALICE)
+            .build();
+    private static final Order SECOND_ORDER = new OrderBuilder()
+            .withOrderId("69c25c8d-9e34-4d9d-8bad-e378f203ae72")
+            .withRemark("Flowers")
+            .withStatus("CANCELED")
+            .withPerson(BOB)
+            .build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void findOrders_missingFile_emptyResult() throws Exception {
+        JsonOrderArchiveStorage storage = new JsonOrderArchiveStorage(testFolder.resolve("missing.jsonl"));
+        assertTrue(storage.findOrders(order -> true, 10).isEmpty());
+    }
+
+    @Test
+    public void archiveOrders_thenFind_success() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        JsonOrderArchiveStorage storage = new JsonOrderArchiveStorage(filePath);
+
+        storage.archiveOrders(List.of(FIRST_ORDER));
+        storage.archiveOrders(List.of(SECOND_ORDER));
+
+        // one order per line, appended in order
+        assertEquals(2, Files.readAllLines(filePath).size());
+
+        List<Order> archived = storage.findOrders(order -> true, 10);
+        assertEquals(List.of(FIRST_ORDER.getOrderId(), SECOND_ORDER.getOrderId()),
+                List.of(archived.get(0).getOrderId(), archived.get(1).getOrderId()));
+        assertEquals(FIRST_ORDER.getRemark(), archived.get(0).getRemark());
+
+        // client details are kept, but not the client's other orders
+        Order readBack = archived.get(1);
+        assertEquals(BOB.getName(), readBack.getClient().getName());
+        assertTrue(readBack.getClient().getOrders().isEmpty());
+
+        List<Order> cakes = storage.findOrders(order -> order.getRemark().toString().contains("cake"), 10);
+        assertEquals(1, cakes.size());
+        assertEquals(FIRST_ORDER.getOrderId(), cakes.get(0).getOrderId());
+    }
+
+    @Test
+    public void findOrders_moreMatchesThanLimit_mostRecentReturned() throws Exception {
+        JsonOrderArchiveStorage storage = new JsonOrderArchiveStorage(testFolder.resolve("archive.jsonl"));
+        storage.archiveOrders(List.of(FIRST_ORDER, SECOND_ORDER));
+
+        List<Order> archived = storage.findOrders(order -> true, 1);
+        assertEquals(1, archived.size());
+        assertEquals(SECOND_ORDER.getOrderId(), archived.get(0).getOrderId());
+
+        assertThrows(IllegalArgumentException.class, () -> storage.findOrders(order -> true, 0));
+    }
+
+    @Test
+    public void archiveOrders_alreadyArchived_notAppendedAgain() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        new JsonOrderArchiveStorage(filePath).archiveOrders(List.of(FIRST_ORDER));
+
+        // a new storage reads the IDs already in the file once, and then keeps track of what it appends
+        JsonOrderArchiveStorage storage = new JsonOrderArchiveStorage(filePath);
+        storage.archiveOrders(List.of(FIRST_ORDER, SECOND_ORDER));
+        storage.archiveOrders(List.of(SECOND_ORDER));
+
+        assertEquals(2, Files.readAllLines(filePath).size());
+        assertEquals(2, storage.findOrders(order -> true, 10).size());
+    }
+
+    @Test
+    public void findOrders_invalidLine_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        Files.writeString(filePath, "{\"order\": {\"orderId\": \"not an id\"}}\n");
+        JsonOrderArchiveStorage storage = new JsonOrderArchiveStorage(filePath);
+        assertThrows(DataLoadingException.class, () -> storage.findOrders(order -> true, 10));
+    }
+
+    @Test
+    public void archiveOrders_emptyList_doesNotCreateFile() throws Exception {
+        Path filePath = testFolder.resolve("archive.jsonl");
+        new JsonOrderArchiveStorage(filePath).archiveOrders(List.of());
+        assertFalse(Files.exists(filePath));
+    }
+}
@@ -5,12 +5,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.BookKeeper;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.TypicalClients;
 
 public class JsonSerializableBookKeeperTest {
@@ -29,6 +32,18 @@ public class JsonSerializableBookKeeperTest {
         assertEquals(bookKeeperFromFile, typicalPersonsBookKeeper);
     }
 
+    @Test
+    public void toModelType_clientsWithOrders_ordersListed() throws Exception {
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.addClient(new ClientBuilder().withName("Amy").build().addOrder(new OrderBuilder().build()));
+        JsonSerializableBookKeeper serialized = new JsonSerializableBookKeeper(bookKeeper);
+
+        // the model copies the book it is loaded from, as it does on startup
+        BookKeeper loaded = new BookKeeper(serialized.toModelType());
+        assertEquals(1, loaded.getOrderList().size());
+        assertEquals(loaded.getClientList().get(0).getOrders(), Set.copyOf(loaded.getOrderList()));
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableBookKeeper dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
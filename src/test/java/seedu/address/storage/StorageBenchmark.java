@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.BookKeeper;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDate;
+import seedu.address.model.order.OrderId;
+import seedu.address.model.order.Price;
+import seedu.address.model.order.Remark;
+import seedu.address.model.order.Status;
+
+/**
+ * Compares the time taken by the JSON and SQL storage backends to save a full bookkeeper, read it back,
+ * and save it again after a single order has been edited.
+ * <p>
+ * Run with {@code gradlew benchmark}, optionally passing the order counts to try as {@code -Psizes=10000,100000}.
+ */
+public class StorageBenchmark {
+
+    private static final int[] DEFAULT_ORDER_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int ORDERS_PER_CLIENT = 10;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    public static void main(String[] args) throws Exception {
+        int[] orderCounts = args.length == 0
+                ? DEFAULT_ORDER_COUNTS
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        Path folder = Files.createTempDirectory("bookkeeper-benchmark");
+
+        System.out.println("orders,backend,fullSaveMs,readMs,singleEditSaveMs");
+        for (int orderCount : orderCounts) {
+            run(orderCount, "json", new JsonBookKeeperStorage(folder.resolve(orderCount + ".json")));
+            try (JdbcBookKeeperStorage storage = new JdbcBookKeeperStorage(folder.resolve(orderCount + ".mv.db"))) {
+                run(orderCount, "sql", storage);
+            }
+        }
+    }
+
+    private static void run(int orderCount, String backend, BookKeeperStorage storage) throws Exception {
+        BookKeeper bookKeeper = generateBookKeeper(orderCount);
+
+        long start = System.nanoTime();
+        storage.saveAddressBook(bookKeeper);
+        long fullSaveMs = elapsedMillis(start);
+
+        start = System.nanoTime();
+        storage.readAddressBook();
+        long readMs = elapsedMillis(start);
+
+        completeFirstOrder(bookKeeper);
+        start = System.nanoTime();
+        storage.saveAddressBook(bookKeeper);
+        long singleEditSaveMs = elapsedMillis(start);
+
+        System.out.println(String.join(",", String.valueOf(orderCount), backend, String.valueOf(fullSaveMs),
+                String.valueOf(readMs), String.valueOf(singleEditSaveMs)));
+    }
+
+    private static BookKeeper generateBookKeeper(int orderCount) {
+        List<Client> clients = new ArrayList<>();
+        for (int clientIndex = 0; clientIndex * ORDERS_PER_CLIENT < orderCount; clientIndex++) {
+            Set<Order> orders = new HashSet<>();
+            for (int i = 0; i < ORDERS_PER_CLIENT && clientIndex * ORDERS_PER_CLIENT + i < orderCount; i++) {
+                int orderIndex = clientIndex * ORDERS_PER_CLIENT + i;
+                String deadline = DateTimeUtil.formatDateTime(START.plusMinutes(orderIndex));
+                orders.add(new Order(new OrderId(new UUID(0, orderIndex).toString()), new OrderDate(deadline),
+                        new Deadline(deadline), new Price("12.50"), new Remark("Order " + orderIndex),
+                        new Status("pending")));
+            }
+            Client client = new Client(new Name("Client " + clientIndex), new Phone("91234567"),
+                    new Email("client" + clientIndex + "@example.com"), new Address("Block " + clientIndex),
+                    new HashSet<>(), orders);
+            orders.forEach(order -> order.setClient(client));
+            clients.add(client);
+        }
+
+        BookKeeper bookKeeper = new BookKeeper();
+        bookKeeper.setClients(clients);
+        return bookKeeper;
+    }
+
+    private static void completeFirstOrder(BookKeeper bookKeeper) {
+        Client client = bookKeeper.getClientList().get(0);
+        Order order = client.getOrdersList().get(0);
+        Order completedOrder = new Order(order.getOrderId(), order.getOrderDate(), order.getDeadline(),
+                order.getPrice(), order.getRemark(), new Status("completed"));
+        Client editedClient = client.editOrder(order, completedOrder);
+        completedOrder.setClient(editedClient);
+        bookKeeper.setClientAndEditOrder(client, editedClient, order, completedOrder);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}